@@ -0,0 +1,80 @@
+-- =====================================================
+-- Benchmark - primary key type and ordering
+-- =====================================================
+-- Compares insert throughput and index size of three key strategies with the
+-- action_items layout:
+--   varchar_v4  varchar(255) random UUIDv4 strings (previous schema)
+--   uuid_v4     native uuid, random UUIDv4
+--   uuid_v7     native uuid, time-ordered UUIDv7 (current schema)
+-- Rows are inserted in batches, like the consumers do, and each table also
+-- carries the (created_at, id) keyset index.
+--
+-- Usage (psql, on a scratch database):
+--   psql -v rows=2000000 -v batch=1000 -f docker/postgres/benchmarks/uuid_primary_keys.sql
+-- Use a row count whose indexes exceed shared_buffers to see the cache effect.
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+    \set rows 1000000
+\endif
+\if :{?batch}
+\else
+    \set batch 1000
+\endif
+
+-- UUIDv7 for PostgreSQL < 18: v4 random bits, millisecond timestamp in the first 48 bits, version 7
+CREATE OR REPLACE FUNCTION pg_temp.uuid_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send((extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::uuid
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS bench_varchar_v4, bench_uuid_v4, bench_uuid_v7;
+CREATE UNLOGGED TABLE bench_varchar_v4 (id VARCHAR(255) PRIMARY KEY, unique_id VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL);
+CREATE UNLOGGED TABLE bench_uuid_v4    (id UUID PRIMARY KEY,         unique_id VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL);
+CREATE UNLOGGED TABLE bench_uuid_v7    (id UUID PRIMARY KEY,         unique_id VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL);
+CREATE INDEX ON bench_varchar_v4 (created_at, id);
+CREATE INDEX ON bench_uuid_v4 (created_at, id);
+CREATE INDEX ON bench_uuid_v7 (created_at, id);
+
+CREATE OR REPLACE PROCEDURE pg_temp.bench_insert(target TEXT, id_expression TEXT, total BIGINT, batch_size INT)
+LANGUAGE plpgsql AS $$
+DECLARE
+    started TIMESTAMPTZ := clock_timestamp();
+    elapsed NUMERIC;
+    offset_row BIGINT := 0;
+BEGIN
+    WHILE offset_row < total LOOP
+        EXECUTE format('INSERT INTO %I (id, unique_id, created_at) '
+                       'SELECT %s, ''item-'' || g, clock_timestamp()::timestamp '
+                       'FROM generate_series($1 + 1, $1 + $2) g', target, id_expression)
+            USING offset_row, LEAST(batch_size, total - offset_row);
+        COMMIT;
+        offset_row := offset_row + batch_size;
+    END LOOP;
+    elapsed := extract(epoch FROM clock_timestamp() - started);
+    RAISE NOTICE '%: % rows in % s (% rows/s)', target, total, round(elapsed, 2), round(total / elapsed);
+END $$;
+
+CALL pg_temp.bench_insert('bench_varchar_v4', 'gen_random_uuid()::text', :rows, :batch);
+CALL pg_temp.bench_insert('bench_uuid_v4', 'gen_random_uuid()', :rows, :batch);
+CALL pg_temp.bench_insert('bench_uuid_v7', 'pg_temp.uuid_v7()', :rows, :batch);
+
+ANALYZE bench_varchar_v4, bench_uuid_v4, bench_uuid_v7;
+
+-- Sizes after the load; the primary key shows the page-split bloat of random keys
+SELECT t.relname                                            AS table_name,
+       pg_size_pretty(pg_relation_size(t.oid))              AS heap,
+       pg_size_pretty(pg_relation_size(i.indexrelid))       AS primary_key,
+       pg_size_pretty(pg_indexes_size(t.oid))               AS all_indexes
+  FROM pg_class t
+  JOIN pg_index i ON i.indrelid = t.oid AND i.indisprimary
+ WHERE t.relname IN ('bench_varchar_v4', 'bench_uuid_v4', 'bench_uuid_v7')
+ ORDER BY t.relname;
+
+DROP TABLE bench_varchar_v4, bench_uuid_v4, bench_uuid_v7;
@@ -21,10 +21,60 @@ CREATE TABLE IF NOT EXISTS health_check (
 -- Insert initial health check record
 INSERT INTO health_check (status) VALUES ('INITIALIZED') ON CONFLICT DO NOTHING;
 
--- Create action_items table with uniqueId constraint
+-- Creates the monthly range partition of a partitioned table that contains the given day,
+-- named <prefix>_pYYYY_MM. Rows of that month already in the default partition are moved into
+-- the new partition. Idempotent; used here and by the application's partition manager.
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent TEXT, month DATE, name_prefix TEXT DEFAULT NULL)
+RETURNS TEXT AS $$
+DECLARE
+    start_month DATE := date_trunc('month', month)::date;
+    end_month DATE := (date_trunc('month', month) + INTERVAL '1 month')::date;
+    partition_name TEXT := coalesce(name_prefix, parent) || '_p' || to_char(start_month, 'YYYY_MM');
+    staging_name TEXT := partition_name || '_moving';
+    default_partition REGCLASS;
+    key_column TEXT;
+    moved BIGINT := 0;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    SELECT nullif(p.partdefid, 0)::regclass, a.attname
+      INTO default_partition, key_column
+      FROM pg_partitioned_table p
+      JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+     WHERE p.partrelid = parent::regclass;
+
+    -- Rows of the month in the default partition would make CREATE ... PARTITION OF fail.
+    -- Move them out and back in through the parent, so row triggers see a delete and an insert.
+    IF default_partition IS NOT NULL THEN
+        EXECUTE format('CREATE TEMP TABLE %I (LIKE %I) ON COMMIT DROP', staging_name, parent);
+        EXECUTE format('WITH moved AS (DELETE FROM %s WHERE %I >= %L AND %I < %L RETURNING *) '
+                       'INSERT INTO %I SELECT * FROM moved',
+                       default_partition, key_column, start_month, key_column, end_month, staging_name);
+        GET DIAGNOSTICS moved = ROW_COUNT;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, start_month, end_month);
+
+    IF default_partition IS NOT NULL THEN
+        IF moved > 0 THEN
+            EXECUTE format('INSERT INTO %I SELECT * FROM %I', parent, staging_name);
+            RAISE NOTICE 'Moved % rows from % to new partition %', moved, default_partition, partition_name;
+        END IF;
+        EXECUTE format('DROP TABLE %I', staging_name);
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Create action_items table, range-partitioned by month of created_at.
+-- Unique keys of a partitioned table must contain the partition key, so the
+-- primary key is (id, created_at) and unique_id is enforced by action_item_keys.
 CREATE TABLE IF NOT EXISTS action_items (
-    id VARCHAR(255) PRIMARY KEY,
-    unique_id VARCHAR(255) NOT NULL UNIQUE,
+    id UUID NOT NULL,                       -- time-ordered UUIDv7 assigned by the application
+    unique_id VARCHAR(255) NOT NULL,
     title VARCHAR(255) NOT NULL,
     description TEXT,
     assignee VARCHAR(255),
@@ -33,8 +83,49 @@ CREATE TABLE IF NOT EXISTS action_items (
     status VARCHAR(20) NOT NULL,
     due_date TIMESTAMP,
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Rows outside the managed months (e.g. replayed history) land in the default partition
+CREATE TABLE IF NOT EXISTS action_items_default PARTITION OF action_items DEFAULT;
+
+SELECT create_monthly_partition('action_items', (CURRENT_DATE + make_interval(months => m))::date)
+  FROM generate_series(-1, 3) AS m;
+
+-- Global uniqueId registry: one row per action item, pointing at its partition key.
+-- Lookups by unique_id resolve created_at here first, so only one partition is probed.
+CREATE TABLE IF NOT EXISTS action_item_keys (
+    unique_id VARCHAR(255) PRIMARY KEY,
+    id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL
 );
+CREATE INDEX IF NOT EXISTS idx_action_item_keys_created_at ON action_item_keys(created_at);
+
+CREATE OR REPLACE FUNCTION maintain_action_item_keys() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        -- Keys may be registered ahead by set-based loads; only another item's key is a conflict
+        INSERT INTO action_item_keys (unique_id, id, created_at)
+        VALUES (NEW.unique_id, NEW.id, NEW.created_at)
+        ON CONFLICT (unique_id) DO NOTHING;
+        IF NOT FOUND AND NOT EXISTS (SELECT 1 FROM action_item_keys
+                                      WHERE unique_id = NEW.unique_id AND id = NEW.id) THEN
+            RAISE EXCEPTION 'duplicate unique_id %', NEW.unique_id USING ERRCODE = 'unique_violation';
+        END IF;
+    ELSIF TG_OP = 'DELETE' THEN
+        DELETE FROM action_item_keys WHERE unique_id = OLD.unique_id AND id = OLD.id;
+    ELSIF NEW.unique_id IS DISTINCT FROM OLD.unique_id OR NEW.created_at IS DISTINCT FROM OLD.created_at THEN
+        RAISE EXCEPTION 'unique_id and created_at of action item % are immutable', OLD.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_action_item_keys ON action_items;
+CREATE TRIGGER trg_action_item_keys
+    AFTER INSERT OR DELETE OR UPDATE OF unique_id, created_at ON action_items
+    FOR EACH ROW EXECUTE FUNCTION maintain_action_item_keys();
 
 -- Create index on unique_id for better performance
 CREATE INDEX IF NOT EXISTS idx_action_items_unique_id ON action_items(unique_id);
@@ -42,6 +133,176 @@ CREATE INDEX IF NOT EXISTS idx_action_items_unique_id ON action_items(unique_id)
 -- Create index on category and type_code for validation queries
 CREATE INDEX IF NOT EXISTS idx_action_items_category_type ON action_items(category, type_code);
 
+-- Covering index for per-status typeCode aggregation (index-only GROUP BY)
+CREATE INDEX IF NOT EXISTS idx_action_items_status_type_code ON action_items(status, type_code);
+
+-- Keyset pagination indexes for the action item query API, ordered by (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_action_items_created_id ON action_items(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_action_items_status_category_type_created
+    ON action_items(status, category, type_code, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_action_items_assignee_status_created
+    ON action_items(assignee, status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_action_items_open_due
+    ON action_items(due_date, created_at, id) WHERE status = 'OPEN';
+
+-- Keyset scan of CLOSE items for the archival job
+CREATE INDEX IF NOT EXISTS idx_action_items_closed_created
+    ON action_items(created_at, id) WHERE status = 'CLOSE';
+
+-- Cold storage for CLOSE items moved out of action_items by the archival job.
+-- Not partitioned, so unique_id can carry its own unique constraint.
+CREATE TABLE IF NOT EXISTS action_items_archive (
+    id UUID PRIMARY KEY,
+    unique_id VARCHAR(255) NOT NULL UNIQUE,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    assignee VARCHAR(255),
+    category VARCHAR(100) NOT NULL,
+    type_code VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    due_date TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+-- Incrementally maintained typeCode counts per status, kept in sync by a trigger
+-- so dashboards read O(#typeCodes) rows instead of scanning action_items
+CREATE TABLE IF NOT EXISTS action_item_type_code_counts (
+    type_code VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    item_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (type_code, status)
+);
+
+-- Counter rows are adjusted in (type_code, status) order, so two transactions moving items
+-- between the same pair of rows lock them in the same order instead of deadlocking
+CREATE OR REPLACE FUNCTION adjust_action_item_type_code_count(p_type_code VARCHAR, p_status VARCHAR, p_delta INT)
+RETURNS VOID AS $$
+    INSERT INTO action_item_type_code_counts (type_code, status, item_count)
+    VALUES (p_type_code, p_status, p_delta)
+    ON CONFLICT (type_code, status) DO UPDATE
+       SET item_count = action_item_type_code_counts.item_count + EXCLUDED.item_count;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION maintain_action_item_type_code_counts() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM adjust_action_item_type_code_count(NEW.type_code, NEW.status, 1);
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM adjust_action_item_type_code_count(OLD.type_code, OLD.status, -1);
+    ELSIF (OLD.type_code, OLD.status) < (NEW.type_code, NEW.status) THEN
+        PERFORM adjust_action_item_type_code_count(OLD.type_code, OLD.status, -1);
+        PERFORM adjust_action_item_type_code_count(NEW.type_code, NEW.status, 1);
+    ELSE
+        PERFORM adjust_action_item_type_code_count(NEW.type_code, NEW.status, 1);
+        PERFORM adjust_action_item_type_code_count(OLD.type_code, OLD.status, -1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_action_item_type_code_counts ON action_items;
+DROP TRIGGER IF EXISTS trg_action_item_type_code_counts_update ON action_items;
+CREATE TRIGGER trg_action_item_type_code_counts
+    AFTER INSERT OR DELETE ON action_items
+    FOR EACH ROW EXECUTE FUNCTION maintain_action_item_type_code_counts();
+-- Updates that rewrite type_code and status with the same values leave the counters alone
+CREATE TRIGGER trg_action_item_type_code_counts_update
+    AFTER UPDATE OF type_code, status ON action_items
+    FOR EACH ROW
+    WHEN (OLD.type_code IS DISTINCT FROM NEW.type_code OR OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION maintain_action_item_type_code_counts();
+
+-- Archived items stay counted: a move to or from the archive nets to zero
+DROP TRIGGER IF EXISTS trg_action_item_archive_type_code_counts ON action_items_archive;
+DROP TRIGGER IF EXISTS trg_action_item_archive_type_code_counts_update ON action_items_archive;
+CREATE TRIGGER trg_action_item_archive_type_code_counts
+    AFTER INSERT OR DELETE ON action_items_archive
+    FOR EACH ROW EXECUTE FUNCTION maintain_action_item_type_code_counts();
+CREATE TRIGGER trg_action_item_archive_type_code_counts_update
+    AFTER UPDATE OF type_code, status ON action_items_archive
+    FOR EACH ROW
+    WHEN (OLD.type_code IS DISTINCT FROM NEW.type_code OR OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION maintain_action_item_type_code_counts();
+
+-- Processing errors, range-partitioned by month of occurred_at so retention drops partitions
+CREATE TABLE IF NOT EXISTS processing_errors (
+    id UUID NOT NULL,
+    source VARCHAR(255) NOT NULL,
+    error_type VARCHAR(255) NOT NULL,
+    error_message VARCHAR(255) NOT NULL,
+    stack_trace TEXT,
+    payload TEXT,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE IF NOT EXISTS processing_errors_default PARTITION OF processing_errors DEFAULT;
+
+SELECT create_monthly_partition('processing_errors', (CURRENT_DATE + make_interval(months => m))::date)
+  FROM generate_series(-1, 3) AS m;
+
+-- Per-source retention deletes the oldest rows of one source at a time
+CREATE INDEX IF NOT EXISTS idx_processing_errors_source_occurred ON processing_errors(source, occurred_at);
+
+-- Valid category/typeCode combinations
+CREATE TABLE IF NOT EXISTS master_configuration (
+    id UUID PRIMARY KEY,
+    category VARCHAR(100) NOT NULL,
+    type_code VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    active BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_category_type_code UNIQUE (category, type_code)
+);
+CREATE INDEX IF NOT EXISTS idx_category_type_code ON master_configuration(category, type_code);
+CREATE INDEX IF NOT EXISTS idx_active ON master_configuration(active);
+
+CREATE TABLE IF NOT EXISTS error_logs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    error_message VARCHAR(255) NOT NULL,
+    stack_trace TEXT,
+    error_code VARCHAR(255),
+    timestamp TIMESTAMP(6) NOT NULL,
+    source VARCHAR(255)
+);
+CREATE INDEX IF NOT EXISTS idx_error_logs_source_timestamp ON error_logs(source, timestamp);
+
+-- Processing high-watermarks used to skip redelivered Kafka records
+CREATE TABLE IF NOT EXISTS message_watermarks (
+    id VARCHAR(512) PRIMARY KEY,
+    consumer_group VARCHAR(255) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    kafka_partition INTEGER NOT NULL,
+    high_watermark BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Transactional outbox of action item state changes, written in the same transaction as the
+-- item and deleted by the relay once published to Kafka
+CREATE TABLE IF NOT EXISTS action_item_outbox (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    action_item_id UUID NOT NULL,
+    unique_id VARCHAR(255) NOT NULL,
+    previous_status VARCHAR(20),
+    status VARCHAR(20) NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    type_code VARCHAR(100) NOT NULL,
+    assignee VARCHAR(255),
+    version TIMESTAMP NOT NULL,
+    recorded_at TIMESTAMP NOT NULL
+);
+ALTER TABLE action_item_outbox SET (autovacuum_vacuum_scale_factor = 0, autovacuum_vacuum_threshold = 10000);
+-- Lease of the outbox relay: only the holder relays, until lease_until
+CREATE TABLE IF NOT EXISTS action_item_outbox_relay (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    holder VARCHAR(64) NOT NULL,
+    lease_until TIMESTAMP NOT NULL
+);
+
 -- Grant necessary permissions
 GRANT ALL PRIVILEGES ON DATABASE sample_db TO postgres;
 GRANT ALL PRIVILEGES ON ALL TABLES IN SCHEMA public TO postgres;
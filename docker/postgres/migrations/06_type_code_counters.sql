@@ -0,0 +1,78 @@
+-- =====================================================
+-- TypeCode Counters - Incrementally maintained aggregates
+-- =====================================================
+-- Adds a per-status typeCode counter table kept in sync with action_items by a
+-- trigger, and backfills it from existing rows. Safe to re-run.
+--
+-- Read by ActionItemPersistenceAdapter.getTypeCodesByCountAndStatus when
+-- action-items.type-code-counts.source=counters. Only updates that actually
+-- change type_code or status touch the counters. Archived items stay counted
+-- (see 10_action_items_archive.sql), like the live status aggregates.
+
+-- CONCURRENTLY avoids blocking writes to action_items while the index is built; it must run
+-- outside a transaction block (psql autocommit, as this script runs). A failed build leaves an
+-- INVALID index that IF NOT EXISTS would keep: drop it before re-running.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_action_items_status_type_code ON action_items(status, type_code);
+
+CREATE TABLE IF NOT EXISTS action_item_type_code_counts (
+    type_code VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    item_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (type_code, status)
+);
+
+-- Counter rows are adjusted in (type_code, status) order, so two transactions moving items
+-- between the same pair of rows lock them in the same order instead of deadlocking
+CREATE OR REPLACE FUNCTION adjust_action_item_type_code_count(p_type_code VARCHAR, p_status VARCHAR, p_delta INT)
+RETURNS VOID AS $$
+    INSERT INTO action_item_type_code_counts (type_code, status, item_count)
+    VALUES (p_type_code, p_status, p_delta)
+    ON CONFLICT (type_code, status) DO UPDATE
+       SET item_count = action_item_type_code_counts.item_count + EXCLUDED.item_count;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION maintain_action_item_type_code_counts() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM adjust_action_item_type_code_count(NEW.type_code, NEW.status, 1);
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM adjust_action_item_type_code_count(OLD.type_code, OLD.status, -1);
+    ELSIF (OLD.type_code, OLD.status) < (NEW.type_code, NEW.status) THEN
+        PERFORM adjust_action_item_type_code_count(OLD.type_code, OLD.status, -1);
+        PERFORM adjust_action_item_type_code_count(NEW.type_code, NEW.status, 1);
+    ELSE
+        PERFORM adjust_action_item_type_code_count(NEW.type_code, NEW.status, 1);
+        PERFORM adjust_action_item_type_code_count(OLD.type_code, OLD.status, -1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_action_item_type_code_counts ON action_items;
+DROP TRIGGER IF EXISTS trg_action_item_type_code_counts_update ON action_items;
+CREATE TRIGGER trg_action_item_type_code_counts
+    AFTER INSERT OR DELETE ON action_items
+    FOR EACH ROW EXECUTE FUNCTION maintain_action_item_type_code_counts();
+-- Updates that rewrite type_code and status with the same values leave the counters alone
+CREATE TRIGGER trg_action_item_type_code_counts_update
+    AFTER UPDATE OF type_code, status ON action_items
+    FOR EACH ROW
+    WHEN (OLD.type_code IS DISTINCT FROM NEW.type_code OR OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION maintain_action_item_type_code_counts();
+
+-- Backfill from current data (run while writes are paused for an exact result)
+BEGIN;
+LOCK TABLE action_items IN SHARE MODE;
+TRUNCATE action_item_type_code_counts;
+INSERT INTO action_item_type_code_counts (type_code, status, item_count)
+SELECT type_code, status, COUNT(*)
+  FROM action_items
+ GROUP BY type_code, status;
+COMMIT;
+
+-- Verify
+-- SELECT c.type_code, c.status, c.item_count, a.actual
+--   FROM action_item_type_code_counts c
+--   LEFT JOIN (SELECT type_code, status, COUNT(*) AS actual FROM action_items GROUP BY 1, 2) a
+--     USING (type_code, status)
+--  WHERE c.item_count <> COALESCE(a.actual, 0);
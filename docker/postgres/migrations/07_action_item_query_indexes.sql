@@ -0,0 +1,31 @@
+-- =====================================================
+-- Action Item Query Indexes - Keyset pagination support
+-- =====================================================
+-- Indexes backing GET /api/action-items. Every page is ordered by
+-- (created_at, id) and located with (created_at, id) > (?, ?), so each index
+-- ends with those columns after the equality filters it serves.
+-- CONCURRENTLY avoids blocking writes; run outside a transaction block.
+
+-- Unfiltered scans and filters on due date only
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_action_items_created_id
+    ON action_items(created_at, id);
+
+-- status / status+category / status+category+type_code
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_action_items_status_category_type_created
+    ON action_items(status, category, type_code, created_at, id);
+
+-- assignee / assignee+status
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_action_items_assignee_status_created
+    ON action_items(assignee, status, created_at, id);
+
+-- Due date ranges over OPEN items (the common "what is due" query)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_action_items_open_due
+    ON action_items(due_date, created_at, id) WHERE status = 'OPEN';
+
+-- Verify a typical page uses an index
+-- EXPLAIN (ANALYZE, BUFFERS)
+-- SELECT * FROM action_items
+--  WHERE status = 'OPEN' AND category = 'SECURITY'
+--    AND (created_at, id) > ('2025-01-01 00:00:00', '')
+--  ORDER BY created_at, id
+--  LIMIT 51;
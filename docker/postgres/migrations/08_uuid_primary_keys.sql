@@ -0,0 +1,62 @@
+-- =====================================================
+-- UUID Primary Keys - varchar(255) to native uuid
+-- =====================================================
+-- Converts the UUID-string primary keys of action_items, processing_errors and
+-- master_configuration to the native 16-byte uuid type. New rows get
+-- time-ordered UUIDv7 keys from the application (UuidV7), so inserts append to
+-- the right edge of the primary key and (created_at, id) indexes.
+--
+-- Existing keys keep their value; they are referenced outside the database
+-- (exports, Avro payloads), so they are converted, not regenerated.
+--
+-- Each ALTER rewrites the table and its indexes under an ACCESS EXCLUSIVE lock.
+-- Stop the consumers (or pause the listeners) while it runs. Safe to re-run.
+-- Measure before/after with docker/postgres/benchmarks/uuid_primary_keys.sql.
+
+-- Stop at the first error, so a failed pre-check never reaches the ALTERs.
+\set ON_ERROR_STOP on
+
+-- 1. Pre-check: every key must be a valid UUID string, otherwise the cast fails.
+--    Aborts the migration (and leaves every table untouched) if any key is invalid.
+DO $$
+DECLARE
+    target TEXT;
+    invalid BIGINT;
+BEGIN
+    FOREACH target IN ARRAY ARRAY['action_items', 'processing_errors', 'master_configuration'] LOOP
+        IF EXISTS (SELECT 1
+                     FROM information_schema.columns
+                    WHERE table_schema = current_schema()
+                      AND table_name = target
+                      AND column_name = 'id'
+                      AND data_type IN ('character varying', 'text')) THEN
+            EXECUTE format('SELECT count(*) FROM %I WHERE id !~* %L', target,
+                           '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$')
+               INTO invalid;
+            IF invalid > 0 THEN
+                RAISE EXCEPTION '%.id has % values that are not valid UUIDs; fix them before converting', target, invalid;
+            END IF;
+        END IF;
+    END LOOP;
+END $$;
+
+-- 2. Convert the columns that are still character types.
+DO $$
+DECLARE
+    target TEXT;
+BEGIN
+    FOREACH target IN ARRAY ARRAY['action_items', 'processing_errors', 'master_configuration'] LOOP
+        IF EXISTS (SELECT 1
+                     FROM information_schema.columns
+                    WHERE table_schema = current_schema()
+                      AND table_name = target
+                      AND column_name = 'id'
+                      AND data_type IN ('character varying', 'text')) THEN
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id TYPE uuid USING id::uuid', target);
+            RAISE NOTICE 'Converted %.id to uuid', target;
+        END IF;
+    END LOOP;
+END $$;
+
+-- 3. Refresh planner statistics for the rewritten tables.
+ANALYZE action_items;
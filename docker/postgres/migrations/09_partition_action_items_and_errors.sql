@@ -0,0 +1,191 @@
+-- =====================================================
+-- Range Partitioning - action_items and processing_errors
+-- =====================================================
+-- Rebuilds action_items (by created_at) and processing_errors (by occurred_at)
+-- as monthly range-partitioned tables, so retention detaches or drops whole
+-- partitions and vacuum/index maintenance runs per month instead of per table.
+--
+-- Unique keys of a partitioned table must include the partition key:
+--   * primary keys become (id, created_at) / (id, occurred_at)
+--   * unique_id uniqueness moves to the action_item_keys registry, maintained
+--     by trg_action_item_keys and used to prune lookups by unique_id
+-- After this migration the schema is owned by SQL (spring.jpa.hibernate.ddl-auto: none).
+--
+-- Rewrites both tables under an ACCESS EXCLUSIVE lock: stop the application
+-- first. Requires 08_uuid_primary_keys.sql. Run once, with psql.
+
+BEGIN;
+
+-- Shared helper, also called by the application's partition manager
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent TEXT, month DATE, name_prefix TEXT DEFAULT NULL)
+RETURNS TEXT AS $$
+DECLARE
+    start_month DATE := date_trunc('month', month)::date;
+    end_month DATE := (date_trunc('month', month) + INTERVAL '1 month')::date;
+    partition_name TEXT := coalesce(name_prefix, parent) || '_p' || to_char(start_month, 'YYYY_MM');
+    staging_name TEXT := partition_name || '_moving';
+    default_partition REGCLASS;
+    key_column TEXT;
+    moved BIGINT := 0;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    SELECT nullif(p.partdefid, 0)::regclass, a.attname
+      INTO default_partition, key_column
+      FROM pg_partitioned_table p
+      JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+     WHERE p.partrelid = parent::regclass;
+
+    -- Rows of the month in the default partition would make CREATE ... PARTITION OF fail.
+    -- Move them out and back in through the parent, so row triggers see a delete and an insert.
+    IF default_partition IS NOT NULL THEN
+        EXECUTE format('CREATE TEMP TABLE %I (LIKE %I) ON COMMIT DROP', staging_name, parent);
+        EXECUTE format('WITH moved AS (DELETE FROM %s WHERE %I >= %L AND %I < %L RETURNING *) '
+                       'INSERT INTO %I SELECT * FROM moved',
+                       default_partition, key_column, start_month, key_column, end_month, staging_name);
+        GET DIAGNOSTICS moved = ROW_COUNT;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, start_month, end_month);
+
+    IF default_partition IS NOT NULL THEN
+        IF moved > 0 THEN
+            EXECUTE format('INSERT INTO %I SELECT * FROM %I', parent, staging_name);
+            RAISE NOTICE 'Moved % rows from % to new partition %', moved, default_partition, partition_name;
+        END IF;
+        EXECUTE format('DROP TABLE %I', staging_name);
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 1. action_items ------------------------------------------------------------
+LOCK TABLE action_items IN ACCESS EXCLUSIVE MODE;
+
+CREATE TABLE action_items_partitioned (
+    id UUID NOT NULL,
+    unique_id VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    assignee VARCHAR(255),
+    category VARCHAR(100) NOT NULL,
+    type_code VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    due_date TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- One partition per month from the oldest row to three months ahead, named after the final table
+SELECT create_monthly_partition('action_items_partitioned', m::date, 'action_items')
+  FROM generate_series(
+           date_trunc('month', coalesce((SELECT min(created_at) FROM action_items), CURRENT_DATE)),
+           date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+           INTERVAL '1 month') AS m;
+CREATE TABLE action_items_default PARTITION OF action_items_partitioned DEFAULT;
+
+INSERT INTO action_items_partitioned
+       (id, unique_id, title, description, assignee, category, type_code, status, due_date, created_at, updated_at)
+SELECT id, unique_id, title, description, assignee, category, type_code, status, due_date, created_at, updated_at
+  FROM action_items;
+
+DROP TABLE action_items;
+ALTER TABLE action_items_partitioned RENAME TO action_items;
+ALTER TABLE action_items RENAME CONSTRAINT action_items_partitioned_pkey TO action_items_pkey;
+
+CREATE TABLE IF NOT EXISTS action_item_keys (
+    unique_id VARCHAR(255) PRIMARY KEY,
+    id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+INSERT INTO action_item_keys (unique_id, id, created_at)
+SELECT unique_id, id, created_at FROM action_items;
+CREATE INDEX IF NOT EXISTS idx_action_item_keys_created_at ON action_item_keys(created_at);
+
+CREATE OR REPLACE FUNCTION maintain_action_item_keys() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        -- Keys may be registered ahead by set-based loads; only another item's key is a conflict
+        INSERT INTO action_item_keys (unique_id, id, created_at)
+        VALUES (NEW.unique_id, NEW.id, NEW.created_at)
+        ON CONFLICT (unique_id) DO NOTHING;
+        IF NOT FOUND AND NOT EXISTS (SELECT 1 FROM action_item_keys
+                                      WHERE unique_id = NEW.unique_id AND id = NEW.id) THEN
+            RAISE EXCEPTION 'duplicate unique_id %', NEW.unique_id USING ERRCODE = 'unique_violation';
+        END IF;
+    ELSIF TG_OP = 'DELETE' THEN
+        DELETE FROM action_item_keys WHERE unique_id = OLD.unique_id AND id = OLD.id;
+    ELSIF NEW.unique_id IS DISTINCT FROM OLD.unique_id OR NEW.created_at IS DISTINCT FROM OLD.created_at THEN
+        RAISE EXCEPTION 'unique_id and created_at of action item % are immutable', OLD.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_action_item_keys
+    AFTER INSERT OR DELETE OR UPDATE OF unique_id, created_at ON action_items
+    FOR EACH ROW EXECUTE FUNCTION maintain_action_item_keys();
+
+-- Counters are already populated; re-attach the triggers from 06 to the new table
+CREATE TRIGGER trg_action_item_type_code_counts
+    AFTER INSERT OR DELETE ON action_items
+    FOR EACH ROW EXECUTE FUNCTION maintain_action_item_type_code_counts();
+-- Updates that rewrite type_code and status with the same values leave the counters alone
+CREATE TRIGGER trg_action_item_type_code_counts_update
+    AFTER UPDATE OF type_code, status ON action_items
+    FOR EACH ROW
+    WHEN (OLD.type_code IS DISTINCT FROM NEW.type_code OR OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION maintain_action_item_type_code_counts();
+
+-- Indexes are created on the parent and cascade to every partition
+CREATE INDEX idx_action_items_unique_id ON action_items(unique_id);
+CREATE INDEX idx_action_items_category_type ON action_items(category, type_code);
+CREATE INDEX idx_action_items_status_type_code ON action_items(status, type_code);
+CREATE INDEX idx_action_items_created_id ON action_items(created_at, id);
+CREATE INDEX idx_action_items_status_category_type_created
+    ON action_items(status, category, type_code, created_at, id);
+CREATE INDEX idx_action_items_assignee_status_created
+    ON action_items(assignee, status, created_at, id);
+CREATE INDEX idx_action_items_open_due
+    ON action_items(due_date, created_at, id) WHERE status = 'OPEN';
+
+-- 2. processing_errors -------------------------------------------------------
+LOCK TABLE processing_errors IN ACCESS EXCLUSIVE MODE;
+
+CREATE TABLE processing_errors_partitioned (
+    id UUID NOT NULL,
+    source VARCHAR(255) NOT NULL,
+    error_type VARCHAR(255) NOT NULL,
+    error_message VARCHAR(255) NOT NULL,
+    stack_trace TEXT,
+    payload TEXT,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+SELECT create_monthly_partition('processing_errors_partitioned', m::date, 'processing_errors')
+  FROM generate_series(
+           date_trunc('month', coalesce((SELECT min(occurred_at) FROM processing_errors), CURRENT_DATE)),
+           date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+           INTERVAL '1 month') AS m;
+CREATE TABLE processing_errors_default PARTITION OF processing_errors_partitioned DEFAULT;
+
+INSERT INTO processing_errors_partitioned
+       (id, source, error_type, error_message, stack_trace, payload, occurred_at, status)
+SELECT id, source, error_type, error_message, stack_trace, payload, occurred_at, status
+  FROM processing_errors;
+
+DROP TABLE processing_errors;
+ALTER TABLE processing_errors_partitioned RENAME TO processing_errors;
+ALTER TABLE processing_errors RENAME CONSTRAINT processing_errors_partitioned_pkey TO processing_errors_pkey;
+
+COMMIT;
+
+ANALYZE action_items;
+ANALYZE action_item_keys;
+ANALYZE processing_errors;
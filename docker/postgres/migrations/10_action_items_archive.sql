@@ -0,0 +1,48 @@
+-- =====================================================
+-- Action Item Archive - cold storage for CLOSE items
+-- =====================================================
+-- The archival job moves CLOSE items that have not changed for
+-- action-items.archive.closed-for-days out of action_items in keyset chunks
+-- ordered by (created_at, id). Lookups by unique_id fall back to this table,
+-- and a newer update to an archived item moves it back to action_items.
+--
+-- CREATE INDEX CONCURRENTLY is not supported on partitioned tables, so the
+-- partial index is built with a regular CREATE INDEX, which blocks writes to
+-- action_items while it builds. Requires 09_partition_action_items_and_errors.sql.
+
+CREATE TABLE IF NOT EXISTS action_items_archive (
+    id UUID PRIMARY KEY,
+    unique_id VARCHAR(255) NOT NULL UNIQUE,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    assignee VARCHAR(255),
+    category VARCHAR(100) NOT NULL,
+    type_code VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    due_date TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+-- Archived items stay in the typeCode counters, like in the live status aggregates:
+-- a move to or from the archive fires one decrement and one increment of the same
+-- counter row, so the count is unchanged. Requires 06_type_code_counters.sql.
+DROP TRIGGER IF EXISTS trg_action_item_archive_type_code_counts ON action_items_archive;
+DROP TRIGGER IF EXISTS trg_action_item_archive_type_code_counts_update ON action_items_archive;
+CREATE TRIGGER trg_action_item_archive_type_code_counts
+    AFTER INSERT OR DELETE ON action_items_archive
+    FOR EACH ROW EXECUTE FUNCTION maintain_action_item_type_code_counts();
+CREATE TRIGGER trg_action_item_archive_type_code_counts_update
+    AFTER UPDATE OF type_code, status ON action_items_archive
+    FOR EACH ROW
+    WHEN (OLD.type_code IS DISTINCT FROM NEW.type_code OR OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION maintain_action_item_type_code_counts();
+
+CREATE INDEX IF NOT EXISTS idx_action_items_closed_created
+    ON action_items(created_at, id) WHERE status = 'CLOSE';
+
+-- Archival candidates and how far back they go
+-- SELECT count(*), min(created_at), max(updated_at)
+--   FROM action_items
+--  WHERE status = 'CLOSE' AND updated_at < now() - INTERVAL '30 days';
@@ -0,0 +1,23 @@
+-- =====================================================
+-- Error Retention Indexes - per-source batched purge
+-- =====================================================
+-- The retention job deletes the oldest rows of one source at a time, finds
+-- each source's row cap boundary with a backwards scan, and lists sources
+-- with a loose index scan. All three are served by (source, timestamp).
+--
+-- processing_errors is partitioned, where CONCURRENTLY is not supported; the
+-- regular CREATE INDEX blocks inserts of new errors while it builds.
+-- error_logs is a plain table and is indexed CONCURRENTLY; run this file
+-- outside a transaction block. Requires 09_partition_action_items_and_errors.sql.
+
+CREATE INDEX IF NOT EXISTS idx_processing_errors_source_occurred
+    ON processing_errors(source, occurred_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_error_logs_source_timestamp
+    ON error_logs(source, timestamp);
+
+-- Largest sources and their age, to choose limits
+-- SELECT source, count(*), min(occurred_at), pg_size_pretty(sum(pg_column_size(e.*)))
+--   FROM processing_errors e
+--  GROUP BY source
+--  ORDER BY count(*) DESC;
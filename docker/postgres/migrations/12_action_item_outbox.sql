@@ -0,0 +1,38 @@
+-- =====================================================
+-- Action Item Outbox - state change events for Kafka
+-- =====================================================
+-- ActionItemService, bulk imports and backfill merges insert one row per state
+-- change (creation, OPEN <-> CLOSE) in the same transaction as the item itself.
+-- The outbox relay reads the oldest rows in id order, publishes them to
+-- action-items.outbox.topic and then deletes them by id, so the table normally
+-- holds only the last few batches.
+--
+-- Rows are inserted and deleted at the ingestion rate, so autovacuum is told
+-- to run after a fixed number of dead rows instead of a share of a table that
+-- is almost always empty.
+
+CREATE TABLE IF NOT EXISTS action_item_outbox (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    action_item_id UUID NOT NULL,
+    unique_id VARCHAR(255) NOT NULL,
+    previous_status VARCHAR(20),
+    status VARCHAR(20) NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    type_code VARCHAR(100) NOT NULL,
+    assignee VARCHAR(255),
+    version TIMESTAMP NOT NULL,
+    recorded_at TIMESTAMP NOT NULL
+);
+
+ALTER TABLE action_item_outbox SET (autovacuum_vacuum_scale_factor = 0, autovacuum_vacuum_threshold = 10000);
+
+-- Relay lease: only the holder relays, until lease_until; others take over once it has expired.
+-- The row is created by the first claim.
+CREATE TABLE IF NOT EXISTS action_item_outbox_relay (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    holder VARCHAR(64) NOT NULL,
+    lease_until TIMESTAMP NOT NULL
+);
+
+-- Relay backlog: events waiting to be published and how old the oldest is
+-- SELECT count(*), now() - min(recorded_at) FROM action_item_outbox;
@@ -0,0 +1,65 @@
+package com.example.adapter.in.export;
+
+import com.example.domain.model.ActionItemStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point for one-shot action item exports.
+ * <p>
+ * Active only with the {@code export} profile, which also disables the web server and the Kafka
+ * listeners (see application-export.yml). The application exits once the export completes.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     java -jar application.jar --spring.profiles.active=export \
+ *         --export.format=csv --export.status=OPEN --export.output=/tmp/action-items.csv
+ * </pre>
+ * Without {@code export.output} the dump is written to standard output, which also carries the
+ * console log, so prefer an output file for anything but a quick look.
+ */
+@Slf4j
+@Component
+@Profile("export")
+@RequiredArgsConstructor
+public class ActionItemExportRunner implements ApplicationRunner {
+
+    private final ActionItemExporter actionItemExporter;
+    private final ApplicationContext applicationContext;
+
+    @Value("${export.format:ndjson}")
+    private String format;
+
+    @Value("${export.status:}")
+    private String status;
+
+    @Value("${export.output:}")
+    private String output;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            ActionItemStatus statusFilter = status.isBlank() ? null : ActionItemStatus.valueOf(status.trim());
+            OutputStream outputStream = output.isBlank() ? System.out : Files.newOutputStream(Path.of(output));
+            long exported = actionItemExporter.export(ExportFormat.fromName(format), statusFilter, outputStream);
+            log.info("Exported {} action items as {} to {}", exported, format, output.isBlank() ? "stdout" : output);
+        } catch (Exception e) {
+            log.error("Action item export failed", e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
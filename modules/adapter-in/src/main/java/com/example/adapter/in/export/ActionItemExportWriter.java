@@ -0,0 +1,23 @@
+package com.example.adapter.in.export;
+
+import com.example.domain.model.ActionItem;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes action items one at a time to an output stream in a specific format.
+ * <p>
+ * Implementations hold no more than one record plus the underlying stream buffer. Closing the
+ * writer flushes any trailer and closes the stream.
+ */
+public interface ActionItemExportWriter extends Closeable {
+
+    /**
+     * Writes a single action item.
+     *
+     * @param actionItem The item to write
+     * @throws IOException if the underlying stream fails, e.g. the client disconnected
+     */
+    void write(ActionItem actionItem) throws IOException;
+}
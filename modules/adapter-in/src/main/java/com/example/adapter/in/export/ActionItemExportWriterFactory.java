@@ -0,0 +1,143 @@
+package com.example.adapter.in.export;
+
+import com.example.adapter.in.kafka.ActionItemAvroMapper;
+import com.example.avro.ActionItemAvro;
+import com.example.domain.model.ActionItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Creates streaming {@link ActionItemExportWriter}s for each {@link ExportFormat}.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>NDJSON through a Jackson SequenceWriter using the application ObjectMapper</li>
+ *   <li>CSV with RFC 4180 quoting and a header row</li>
+ *   <li>Avro container files through DataFileWriter and the ActionItemAvro schema</li>
+ * </ul>
+ * <b>Usage:</b> Used by the export REST endpoint and the export CLI.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActionItemExportWriterFactory {
+
+    private static final String CSV_HEADER =
+            "id,uniqueId,title,description,assignee,category,typeCode,status,dueDate,createdAt,updatedAt";
+
+    private final ObjectMapper objectMapper;
+    private final ActionItemAvroMapper actionItemAvroMapper;
+
+    /**
+     * Opens a writer for the given format on the output stream.
+     *
+     * @param format The output format
+     * @param outputStream The destination, ideally buffered
+     * @return A writer that must be closed once all items are written
+     * @throws IOException if the header cannot be written
+     */
+    public ActionItemExportWriter create(ExportFormat format, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case NDJSON -> ndjsonWriter(outputStream);
+            case CSV -> csvWriter(outputStream);
+            case AVRO -> avroWriter(outputStream);
+        };
+    }
+
+    private ActionItemExportWriter ndjsonWriter(OutputStream outputStream) throws IOException {
+        SequenceWriter sequenceWriter = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+        return new ActionItemExportWriter() {
+            @Override
+            public void write(ActionItem actionItem) throws IOException {
+                sequenceWriter.write(actionItem);
+            }
+
+            @Override
+            public void close() throws IOException {
+                sequenceWriter.close();
+            }
+        };
+    }
+
+    private ActionItemExportWriter csvWriter(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        return new ActionItemExportWriter() {
+            @Override
+            public void write(ActionItem actionItem) throws IOException {
+                writeCsvField(writer, actionItem.getId()).write(',');
+                writeCsvField(writer, actionItem.getUniqueId()).write(',');
+                writeCsvField(writer, actionItem.getTitle()).write(',');
+                writeCsvField(writer, actionItem.getDescription()).write(',');
+                writeCsvField(writer, actionItem.getAssignee()).write(',');
+                writeCsvField(writer, actionItem.getCategory()).write(',');
+                writeCsvField(writer, actionItem.getTypeCode()).write(',');
+                writeCsvField(writer, actionItem.getStatus() != null ? actionItem.getStatus().name() : null).write(',');
+                writeCsvField(writer, format(actionItem.getDueDate())).write(',');
+                writeCsvField(writer, format(actionItem.getCreatedAt())).write(',');
+                writeCsvField(writer, format(actionItem.getUpdatedAt())).write("\r\n");
+            }
+
+            @Override
+            public void close() throws IOException {
+                writer.close();
+            }
+        };
+    }
+
+    private ActionItemExportWriter avroWriter(OutputStream outputStream) throws IOException {
+        DataFileWriter<ActionItemAvro> fileWriter = new DataFileWriter<>(new SpecificDatumWriter<>(ActionItemAvro.class));
+        fileWriter.create(ActionItemAvro.getClassSchema(), outputStream);
+        return new ActionItemExportWriter() {
+            @Override
+            public void write(ActionItem actionItem) throws IOException {
+                fileWriter.append(actionItemAvroMapper.toAvro(actionItem));
+            }
+
+            @Override
+            public void close() throws IOException {
+                fileWriter.close();
+            }
+        };
+    }
+
+    private static Writer writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return writer;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return writer;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+        return writer;
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.adapter.in.export;
+
+import com.example.domain.model.ActionItemStatus;
+import com.example.port.in.ExportActionItemsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams action items from ExportActionItemsUseCase into an output stream.
+ * <p>
+ * Every item is written as soon as it is read from the database cursor. When the destination
+ * is a socket, a full send buffer blocks the write and therefore the cursor read, so the client
+ * drives the export speed and the server never buffers more than one stream buffer.
+ * <p>
+ * <b>Usage:</b> Shared by the REST export endpoint and the export CLI.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActionItemExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportActionItemsUseCase exportActionItemsUseCase;
+    private final ActionItemExportWriterFactory writerFactory;
+
+    /**
+     * Exports action items to the output stream and closes it.
+     *
+     * @param format The output format
+     * @param status Optional status filter, null for all items
+     * @param outputStream The destination
+     * @return Number of items exported
+     * @throws IOException if writing fails, e.g. the client disconnected
+     */
+    public long export(ExportFormat format, ActionItemStatus status, OutputStream outputStream) throws IOException {
+        try (ActionItemExportWriter writer = writerFactory.create(format, new BufferedOutputStream(outputStream, BUFFER_SIZE))) {
+            return exportActionItemsUseCase.exportActionItems(status, actionItem -> {
+                try {
+                    writer.write(actionItem);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("Action item export aborted: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+}
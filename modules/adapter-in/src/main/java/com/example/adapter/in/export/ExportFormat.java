@@ -0,0 +1,41 @@
+package com.example.adapter.in.export;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by action item exports.
+ */
+public enum ExportFormat {
+
+    /** One JSON object per line. */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** RFC 4180 CSV with a header row. */
+    CSV("text/csv", "csv"),
+    /** Avro object container file using the ActionItemAvro schema. */
+    AVRO("application/avro", "avro");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Parses a format name case-insensitively.
+     *
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static ExportFormat fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.adapter.in.importer;
+
+import com.example.adapter.in.kafka.ActionItemAvroMapper;
+import com.example.avro.ActionItemAvro;
+import com.example.port.in.ActionItemImport;
+import com.example.port.in.CreateActionItemCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses bulk import uploads incrementally and feeds each row into an {@link ActionItemImport}.
+ * <p>
+ * Only one row is decoded at a time, so uploads of any size are processed in constant memory
+ * (plus the import batch held by the application layer).
+ * <p>
+ * <b>Supported formats:</b>
+ * <ul>
+ *   <li><b>NDJSON:</b> one JSON object per line; a malformed line is rejected and reading continues</li>
+ *   <li><b>Avro:</b> an object container file written with the ActionItemAvro schema</li>
+ * </ul>
+ */
+@Component
+public class ActionItemImportReader {
+
+    private final ObjectReader rowReader;
+    private final ActionItemAvroMapper actionItemAvroMapper;
+
+    public ActionItemImportReader(ObjectMapper objectMapper, ActionItemAvroMapper actionItemAvroMapper) {
+        this.rowReader = objectMapper.readerFor(ImportActionItemRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.actionItemAvroMapper = actionItemAvroMapper;
+    }
+
+    /**
+     * Reads an NDJSON upload line by line. Blank lines are ignored.
+     *
+     * @param inputStream The upload
+     * @param actionItemImport The import session receiving the rows
+     * @throws IOException if the upload cannot be read
+     */
+    public void readNdjson(InputStream inputStream, ActionItemImport actionItemImport) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            ImportActionItemRow parsed;
+            try {
+                parsed = rowReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                actionItemImport.reject(row, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            actionItemImport.add(row, toCommand(parsed));
+        }
+    }
+
+    /**
+     * Reads an Avro object container upload record by record.
+     *
+     * @param inputStream The upload
+     * @param actionItemImport The import session receiving the rows
+     * @throws IOException if the upload is not a valid container file
+     */
+    public void readAvro(InputStream inputStream, ActionItemImport actionItemImport) throws IOException {
+        try (DataFileStream<ActionItemAvro> records =
+                     new DataFileStream<>(inputStream, new SpecificDatumReader<>(ActionItemAvro.class))) {
+            long row = 0;
+            ActionItemAvro record = null;
+            while (records.hasNext()) {
+                row++;
+                record = records.next(record);
+                actionItemImport.add(row, actionItemAvroMapper.toCreateCommand(record));
+            }
+        }
+    }
+
+    private static CreateActionItemCommand toCommand(ImportActionItemRow row) {
+        return CreateActionItemCommand.builder()
+                .uniqueId(row.getUniqueId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .assignee(row.getAssignee())
+                .category(row.getCategory())
+                .typeCode(row.getTypeCode())
+                .status(row.getStatus())
+                .dueDate(row.getDueDate())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+}
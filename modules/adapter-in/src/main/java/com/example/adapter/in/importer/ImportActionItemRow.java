@@ -0,0 +1,25 @@
+package com.example.adapter.in.importer;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of an NDJSON bulk import upload.
+ * <p>
+ * Field names match the action item JSON returned by the query and export APIs, so an NDJSON
+ * export can be re-imported as is. Unknown fields such as {@code id} are ignored.
+ */
+@Data
+public class ImportActionItemRow {
+    private String uniqueId;
+    private String title;
+    private String description;
+    private String assignee;
+    private String category;
+    private String typeCode;
+    private String status;
+    private LocalDateTime dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,6 +1,7 @@
 package com.example.adapter.in.kafka;
 
 import com.example.avro.ActionItemAvro;
+import com.example.commons.mdc.MdcContext;
 import lombok.*;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.support.Acknowledgment;
@@ -8,14 +9,15 @@ import org.springframework.kafka.support.Acknowledgment;
 /**
  * Data transfer object representing an asynchronous action item request from Kafka.
  * <p>
- * Encapsulates the Kafka consumer record and acknowledgment for a single action item message.
- * Used throughout the message processing pipeline to carry both the message payload and
- * the acknowledgment handle for offset management.
+ * Encapsulates the Kafka consumer record, acknowledgment and diagnostic context for a single
+ * action item message. Used throughout the message processing pipeline to carry the message
+ * payload, the acknowledgment handle for offset management and the per-record correlation context.
  * <p>
  * <b>Responsibilities:</b>
  * <ul>
  *   <li>Holds the Kafka consumer record containing the Avro message</li>
  *   <li>Provides access to the acknowledgment for manual offset commits</li>
+ *   <li>Carries the per-record MdcContext so tracing does not depend on thread-local state</li>
  *   <li>Overrides toString for concise logging and debugging</li>
  * </ul>
  * <b>Usage:</b> Passed between consumers, handlers, and processors to maintain context and
@@ -28,6 +30,7 @@ public class ActionItemAsyncRequest {
     private static final String REQUEST_FORMAT = "ActionItemAsyncRequest{topic='%s', partition=%d, offset=%d, key='%s'}";
     ConsumerRecord<String, ActionItemAvro> consumerRecord;
     Acknowledgment acknowledgment;
+    MdcContext mdcContext;
 
     @Override
     public String toString() {
@@ -1,10 +1,16 @@
 package com.example.adapter.in.kafka;
 
 import com.example.avro.ActionItemAvro;
+import com.example.commons.mdc.CorrelationIdGenerator;
+import com.example.commons.mdc.MdcContext;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaUtils;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Provides ActionItemAsyncRequest objects for Kafka message processing.
  * <p>
@@ -15,7 +21,8 @@ import org.springframework.stereotype.Component;
  * <b>Responsibilities:</b>
  * <ul>
  *   <li>Creates ActionItemAsyncRequest objects from Kafka records and acknowledgments</li>
- *   <li>Encapsulates construction logic for async requests</li>
+ *   <li>Builds the per-record MdcContext at dispatch time, reusing the producer's correlation ID
+ *       from the {@value #CORRELATION_ID_HEADER} header when present</li>
  *   <li>Ensures all required fields are set for downstream processing</li>
  * </ul>
  * <b>Usage:</b> Used by Kafka consumers and message handlers to obtain properly constructed
@@ -24,11 +31,42 @@ import org.springframework.stereotype.Component;
 @Component
 public class ActionItemAsyncRequestProvider {
 
+    /** Record header carrying the upstream correlation ID. */
+    public static final String CORRELATION_ID_HEADER = "correlationId";
+
     public ActionItemAsyncRequest getActionItemAsyncRequest(ConsumerRecord<String, ActionItemAvro> record, Acknowledgment acknowledgment) {
         return ActionItemAsyncRequest
                 .builder()
                 .consumerRecord(record)
                 .acknowledgment(acknowledgment)
+                .mdcContext(toMdcContext(record))
                 .build();
     }
+
+    /**
+     * Builds the diagnostic context for a single record. Called on the listener thread, so the
+     * consumer group is available from the container's thread-bound group ID.
+     *
+     * @param record The consumer record
+     * @return The record's diagnostic context
+     */
+    private MdcContext toMdcContext(ConsumerRecord<String, ActionItemAvro> record) {
+        return MdcContext.builder()
+                .correlationId(resolveCorrelationId(record))
+                .topic(record.topic())
+                .partition(record.partition())
+                .offset(record.offset())
+                .messageKey(record.key())
+                .timestamp(record.timestamp())
+                .consumerGroup(KafkaUtils.getConsumerGroupId())
+                .build();
+    }
+
+    private String resolveCorrelationId(ConsumerRecord<String, ActionItemAvro> record) {
+        Header header = record.headers().lastHeader(CORRELATION_ID_HEADER);
+        if (header != null && header.value() != null && header.value().length > 0) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+        return CorrelationIdGenerator.next();
+    }
 }
@@ -2,6 +2,8 @@ package com.example.adapter.in.kafka;
 
 import com.example.avro.ActionItemAvro;
 import com.example.avro.ActionItemStatusAvro;
+import com.example.domain.model.ActionItem;
+import com.example.port.in.CreateActionItemCommand;
 import com.example.port.in.ProcessActionItemCommand;
 import org.springframework.stereotype.Component;
 import java.time.Instant;
@@ -19,6 +21,7 @@ import java.time.ZoneId;
  * <b>Responsibilities:</b>
  * <ul>
  *   <li>Extracts and maps fields from Avro messages to domain commands</li>
+ *   <li>Maps stored action items to Avro records for exports and uploaded records to create commands</li>
  *   <li>Handles status and date/time conversions</li>
  *   <li>Provides default values for missing or null fields</li>
  * </ul>
@@ -29,8 +32,13 @@ import java.time.ZoneId;
 public class ActionItemAvroMapper {
 
     public ProcessActionItemCommand toCommand(ActionItemAsyncRequest actionItemAsyncRequest) {
-        ActionItemAvro avro = actionItemAsyncRequest.getConsumerRecord().value();
+        return toCommand(actionItemAsyncRequest.getConsumerRecord().value());
+    }
 
+    /**
+     * Maps a consumed Avro record to a process command, e.g. for chunked backfills.
+     */
+    public ProcessActionItemCommand toCommand(ActionItemAvro avro) {
         return ProcessActionItemCommand.builder()
                 .uniqueId(avro.getUniqueId())
                 .title(avro.getTitle())
@@ -45,6 +53,45 @@ public class ActionItemAvroMapper {
                 .build();
     }
 
+    /**
+     * Maps an Avro record from an uploaded container file to a create command for bulk imports.
+     */
+    public CreateActionItemCommand toCreateCommand(ActionItemAvro avro) {
+        return CreateActionItemCommand.builder()
+                .uniqueId(avro.getUniqueId())
+                .title(avro.getTitle())
+                .description(avro.getDescription())
+                .assignee(avro.getAssignee())
+                .category(avro.getCategory())
+                .typeCode(avro.getTypeCode())
+                .status(mapStatus(avro.getStatus()))
+                .dueDate(toLocalDateTime(avro.getDueDate()))
+                .createdAt(toLocalDateTime(avro.getCreatedAt()))
+                .updatedAt(toLocalDateTime(avro.getUpdatedAt()))
+                .build();
+    }
+
+    /**
+     * Maps a stored action item back to its Avro representation, e.g. for exports.
+     * Null optional strings become empty and a missing due date becomes the epoch,
+     * since the schema declares every field as required.
+     */
+    public ActionItemAvro toAvro(ActionItem actionItem) {
+        return ActionItemAvro.newBuilder()
+                .setId(actionItem.getId())
+                .setUniqueId(actionItem.getUniqueId())
+                .setTitle(nullToEmpty(actionItem.getTitle()))
+                .setDescription(nullToEmpty(actionItem.getDescription()))
+                .setAssignee(nullToEmpty(actionItem.getAssignee()))
+                .setCategory(nullToEmpty(actionItem.getCategory()))
+                .setTypeCode(nullToEmpty(actionItem.getTypeCode()))
+                .setStatus(ActionItemStatusAvro.valueOf(actionItem.getStatus().name()))
+                .setDueDate(toInstant(actionItem.getDueDate()))
+                .setCreatedAt(toInstant(actionItem.getCreatedAt()))
+                .setUpdatedAt(toInstant(actionItem.getUpdatedAt()))
+                .build();
+    }
+
     private String mapStatus(ActionItemStatusAvro status) {
         return status != null ? status.name() : "PENDING";
     }
@@ -54,5 +101,12 @@ public class ActionItemAvroMapper {
                 ZoneId.systemDefault()
         );
     }
-}
 
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant() : Instant.EPOCH;
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -2,19 +2,15 @@ package com.example.adapter.in.kafka;
 
 import com.example.adapter.in.kafka.handler.ActionItemAsyncMessageHandler;
 import com.example.adapter.in.kafka.handler.MessageHandler;
-import com.example.adapter.in.kafka.interceptor.MdcKafkaInterceptor;
 import com.example.avro.ActionItemAvro;
 
 import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.slf4j.MDC;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 /**
  * Kafka Consumer for Action Items with asynchronous processing capabilities.
  * <p>
@@ -31,7 +27,7 @@ import java.util.Map;
  * Processing Flow:
  * <ol>
  *   <li>Receives Avro-formatted messages from Kafka</li>
- *   <li>Sets up MDC context for correlation and tracing</li>
+ *   <li>Builds a per-record correlation context, reusing the correlationId header when present</li>
  *   <li>Processes messages asynchronously</li>
  *   <li>Handles success/failure scenarios</li>
  *   <li>Manages offset commitments</li>
@@ -48,35 +44,29 @@ public class ActionItemKafkaConsumer {
     private final ActionItemAsyncRequestProvider actionItemAsyncRequestProvider;
 
     /**
-     * Consumes Kafka messages with MDC context setup for distributed tracing.
+     * Consumes Kafka messages, establishing the per-record correlation context for distributed tracing.
      * 
      * @param record The Kafka consumer record
      * @param acknowledgment The acknowledgment for manual offset management
      */
     public void consume(ConsumerRecord<String, ActionItemAvro> record, Acknowledgment acknowledgment) {
-        // Capture the current MDC context (set by the interceptor)
-        Map<String, String> mdcContext = MdcKafkaInterceptor.getMdcContext();
+        // Build the request, including its per-record correlation context, at dispatch time
+        ActionItemAsyncRequest actionItemAsyncRequest = actionItemAsyncRequestProvider.getActionItemAsyncRequest(record, acknowledgment);
+        String correlationId = actionItemAsyncRequest.getMdcContext().getCorrelationId();
         
         try {
-            // Update MDC context with specific record information
-            
             log.info("Received message with key: {} from topic: {} partition: {} offset: {} correlationId: {}", 
-                    record.key(), record.topic(), record.partition(), record.offset(), 
-                    MdcKafkaInterceptor.getCorrelationId());
-            
-            // Create the async request
-            ActionItemAsyncRequest actionItemAsyncRequest = actionItemAsyncRequestProvider.getActionItemAsyncRequest(record, acknowledgment);
+                    record.key(), record.topic(), record.partition(), record.offset(), correlationId);
             
-            // Handle the message with preserved MDC context
+            // Hand off for async processing; the context is carried with the request
             messageHandler.handle(actionItemAsyncRequest);
             
-            log.info("Successfully processed message for topic: {} partition: {} offset: {}", 
+            log.info("Successfully dispatched message for topic: {} partition: {} offset: {}", 
                     record.topic(), record.partition(), record.offset());
                     
         } catch (Exception e) {
             log.error("Failed to process message for topic: {} partition: {} offset: {} correlationId: {}", 
-                     record.topic(), record.partition(), record.offset(), 
-                     MdcKafkaInterceptor.getCorrelationId(), e);
+                     record.topic(), record.partition(), record.offset(), correlationId, e);
             throw e;
         } 
     }
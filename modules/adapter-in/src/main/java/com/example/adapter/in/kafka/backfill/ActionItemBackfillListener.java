@@ -0,0 +1,171 @@
+package com.example.adapter.in.kafka.backfill;
+
+import com.example.adapter.in.kafka.ActionItemAvroMapper;
+import com.example.avro.ActionItemAvro;
+import com.example.avro.ActionItemStatusAvro;
+import com.example.commons.resilience.TransientFailures;
+import com.example.domain.model.ImportSummary;
+import com.example.port.in.BackfillActionItemsUseCase;
+import com.example.port.in.ProcessActionItemCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Batch Kafka listener used instead of {@code ActionItemKafkaConsumer} while replaying the
+ * action item topics into an empty or stale store.
+ * <p>
+ * Every polled batch is one chunk: CANCELLED records are dropped, the rest are validated and
+ * merged by {@link BackfillActionItemsUseCase} in a single transaction, and only then are the
+ * chunk's offsets committed. A merge that fails because the database is unavailable, or because
+ * the persistence circuit breaker is open, is rethrown and retried by the container's error
+ * handler without an attempt limit, so the chunk's offsets stay uncommitted for as long as the
+ * outage lasts. Any other merge failure would fail the same way on every attempt: the chunk is
+ * logged, counted as {@code failed} and acknowledged. Deduplication, write coalescing and the
+ * per-record transactions of the normal flow are bypassed.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Maps and merges each polled chunk, then acknowledges it</li>
+ *   <li>Publishes {@code action_items.backfill.records} counters and a merge timer</li>
+ *   <li>Logs progress and throughput every {@code progress-interval-ms}</li>
+ * </ul>
+ * <b>Configuration:</b> {@code kafka.consumer.backfill.*}; enabled by the {@code backfill} profile.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.backfill.enabled", havingValue = "true")
+public class ActionItemBackfillListener {
+
+    private final BackfillActionItemsUseCase backfillActionItemsUseCase;
+    private final ActionItemAvroMapper actionItemAvroMapper;
+    private final Counter receivedCounter;
+    private final Counter writtenCounter;
+    private final Counter rejectedCounter;
+    private final Counter supersededCounter;
+    private final Counter filteredCounter;
+    private final Counter failedCounter;
+    private final Timer mergeTimer;
+    private final LongAdder received = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong lastReportedReceived = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private final ScheduledExecutorService progressReporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "backfill-progress");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${kafka.consumer.backfill.progress-interval-ms:10000}")
+    private long progressIntervalMs;
+
+    public ActionItemBackfillListener(BackfillActionItemsUseCase backfillActionItemsUseCase,
+                                      ActionItemAvroMapper actionItemAvroMapper,
+                                      MeterRegistry meterRegistry) {
+        this.backfillActionItemsUseCase = backfillActionItemsUseCase;
+        this.actionItemAvroMapper = actionItemAvroMapper;
+        this.receivedCounter = recordCounter(meterRegistry, "received");
+        this.writtenCounter = recordCounter(meterRegistry, "written");
+        this.rejectedCounter = recordCounter(meterRegistry, "rejected");
+        this.supersededCounter = recordCounter(meterRegistry, "superseded");
+        this.filteredCounter = recordCounter(meterRegistry, "filtered");
+        this.failedCounter = recordCounter(meterRegistry, "failed");
+        this.mergeTimer = Timer.builder("action_items.backfill.merge")
+                .description("Time to validate and merge one backfill chunk")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startProgressReporting() {
+        log.info("Backfill mode enabled: action item topics are merged in chunks, reporting every {} ms",
+                progressIntervalMs);
+        progressReporter.scheduleAtFixedRate(this::reportProgress,
+                progressIntervalMs, progressIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopProgressReporting() {
+        progressReporter.shutdownNow();
+        reportProgress();
+    }
+
+    /**
+     * Merges one polled chunk and commits its offsets once the merge has committed.
+     *
+     * @param records The records of one poll, in offset order per partition
+     * @param acknowledgment The acknowledgment for the whole chunk
+     */
+    public void consume(List<ConsumerRecord<String, ActionItemAvro>> records, Acknowledgment acknowledgment) {
+        List<ProcessActionItemCommand> commands = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, ActionItemAvro> record : records) {
+            ActionItemAvro avro = record.value();
+            if (avro == null || ActionItemStatusAvro.CANCELLED.equals(avro.getStatus())) {
+                filteredCounter.increment();
+                continue;
+            }
+            commands.add(actionItemAvroMapper.toCommand(avro));
+        }
+
+        if (!commands.isEmpty()) {
+            try {
+                ImportSummary summary = mergeTimer.record(() -> backfillActionItemsUseCase.backfill(commands));
+                record(summary);
+                log.debug("Merged backfill chunk of {} records: {}", records.size(), summary);
+            } catch (RuntimeException e) {
+                if (TransientFailures.isRetryable(e)) {
+                    // Left to the container: the chunk is retried until the database is back
+                    throw e;
+                }
+                ConsumerRecord<String, ActionItemAvro> first = records.get(0);
+                log.error("Dropping backfill chunk of {} records starting at {}-{}@{} after a non-retryable failure",
+                        records.size(), first.topic(), first.partition(), first.offset(), e);
+                failedCounter.increment(commands.size());
+            }
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private void record(ImportSummary summary) {
+        received.add(summary.getReceived());
+        written.add(summary.getImported());
+        rejected.add(summary.getRejected());
+        receivedCounter.increment(summary.getReceived());
+        writtenCounter.increment(summary.getImported());
+        rejectedCounter.increment(summary.getRejected());
+        supersededCounter.increment(summary.getSkippedExisting());
+    }
+
+    private void reportProgress() {
+        long total = received.sum();
+        long sinceLast = total - lastReportedReceived.getAndSet(total);
+        double elapsedSeconds = Math.max((System.nanoTime() - startNanos) / 1_000_000_000.0, 0.001);
+        log.info("Backfill progress: received={}, written={}, rejected={}, current={}/s, average={}/s",
+                total, written.sum(), rejected.sum(),
+                Math.round(sinceLast * 1000.0 / progressIntervalMs),
+                Math.round(total / elapsedSeconds));
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("action_items.backfill.records")
+                .description("Records handled by the backfill listener")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
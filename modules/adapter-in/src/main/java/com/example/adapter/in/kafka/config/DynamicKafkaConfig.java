@@ -3,8 +3,11 @@ package com.example.adapter.in.kafka.config;
 import com.example.adapter.in.kafka.ActionItemAsyncRequest;
 import com.example.adapter.in.kafka.ActionItemAsyncRequestProvider;
 import com.example.adapter.in.kafka.ActionItemKafkaConsumer;
+import com.example.adapter.in.kafka.backfill.ActionItemBackfillListener;
 import com.example.adapter.in.kafka.handler.ActionItemAsyncMessageHandler;
 import com.example.adapter.in.kafka.handler.MessageHandler;
+import com.example.adapter.in.kafka.reactive.ReactiveActionItemReceiver;
+import com.example.adapter.in.kafka.ringbuffer.ActionItemRingBufferPipeline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.annotation.KafkaListenerConfigurer;
 import org.springframework.kafka.config.MethodKafkaListenerEndpoint;
@@ -21,7 +24,10 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 
@@ -58,6 +64,9 @@ import com.example.avro.ActionItemStatusAvro;
  *   <li>Custom error handling and offset management</li>
  *   <li>Record filtering (e.g., filtering out CANCELLED status)</li>
  *   <li>Concurrency and batch processing configuration</li>
+ *   <li>A backfill mode that replaces the per-record listeners with chunked batch listeners</li>
+ *   <li>A reactive mode in which ReactiveActionItemReceiver consumes the topics instead of listeners</li>
+ *   <li>A ring-buffer mode in which the listeners publish records into ActionItemRingBufferPipeline</li>
  *   <li>Logging and inspection of container properties</li>
  * </ul>
  *
@@ -76,13 +85,38 @@ import com.example.avro.ActionItemStatusAvro;
 @RequiredArgsConstructor
 public class DynamicKafkaConfig implements KafkaListenerConfigurer {
 
+    /** Topics carrying action items, consumed by the listeners or the reactive receiver. */
+    public static final List<String> ACTION_ITEM_TOPICS =
+            List.of("action-items-topic-1", "action-items-topic-2", "action-items-topic-3");
+
     private final MessageHandler<ActionItemAsyncRequest> messageHandler;
     private final ActionItemAsyncRequestProvider actionItemAsyncRequestProvider;
     private final MdcKafkaConfig mdcKafkaConfig;
+    private final ObjectProvider<ActionItemBackfillListener> backfillListener;
+    private final ObjectProvider<ReactiveActionItemReceiver> reactiveReceiver;
+    private final ObjectProvider<ActionItemRingBufferPipeline> ringBufferPipeline;
     
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Value("${spring.kafka.listener.auto-startup:true}")
+    private boolean autoStartup;
+
+    @Value("${kafka.consumer.backfill.max-poll-records:5000}")
+    private int backfillMaxPollRecords;
+
+    @Value("${kafka.consumer.backfill.fetch-min-bytes:1048576}")
+    private int backfillFetchMinBytes;
+
+    @Value("${kafka.consumer.backfill.fetch-max-wait-ms:500}")
+    private int backfillFetchMaxWaitMs;
+
+    @Value("${kafka.consumer.backfill.max-partition-fetch-bytes:10485760}")
+    private int backfillMaxPartitionFetchBytes;
+
+    @Value("${kafka.consumer.backfill.concurrency:3}")
+    private int backfillConcurrency;
+
     /**
      * Creates a MessageHandlerMethodFactory with bean validation support.
      *
@@ -99,6 +133,8 @@ public class DynamicKafkaConfig implements KafkaListenerConfigurer {
      * Creates a container factory with MDC interceptor support.
      * <p>
      * Configures consumer factory, acknowledgment mode, error handler, concurrency, and record filter.
+ * Acknowledgments are asynchronous: they may arrive out of order from the worker threads, and an
+ * offset is committed only once every record before it on the partition is acknowledged.
      *
      * @return ConcurrentKafkaListenerContainerFactory with MDC support
      */
@@ -113,18 +149,26 @@ public class DynamicKafkaConfig implements KafkaListenerConfigurer {
         // Configure container properties
         ContainerProperties containerProperties = factory.getContainerProperties();
         containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        // Workers acknowledge out of order; only contiguous acknowledged offsets are committed, so
+        // a record still being retried holds back the commit of every later record of its partition
+        containerProperties.setAsyncAcks(true);
         containerProperties.setObservationEnabled(true);
         
         // Configure concurrency
         factory.setConcurrency(3);
         
+        // Allow one-shot profiles (e.g. export) to run without consuming
+        factory.setAutoStartup(autoStartup);
+        
         // Configure error handler
         DefaultErrorHandler errorHandler = new DefaultErrorHandler(
             new FixedBackOff(5000L, 3L)
         );
         factory.setCommonErrorHandler(errorHandler);
 
-        // Configure RecordFilterStrategy to filter out CANCELLED status
+        // Configure RecordFilterStrategy to filter out CANCELLED status; filtered records are
+        // acknowledged, or they would hold back the commits of their partitions
+        factory.setAckDiscarded(true);
         factory.setRecordFilterStrategy(new RecordFilterStrategy<String, Object>() {
             @Override
             public boolean filter(ConsumerRecord<String, Object> consumerRecord) {
@@ -139,6 +183,41 @@ public class DynamicKafkaConfig implements KafkaListenerConfigurer {
         
         return factory;
     }
+
+    /**
+     * Creates the batch container factory used in backfill mode.
+     * <p>
+     * Uses the MDC-enabled consumer settings with large polls and fetches, so every poll becomes
+     * one merge chunk. CANCELLED records are dropped by the listener itself.
+     *
+     * @return ConcurrentKafkaListenerContainerFactory delivering whole polls to batch listeners
+     */
+    @Bean
+    @ConditionalOnProperty(name = "kafka.consumer.backfill.enabled", havingValue = "true")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> backfillKafkaListenerContainerFactory() {
+        Map<String, Object> props = new HashMap<>(mdcKafkaConfig.mdcConsumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, backfillMaxPollRecords);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, backfillFetchMinBytes);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, backfillFetchMaxWaitMs);
+        props.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, backfillMaxPartitionFetchBytes);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(backfillConcurrency);
+        factory.setAutoStartup(autoStartup);
+        // The listener only rethrows retryable failures (database down, breaker open): retry the
+        // whole chunk until it succeeds, so its offsets stay uncommitted for the whole outage
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+            new FixedBackOff(5000L, FixedBackOff.UNLIMITED_ATTEMPTS)));
+
+        log.info("Created backfill Kafka listener container factory: max.poll.records={}, fetch.min.bytes={}",
+                backfillMaxPollRecords, backfillFetchMinBytes);
+
+        return factory;
+    }
     
 
     
@@ -187,7 +266,7 @@ public class DynamicKafkaConfig implements KafkaListenerConfigurer {
         try {
             // Get the container factory
             ConcurrentKafkaListenerContainerFactory<String, Object> factory = 
-                applicationContext.getBean(ConcurrentKafkaListenerContainerFactory.class);
+                applicationContext.getBean("mdcKafkaListenerContainerFactory", ConcurrentKafkaListenerContainerFactory.class);
             
             if (factory != null) {
                 ContainerProperties containerProperties = factory.getContainerProperties();
@@ -232,15 +311,34 @@ public class DynamicKafkaConfig implements KafkaListenerConfigurer {
      */
     @Override
     public void configureKafkaListeners(KafkaListenerEndpointRegistrar registrar) {
-        List<String> topics = List.of("action-items-topic-1", "action-items-topic-2", "action-items-topic-3");
+        List<String> topics = ACTION_ITEM_TOPICS;
+        if (reactiveReceiver.getIfAvailable() != null) {
+            log.info("Reactive mode: topics {} are consumed by the reactive receiver, no listeners registered", topics);
+            return;
+        }
         log.info("Configuring dynamic Kafka listeners for topics: {}", topics);
         
         // Log all container properties before configuring listeners
         logAllContainerProperties();
         
+        ActionItemBackfillListener backfill = backfillListener.getIfAvailable();
+        if (backfill != null) {
+            log.info("Backfill mode: registering chunked batch listeners instead of per-record listeners");
+        }
+        ActionItemRingBufferPipeline ringBuffer = backfill == null ? ringBufferPipeline.getIfAvailable() : null;
+        if (ringBuffer != null) {
+            log.info("Ring-buffer mode: listeners publish records into the ring-buffer pipeline");
+        }
+        
         for (String topic : topics) {
             try {
-                registerKafkaListener(registrar, topic);
+                if (backfill != null) {
+                    registerBackfillListener(registrar, topic, backfill);
+                } else if (ringBuffer != null) {
+                    registerRingBufferListener(registrar, topic, ringBuffer);
+                } else {
+                    registerKafkaListener(registrar, topic);
+                }
                 log.info("Successfully registered Kafka listener for topic: {} ", topic);
             } catch (Exception e) {
                 log.error("Failed to register Kafka listener for topic: {}", topic, e);
@@ -282,4 +380,64 @@ public class DynamicKafkaConfig implements KafkaListenerConfigurer {
 
         registrar.registerEndpoint(endpoint);
     }
+
+    /**
+     * Registers a per-record listener endpoint for a topic in ring-buffer mode.
+     * <p>
+     * Same group ID and container factory as the per-record listener; records go to the
+     * ring-buffer pipeline instead of the async message handler.
+     *
+     * @param registrar The registrar to register the endpoint with
+     * @param topic The topic to listen to
+     * @param ringBuffer The pipeline bean
+     * @throws NoSuchMethodException if the consume method is not found
+     */
+    private void registerRingBufferListener(KafkaListenerEndpointRegistrar registrar, String topic,
+                                            ActionItemRingBufferPipeline ringBuffer) throws NoSuchMethodException {
+
+        MethodKafkaListenerEndpoint<String, Object> endpoint = new MethodKafkaListenerEndpoint<>();
+
+        endpoint.setId(UUID.randomUUID().toString());
+        endpoint.setTopics(topic);
+        endpoint.setGroupId("group-"+topic);
+        endpoint.setBean(ringBuffer);
+        endpoint.setMethod(ActionItemRingBufferPipeline.class.getMethod("consume", ConsumerRecord.class, Acknowledgment.class));
+        endpoint.setMessageHandlerMethodFactory(messageHandlerMethodFactory());
+
+        log.info("Ring-buffer endpoint configuration for topic {}: ID={}, GroupId={}",
+                topic, endpoint.getId(), endpoint.getGroupId());
+
+        registrar.registerEndpoint(endpoint);
+    }
+
+    /**
+     * Registers a batch listener endpoint for a topic in backfill mode.
+     * <p>
+     * Uses the same group ID as the per-record listener, so a backfill continues from the
+     * group's committed offsets; reset them (e.g. to earliest) to replay a topic from the start.
+     *
+     * @param registrar The registrar to register the endpoint with
+     * @param topic The topic to listen to
+     * @param backfill The batch listener bean
+     * @throws NoSuchMethodException if the consume method is not found
+     */
+    private void registerBackfillListener(KafkaListenerEndpointRegistrar registrar, String topic,
+                                          ActionItemBackfillListener backfill) throws NoSuchMethodException {
+
+        MethodKafkaListenerEndpoint<String, Object> endpoint = new MethodKafkaListenerEndpoint<>();
+
+        endpoint.setId(UUID.randomUUID().toString());
+        endpoint.setTopics(topic);
+        endpoint.setGroupId("group-"+topic);
+        endpoint.setBean(backfill);
+        endpoint.setBatchListener(true);
+        endpoint.setMethod(ActionItemBackfillListener.class.getMethod("consume", List.class, Acknowledgment.class));
+        endpoint.setMessageHandlerMethodFactory(messageHandlerMethodFactory());
+
+        log.info("Backfill endpoint configuration for topic {}: ID={}, GroupId={}",
+                topic, endpoint.getId(), endpoint.getGroupId());
+
+        registrar.registerEndpoint(endpoint, applicationContext.getBean(
+                "backfillKafkaListenerContainerFactory", ConcurrentKafkaListenerContainerFactory.class));
+    }
 }
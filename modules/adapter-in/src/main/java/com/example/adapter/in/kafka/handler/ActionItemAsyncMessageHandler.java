@@ -1,15 +1,27 @@
 package com.example.adapter.in.kafka.handler;
 
-import static java.util.concurrent.CompletableFuture.runAsync;
-
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.adapter.in.kafka.ActionItemAsyncRequest;
+import com.example.adapter.in.kafka.ActionItemAvroMapper;
+import com.example.adapter.in.kafka.idempotency.RecordDeduplicator;
+import com.example.adapter.in.kafka.journal.ActionItemJournal;
+import com.example.avro.ActionItemAvro;
+import com.example.avro.ActionItemStatusAvro;
+import com.example.commons.mdc.MdcContext;
 import com.example.commons.mdc.MdcUtils;
+import com.example.commons.resilience.TransientFailures;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -19,10 +31,15 @@ import lombok.extern.slf4j.Slf4j;
  * preserving MDC context for distributed tracing and correlation.
  * 
  * Features:
- * - Asynchronous processing using CompletableFuture
- * - MDC context preservation across async operations
+ * - Asynchronous processing on the message processing executor
+ * - A single MdcContext carrier per message instead of repeated MDC map copies
  * - Correlation ID tracking
+ * - Duplicate and stale record skipping via RecordDeduplicator
+ * - Optional coalescing of bursts for the same uniqueId via ActionItemWriteCoalescer
+ * - Optional store-and-forward via ActionItemJournal while the database is unavailable
  * - Comprehensive error handling
+ * - Records rejected by an open circuit breaker or failing on the database are retried after
+ *   {@code kafka.consumer.retry-delay-ms}, without an error record or offset commit
  */
 @Component
 @Slf4j
@@ -31,58 +48,165 @@ public class ActionItemAsyncMessageHandler implements MessageHandler<ActionItemA
     private final ActionItemMessageProcessor messageProcessor;
     private final ActionItemProcessingResultHandler resultHandler;
     private final Executor messageProcessingExecutor;
+    private final RecordDeduplicator recordDeduplicator;
+    private final OffsetCommitter offsetCommitter;
+    private final ActionItemWriteCoalescer writeCoalescer;
+    private final ActionItemJournal journal;
+    private final ActionItemAvroMapper actionItemAvroMapper;
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "record-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${kafka.consumer.retry-delay-ms:1000}")
+    private long retryDelayMs;
 
     public ActionItemAsyncMessageHandler(
             ActionItemMessageProcessor messageProcessor,
             ActionItemProcessingResultHandler resultHandler,
-            @Qualifier("messageProcessingExecutor") Executor messageProcessingExecutor) {
+            @Qualifier("messageProcessingExecutor") Executor messageProcessingExecutor,
+            RecordDeduplicator recordDeduplicator,
+            OffsetCommitter offsetCommitter,
+            ActionItemWriteCoalescer writeCoalescer,
+            ActionItemJournal journal,
+            ActionItemAvroMapper actionItemAvroMapper) {
         this.messageProcessor = messageProcessor;
         this.resultHandler = resultHandler;
         this.messageProcessingExecutor = messageProcessingExecutor;
+        this.recordDeduplicator = recordDeduplicator;
+        this.offsetCommitter = offsetCommitter;
+        this.writeCoalescer = writeCoalescer;
+        this.journal = journal;
+        this.actionItemAvroMapper = actionItemAvroMapper;
     }
 
     @Override
     public void handle(ActionItemAsyncRequest actionItemAsyncRequest) {
-        // Capture current MDC context for async processing
-        var mdcContext = MdcUtils.getContext();
+        // Redelivered or stale records are acknowledged without touching the database
+        if (recordDeduplicator.shouldSkip(actionItemAsyncRequest)) {
+            offsetCommitter.commitOffset(actionItemAsyncRequest);
+            return;
+        }
+        
+        // While the database is unavailable, records are journaled and acknowledged once durable
+        if (journalIfUnavailable(actionItemAsyncRequest)) {
+            return;
+        }
+        
+        // Bursts for the same uniqueId are merged into one write and acknowledged together
+        if (writeCoalescer.isEnabled()) {
+            writeCoalescer.submit(actionItemAsyncRequest);
+            return;
+        }
+        
+        // The per-record context travels with the task and is materialized on the worker thread
+        MdcContext mdcContext = actionItemAsyncRequest.getMdcContext() != null
+                ? actionItemAsyncRequest.getMdcContext()
+                : MdcContext.capture();
         
         log.info("Handling async request: {} with correlationId: {}", 
-                actionItemAsyncRequest, MdcUtils.getCorrelationId());
+                actionItemAsyncRequest, mdcContext.getCorrelationId());
         
-        // Set component and operation context
-        MdcUtils.setComponent("ActionItemAsyncMessageHandler");
-        MdcUtils.setOperation("handle");
+        messageProcessingExecutor.execute(
+                mdcContext.wrap(() -> processAndHandleResult(actionItemAsyncRequest)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
+    /**
+     * Appends the request to the journal if the journal is taking writes. Only records that pass the
+     * structural checks are journaled; the rest take the normal path and its error handling. If the
+     * append fails, the record is processed directly after all.
+     *
+     * @param actionItemAsyncRequest The request to journal
+     * @return true if the journal took the request
+     */
+    private boolean journalIfUnavailable(ActionItemAsyncRequest actionItemAsyncRequest) {
+        ActionItemAvro avro = actionItemAsyncRequest.getConsumerRecord().value();
+        if (avro == null || avro.getUniqueId() == null || avro.getUniqueId().isBlank()
+                || !(ActionItemStatusAvro.OPEN.equals(avro.getStatus()) || ActionItemStatusAvro.CLOSE.equals(avro.getStatus()))) {
+            return false;
+        }
+        CompletableFuture<Void> durable = journal.appendIfJournaling(actionItemAvroMapper.toCommand(avro));
+        if (durable == null) {
+            return false;
+        }
         
-        runAsync(() -> {
-            try {
-                // Restore MDC context in async thread
-                MdcUtils.setContext(mdcContext);
-                
-                log.debug("Processing message in async thread with correlationId: {}", 
-                         MdcUtils.getCorrelationId());
-                
-                messageProcessor.process(actionItemAsyncRequest);
-                
-            } catch (Exception e) {
-                log.error("Error processing message with correlationId: {}", 
-                         MdcUtils.getCorrelationId(), e);
-                throw e;
-            }
-        }, messageProcessingExecutor)
-        .whenComplete((result, error) -> {
-            try {
-                // Restore MDC context for result handling
-                MdcUtils.setContext(mdcContext);
-                
-                log.debug("Handling result for correlationId: {} with error: {}", 
-                         MdcUtils.getCorrelationId(), error != null);
-                
-                resultHandler.handleResult(actionItemAsyncRequest, error);
-                
-            } catch (Exception e) {
-                log.error("Error handling result for correlationId: {}", 
-                         MdcUtils.getCorrelationId(), e);
+        MdcContext mdcContext = actionItemAsyncRequest.getMdcContext() != null
+                ? actionItemAsyncRequest.getMdcContext()
+                : MdcContext.capture();
+        durable.whenComplete((ignored, error) -> {
+            if (error == null) {
+                mdcContext.wrap(() -> resultHandler.handleResult(actionItemAsyncRequest, null)).run();
+            } else {
+                log.error("Failed to journal {}, processing it directly", actionItemAsyncRequest, error);
+                messageProcessingExecutor.execute(
+                        mdcContext.wrap(() -> processAndHandleResult(actionItemAsyncRequest)));
             }
         });
+        return true;
+    }
+
+    /**
+     * Processes the request and hands the outcome to the result handler on the same worker thread,
+     * so the context is applied once per message. A retryable failure is not handed over: the
+     * record stays unacknowledged and is processed again after the retry delay.
+     *
+     * @param actionItemAsyncRequest The request to process
+     */
+    private void processAndHandleResult(ActionItemAsyncRequest actionItemAsyncRequest) {
+        Throwable error = null;
+        try {
+            messageProcessor.process(actionItemAsyncRequest);
+        } catch (Exception e) {
+            if (TransientFailures.isRetryable(e)) {
+                log.warn("Retrying message with correlationId: {} in {} ms: {}",
+                        MdcUtils.getCorrelationId(), retryDelayMs, e.getMessage());
+                retryLater(actionItemAsyncRequest);
+                return;
+            }
+            log.error("Error processing message with correlationId: {}", 
+                     MdcUtils.getCorrelationId(), e);
+            error = e;
+        }
+        
+        try {
+            resultHandler.handleResult(actionItemAsyncRequest, error);
+        } catch (Exception e) {
+            log.error("Error handling result for correlationId: {}", 
+                     MdcUtils.getCorrelationId(), e);
+        }
+    }
+
+    /**
+     * Schedules the request to be processed again, and again later if the executor rejects it. If
+     * the application is shutting down, the record is left unacknowledged. The listener container
+     * commits only contiguous acknowledged offsets (async acks), so the committed offset of its
+     * partition stays before it and Kafka redelivers it, with the records after it, to the next
+     * owner of the partition.
+     *
+     * @param actionItemAsyncRequest The request to retry
+     */
+    private void retryLater(ActionItemAsyncRequest actionItemAsyncRequest) {
+        MdcContext mdcContext = actionItemAsyncRequest.getMdcContext() != null
+                ? actionItemAsyncRequest.getMdcContext()
+                : MdcContext.capture();
+        try {
+            retryScheduler.schedule(() -> {
+                try {
+                    messageProcessingExecutor.execute(
+                            mdcContext.wrap(() -> processAndHandleResult(actionItemAsyncRequest)));
+                } catch (RejectedExecutionException e) {
+                    retryLater(actionItemAsyncRequest);
+                }
+            }, retryDelayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.error("Shutting down with {} unacknowledged; it and the later records of its partition will be redelivered",
+                    actionItemAsyncRequest);
+        }
     }
 }
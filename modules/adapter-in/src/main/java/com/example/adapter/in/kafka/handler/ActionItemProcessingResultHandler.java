@@ -1,10 +1,13 @@
 package com.example.adapter.in.kafka.handler;
 
 import com.example.adapter.in.kafka.ActionItemAsyncRequest;
+import com.example.adapter.in.kafka.idempotency.RecordDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 import static java.util.Optional.ofNullable;
 
 /**
@@ -18,6 +21,8 @@ import static java.util.Optional.ofNullable;
  * <ul>
  *   <li>Delegates error handling to ActionItemProcessingErrorHandler if an error occurred.</li>
  *   <li>Logs successful processing events.</li>
+ *   <li>Reports completion to RecordDeduplicator so redeliveries of the record are skipped.</li>
+ *   <li>Acknowledges all records of a coalesced batch once its merged write completes.</li>
  *   <li>Commits Kafka offsets via OffsetCommitter to acknowledge message consumption.</li>
  * </ul>
  *
@@ -30,6 +35,7 @@ class ActionItemProcessingResultHandler {
 
     private final ActionItemProcessingErrorHandler processingErrorHandler;
     private final OffsetCommitter offsetCommitter;
+    private final RecordDeduplicator recordDeduplicator;
 
     /**
      * Handles the result of processing an ActionItemAsyncRequest.
@@ -46,10 +52,34 @@ class ActionItemProcessingResultHandler {
                         throwable -> handleProcessingError(request, throwable),
                         () -> handleProcessingSuccess(request));
 
+        recordDeduplicator.completed(request, error == null);
         offsetCommitter.commitOffset(request);
 
     }
 
+    /**
+     * Handles the result of a coalesced batch written by ActionItemWriteCoalescer.
+     * <p>
+     * The error, if any, is persisted once for the record that failed. Every record of the batch
+     * is then reported to the deduplicator and acknowledged, including the superseded ones.
+     *
+     * @param batch All requests that were coalesced, in arrival order
+     * @param failed The request whose write failed, or null if the merged write succeeded
+     * @param error The error that occurred, or null if successful
+     */
+    public void handleCoalescedResult(List<ActionItemAsyncRequest> batch, ActionItemAsyncRequest failed, Throwable error) {
+        if (error != null) {
+            handleProcessingError(failed, error);
+        } else {
+            log.info("Processing completed for {} coalesced records ending at {}", batch.size(), batch.get(batch.size() - 1));
+        }
+
+        for (ActionItemAsyncRequest request : batch) {
+            recordDeduplicator.completed(request, error == null);
+            offsetCommitter.commitOffset(request);
+        }
+    }
+
     /**
      * Handles processing errors by logging and delegating to the error handler.
      *
@@ -0,0 +1,367 @@
+package com.example.adapter.in.kafka.handler;
+
+import com.example.adapter.in.kafka.ActionItemAsyncRequest;
+import com.example.avro.ActionItemAvro;
+import com.example.avro.ActionItemStatusAvro;
+import com.example.commons.mdc.MdcContext;
+import com.example.commons.resilience.TransientFailures;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Coalesces bursts of action item updates for the same {@code uniqueId} into a single write.
+ * <p>
+ * Producers frequently emit several updates for one action item within milliseconds. Instead of
+ * running one transaction per record, requests are buffered per {@code uniqueId} for a short
+ * window (or until the batch size is reached) and only the final state, the one with the newest
+ * source updatedAt, is written. When that state is not OPEN and the batch contains an OPEN update,
+ * the newest OPEN state is written first so item creation and the OPEN→CLOSE transition keep
+ * their semantics.
+ * <p>
+ * At most one batch per {@code uniqueId} is in flight; updates arriving meanwhile are buffered and
+ * written once it completes. The total number of buffered records is bounded by
+ * {@code max-pending-records}: when it is reached, {@link #submit(ActionItemAsyncRequest)} blocks
+ * the listener thread until batches drain. A batch the executor rejects, or whose write is
+ * rejected by an open circuit breaker or fails on the database, is not acknowledged; it stays in
+ * flight and is dispatched again after {@code retry-delay-ms}. Records of the batch already
+ * written are dropped as stale on the retry. Since the listener container commits only contiguous
+ * acknowledged offsets, a batch still in retry when the application stops or the partition is
+ * revoked is redelivered.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Buffers requests per uniqueId and flushes them on window expiry or batch size</li>
+ *   <li>Serializes batches per uniqueId and applies backpressure once the buffer is full</li>
+ *   <li>Processes only the records needed to reach the final state</li>
+ *   <li>Acknowledges every coalesced record once the merged write has completed</li>
+ * </ul>
+ * <b>Configuration:</b> {@code kafka.consumer.coalescing.*} in application.yml.
+ */
+@Slf4j
+@Component
+class ActionItemWriteCoalescer {
+
+    private final ActionItemMessageProcessor messageProcessor;
+    private final ActionItemProcessingResultHandler resultHandler;
+    private final Executor messageProcessingExecutor;
+    /** Buffered and in-flight state per uniqueId; also the monitor for all fields below. */
+    private final Map<String, Slot> pending = new HashMap<>();
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "write-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Records currently buffered across all slots, excluding batches already dispatched. */
+    private int bufferedRecords;
+
+    @Value("${kafka.consumer.coalescing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${kafka.consumer.coalescing.window-ms:50}")
+    private long windowMs;
+
+    @Value("${kafka.consumer.coalescing.max-batch-size:20}")
+    private int maxBatchSize;
+
+    @Value("${kafka.consumer.coalescing.max-pending-records:10000}")
+    private int maxPendingRecords;
+
+    @Value("${kafka.consumer.coalescing.retry-delay-ms:1000}")
+    private long retryDelayMs;
+
+    ActionItemWriteCoalescer(
+            ActionItemMessageProcessor messageProcessor,
+            ActionItemProcessingResultHandler resultHandler,
+            @Qualifier("messageProcessingExecutor") Executor messageProcessingExecutor) {
+        this.messageProcessor = messageProcessor;
+        this.resultHandler = resultHandler;
+        this.messageProcessingExecutor = messageProcessingExecutor;
+    }
+
+    /**
+     * Returns whether coalescing is enabled.
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffers a request. The batch for its uniqueId is flushed when the window expires or the
+     * batch size is reached, whichever comes first, and once no earlier batch for the uniqueId is
+     * in flight. Blocks while {@code max-pending-records} records are buffered.
+     *
+     * @param request The request to buffer
+     */
+    void submit(ActionItemAsyncRequest request) {
+        String uniqueId = uniqueIdOf(request);
+        if (uniqueId == null) {
+            dispatch(null, List.of(request));
+            return;
+        }
+
+        List<ActionItemAsyncRequest> ready;
+        synchronized (pending) {
+            awaitCapacity();
+            Slot slot = pending.computeIfAbsent(uniqueId, id -> new Slot());
+            slot.buffer.add(request);
+            bufferedRecords++;
+            if (slot.buffer.size() == 1) {
+                slot.timer = flushScheduler.schedule(() -> flush(uniqueId), windowMs, TimeUnit.MILLISECONDS);
+            }
+            if (slot.buffer.size() >= maxBatchSize) {
+                slot.due = true;
+            }
+            ready = takeIfReady(slot);
+        }
+        if (ready != null) {
+            dispatch(uniqueId, ready);
+        }
+    }
+
+    /**
+     * Flushes all buffered batches so their records are written and acknowledged before shutdown.
+     * Batches whose uniqueId still has a write in flight follow once that write completes.
+     */
+    @PreDestroy
+    void flushAll() {
+        Map<String, List<ActionItemAsyncRequest>> batches = new HashMap<>();
+        synchronized (pending) {
+            pending.forEach((uniqueId, slot) -> {
+                slot.due = true;
+                List<ActionItemAsyncRequest> ready = takeIfReady(slot);
+                if (ready != null) {
+                    batches.put(uniqueId, ready);
+                }
+            });
+        }
+        if (!batches.isEmpty()) {
+            log.info("Flushing {} pending coalesced batches on shutdown", batches.size());
+        }
+        batches.forEach(this::dispatch);
+        flushScheduler.shutdown();
+    }
+
+    private void flush(String uniqueId) {
+        List<ActionItemAsyncRequest> ready;
+        synchronized (pending) {
+            Slot slot = pending.get(uniqueId);
+            if (slot == null) {
+                return;
+            }
+            slot.timer = null;
+            slot.due = true;
+            ready = takeIfReady(slot);
+        }
+        if (ready != null) {
+            dispatch(uniqueId, ready);
+        }
+    }
+
+    /**
+     * Takes the buffered batch of a slot if it is due and no batch for the uniqueId is in flight.
+     * Must be called while holding the {@code pending} monitor.
+     */
+    private List<ActionItemAsyncRequest> takeIfReady(Slot slot) {
+        if (!slot.due || slot.inFlight || slot.buffer.isEmpty()) {
+            return null;
+        }
+        if (slot.timer != null) {
+            // A size-triggered flush must not leave the window timer to cut the next batch short
+            slot.timer.cancel(false);
+            slot.timer = null;
+        }
+        List<ActionItemAsyncRequest> batch = slot.buffer;
+        slot.buffer = new ArrayList<>();
+        slot.due = false;
+        slot.inFlight = true;
+        bufferedRecords -= batch.size();
+        pending.notifyAll();
+        return batch;
+    }
+
+    private void awaitCapacity() {
+        while (bufferedRecords >= maxPendingRecords) {
+            try {
+                pending.wait(windowMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marks the in-flight batch of a uniqueId as done and dispatches the next one if it is due.
+     */
+    private void batchDone(String uniqueId) {
+        if (uniqueId == null) {
+            return;
+        }
+        List<ActionItemAsyncRequest> ready;
+        synchronized (pending) {
+            Slot slot = pending.get(uniqueId);
+            if (slot == null) {
+                return;
+            }
+            slot.inFlight = false;
+            ready = takeIfReady(slot);
+            if (ready == null && slot.buffer.isEmpty()) {
+                pending.remove(uniqueId);
+            }
+        }
+        if (ready != null) {
+            dispatch(uniqueId, ready);
+        }
+    }
+
+    private void dispatch(String uniqueId, List<ActionItemAsyncRequest> batch) {
+        ActionItemAsyncRequest last = batch.get(batch.size() - 1);
+        MdcContext mdcContext = last.getMdcContext() != null ? last.getMdcContext() : MdcContext.capture();
+        try {
+            messageProcessingExecutor.execute(mdcContext.wrap(() -> {
+                boolean retry = false;
+                try {
+                    retry = !processBatch(batch);
+                } finally {
+                    if (retry) {
+                        retryLater(uniqueId, batch);
+                    } else {
+                        batchDone(uniqueId);
+                    }
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            // Nothing was written: keep the batch unacknowledged and in flight, and try again later
+            log.warn("Executor rejected coalesced batch of {} records ending at {}, retrying in {} ms",
+                    batch.size(), last, retryDelayMs);
+            retryLater(uniqueId, batch);
+        }
+    }
+
+    private void retryLater(String uniqueId, List<ActionItemAsyncRequest> batch) {
+        try {
+            flushScheduler.schedule(() -> dispatch(uniqueId, batch), retryDelayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.error("Shutting down with coalesced batch of {} records ending at {} unacknowledged; "
+                            + "it and the later records of its partitions will be redelivered",
+                    batch.size(), batch.get(batch.size() - 1));
+        }
+    }
+
+    /**
+     * Writes the merged state of a batch and reports the outcome for every record in it.
+     *
+     * @return false if the write failed in a way worth retrying; nothing is reported then
+     */
+    private boolean processBatch(List<ActionItemAsyncRequest> batch) {
+        List<ActionItemAsyncRequest> toWrite = selectWrites(batch);
+        if (batch.size() > 1) {
+            log.debug("Coalesced {} updates for uniqueId: {} into {} writes",
+                    batch.size(), uniqueIdOf(batch.get(0)), toWrite.size());
+        }
+
+        ActionItemAsyncRequest failed = null;
+        Throwable error = null;
+        for (ActionItemAsyncRequest request : toWrite) {
+            try {
+                messageProcessor.process(request);
+            } catch (Exception e) {
+                if (TransientFailures.isRetryable(e)) {
+                    log.warn("Retrying coalesced batch of {} records ending at {} in {} ms: {}",
+                            batch.size(), batch.get(batch.size() - 1), retryDelayMs, e.getMessage());
+                    return false;
+                }
+                log.error("Error processing coalesced message {}", request, e);
+                failed = request;
+                error = e;
+                break;
+            }
+        }
+
+        try {
+            resultHandler.handleCoalescedResult(batch, failed, error);
+        } catch (Exception e) {
+            log.error("Error handling result for coalesced batch ending at {}", batch.get(batch.size() - 1), e);
+        }
+        return true;
+    }
+
+    /**
+     * Selects the records that must be written to reach the final state of the batch: the record
+     * with the newest source updatedAt, preceded by the newest OPEN record when the final one has
+     * another status. Records arriving out of order would otherwise end the batch on a stale state
+     * that the newer, acknowledged record could never overwrite.
+     */
+    private static List<ActionItemAsyncRequest> selectWrites(List<ActionItemAsyncRequest> batch) {
+        ActionItemAsyncRequest last = newest(batch, request -> true);
+        if (batch.size() == 1 || isOpen(last)) {
+            return List.of(last);
+        }
+        ActionItemAsyncRequest open = newest(batch, request -> request != last && isOpen(request));
+        return open != null ? List.of(open, last) : List.of(last);
+    }
+
+    /**
+     * Returns the matching record with the newest source updatedAt, or null if none matches.
+     * Without updatedAt on either side the arrival order decides, as in the journal compaction.
+     */
+    private static ActionItemAsyncRequest newest(List<ActionItemAsyncRequest> batch, Predicate<ActionItemAsyncRequest> filter) {
+        ActionItemAsyncRequest newest = null;
+        for (ActionItemAsyncRequest request : batch) {
+            if (!filter.test(request)) {
+                continue;
+            }
+            if (newest == null || !isOlder(request, newest)) {
+                newest = request;
+            }
+        }
+        return newest;
+    }
+
+    private static boolean isOlder(ActionItemAsyncRequest request, ActionItemAsyncRequest kept) {
+        Instant updatedAt = updatedAtOf(request);
+        Instant keptUpdatedAt = updatedAtOf(kept);
+        return updatedAt != null && keptUpdatedAt != null && updatedAt.isBefore(keptUpdatedAt);
+    }
+
+    private static Instant updatedAtOf(ActionItemAsyncRequest request) {
+        ActionItemAvro avro = request.getConsumerRecord().value();
+        return avro != null ? avro.getUpdatedAt() : null;
+    }
+
+    private static boolean isOpen(ActionItemAsyncRequest request) {
+        ActionItemAvro avro = request.getConsumerRecord().value();
+        return avro != null && ActionItemStatusAvro.OPEN.equals(avro.getStatus());
+    }
+
+    private static String uniqueIdOf(ActionItemAsyncRequest request) {
+        ActionItemAvro avro = request.getConsumerRecord().value();
+        return avro != null ? avro.getUniqueId() : null;
+    }
+
+    /** Coalescing state of one uniqueId. */
+    private static final class Slot {
+        private List<ActionItemAsyncRequest> buffer = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+        /** Window expired or batch size reached; flush as soon as nothing is in flight. */
+        private boolean due;
+        private boolean inFlight;
+    }
+}
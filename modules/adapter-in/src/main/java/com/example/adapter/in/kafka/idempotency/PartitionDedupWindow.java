@@ -0,0 +1,135 @@
+package com.example.adapter.in.kafka.idempotency;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact in-memory record of processed offsets and latest source versions for one partition.
+ * <p>
+ * Offsets are tracked as a high-watermark (every offset below it is processed) plus a ring
+ * bitmap of completed offsets above it, so memory stays fixed at {@code capacity} bits no matter
+ * how far the partition advances. Source versions are tracked per {@code uniqueId} in a bounded
+ * LRU map holding the latest {@code updatedAt} (epoch millis) that was successfully applied.
+ * <p>
+ * The watermark never moves past an offset that has not completed. If a completion lands beyond
+ * the window, offset tracking is abandoned for the partition: {@link #isProcessed(long)} answers
+ * false from then on and the watermark stays where it was, so redeliveries are reprocessed rather
+ * than skipped.
+ * <p>
+ * All methods are synchronized: dispatch happens on the listener thread, completion on worker threads.
+ */
+final class PartitionDedupWindow {
+
+    private static final long UNKNOWN = -1L;
+
+    private final long[] words;
+    private final int mask;
+    private final Map<String, Long> latestUpdatedAt;
+
+    /** First offset not yet known to be processed, or UNKNOWN before the first record. */
+    private long watermark;
+    private long persistedWatermark;
+    /** Set once a completion fell outside the window; offset dedup is off for good afterwards. */
+    private boolean overflowed;
+
+    PartitionDedupWindow(int capacity, int maxTrackedKeys, long persistedWatermark) {
+        int size = Integer.highestOneBit(Math.max(64, capacity) - 1) << 1;
+        this.words = new long[size >>> 6];
+        this.mask = size - 1;
+        this.watermark = persistedWatermark;
+        this.persistedWatermark = persistedWatermark;
+        this.latestUpdatedAt = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxTrackedKeys;
+            }
+        };
+    }
+
+    /**
+     * Returns whether the offset is known to have been processed already.
+     */
+    synchronized boolean isProcessed(long offset) {
+        if (overflowed || watermark == UNKNOWN || offset >= watermark + capacity()) {
+            return false;
+        }
+        return offset < watermark || isSet(offset);
+    }
+
+    /**
+     * Returns whether an update with the given source version is a duplicate or older than the
+     * latest version already applied for the uniqueId.
+     */
+    synchronized boolean isStale(String uniqueId, long updatedAtMillis) {
+        Long latest = latestUpdatedAt.get(uniqueId);
+        return latest != null && updatedAtMillis <= latest;
+    }
+
+    /**
+     * Registers a dispatched offset. The first offset seen anchors the window when no
+     * watermark was persisted.
+     */
+    synchronized void dispatched(long offset) {
+        if (watermark == UNKNOWN) {
+            watermark = offset;
+        }
+    }
+
+    /**
+     * Marks an offset as completed and advances the watermark over the contiguous completed run.
+     *
+     * @return true if this completion overflowed the window and offset tracking was just abandoned
+     */
+    synchronized boolean completed(long offset) {
+        if (overflowed || watermark == UNKNOWN || offset < watermark) {
+            return false;
+        }
+        if (offset >= watermark + capacity()) {
+            // The offsets below are still in flight; the watermark must not skip them
+            overflowed = true;
+            return true;
+        }
+        set(offset);
+        while (isSet(watermark)) {
+            clear(watermark++);
+        }
+        return false;
+    }
+
+    /**
+     * Records the source version applied for a uniqueId.
+     */
+    synchronized void applied(String uniqueId, long updatedAtMillis) {
+        latestUpdatedAt.merge(uniqueId, updatedAtMillis, Math::max);
+    }
+
+    /**
+     * Returns the watermark if it moved since the last call, otherwise UNKNOWN.
+     */
+    synchronized long takeDirtyWatermark() {
+        if (watermark == UNKNOWN || watermark <= persistedWatermark) {
+            return UNKNOWN;
+        }
+        persistedWatermark = watermark;
+        return watermark;
+    }
+
+    private int capacity() {
+        return mask + 1;
+    }
+
+    private boolean isSet(long offset) {
+        int index = (int) (offset & mask);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void set(long offset) {
+        int index = (int) (offset & mask);
+        words[index >>> 6] |= 1L << index;
+    }
+
+    private void clear(long offset) {
+        int index = (int) (offset & mask);
+        words[index >>> 6] &= ~(1L << index);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.adapter.in.kafka.idempotency;
+
+import com.example.adapter.in.kafka.ActionItemAsyncRequest;
+import com.example.avro.ActionItemAvro;
+import com.example.domain.model.MessageWatermark;
+import com.example.port.in.MessageWatermarkUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency layer that drops redelivered and out-of-order action item messages before they
+ * reach the database.
+ * <p>
+ * Offsets are acknowledged asynchronously and {@code DefaultErrorHandler} retries failed
+ * deliveries, so the same record can arrive several times. Each {@link PartitionDedupWindow}
+ * remembers which offsets of a partition completed and the latest {@code updatedAt} applied per
+ * {@code uniqueId}; the contiguous high-watermark is periodically persisted through
+ * {@link MessageWatermarkUseCase} so redeliveries after a restart or rebalance are skipped too.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Skips records whose offset is at or below the processed watermark or already completed</li>
+ *   <li>Skips records whose source {@code updatedAt} is not newer than the last applied one</li>
+ *   <li>Tracks completion and flushes advanced watermarks on a fixed delay</li>
+ * </ul>
+ * <b>Configuration:</b> {@code kafka.consumer.dedup.*} in application.yml.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordDeduplicator {
+
+    private final MessageWatermarkUseCase messageWatermarkUseCase;
+    private final Map<TopicPartition, PartitionDedupWindow> windows = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, String> consumerGroups = new ConcurrentHashMap<>();
+
+    @Value("${kafka.consumer.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kafka.consumer.dedup.window-size:4096}")
+    private int windowSize;
+
+    @Value("${kafka.consumer.dedup.max-tracked-keys:10000}")
+    private int maxTrackedKeys;
+
+    /**
+     * Decides whether a request can be skipped. Requests that are not skipped are registered as
+     * in flight and must later be reported through {@link #completed(ActionItemAsyncRequest, boolean)}.
+     *
+     * @param request The request about to be dispatched
+     * @return true if the record was already processed or carries a stale update
+     */
+    public boolean shouldSkip(ActionItemAsyncRequest request) {
+        if (!enabled) {
+            return false;
+        }
+        ConsumerRecord<String, ActionItemAvro> record = request.getConsumerRecord();
+        PartitionDedupWindow window = windowFor(request);
+
+        if (window.isProcessed(record.offset())) {
+            log.info("Skipping already processed record {}", request);
+            return true;
+        }
+        ActionItemAvro avro = record.value();
+        if (avro != null && avro.getUpdatedAt() != null
+                && window.isStale(avro.getUniqueId(), avro.getUpdatedAt().toEpochMilli())) {
+            log.info("Skipping stale update for uniqueId: {} ({})", avro.getUniqueId(), request);
+            // The offset is committed by the caller, so the watermark must move over it too
+            window.dispatched(record.offset());
+            complete(window, record);
+            return true;
+        }
+        window.dispatched(record.offset());
+        return false;
+    }
+
+    /**
+     * Reports that processing of a dispatched request finished and its offset is being committed.
+     *
+     * @param request The processed request
+     * @param applied true if the update was applied successfully
+     */
+    public void completed(ActionItemAsyncRequest request, boolean applied) {
+        if (!enabled) {
+            return;
+        }
+        ConsumerRecord<String, ActionItemAvro> record = request.getConsumerRecord();
+        PartitionDedupWindow window = windowFor(request);
+        ActionItemAvro avro = record.value();
+        if (applied && avro != null && avro.getUpdatedAt() != null) {
+            window.applied(avro.getUniqueId(), avro.getUpdatedAt().toEpochMilli());
+        }
+        complete(window, record);
+    }
+
+    private void complete(PartitionDedupWindow window, ConsumerRecord<String, ActionItemAvro> record) {
+        if (window.completed(record.offset())) {
+            log.warn("Dedup window of {} entries overflowed at {}-{} offset {}; offset dedup is disabled for "
+                    + "this partition until restart", windowSize, record.topic(), record.partition(), record.offset());
+        }
+    }
+
+    /**
+     * Persists watermarks that advanced since the previous flush.
+     */
+    @Scheduled(fixedDelayString = "${kafka.consumer.dedup.flush-interval-ms:5000}")
+    public void flushWatermarks() {
+        if (!enabled || windows.isEmpty()) {
+            return;
+        }
+        List<MessageWatermark> dirty = new ArrayList<>();
+        windows.forEach((topicPartition, window) -> {
+            long watermark = window.takeDirtyWatermark();
+            if (watermark >= 0) {
+                dirty.add(MessageWatermark.builder()
+                        .consumerGroup(consumerGroups.get(topicPartition))
+                        .topic(topicPartition.topic())
+                        .partition(topicPartition.partition())
+                        .highWatermark(watermark)
+                        .build());
+            }
+        });
+        try {
+            messageWatermarkUseCase.recordHighWatermarks(dirty);
+        } catch (Exception e) {
+            // Watermarks are an optimization; the next flush will retry with newer values
+            log.warn("Failed to persist {} message watermarks: {}", dirty.size(), e.getMessage());
+        }
+    }
+
+    private PartitionDedupWindow windowFor(ActionItemAsyncRequest request) {
+        ConsumerRecord<String, ActionItemAvro> record = request.getConsumerRecord();
+        TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+        PartitionDedupWindow window = windows.get(topicPartition);
+        if (window != null) {
+            return window;
+        }
+        String consumerGroup = request.getMdcContext() != null && request.getMdcContext().getConsumerGroup() != null
+                ? request.getMdcContext().getConsumerGroup()
+                : "group-" + record.topic();
+        return windows.computeIfAbsent(topicPartition, tp -> {
+            consumerGroups.put(tp, consumerGroup);
+            long persisted = loadWatermark(consumerGroup, tp);
+            log.info("Initialized dedup window for {} with persisted watermark {}", tp, persisted);
+            return new PartitionDedupWindow(windowSize, maxTrackedKeys, persisted);
+        });
+    }
+
+    private long loadWatermark(String consumerGroup, TopicPartition topicPartition) {
+        try {
+            return messageWatermarkUseCase
+                    .findHighWatermark(consumerGroup, topicPartition.topic(), topicPartition.partition())
+                    .orElse(-1L);
+        } catch (Exception e) {
+            log.warn("Could not load watermark for {}, starting with an empty window: {}", topicPartition, e.getMessage());
+            return -1L;
+        }
+    }
+}
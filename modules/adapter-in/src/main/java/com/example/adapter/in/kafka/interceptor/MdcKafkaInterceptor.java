@@ -10,19 +10,18 @@ import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
-import java.util.UUID;
 
 /**
- * Kafka Consumer Interceptor for MDC (Mapped Diagnostic Context) setup.
+ * Kafka Consumer Interceptor and MDC (Mapped Diagnostic Context) helpers.
  * 
- * This interceptor automatically sets up MDC context for each Kafka message,
- * providing correlation IDs, topic information, and other metadata for
- * distributed tracing and logging.
+ * The interceptor itself no longer populates MDC per poll; record-level context
+ * (correlation ID, topic, partition, offset) is built per record at dispatch time
+ * and carried with the processing task. The static helpers remain available for
+ * code that needs to inspect or adjust the current thread's MDC.
  * 
  * Features:
- * - Automatic correlation ID generation
- * - Topic, partition, and offset tracking
- * - Consumer group information
+ * - Poll-level debug logging
+ * - Record context helpers for topic, partition, and offset tracking
  * - Message key and timestamp tracking
  * - Thread-safe MDC context management
  */
@@ -36,20 +35,20 @@ public class MdcKafkaInterceptor implements ConsumerInterceptor<String, Object>
     private static final String OFFSET_KEY = "kafka.offset";
     private static final String MESSAGE_KEY = "kafka.messageKey";
     private static final String TIMESTAMP_KEY = "kafka.timestamp";
-    private static final String CONSUMER_GROUP_KEY = "kafka.consumerGroup";
-    private static final String THREAD_ID_KEY = "threadId";
 
+    /**
+     * Passes records through unchanged.
+     * <p>
+     * MDC is intentionally not populated here: this callback runs once per poll on the consumer
+     * thread, so any context set from it would describe a single record of the batch and leak
+     * into the next poll. Per-record context is built at dispatch time by
+     * {@link com.example.adapter.in.kafka.ActionItemAsyncRequestProvider} and carried with the task.
+     */
     @Override
     public ConsumerRecords<String, Object> onConsume(ConsumerRecords<String, Object> records) {
-        if (records.isEmpty()) {
-            return records;
+        if (log.isDebugEnabled() && !records.isEmpty()) {
+            log.debug("Consumed {} records", records.count());
         }
-
-        // Set up MDC context for the current thread
-        setupMdcContext(records);
-        
-        log.debug("MDC context set up for {} records", records.count());
-        
         return records;
     }
 
@@ -72,37 +71,6 @@ public class MdcKafkaInterceptor implements ConsumerInterceptor<String, Object>
         log.debug("MdcKafkaInterceptor configured with {} configs", configs.size());
     }
 
-    /**
-     * Sets up MDC context for the given consumer records.
-     * 
-     * @param records The consumer records to set up context for
-     */
-    private void setupMdcContext(ConsumerRecords<String, Object> records) {
-        try {
-            // Generate a correlation ID for this batch of records
-            String correlationId = generateCorrelationId();
-            MDC.put(CORRELATION_ID_KEY, correlationId);
-            
-            // Set thread ID for tracking
-            MDC.put(THREAD_ID_KEY, Thread.currentThread().getName());
-            
-            // Set consumer group if available (this would need to be passed in or configured)
-            // For now, we'll use a default value
-            MDC.put(CONSUMER_GROUP_KEY, "action-item-consumer-group");
-            
-            // For the first record, set common context
-            ConsumerRecord<String, Object> firstRecord = records.iterator().next();
-            setRecordContext(firstRecord);
-            
-            log.debug("MDC context initialized - correlationId: {}, topic: {}, partition: {}", 
-                     correlationId, firstRecord.topic(), firstRecord.partition());
-            
-        } catch (Exception e) {
-            log.error("Failed to set up MDC context", e);
-            // Don't throw the exception to avoid breaking the consumer
-        }
-    }
-
     /**
      * Sets MDC context for a specific consumer record.
      * 
@@ -168,15 +136,6 @@ public class MdcKafkaInterceptor implements ConsumerInterceptor<String, Object>
         MDC.put(CORRELATION_ID_KEY, correlationId);
     }
 
-    /**
-     * Generates a unique correlation ID.
-     * 
-     * @return A unique correlation ID
-     */
-    private String generateCorrelationId() {
-        return UUID.randomUUID().toString();
-    }
-
     /**
      * Creates a copy of the current MDC context.
      * 
@@ -0,0 +1,457 @@
+package com.example.adapter.in.kafka.journal;
+
+import com.example.commons.health.DatabaseAvailabilityChangedEvent;
+import com.example.port.in.ProcessActionItemCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Durable local journal that keeps action item commands while the database is unavailable.
+ * <p>
+ * While the database is down, and afterwards until everything journaled has been drained, the
+ * Kafka handler appends each command here instead of processing it, and commits the record's
+ * offset once the append is durable. Records go to memory-mapped segment files of
+ * {@code segment-size-bytes}; the segment being written is forced to disk at most every
+ * {@code fsync-interval-ms}, or as soon as {@code fsync-max-records} appends are waiting, and one
+ * force completes every append written before it. Full segments are sealed and later replayed by
+ * {@link ActionItemJournalDrainer}, which also compacts sealed segments during long outages so
+ * only the newest state per uniqueId is kept, behind its newest OPEN state if it has another status.
+ * <p>
+ * Segments survive restarts: journaled records left on disk are drained once the database is
+ * available, and records torn by a crash are dropped at the first checksum mismatch. Their
+ * offsets were never committed, so Kafka redelivers them.
+ * <p>
+ * <b>Metrics:</b> {@code action_items.journal.records} counts appended, drained and compacted
+ * records; {@code action_items.journal.segments} and {@code action_items.journal.pending} report
+ * the segments and records waiting to be drained.
+ *
+ * <b>Configuration:</b> {@code kafka.consumer.journal.*} in application.yml.
+ */
+@Slf4j
+@Component
+public class ActionItemJournal {
+
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    private static final String OPEN = "OPEN";
+
+    private final Deque<JournalSegment> sealed = new ArrayDeque<>();
+    private final List<CompletableFuture<Void>> unflushed = new ArrayList<>();
+    private final List<JournalSegment> unforcedSegments = new ArrayList<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-fsync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Counter appendedCounter;
+    private final Counter drainedCounter;
+    private final Counter compactedCounter;
+
+    @Value("${kafka.consumer.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${kafka.consumer.journal.directory:./data/journal}")
+    private String directoryName;
+
+    @Value("${kafka.consumer.journal.segment-size-bytes:67108864}")
+    private int segmentSizeBytes;
+
+    @Value("${kafka.consumer.journal.fsync-interval-ms:5}")
+    private long fsyncIntervalMs;
+
+    @Value("${kafka.consumer.journal.fsync-max-records:512}")
+    private int fsyncMaxRecords;
+
+    private Path directory;
+    private JournalSegment active;
+    private long nextSequence;
+    private boolean journaling;
+    private volatile boolean databaseAvailable = true;
+
+    public ActionItemJournal(MeterRegistry meterRegistry) {
+        this.appendedCounter = recordCounter(meterRegistry, "appended");
+        this.drainedCounter = recordCounter(meterRegistry, "drained");
+        this.compactedCounter = recordCounter(meterRegistry, "compacted");
+        Gauge.builder("action_items.journal.segments", this, journal -> journal.segmentCount())
+                .description("Journal segments waiting to be drained")
+                .register(meterRegistry);
+        Gauge.builder("action_items.journal.pending", this, journal -> journal.pendingRecords())
+                .description("Journaled records waiting to be drained")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the segments left by a previous run; if there are any, journaling stays on until they are drained.
+     */
+    @PostConstruct
+    void recover() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        directory = Paths.get(directoryName);
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.sorted().toList()) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(COMPACTING_SUFFIX)) {
+                    Files.delete(path);
+                } else if (name.endsWith(JournalSegment.SUFFIX)) {
+                    JournalSegment segment = JournalSegment.openSealed(path);
+                    nextSequence = Math.max(nextSequence, segment.sequence() + 1);
+                    if (segment.records() == 0) {
+                        Files.delete(path);
+                    } else {
+                        sealed.addLast(segment);
+                    }
+                }
+            }
+        }
+        journaling = !sealed.isEmpty();
+        flusher.scheduleWithFixedDelay(this::flush, fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Action item journal enabled in {} - {} segment(s) with {} record(s) left to drain",
+                directory.toAbsolutePath(), sealed.size(), pendingRecords());
+    }
+
+    @PreDestroy
+    void close() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    @EventListener
+    public void onDatabaseAvailabilityChanged(DatabaseAvailabilityChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        databaseAvailable = event.available();
+        if (!event.available()) {
+            synchronized (this) {
+                journaling = true;
+            }
+            log.warn("Database unavailable - journaling action item commands to {}", directory.toAbsolutePath());
+        } else {
+            log.info("Database available - draining the action item journal");
+        }
+    }
+
+    /**
+     * Appends the command if the journal is taking writes, i.e. while the database is unavailable or
+     * journaled records are still waiting to be drained.
+     *
+     * @param command The validated command
+     * @return A future completed once the record is durable, or null if the command should be processed directly
+     */
+    public CompletableFuture<Void> appendIfJournaling(ProcessActionItemCommand command) {
+        if (!enabled) {
+            return null;
+        }
+        byte[] payload = JournalRecordCodec.encode(command);
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        int waiting;
+        synchronized (this) {
+            if (!journaling) {
+                return null;
+            }
+            try {
+                append(payload);
+            } catch (IOException | RuntimeException e) {
+                durable.completeExceptionally(e);
+                return durable;
+            }
+            unflushed.add(durable);
+            waiting = unflushed.size();
+        }
+        appendedCounter.increment();
+        if (waiting >= fsyncMaxRecords && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+        return durable;
+    }
+
+    private void append(byte[] payload) throws IOException {
+        if (active != null && active.tryAppend(payload)) {
+            return;
+        }
+        if (active != null) {
+            sealActive();
+        }
+        long sequence = nextSequence++;
+        active = JournalSegment.create(directory.resolve(JournalSegment.fileName(sequence)), sequence, segmentSizeBytes);
+        if (!active.tryAppend(payload)) {
+            throw new IllegalArgumentException("Journal record of " + payload.length
+                    + " bytes does not fit into a segment of " + segmentSizeBytes + " bytes");
+        }
+    }
+
+    /**
+     * Forces everything appended so far to disk and completes the waiting appends.
+     */
+    private void flush() {
+        List<CompletableFuture<Void>> completed;
+        List<JournalSegment> sealedSegments;
+        JournalSegment current;
+        synchronized (this) {
+            if (unflushed.isEmpty() && unforcedSegments.isEmpty()) {
+                return;
+            }
+            completed = new ArrayList<>(unflushed);
+            unflushed.clear();
+            sealedSegments = new ArrayList<>(unforcedSegments);
+            unforcedSegments.clear();
+            current = active;
+        }
+        try {
+            // Sealed segments are never appended to again and left unforcedSegments above, so they
+            // can be unmapped. The open segment is not: if it is sealed meanwhile, the next flush
+            // forces and releases it.
+            for (JournalSegment segment : sealedSegments) {
+                segment.force();
+                segment.release();
+            }
+            if (current != null) {
+                current.force();
+            }
+            completed.forEach(future -> future.complete(null));
+        } catch (RuntimeException e) {
+            log.error("Failed to force the action item journal to disk", e);
+            completed.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Seals the open segment so the drainer can replay it; new appends start a new segment. The
+     * segment is forced by the next flush. Must be called while holding this journal's lock.
+     */
+    private void sealActive() {
+        if (active.records() > 0) {
+            sealed.addLast(active);
+            unforcedSegments.add(active);
+        } else {
+            active.release();
+            deleteQuietly(active.path());
+        }
+        active = null;
+    }
+
+    boolean isDatabaseAvailable() {
+        return databaseAvailable;
+    }
+
+    /**
+     * Seals the open segment and returns the segments to drain, oldest first.
+     */
+    synchronized List<JournalSegment> sealForDrain() {
+        if (active != null && active.records() > 0) {
+            sealActive();
+        }
+        return new ArrayList<>(sealed);
+    }
+
+    /**
+     * Returns the sealed segments, oldest first, without touching the open segment.
+     */
+    synchronized List<JournalSegment> sealedSegments() {
+        return new ArrayList<>(sealed);
+    }
+
+    /**
+     * Reads the commands of a segment that have not been drained yet.
+     */
+    List<ProcessActionItemCommand> read(JournalSegment segment) throws IOException {
+        List<byte[]> payloads = JournalSegment.readAll(segment.path());
+        List<ProcessActionItemCommand> commands = new ArrayList<>(payloads.size() - segment.drainedRecords());
+        for (byte[] payload : payloads.subList(segment.drainedRecords(), payloads.size())) {
+            commands.add(JournalRecordCodec.decode(payload));
+        }
+        return commands;
+    }
+
+    void recordDrained(JournalSegment segment, int records) {
+        segment.markDrained(segment.drainedRecords() + records);
+        drainedCounter.increment(records);
+    }
+
+    /**
+     * Deletes a fully drained segment.
+     */
+    synchronized void remove(JournalSegment segment) {
+        sealed.remove(segment);
+        deleteQuietly(segment.path());
+    }
+
+    /**
+     * Stops journaling if the database is available and nothing is left to drain.
+     *
+     * @return true if journaling stopped with this call
+     */
+    synchronized boolean stopJournalingIfDrained() {
+        if (journaling && databaseAvailable && sealed.isEmpty() && (active == null || active.records() == 0)) {
+            if (active != null) {
+                sealActive();
+            }
+            journaling = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Replaces the given sealed segments with one segment holding only the records needed to
+     * reach the newest state per uniqueId (see {@link #compactPayloads}). The compacted segment
+     * takes the sequence of the oldest one, so it stays ahead of segments sealed later.
+     */
+    void compact(List<JournalSegment> segments) throws IOException {
+        if (segments.size() < 2) {
+            return;
+        }
+        List<byte[]> payloads = new ArrayList<>();
+        for (JournalSegment segment : segments) {
+            payloads.addAll(JournalSegment.readAll(segment.path()));
+        }
+
+        JournalSegment first = segments.get(0);
+        Path tmp = directory.resolve(JournalSegment.fileName(first.sequence()) + COMPACTING_SUFFIX);
+        JournalSegment compacted = writeSegment(tmp, first.sequence(), compactPayloads(payloads));
+        synchronized (this) {
+            Files.move(tmp, first.path(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            for (JournalSegment segment : segments) {
+                sealed.remove(segment);
+                if (segment != first) {
+                    deleteQuietly(segment.path());
+                }
+            }
+            sealed.addFirst(JournalSegment.openSealed(first.path()));
+        }
+        compactedCounter.increment(payloads.size() - compacted.records());
+        log.info("Compacted {} journal segments: {} records down to {}", segments.size(), payloads.size(), compacted.records());
+    }
+
+    /**
+     * Reduces journaled records, in append order, to the newest state per uniqueId by source
+     * updatedAt. A record without an updatedAt, or with the same one, replaces an earlier record
+     * of its uniqueId, as the later arrival would have won when processed directly. When the
+     * newest state is not OPEN, the newest OPEN record is kept in front of it, as the write
+     * coalescer does: an item created and closed during the outage would otherwise be replayed
+     * as a lone CLOSE, which cannot create it. Each uniqueId takes the position of its last kept
+     * record.
+     */
+    static List<byte[]> compactPayloads(List<byte[]> payloads) {
+        Map<String, Kept> keptByUniqueId = new LinkedHashMap<>();
+        for (byte[] payload : payloads) {
+            ProcessActionItemCommand command = JournalRecordCodec.decode(payload);
+            Kept kept = keptByUniqueId.computeIfAbsent(command.getUniqueId(), uniqueId -> new Kept());
+            boolean changed = false;
+            if (kept.newest == null || !isOlder(command, kept.newest)) {
+                kept.newest = command;
+                kept.newestPayload = payload;
+                changed = true;
+            }
+            if (OPEN.equals(command.getStatus()) && (kept.open == null || !isOlder(command, kept.open))) {
+                kept.open = command;
+                kept.openPayload = payload;
+                changed = true;
+            }
+            if (changed) {
+                keptByUniqueId.remove(command.getUniqueId());
+                keptByUniqueId.put(command.getUniqueId(), kept);
+            }
+        }
+        List<byte[]> compacted = new ArrayList<>(keptByUniqueId.size());
+        for (Kept kept : keptByUniqueId.values()) {
+            if (!OPEN.equals(kept.newest.getStatus()) && kept.open != null) {
+                compacted.add(kept.openPayload);
+            }
+            compacted.add(kept.newestPayload);
+        }
+        return compacted;
+    }
+
+    /**
+     * Returns whether the command carries an older source updatedAt than the kept one. Without
+     * updatedAt on either side the arrival order decides.
+     */
+    private static boolean isOlder(ProcessActionItemCommand command, ProcessActionItemCommand kept) {
+        return command.getUpdatedAt() != null
+                && kept.getUpdatedAt() != null
+                && command.getUpdatedAt().isBefore(kept.getUpdatedAt());
+    }
+
+    private static JournalSegment writeSegment(Path path, long sequence, Collection<byte[]> payloads) throws IOException {
+        long size = 0;
+        for (byte[] payload : payloads) {
+            size += JournalSegment.HEADER_BYTES + payload.length;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Compacted journal segment would exceed 2 GB: " + size + " bytes");
+        }
+        JournalSegment segment = JournalSegment.create(path, sequence, (int) Math.max(size, JournalSegment.HEADER_BYTES));
+        payloads.forEach(segment::tryAppend);
+        segment.seal();
+        return segment;
+    }
+
+    private synchronized int segmentCount() {
+        return sealed.size() + (active != null && active.records() > 0 ? 1 : 0);
+    }
+
+    private synchronized long pendingRecords() {
+        long pending = active != null ? active.records() : 0;
+        for (JournalSegment segment : sealed) {
+            pending += segment.records() - segment.drainedRecords();
+        }
+        return pending;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete journal segment " + path, e);
+        }
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("action_items.journal.records")
+                .description("Action item commands handled by the local journal")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /** Records kept for one uniqueId by {@link #compactPayloads}. */
+    private static final class Kept {
+        private ProcessActionItemCommand newest;
+        private byte[] newestPayload;
+        private ProcessActionItemCommand open;
+        private byte[] openPayload;
+    }
+}
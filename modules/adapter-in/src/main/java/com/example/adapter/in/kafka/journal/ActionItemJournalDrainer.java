@@ -0,0 +1,165 @@
+package com.example.adapter.in.kafka.journal;
+
+import com.example.commons.resilience.TransientFailures;
+import com.example.port.in.HandleProcessingErrorUseCase;
+import com.example.port.in.ProcessActionItemCommand;
+import com.example.port.in.ReceiveActionItemUseCase;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the action item journal into the store once the database is available, and compacts
+ * it while the database is down.
+ * <p>
+ * Segments are drained oldest first in chunks of {@code drain-batch-size}, each processed by
+ * {@link ReceiveActionItemUseCase#processActionItems} in one transaction, so an outage ends in a
+ * short catch-up burst instead of one transaction per record, and journaled records get the same
+ * outbox entries, status aggregates and archive restores as records processed directly. If a
+ * chunk fails on its data, it is processed record by record and invalid records are reported
+ * through {@link HandleProcessingErrorUseCase}, since their offsets are already committed. A chunk
+ * that fails because the database is unavailable is retried on the next run; since updates that
+ * are not newer than the stored state are dropped, replaying a chunk again is harmless. A segment
+ * is deleted once all its chunks are processed. While the database is down and at
+ * least {@code compaction-min-segments} segments are sealed, they are compacted to the newest
+ * state per uniqueId.
+ * <p>
+ * Runs on its own thread every {@code drain-interval-ms}.
+ *
+ * <b>Configuration:</b> {@code kafka.consumer.journal.*}; enabled with the journal.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.consumer.journal.enabled", havingValue = "true")
+public class ActionItemJournalDrainer {
+
+    private final ActionItemJournal journal;
+    private final ReceiveActionItemUseCase receiveActionItemUseCase;
+    private final HandleProcessingErrorUseCase handleProcessingErrorUseCase;
+    private final ScheduledExecutorService drainExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-drainer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${kafka.consumer.journal.drain-batch-size:500}")
+    private int drainBatchSize;
+
+    @Value("${kafka.consumer.journal.drain-interval-ms:1000}")
+    private long drainIntervalMs;
+
+    @Value("${kafka.consumer.journal.compaction-min-segments:4}")
+    private int compactionMinSegments;
+
+    @PostConstruct
+    void start() {
+        drainExecutor.scheduleWithFixedDelay(this::run, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        drainExecutor.shutdownNow();
+    }
+
+    private void run() {
+        try {
+            if (journal.isDatabaseAvailable()) {
+                drain();
+            } else {
+                compactIfNeeded();
+            }
+        } catch (Exception e) {
+            log.warn("Action item journal run failed, retrying in {} ms: {}", drainIntervalMs, e.getMessage());
+        }
+    }
+
+    private void drain() throws Exception {
+        List<JournalSegment> segments = journal.sealForDrain();
+        if (segments.isEmpty()) {
+            if (journal.stopJournalingIfDrained()) {
+                log.info("Action item journal drained - processing records directly again");
+            }
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long drained = 0;
+        long rejected = 0;
+        for (JournalSegment segment : segments) {
+            if (!journal.isDatabaseAvailable() || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            List<ProcessActionItemCommand> commands = journal.read(segment);
+            for (int from = 0; from < commands.size(); from += drainBatchSize) {
+                List<ProcessActionItemCommand> chunk = commands.subList(from, Math.min(from + drainBatchSize, commands.size()));
+                int chunkRejected = process(chunk);
+                journal.recordDrained(segment, chunk.size());
+                drained += chunk.size();
+                rejected += chunkRejected;
+                if (chunkRejected > 0) {
+                    log.warn("Skipped {} invalid journaled action items of segment {}", chunkRejected, segment.path());
+                }
+            }
+            journal.remove(segment);
+        }
+        log.info("Drained {} journaled action items ({} rejected) from {} segment(s) in {} ms",
+                drained, rejected, segments.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Processes a chunk in one transaction, or record by record if the chunk fails on its data.
+     *
+     * @return Number of records rejected
+     * @throws RuntimeException if the database is unavailable; the chunk is retried on the next run
+     */
+    private int process(List<ProcessActionItemCommand> chunk) {
+        try {
+            receiveActionItemUseCase.processActionItems(chunk);
+            return 0;
+        } catch (RuntimeException e) {
+            if (TransientFailures.isRetryable(e)) {
+                throw e;
+            }
+            log.warn("Journaled chunk of {} records failed, processing them one by one: {}", chunk.size(), e.getMessage());
+        }
+        int rejected = 0;
+        for (ProcessActionItemCommand command : chunk) {
+            try {
+                receiveActionItemUseCase.processActionItem(command);
+            } catch (RuntimeException e) {
+                if (TransientFailures.isRetryable(e)) {
+                    throw e;
+                }
+                rejected++;
+                reportRejected(command, e);
+            }
+        }
+        return rejected;
+    }
+
+    private void reportRejected(ProcessActionItemCommand command, RuntimeException error) {
+        log.error("Rejected journaled action item {}", command.getUniqueId(), error);
+        try {
+            handleProcessingErrorUseCase.handleError("KAFKA_JOURNAL", error, command.toString());
+        } catch (Exception e) {
+            log.error("Failed to handle error for journaled action item {}", command.getUniqueId(), e);
+        }
+    }
+
+    private void compactIfNeeded() throws Exception {
+        List<JournalSegment> segments = journal.sealedSegments();
+        if (segments.size() >= compactionMinSegments) {
+            journal.compact(segments);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.adapter.in.kafka.journal;
+
+import com.example.port.in.ProcessActionItemCommand;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary encoding of a process command in the journal. Strings are length prefixed UTF-8, -1 for
+ * null; timestamps are UTC epoch seconds plus nanos, behind a presence flag. The first byte is
+ * the format version.
+ */
+final class JournalRecordCodec {
+
+    private static final byte VERSION = 1;
+
+    private JournalRecordCodec() {
+    }
+
+    static byte[] encode(ProcessActionItemCommand command) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, command.getUniqueId());
+            writeString(out, command.getTitle());
+            writeString(out, command.getDescription());
+            writeString(out, command.getAssignee());
+            writeString(out, command.getCategory());
+            writeString(out, command.getTypeCode());
+            writeString(out, command.getStatus());
+            writeDateTime(out, command.getDueDate());
+            writeDateTime(out, command.getCreatedAt());
+            writeDateTime(out, command.getUpdatedAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static ProcessActionItemCommand decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported journal record version " + version);
+            }
+            return ProcessActionItemCommand.builder()
+                    .uniqueId(readString(in))
+                    .title(readString(in))
+                    .description(readString(in))
+                    .assignee(readString(in))
+                    .category(readString(in))
+                    .typeCode(readString(in))
+                    .status(readString(in))
+                    .dueDate(readDateTime(in))
+                    .createdAt(readDateTime(in))
+                    .updatedAt(readDateTime(in))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.adapter.in.kafka.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * One file of the journal: a preallocated, memory-mapped sequence of records.
+ * <p>
+ * Each record is {@code [int length][int crc32c][payload]}. The length is written last, so a record
+ * whose length is still zero or whose checksum does not match was torn by a crash and ends the
+ * segment. Only the open segment is mapped for writing; sealed segments are read with a
+ * read-only mapping while they are drained or compacted.
+ */
+final class JournalSegment {
+
+    static final String SUFFIX = ".journal";
+    static final int HEADER_BYTES = 8;
+
+    private final long sequence;
+    private final Path path;
+    private final int capacity;
+    private volatile MappedByteBuffer buffer;
+    private int position;
+    private int records;
+    private int drainedRecords;
+
+    private JournalSegment(long sequence, Path path, int capacity, MappedByteBuffer buffer, int position, int records) {
+        this.sequence = sequence;
+        this.path = path;
+        this.capacity = capacity;
+        this.buffer = buffer;
+        this.position = position;
+        this.records = records;
+    }
+
+    /**
+     * Creates and maps a new, zero-filled segment file.
+     */
+    static JournalSegment create(Path path, long sequence, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new JournalSegment(sequence, path, capacity, buffer, 0, 0);
+        }
+    }
+
+    /**
+     * Opens an existing segment as sealed, counting its records up to the first torn one.
+     */
+    static JournalSegment openSealed(Path path) throws IOException {
+        long sequence = Long.parseLong(path.getFileName().toString().replace(SUFFIX, ""));
+        List<byte[]> payloads = readAll(path);
+        int size = 0;
+        for (byte[] payload : payloads) {
+            size += HEADER_BYTES + payload.length;
+        }
+        return new JournalSegment(sequence, path, (int) Files.size(path), null, size, payloads.size());
+    }
+
+    static String fileName(long sequence) {
+        return String.format("%020d%s", sequence, SUFFIX);
+    }
+
+    /**
+     * Appends a record unless it does not fit into the remaining space.
+     *
+     * @return false if the segment is full
+     */
+    boolean tryAppend(byte[] payload) {
+        if (position + HEADER_BYTES + payload.length > capacity) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        buffer.put(position + HEADER_BYTES, payload);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, payload.length);
+        position += HEADER_BYTES + payload.length;
+        records++;
+        return true;
+    }
+
+    /**
+     * Forces the written records to the storage device.
+     */
+    void force() {
+        MappedByteBuffer mapped = buffer;
+        if (mapped != null) {
+            mapped.force();
+        }
+    }
+
+    /**
+     * Drops the write mapping; the records stay readable through {@link #readAll(Path)}.
+     */
+    void release() {
+        buffer = null;
+    }
+
+    /**
+     * Forces the segment and drops its write mapping.
+     */
+    void seal() {
+        force();
+        release();
+    }
+
+    /**
+     * Reads all intact records of a segment file, in order.
+     */
+    static List<byte[]> readAll(Path path) throws IOException {
+        List<byte[]> payloads = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int offset = 0;
+            while (offset + HEADER_BYTES <= mapped.limit()) {
+                int length = mapped.getInt(offset);
+                if (length <= 0 || offset + HEADER_BYTES + length > mapped.limit()) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                mapped.get(offset + HEADER_BYTES, payload);
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != mapped.getInt(offset + 4)) {
+                    break;
+                }
+                payloads.add(payload);
+                offset += HEADER_BYTES + length;
+            }
+        }
+        return payloads;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int records() {
+        return records;
+    }
+
+    int bytes() {
+        return position;
+    }
+
+    int drainedRecords() {
+        return drainedRecords;
+    }
+
+    void markDrained(int drainedRecords) {
+        this.drainedRecords = drainedRecords;
+    }
+}
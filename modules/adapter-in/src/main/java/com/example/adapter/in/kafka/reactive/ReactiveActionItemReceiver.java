@@ -0,0 +1,269 @@
+package com.example.adapter.in.kafka.reactive;
+
+import com.example.adapter.in.kafka.ActionItemAsyncRequest;
+import com.example.adapter.in.kafka.ActionItemAsyncRequestProvider;
+import com.example.adapter.in.kafka.ActionItemAvroMapper;
+import com.example.adapter.in.kafka.config.DynamicKafkaConfig;
+import com.example.adapter.in.kafka.config.MdcKafkaConfig;
+import com.example.adapter.in.kafka.idempotency.RecordDeduplicator;
+import com.example.avro.ActionItemAvro;
+import com.example.avro.ActionItemStatusAvro;
+import com.example.commons.resilience.TransientFailures;
+import com.example.port.in.HandleProcessingErrorUseCase;
+import com.example.port.in.ReceiveActionItemReactiveUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Reactive ingestion pipeline, used instead of the listener containers when
+ * {@code kafka.consumer.reactive.enabled=true} (reactive profile).
+ * <p>
+ * One reactor-kafka receiver per topic, with the group ids of the listener containers, feeds a
+ * non-blocking chain: records are mapped to commands and handed to
+ * {@link ReceiveActionItemReactiveUseCase}, which writes through R2DBC. A record occupies no
+ * thread while its write is in flight, so a handful of threads carry thousands of writes.
+ * <p>
+ * <b>Ordering and acknowledgement:</b> records are grouped by partition, and each partition runs
+ * up to {@code concurrency-per-partition} records at a time with {@code flatMapSequential}, which
+ * emits them in offset order; offsets are acknowledged in that order, so a commit never passes a
+ * record still in flight. Records with the same key are chained, so updates of one uniqueId are
+ * applied one after another. Demand is bounded, so the receiver pauses fetching once every
+ * partition has its maximum in flight.
+ * <p>
+ * <b>Failures:</b> transient failures ({@link TransientFailures#isRetryable}, as in the listener
+ * flow) are retried until they succeed, with backoff capped at {@code retry-max-backoff-ms}, and
+ * the record is not acknowledged meanwhile, so an outage holds back its partition instead of
+ * failing records; a record still retrying at shutdown is redelivered. Other errors are
+ * persisted through {@link HandleProcessingErrorUseCase} and the record is acknowledged. CANCELLED records are acknowledged without processing, and
+ * {@link RecordDeduplicator} skips redeliveries as before. Write coalescing, the journal and
+ * consumer pausing by the database health monitor belong to the listener flow and do not apply.
+ * <p>
+ * <b>Metrics:</b> {@code kafka.consumer.reactive.in.flight} and
+ * {@code kafka.consumer.reactive.records} by outcome (processed, failed, skipped, filtered).
+ * <p>
+ * <b>Configuration:</b> {@code kafka.consumer.reactive.*}; the R2DBC pool under {@code database.r2dbc.*}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.reactive.enabled", havingValue = "true")
+public class ReactiveActionItemReceiver implements SmartLifecycle {
+
+    private final ReceiveActionItemReactiveUseCase receiveActionItemUseCase;
+    private final ActionItemAvroMapper actionItemAvroMapper;
+    private final ActionItemAsyncRequestProvider actionItemAsyncRequestProvider;
+    private final RecordDeduplicator recordDeduplicator;
+    private final HandleProcessingErrorUseCase handleProcessingErrorUseCase;
+    private final MdcKafkaConfig mdcKafkaConfig;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Counter filteredCounter;
+
+    @Value("${spring.kafka.listener.auto-startup:true}")
+    private boolean autoStartup;
+
+    @Value("${kafka.consumer.reactive.concurrency-per-partition:64}")
+    private int concurrencyPerPartition;
+
+    @Value("${kafka.consumer.reactive.max-partitions:256}")
+    private int maxPartitions;
+
+    @Value("${kafka.consumer.reactive.commit-interval-ms:1000}")
+    private long commitIntervalMs;
+
+    @Value("${kafka.consumer.reactive.commit-batch-size:500}")
+    private int commitBatchSize;
+
+    @Value("${kafka.consumer.reactive.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${kafka.consumer.reactive.retry-max-backoff-ms:30000}")
+    private long retryMaxBackoffMs;
+
+    private volatile Disposable.Composite subscriptions;
+
+    public ReactiveActionItemReceiver(ReceiveActionItemReactiveUseCase receiveActionItemUseCase,
+                                      ActionItemAvroMapper actionItemAvroMapper,
+                                      ActionItemAsyncRequestProvider actionItemAsyncRequestProvider,
+                                      RecordDeduplicator recordDeduplicator,
+                                      HandleProcessingErrorUseCase handleProcessingErrorUseCase,
+                                      MdcKafkaConfig mdcKafkaConfig,
+                                      MeterRegistry meterRegistry) {
+        this.receiveActionItemUseCase = receiveActionItemUseCase;
+        this.actionItemAvroMapper = actionItemAvroMapper;
+        this.actionItemAsyncRequestProvider = actionItemAsyncRequestProvider;
+        this.recordDeduplicator = recordDeduplicator;
+        this.handleProcessingErrorUseCase = handleProcessingErrorUseCase;
+        this.mdcKafkaConfig = mdcKafkaConfig;
+        Gauge.builder("kafka.consumer.reactive.in.flight", inFlight, AtomicInteger::get)
+                .description("Records handed to the reactive pipeline whose write has not completed")
+                .register(meterRegistry);
+        this.processedCounter = recordCounter(meterRegistry, "processed");
+        this.failedCounter = recordCounter(meterRegistry, "failed");
+        this.skippedCounter = recordCounter(meterRegistry, "skipped");
+        this.filteredCounter = recordCounter(meterRegistry, "filtered");
+    }
+
+    @Override
+    public void start() {
+        Disposable.Composite started = Disposables.composite();
+        for (String topic : DynamicKafkaConfig.ACTION_ITEM_TOPICS) {
+            started.add(receive(topic).subscribe());
+        }
+        subscriptions = started;
+        log.info("Reactive receivers started for topics {}: {} in flight per partition",
+                DynamicKafkaConfig.ACTION_ITEM_TOPICS, concurrencyPerPartition);
+    }
+
+    @Override
+    public void stop() {
+        Disposable.Composite running = subscriptions;
+        subscriptions = null;
+        if (running != null) {
+            running.dispose();
+            log.info("Reactive receivers stopped");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscriptions != null;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    /**
+     * Builds the pipeline of one topic. A failing receiver is resubscribed with backoff, which
+     * resumes from the committed offsets.
+     */
+    private Flux<ReceiverRecord<String, ActionItemAvro>> receive(String topic) {
+        Map<String, Object> props = new HashMap<>(mdcKafkaConfig.mdcConsumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "group-" + topic);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        ReceiverOptions<String, ActionItemAvro> options = ReceiverOptions.<String, ActionItemAvro>create(props)
+                .subscription(List.of(topic))
+                .commitInterval(Duration.ofMillis(commitIntervalMs))
+                .commitBatchSize(commitBatchSize)
+                .addAssignListener(partitions -> log.info("Reactive receiver assigned {}", partitions))
+                .addRevokeListener(partitions -> log.info("Reactive receiver revoked {}", partitions));
+
+        return KafkaReceiver.create(options).receive()
+                .groupBy(ReceiverRecord::partition)
+                .flatMap(partition -> {
+                    KeySequencer sequencer = new KeySequencer();
+                    return partition
+                            .flatMapSequential(record -> sequencer.submit(record.key(), () -> process(record)),
+                                    concurrencyPerPartition)
+                            .doOnNext(record -> record.receiverOffset().acknowledge());
+                }, maxPartitions)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.error("Reactive receiver for {} failed, resubscribing",
+                                topic, signal.failure())));
+    }
+
+    /**
+     * Processes one record; completes with the record once it may be acknowledged and never fails.
+     */
+    private Mono<ReceiverRecord<String, ActionItemAvro>> process(ReceiverRecord<String, ActionItemAvro> record) {
+        if (record.value() != null && ActionItemStatusAvro.CANCELLED.equals(record.value().getStatus())) {
+            filteredCounter.increment();
+            return Mono.just(record);
+        }
+        // Offsets are acknowledged in order by the pipeline, never by the request itself
+        ActionItemAsyncRequest request = actionItemAsyncRequestProvider.getActionItemAsyncRequest(record, () -> { });
+        if (recordDeduplicator.shouldSkip(request)) {
+            skippedCounter.increment();
+            return Mono.just(record);
+        }
+
+        inFlight.incrementAndGet();
+        return Mono.defer(() -> receiveActionItemUseCase.processActionItem(actionItemAvroMapper.toCommand(request)))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofMillis(retryBackoffMs))
+                        .maxBackoff(Duration.ofMillis(retryMaxBackoffMs))
+                        .filter(TransientFailures::isRetryable)
+                        .doBeforeRetry(signal -> log.warn("Retrying {} after transient failure #{}: {}",
+                                request, signal.totalRetries() + 1, signal.failure().getMessage())))
+                .then(Mono.<Void>fromRunnable(() -> {
+                    processedCounter.increment();
+                    recordDeduplicator.completed(request, true);
+                }))
+                .onErrorResume(error -> handleError(request, error))
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .thenReturn(record);
+    }
+
+    /**
+     * Persists the error off the event loop, as the error store is written through JPA.
+     */
+    private Mono<Void> handleError(ActionItemAsyncRequest request, Throwable error) {
+        failedCounter.increment();
+        return Mono.<Void>fromRunnable(() -> request.getMdcContext().run(() -> {
+                    log.error("Processing failed for {}", request, error);
+                    try {
+                        handleProcessingErrorUseCase.handleError("KAFKA_CONSUMER", error, request.toString());
+                    } catch (Exception e) {
+                        log.error("Failed to handle error for request: {}", request, e);
+                    }
+                    recordDeduplicator.completed(request, false);
+                }))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("kafka.consumer.reactive.records")
+                .description("Records handled by the reactive pipeline")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Chains the work of records with the same key within one partition, so they run one after
+     * another while records with different keys run concurrently. {@link #submit} is called in
+     * offset order from the partition's serialized {@code flatMapSequential} mapper; the tails of
+     * finished chains are removed from other threads.
+     */
+    private static final class KeySequencer {
+
+        private final Map<String, Mono<Void>> tails = new ConcurrentHashMap<>();
+
+        <T> Mono<T> submit(String key, Supplier<Mono<T>> work) {
+            if (key == null) {
+                return Mono.defer(work);
+            }
+            Mono<Void> previous = tails.get(key);
+            Mono<T> result = (previous == null ? Mono.defer(work) : previous.then(Mono.defer(work))).cache();
+            Mono<Void> tail = result.then();
+            tails.put(key, tail);
+            return result.doFinally(signal -> tails.remove(key, tail));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.adapter.in.kafka.ringbuffer;
+
+import com.example.avro.ActionItemAvro;
+import com.example.port.in.ProcessActionItemCommand;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Reusable slot of the ring buffer. Each stage fills in its part and the ack stage clears the
+ * slot, so the record can be collected while the slot is reused for later sequences.
+ * <p>
+ * Fields are plain: a stage only reads a slot after the previous stage's sequence has passed
+ * it, and the sequence barriers provide the happens-before ordering.
+ */
+final class ActionItemEvent {
+
+    ConsumerRecord<String, ActionItemAvro> record;
+    Acknowledgment acknowledgment;
+    ProcessActionItemCommand command;
+    Throwable error;
+
+    void set(ConsumerRecord<String, ActionItemAvro> record, Acknowledgment acknowledgment) {
+        this.record = record;
+        this.acknowledgment = acknowledgment;
+    }
+
+    boolean isWritable() {
+        return error == null;
+    }
+
+    void clear() {
+        record = null;
+        acknowledgment = null;
+        command = null;
+        error = null;
+    }
+
+    @Override
+    public String toString() {
+        if (record == null) {
+            return "ActionItemEvent{empty}";
+        }
+        return "ActionItemEvent{topic='%s', partition=%d, offset=%d, key='%s'}".formatted(
+                record.topic(), record.partition(), record.offset(), record.key());
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.adapter.in.kafka.ringbuffer;
+
+import com.example.adapter.in.kafka.ActionItemAvroMapper;
+import com.example.avro.ActionItemAvro;
+import com.example.avro.ActionItemStatusAvro;
+import com.example.commons.resilience.TransientFailures;
+import com.example.port.in.HandleProcessingErrorUseCase;
+import com.example.port.in.ProcessActionItemCommand;
+import com.example.port.in.ReceiveActionItemUseCase;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorTwoArg;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single-writer ring-buffer pipeline for the consumer-to-database path, used instead of the
+ * async message handler when {@code kafka.consumer.ring-buffer.enabled=true} (ring-buffer profile).
+ * <p>
+ * Listener threads publish each record into a preallocated ring of {@link ActionItemEvent} slots
+ * and return; four stages, each on its own thread and gated by the sequence of the stage before
+ * it, then work through the ring:
+ * <ol>
+ *   <li><b>decode:</b> maps the Avro record to a command</li>
+ *   <li><b>validate:</b> structural checks (uniqueId present, status OPEN or CLOSE)</li>
+ *   <li><b>write:</b> the only thread writing to the database. It gathers the run of events
+ *       that became available together, up to {@code max-batch-size}, and writes it through
+ *       {@link ReceiveActionItemUseCase#processActionItems} in one transaction. A transient
+ *       failure (database or circuit breaker) retries the whole run with exponential backoff,
+ *       holding the ring until the database is back; any other failure is taken as a data error
+ *       and the run is written one by one, so one bad record does not fail the others.</li>
+ *   <li><b>ack:</b> acknowledges events strictly in sequence, only once the write stage has
+ *       passed them, so offsets never run ahead of what was written; failed events are
+ *       persisted through {@link HandleProcessingErrorUseCase} first, as in the async flow.</li>
+ * </ol>
+ * Per record this allocates only the command; slots, batch lists and the publishing translator
+ * are reused. A full ring blocks the publishing listener threads, which holds back polling.
+ * Records of a partition come from one listener thread, so they keep their order through the
+ * pipeline. Deduplication and write coalescing belong to the async flow and are not applied;
+ * redelivered and stale updates are still dropped by the stale-update rule of the write.
+ * <p>
+ * <b>Metrics:</b> {@code kafka.consumer.ring-buffer.remaining.capacity},
+ * {@code kafka.consumer.ring-buffer.batch.size}, {@code kafka.consumer.ring-buffer.records}
+ * by outcome (written, failed) and {@code kafka.consumer.ring-buffer.write.retries}.
+ * <p>
+ * <b>Configuration:</b> {@code kafka.consumer.ring-buffer.*}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.ring-buffer.enabled", havingValue = "true")
+public class ActionItemRingBufferPipeline {
+
+    private static final EventTranslatorTwoArg<ActionItemEvent, ConsumerRecord<String, ActionItemAvro>, Acknowledgment>
+            TRANSLATOR = (event, sequence, record, acknowledgment) -> event.set(record, acknowledgment);
+
+    private final ReceiveActionItemUseCase receiveActionItemUseCase;
+    private final HandleProcessingErrorUseCase handleProcessingErrorUseCase;
+    private final ActionItemAvroMapper actionItemAvroMapper;
+    private final MeterRegistry meterRegistry;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter retryCounter;
+    private final DistributionSummary batchSizes;
+
+    @Value("${kafka.consumer.ring-buffer.buffer-size:4096}")
+    private int bufferSize;
+
+    @Value("${kafka.consumer.ring-buffer.max-batch-size:256}")
+    private int maxBatchSize;
+
+    @Value("${kafka.consumer.ring-buffer.wait-strategy:blocking}")
+    private String waitStrategy;
+
+    @Value("${kafka.consumer.ring-buffer.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${kafka.consumer.ring-buffer.retry-initial-backoff-ms:200}")
+    private long retryInitialBackoffMs;
+
+    @Value("${kafka.consumer.ring-buffer.retry-max-backoff-ms:10000}")
+    private long retryMaxBackoffMs;
+
+    /** Set when the drain timed out: writes stop retrying and nothing more is acknowledged */
+    private volatile boolean halted;
+
+    private Disruptor<ActionItemEvent> disruptor;
+    private RingBuffer<ActionItemEvent> ringBuffer;
+
+    public ActionItemRingBufferPipeline(ReceiveActionItemUseCase receiveActionItemUseCase,
+                                        HandleProcessingErrorUseCase handleProcessingErrorUseCase,
+                                        ActionItemAvroMapper actionItemAvroMapper,
+                                        MeterRegistry meterRegistry) {
+        this.receiveActionItemUseCase = receiveActionItemUseCase;
+        this.handleProcessingErrorUseCase = handleProcessingErrorUseCase;
+        this.actionItemAvroMapper = actionItemAvroMapper;
+        this.meterRegistry = meterRegistry;
+        this.writtenCounter = recordCounter(meterRegistry, "written");
+        this.failedCounter = recordCounter(meterRegistry, "failed");
+        this.retryCounter = Counter.builder("kafka.consumer.ring-buffer.write.retries")
+                .description("Writes retried by the write stage after a transient failure")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("kafka.consumer.ring-buffer.batch.size")
+                .description("Events written per transaction by the write stage")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger stageNumber = new AtomicInteger();
+        String[] stageNames = {"decode", "validate", "write", "ack"};
+        disruptor = new Disruptor<>(ActionItemEvent::new, bufferSize, runnable -> {
+            Thread thread = new Thread(runnable, "ring-buffer-" + stageNames[stageNumber.getAndIncrement() % stageNames.length]);
+            thread.setDaemon(true);
+            return thread;
+        }, ProducerType.MULTI, waitStrategy());
+        disruptor.setDefaultExceptionHandler(new StageExceptionHandler());
+        disruptor.handleEventsWith(new DecodeStage())
+                .then(new ValidateStage())
+                .then(new WriteStage())
+                .then(new AckStage());
+        ringBuffer = disruptor.start();
+        Gauge.builder("kafka.consumer.ring-buffer.remaining.capacity", ringBuffer, RingBuffer::remainingCapacity)
+                .description("Free slots in the ring buffer")
+                .register(meterRegistry);
+        log.info("Ring-buffer pipeline started: {} slots, batches of up to {}, {} wait strategy",
+                bufferSize, maxBatchSize, waitStrategy);
+    }
+
+    /**
+     * Drains the events already published; the listener containers have stopped by then.
+     */
+    @PreDestroy
+    void shutdown() {
+        try {
+            disruptor.shutdown(shutdownTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Ring-buffer pipeline did not drain within {} ms; unacknowledged records will be redelivered",
+                    shutdownTimeoutMs);
+            halted = true;
+            disruptor.halt();
+        }
+    }
+
+    /**
+     * Listener method: publishes the record into the next free slot, waiting while the ring is full.
+     *
+     * @param record The Kafka consumer record
+     * @param acknowledgment The acknowledgment, used by the ack stage
+     */
+    public void consume(ConsumerRecord<String, ActionItemAvro> record, Acknowledgment acknowledgment) {
+        ringBuffer.publishEvent(TRANSLATOR, record, acknowledgment);
+    }
+
+    private WaitStrategy waitStrategy() {
+        return switch (waitStrategy) {
+            case "yielding" -> new YieldingWaitStrategy();
+            case "sleeping" -> new SleepingWaitStrategy();
+            case "busy-spin" -> new BusySpinWaitStrategy();
+            default -> new BlockingWaitStrategy();
+        };
+    }
+
+    private final class DecodeStage implements EventHandler<ActionItemEvent> {
+
+        @Override
+        public void onEvent(ActionItemEvent event, long sequence, boolean endOfBatch) {
+            try {
+                event.command = actionItemAvroMapper.toCommand(event.record.value());
+            } catch (RuntimeException e) {
+                event.error = e;
+            }
+        }
+    }
+
+    private static final class ValidateStage implements EventHandler<ActionItemEvent> {
+
+        @Override
+        public void onEvent(ActionItemEvent event, long sequence, boolean endOfBatch) {
+            if (!event.isWritable()) {
+                return;
+            }
+            ProcessActionItemCommand command = event.command;
+            if (command.getUniqueId() == null || command.getUniqueId().isBlank()) {
+                event.error = new IllegalArgumentException("UniqueId is required for action item processing");
+            } else if (!ActionItemStatusAvro.OPEN.name().equals(command.getStatus())
+                    && !ActionItemStatusAvro.CLOSE.name().equals(command.getStatus())) {
+                event.error = new IllegalArgumentException("Unsupported action item status: " + command.getStatus());
+            }
+        }
+    }
+
+    /**
+     * Gathers writable events until the end of the available run or {@code max-batch-size}.
+     * Flushes before returning from the last event of a run, so the stage's sequence only passes
+     * events that are written.
+     */
+    private final class WriteStage implements EventHandler<ActionItemEvent> {
+
+        private final List<ActionItemEvent> batch = new ArrayList<>();
+        private final List<ProcessActionItemCommand> commands = new ArrayList<>();
+
+        @Override
+        public void onEvent(ActionItemEvent event, long sequence, boolean endOfBatch) {
+            if (event.isWritable()) {
+                batch.add(event);
+                commands.add(event.command);
+            }
+            if (endOfBatch || batch.size() >= maxBatchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            batchSizes.record(batch.size());
+            try {
+                writeRetrying(() -> receiveActionItemUseCase.processActionItems(commands));
+            } catch (RuntimeException e) {
+                if (TransientFailures.isRetryable(e)) {
+                    // Halted while retrying: the run is left unacknowledged
+                    batch.forEach(event -> event.error = e);
+                    return;
+                }
+                log.warn("Batch of {} events failed on a data error, writing them one by one: {}", batch.size(), e.getMessage());
+                for (ActionItemEvent event : batch) {
+                    try {
+                        writeRetrying(() -> receiveActionItemUseCase.processActionItem(event.command));
+                    } catch (RuntimeException recordError) {
+                        event.error = recordError;
+                    }
+                }
+            } finally {
+                batch.clear();
+                commands.clear();
+            }
+        }
+
+        /**
+         * Runs the write until it succeeds, fails with a non-transient error or the pipeline is
+         * halted, backing off exponentially between attempts.
+         */
+        private void writeRetrying(Runnable write) {
+            long backoffMs = retryInitialBackoffMs;
+            while (true) {
+                try {
+                    write.run();
+                    return;
+                } catch (RuntimeException e) {
+                    if (!TransientFailures.isRetryable(e) || halted) {
+                        throw e;
+                    }
+                    retryCounter.increment();
+                    log.warn("Transient write failure, retrying in {} ms: {}", backoffMs, e.getMessage());
+                    try {
+                        Thread.sleep(backoffMs);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        throw e;
+                    }
+                    backoffMs = Math.min(backoffMs * 2, retryMaxBackoffMs);
+                }
+            }
+        }
+    }
+
+    private final class AckStage implements EventHandler<ActionItemEvent> {
+
+        @Override
+        public void onEvent(ActionItemEvent event, long sequence, boolean endOfBatch) {
+            try {
+                if (halted) {
+                    // Redelivered after the restart instead of being recorded as failed
+                    return;
+                }
+                if (event.error == null) {
+                    writtenCounter.increment();
+                } else {
+                    failedCounter.increment();
+                    handleError(event);
+                }
+                event.acknowledgment.acknowledge();
+            } finally {
+                event.clear();
+            }
+        }
+
+        private void handleError(ActionItemEvent event) {
+            log.error("Processing failed for {}", event, event.error);
+            try {
+                handleProcessingErrorUseCase.handleError("KAFKA_CONSUMER", event.error, event.toString());
+            } catch (Exception e) {
+                log.error("Failed to handle error for {}", event, e);
+            }
+        }
+    }
+
+    /**
+     * Keeps a stage running after an unexpected exception; the event's record is left
+     * unacknowledged if the ack stage itself failed, and is redelivered after a restart.
+     */
+    private static final class StageExceptionHandler implements ExceptionHandler<ActionItemEvent> {
+
+        @Override
+        public void handleEventException(Throwable error, long sequence, ActionItemEvent event) {
+            log.error("Ring-buffer stage failed at sequence {} for {}", sequence, event, error);
+            if (event.error == null) {
+                event.error = error;
+            }
+        }
+
+        @Override
+        public void handleOnStartException(Throwable error) {
+            log.error("Ring-buffer stage failed to start", error);
+        }
+
+        @Override
+        public void handleOnShutdownException(Throwable error) {
+            log.error("Ring-buffer stage failed to shut down", error);
+        }
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("kafka.consumer.ring-buffer.records")
+                .description("Records handled by the ring-buffer pipeline")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
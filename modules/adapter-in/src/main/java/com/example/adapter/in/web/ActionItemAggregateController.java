@@ -0,0 +1,62 @@
+package com.example.adapter.in.web;
+
+import com.example.domain.model.StatusAggregate;
+import com.example.port.in.ActionItemStatusAggregateUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller exposing live OPEN/CLOSE counts of action items.
+ * <p>
+ * Counts are served from in-memory aggregates maintained by the application layer, so these
+ * endpoints never query the action item table and are safe to poll from dashboards.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Returns counts per category, typeCode or assignee</li>
+ *   <li>Delegates to ActionItemStatusAggregateUseCase for the snapshot</li>
+ * </ul>
+ * <b>Usage:</b> {@code GET /api/action-items/aggregates/{dimension}} or
+ * {@code GET /api/action-items/aggregates} for all dimensions.
+ */
+@RestController
+@RequestMapping("/api/action-items/aggregates")
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemAggregateController {
+
+    private final ActionItemStatusAggregateUseCase statusAggregateUseCase;
+
+    /**
+     * Get counts for every dimension
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, List<StatusAggregate>>> getAllAggregates() {
+        Map<String, List<StatusAggregate>> aggregates = new LinkedHashMap<>();
+        for (String dimension : List.of(ActionItemStatusAggregateUseCase.CATEGORY,
+                ActionItemStatusAggregateUseCase.TYPE_CODE,
+                ActionItemStatusAggregateUseCase.ASSIGNEE)) {
+            aggregates.put(dimension, statusAggregateUseCase.getStatusAggregates(dimension));
+        }
+        return ResponseEntity.ok(aggregates);
+    }
+
+    /**
+     * Get counts for a single dimension (category, typeCode or assignee)
+     */
+    @GetMapping("/{dimension}")
+    public ResponseEntity<List<StatusAggregate>> getAggregates(@PathVariable String dimension) {
+        try {
+            return ResponseEntity.ok(statusAggregateUseCase.getStatusAggregates(dimension));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected aggregate request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.adapter.in.web;
+
+import com.example.domain.model.ActionItem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque pagination cursor holding the keyset position {@code (createdAt, id)} of the last item
+ * of a page. Encoded as URL-safe Base64 so clients treat it as a token rather than a query.
+ */
+@Getter
+@RequiredArgsConstructor
+final class ActionItemCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    /**
+     * Creates the cursor pointing after the given item.
+     */
+    static String encode(ActionItem last) {
+        String raw = last.getCreatedAt() + SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode(ActionItem)}.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    static ActionItemCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            String id = UUID.fromString(raw.substring(separator + 1)).toString();
+            return new ActionItemCursor(LocalDateTime.parse(raw.substring(0, separator)), id);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
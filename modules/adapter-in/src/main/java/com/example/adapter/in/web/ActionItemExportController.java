@@ -0,0 +1,60 @@
+package com.example.adapter.in.web;
+
+import com.example.adapter.in.export.ActionItemExporter;
+import com.example.adapter.in.export.ExportFormat;
+import com.example.domain.model.ActionItemStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for streaming full dumps of action items.
+ * <p>
+ * The response body is written directly from a database cursor, so memory use is constant
+ * regardless of table size and a slow client simply slows the export down.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Validates the requested format and status filter</li>
+ *   <li>Streams the export through ActionItemExporter as NDJSON, CSV or Avro</li>
+ * </ul>
+ * <b>Usage:</b> {@code GET /api/action-items/export?format=csv&status=OPEN}
+ */
+@RestController
+@RequestMapping("/api/action-items/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemExportController {
+
+    private final ActionItemExporter actionItemExporter;
+
+    /**
+     * Stream all action items, optionally filtered by status
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportActionItems(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) ActionItemStatus status) {
+
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected export request with unsupported format: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Streaming action item export as {} (status: {})", exportFormat, status != null ? status : "ALL");
+        StreamingResponseBody body = outputStream -> actionItemExporter.export(exportFormat, status, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"action-items." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+}
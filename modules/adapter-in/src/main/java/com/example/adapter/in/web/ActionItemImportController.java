@@ -0,0 +1,99 @@
+package com.example.adapter.in.web;
+
+import com.example.adapter.in.importer.ActionItemImportReader;
+import com.example.port.in.ActionItemImport;
+import com.example.port.in.CreateActionItemUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * REST controller for bulk loading action items outside the Kafka flow.
+ * <p>
+ * The upload is parsed incrementally while it is received and loaded in large batches through
+ * CreateActionItemUseCase. The response is NDJSON: one line per rejected row, written as soon as
+ * the row is rejected, followed by a final {@code {"summary": ...}} line (or {@code {"error": ...}}
+ * if the import aborted; batches loaded before the failure stay committed).
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Streams the request body into ActionItemImportReader without buffering it</li>
+ *   <li>Streams rejected rows and the import summary back to the client</li>
+ * </ul>
+ * <b>Usage:</b>
+ * <pre>
+ *     curl -T items.ndjson -H 'Content-Type: application/x-ndjson' \
+ *          'http://localhost:18080/api/action-items/import?format=ndjson'
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api/action-items/import")
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemImportController {
+
+    private static final String NDJSON = "ndjson";
+    private static final String AVRO = "avro";
+
+    private final CreateActionItemUseCase createActionItemUseCase;
+    private final ActionItemImportReader actionItemImportReader;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Import action items from an NDJSON or Avro container upload
+     */
+    @PostMapping
+    public ResponseEntity<StreamingResponseBody> importActionItems(
+            @RequestParam(defaultValue = NDJSON) String format,
+            HttpServletRequest request) throws IOException {
+
+        boolean avro = AVRO.equalsIgnoreCase(format);
+        if (!avro && !NDJSON.equalsIgnoreCase(format)) {
+            log.warn("Rejected import request with unsupported format: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+
+        InputStream upload = request.getInputStream();
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter results = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                ActionItemImport actionItemImport = createActionItemUseCase.startImport(rejection -> {
+                    try {
+                        results.write(rejection);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                try {
+                    if (avro) {
+                        actionItemImportReader.readAvro(upload, actionItemImport);
+                    } else {
+                        actionItemImportReader.readNdjson(upload, actionItemImport);
+                    }
+                    results.write(Map.of("summary", actionItemImport.finish()));
+                } catch (UncheckedIOException e) {
+                    // Client went away while rejects were being written
+                    throw e.getCause();
+                } catch (Exception e) {
+                    log.error("Bulk import aborted", e);
+                    results.write(Map.of("error", String.valueOf(e.getMessage())));
+                }
+            }
+        };
+
+        log.info("Starting bulk import of {} upload", avro ? AVRO : NDJSON);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.adapter.in.web;
+
+import com.example.domain.model.ActionItem;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Response body for a page of action items.
+ * <p>
+ * {@code nextCursor} is null on the last page; otherwise it is passed back as the {@code cursor}
+ * request parameter to fetch the following page.
+ */
+@Value
+@Builder
+public class ActionItemPageResponse {
+    List<ActionItem> items;
+    String nextCursor;
+}
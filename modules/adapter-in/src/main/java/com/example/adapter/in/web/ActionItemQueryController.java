@@ -0,0 +1,84 @@
+package com.example.adapter.in.web;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemPage;
+import com.example.domain.model.ActionItemSearchCriteria;
+import com.example.domain.model.ActionItemStatus;
+import com.example.port.in.QueryActionItemsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST controller for reading action items with filters and keyset pagination.
+ * <p>
+ * Provides the supported read path for action items: exact-match filters on status, category,
+ * typeCode and assignee plus a due date range, each served by a composite index. Pages are
+ * chained with an opaque cursor instead of page numbers, so deep pages cost the same as the first.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Maps request parameters and the cursor to ActionItemSearchCriteria</li>
+ *   <li>Delegates to QueryActionItemsUseCase for the page</li>
+ *   <li>Builds the cursor for the next page</li>
+ * </ul>
+ * <b>Usage:</b> {@code GET /api/action-items?status=OPEN&category=...&limit=100}, then repeat with
+ * {@code cursor=<nextCursor>} until {@code nextCursor} is null.
+ */
+@RestController
+@RequestMapping("/api/action-items")
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemQueryController {
+
+    private final QueryActionItemsUseCase queryActionItemsUseCase;
+
+    /**
+     * Get one page of action items matching the filters
+     */
+    @GetMapping
+    public ResponseEntity<ActionItemPageResponse> findActionItems(
+            @RequestParam(required = false) ActionItemStatus status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String typeCode,
+            @RequestParam(required = false) String assignee,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(defaultValue = "0") int limit,
+            @RequestParam(required = false) String cursor) {
+
+        try {
+            ActionItemSearchCriteria.ActionItemSearchCriteriaBuilder criteria = ActionItemSearchCriteria.builder()
+                    .status(status)
+                    .category(category)
+                    .typeCode(typeCode)
+                    .assignee(assignee)
+                    .dueFrom(dueFrom)
+                    .dueTo(dueTo)
+                    .limit(limit);
+            if (cursor != null && !cursor.isBlank()) {
+                ActionItemCursor position = ActionItemCursor.decode(cursor);
+                criteria.afterCreatedAt(position.getCreatedAt()).afterId(position.getId());
+            }
+
+            ActionItemPage page = queryActionItemsUseCase.findActionItems(criteria.build());
+            List<ActionItem> items = page.getItems();
+            String nextCursor = page.isHasMore() && !items.isEmpty()
+                    ? ActionItemCursor.encode(items.get(items.size() - 1))
+                    : null;
+
+            return ResponseEntity.ok(ActionItemPageResponse.builder()
+                    .items(items)
+                    .nextCursor(nextCursor)
+                    .build());
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected action item query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.adapter.in.kafka.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the offset watermark and source version tracking of {@link PartitionDedupWindow}.
+ */
+class PartitionDedupWindowTest {
+
+    private static final long UNKNOWN = -1L;
+
+    @Test
+    void knowsNothingBeforeTheFirstDispatch() {
+        PartitionDedupWindow window = new PartitionDedupWindow(64, 16, UNKNOWN);
+
+        assertFalse(window.isProcessed(0));
+        assertFalse(window.completed(0));
+        assertEquals(UNKNOWN, window.takeDirtyWatermark());
+    }
+
+    @Test
+    void advancesTheWatermarkOnlyOverContiguousCompletions() {
+        PartitionDedupWindow window = new PartitionDedupWindow(64, 16, UNKNOWN);
+        window.dispatched(10);
+        window.dispatched(11);
+        assertEquals(10, window.takeDirtyWatermark());
+
+        window.completed(11);
+        assertTrue(window.isProcessed(11));
+        assertFalse(window.isProcessed(10));
+        assertEquals(UNKNOWN, window.takeDirtyWatermark());
+
+        window.completed(10);
+        assertTrue(window.isProcessed(10));
+        assertFalse(window.isProcessed(12));
+        assertEquals(12, window.takeDirtyWatermark());
+        assertEquals(UNKNOWN, window.takeDirtyWatermark());
+    }
+
+    @Test
+    void treatsOffsetsBelowThePersistedWatermarkAsProcessed() {
+        PartitionDedupWindow window = new PartitionDedupWindow(64, 16, 100);
+        window.dispatched(100);
+
+        assertTrue(window.isProcessed(99));
+        assertFalse(window.isProcessed(100));
+        assertEquals(UNKNOWN, window.takeDirtyWatermark());
+    }
+
+    @Test
+    void reusesRingSlotsOnceTheWatermarkHasPassedThem() {
+        PartitionDedupWindow window = new PartitionDedupWindow(64, 16, 0);
+        for (long offset = 0; offset <= 64; offset++) {
+            assertFalse(window.completed(offset));
+        }
+
+        assertTrue(window.isProcessed(64));
+        // Offset 128 maps to the slot offsets 0 and 64 used
+        assertFalse(window.isProcessed(128));
+        assertEquals(65, window.takeDirtyWatermark());
+    }
+
+    @Test
+    void abandonsOffsetTrackingWhenACompletionFallsBeyondTheWindow() {
+        PartitionDedupWindow window = new PartitionDedupWindow(64, 16, 0);
+        window.completed(1);
+
+        assertTrue(window.completed(64));
+        assertFalse(window.completed(65));
+        assertFalse(window.isProcessed(1));
+
+        window.completed(0);
+        assertFalse(window.isProcessed(0));
+        assertEquals(UNKNOWN, window.takeDirtyWatermark());
+    }
+
+    @Test
+    void roundsTheCapacityUpToAPowerOfTwo() {
+        PartitionDedupWindow window = new PartitionDedupWindow(100, 16, 0);
+
+        assertFalse(window.completed(127));
+        assertTrue(window.completed(128));
+    }
+
+    @Test
+    void reportsDuplicateAndOlderSourceVersionsAsStale() {
+        PartitionDedupWindow window = new PartitionDedupWindow(64, 16, UNKNOWN);
+        window.applied("a", 100);
+        window.applied("a", 50);
+
+        assertTrue(window.isStale("a", 100));
+        assertTrue(window.isStale("a", 99));
+        assertFalse(window.isStale("a", 101));
+        assertFalse(window.isStale("b", 0));
+    }
+
+    @Test
+    void forgetsTheLeastRecentlyUsedKeyBeyondTheLimit() {
+        PartitionDedupWindow window = new PartitionDedupWindow(64, 2, UNKNOWN);
+        window.applied("a", 100);
+        window.applied("b", 100);
+        window.isStale("a", 100);
+
+        window.applied("c", 100);
+
+        assertTrue(window.isStale("a", 100));
+        assertFalse(window.isStale("b", 100));
+        assertTrue(window.isStale("c", 100));
+    }
+}
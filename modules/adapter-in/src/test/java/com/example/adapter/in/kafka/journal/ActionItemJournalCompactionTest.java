@@ -0,0 +1,102 @@
+package com.example.adapter.in.kafka.journal;
+
+import com.example.port.in.ProcessActionItemCommand;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the record selection of {@link ActionItemJournal#compactPayloads}.
+ */
+class ActionItemJournalCompactionTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void keepsOnlyTheNewestStatePerUniqueId() {
+        List<ProcessActionItemCommand> compacted = compact(
+                command("a", "OPEN", T0),
+                command("b", "OPEN", T0),
+                command("a", "OPEN", T0.plusMinutes(1)));
+
+        assertEquals(List.of("b@" + T0, "a@" + T0.plusMinutes(1)), describe(compacted));
+    }
+
+    @Test
+    void keepsTheOpenStateInFrontOfATrailingClose() {
+        // Created and closed during the outage: a lone CLOSE could not create the item on replay
+        List<ProcessActionItemCommand> compacted = compact(
+                command("a", "OPEN", T0),
+                command("a", "OPEN", T0.plusMinutes(1)),
+                command("a", "CLOSE", T0.plusMinutes(2)));
+
+        assertEquals(List.of("a@" + T0.plusMinutes(1), "a@" + T0.plusMinutes(2)), describe(compacted));
+        assertEquals("OPEN", compacted.get(0).getStatus());
+        assertEquals("CLOSE", compacted.get(1).getStatus());
+    }
+
+    @Test
+    void keepsANewestOpenStateAlone() {
+        List<ProcessActionItemCommand> compacted = compact(
+                command("a", "OPEN", T0),
+                command("a", "CLOSE", T0.plusMinutes(1)),
+                command("a", "OPEN", T0.plusMinutes(2)));
+
+        assertEquals(List.of("a@" + T0.plusMinutes(2)), describe(compacted));
+    }
+
+    @Test
+    void picksTheNewestStateByUpdatedAtRatherThanArrival() {
+        List<ProcessActionItemCommand> compacted = compact(
+                command("a", "OPEN", T0),
+                command("a", "CLOSE", T0.plusMinutes(2)),
+                command("a", "OPEN", T0.plusMinutes(1)));
+
+        assertEquals(List.of("a@" + T0.plusMinutes(1), "a@" + T0.plusMinutes(2)), describe(compacted));
+        assertEquals("CLOSE", compacted.get(1).getStatus());
+    }
+
+    @Test
+    void fallsBackToArrivalOrderWithoutUpdatedAt() {
+        List<ProcessActionItemCommand> compacted = compact(
+                command("a", "CLOSE", T0.plusMinutes(5)),
+                command("a", "OPEN", null));
+
+        assertEquals(1, compacted.size());
+        assertEquals("OPEN", compacted.get(0).getStatus());
+    }
+
+    @Test
+    void keepsALoneCloseWhenNoOpenStateWasJournaled() {
+        List<ProcessActionItemCommand> compacted = compact(
+                command("a", "CLOSE", T0),
+                command("a", "CLOSE", T0.plusMinutes(1)));
+
+        assertEquals(List.of("a@" + T0.plusMinutes(1)), describe(compacted));
+    }
+
+    private static List<ProcessActionItemCommand> compact(ProcessActionItemCommand... commands) {
+        List<byte[]> payloads = Arrays.stream(commands).map(JournalRecordCodec::encode).toList();
+        return ActionItemJournal.compactPayloads(payloads).stream().map(JournalRecordCodec::decode).toList();
+    }
+
+    private static List<String> describe(List<ProcessActionItemCommand> commands) {
+        return commands.stream().map(command -> command.getUniqueId() + "@" + command.getUpdatedAt()).toList();
+    }
+
+    private static ProcessActionItemCommand command(String uniqueId, String status, LocalDateTime updatedAt) {
+        return ProcessActionItemCommand.builder()
+                .uniqueId(uniqueId)
+                .title("Title " + uniqueId)
+                .category("CAT")
+                .typeCode("TYPE")
+                .status(status)
+                .createdAt(T0)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
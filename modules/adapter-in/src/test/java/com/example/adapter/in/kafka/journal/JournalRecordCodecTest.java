@@ -0,0 +1,52 @@
+package com.example.adapter.in.kafka.journal;
+
+import com.example.port.in.ProcessActionItemCommand;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link JournalRecordCodec}.
+ */
+class JournalRecordCodecTest {
+
+    @Test
+    void roundTripsAFullCommand() {
+        ProcessActionItemCommand command = ProcessActionItemCommand.builder()
+                .uniqueId("a1")
+                .title("Title")
+                .description("Multi-byte UTF-8: \u00e4\u20ac\uD83D\uDE00")
+                .assignee("team")
+                .category("cat")
+                .typeCode("T1")
+                .status("OPEN")
+                .dueDate(LocalDateTime.of(2024, 3, 1, 0, 0))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_789))
+                .updatedAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1))
+                .build();
+
+        assertEquals(command, JournalRecordCodec.decode(JournalRecordCodec.encode(command)));
+    }
+
+    @Test
+    void roundTripsNullFields() {
+        ProcessActionItemCommand command = ProcessActionItemCommand.builder()
+                .uniqueId("a1")
+                .title("")
+                .status("CLOSE")
+                .build();
+
+        assertEquals(command, JournalRecordCodec.decode(JournalRecordCodec.encode(command)));
+    }
+
+    @Test
+    void rejectsAnUnknownVersion() {
+        byte[] payload = JournalRecordCodec.encode(ProcessActionItemCommand.builder().uniqueId("a1").build());
+        payload[0] = 2;
+
+        assertThrows(IllegalStateException.class, () -> JournalRecordCodec.decode(payload));
+    }
+}
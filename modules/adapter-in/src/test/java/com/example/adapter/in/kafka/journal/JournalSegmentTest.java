@@ -0,0 +1,125 @@
+package com.example.adapter.in.kafka.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the record layout of {@link JournalSegment}, including torn records left by a crash.
+ */
+class JournalSegmentTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackAppendedRecordsInOrder() throws IOException {
+        JournalSegment segment = create(7, 1024);
+
+        assertTrue(segment.tryAppend(bytes("first")));
+        assertTrue(segment.tryAppend(bytes("second")));
+        segment.seal();
+
+        assertEquals(2, segment.records());
+        assertEquals(2 * JournalSegment.HEADER_BYTES + 11, segment.bytes());
+        assertEquals(List.of("first", "second"), read(segment.path()));
+    }
+
+    @Test
+    void rejectsARecordThatDoesNotFit() throws IOException {
+        JournalSegment segment = create(1, JournalSegment.HEADER_BYTES + 5);
+
+        assertTrue(segment.tryAppend(bytes("first")));
+        assertFalse(segment.tryAppend(bytes("x")));
+        segment.seal();
+
+        assertEquals(1, segment.records());
+        assertEquals(List.of("first"), read(segment.path()));
+    }
+
+    @Test
+    void opensASealedSegmentFromItsFile() throws IOException {
+        JournalSegment written = create(42, 1024);
+        written.tryAppend(bytes("first"));
+        written.tryAppend(bytes("second"));
+        written.seal();
+
+        JournalSegment sealed = JournalSegment.openSealed(written.path());
+
+        assertEquals(42, sealed.sequence());
+        assertEquals(2, sealed.records());
+        assertEquals(written.bytes(), sealed.bytes());
+    }
+
+    @Test
+    void endsTheSegmentAtARecordWithABadChecksum() throws IOException {
+        JournalSegment segment = create(1, 1024);
+        segment.tryAppend(bytes("first"));
+        segment.tryAppend(bytes("second"));
+        segment.tryAppend(bytes("third"));
+        segment.seal();
+
+        // Flip a payload byte of the second record
+        overwrite(segment.path(), 2 * JournalSegment.HEADER_BYTES + 5, ByteBuffer.wrap(bytes("X")));
+
+        assertEquals(List.of("first"), read(segment.path()));
+        JournalSegment sealed = JournalSegment.openSealed(segment.path());
+        assertEquals(1, sealed.records());
+        assertEquals(JournalSegment.HEADER_BYTES + 5, sealed.bytes());
+    }
+
+    @Test
+    void endsTheSegmentAtARecordWhoseLengthWasNotWritten() throws IOException {
+        JournalSegment segment = create(1, 1024);
+        segment.tryAppend(bytes("first"));
+        segment.tryAppend(bytes("second"));
+        segment.seal();
+
+        // A crash before the length of the second record was written leaves it zero
+        overwrite(segment.path(), JournalSegment.HEADER_BYTES + 5, ByteBuffer.allocate(4));
+
+        assertEquals(List.of("first"), read(segment.path()));
+    }
+
+    @Test
+    void endsTheSegmentAtARecordRunningPastTheFile() throws IOException {
+        JournalSegment segment = create(1, 64);
+        segment.tryAppend(bytes("first"));
+        segment.seal();
+
+        overwrite(segment.path(), JournalSegment.HEADER_BYTES + 5, ByteBuffer.allocate(4).putInt(0, 1024));
+
+        assertEquals(List.of("first"), read(segment.path()));
+    }
+
+    private JournalSegment create(long sequence, int capacity) throws IOException {
+        return JournalSegment.create(dir.resolve(JournalSegment.fileName(sequence)), sequence, capacity);
+    }
+
+    private static void overwrite(Path path, long position, ByteBuffer content) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(content, position);
+        }
+    }
+
+    private static List<String> read(Path path) throws IOException {
+        return JournalSegment.readAll(path).stream()
+                .map(payload -> new String(payload, StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.adapter.in.web;
+
+import com.example.domain.model.ActionItem;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link ActionItemCursor}.
+ */
+class ActionItemCursorTest {
+
+    @Test
+    void roundTripsTheKeysetPosition() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 30, 15, 123_456_789);
+        String id = UUID.randomUUID().toString();
+
+        ActionItemCursor cursor = ActionItemCursor.decode(ActionItemCursor.encode(item(createdAt, id)));
+
+        assertEquals(createdAt, cursor.getCreatedAt());
+        assertEquals(id, cursor.getId());
+    }
+
+    @Test
+    void roundTripsATimestampWithoutSeconds() {
+        // LocalDateTime#toString leaves out zero seconds
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        ActionItemCursor cursor = ActionItemCursor.decode(ActionItemCursor.encode(item(createdAt, UUID.randomUUID().toString())));
+
+        assertEquals(createdAt, cursor.getCreatedAt());
+    }
+
+    @Test
+    void encodesAsUrlSafeBase64WithoutPadding() {
+        for (int i = 0; i < 100; i++) {
+            String cursor = ActionItemCursor.encode(item(LocalDateTime.of(2024, 1, 1, 12, 0, 0, i), UUID.randomUUID().toString()));
+
+            assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="), cursor);
+        }
+    }
+
+    @Test
+    void rejectsACursorThatIsNotBase64() {
+        assertThrows(IllegalArgumentException.class, () -> ActionItemCursor.decode("not a cursor!"));
+    }
+
+    @Test
+    void rejectsACursorWithoutSeparator() {
+        assertThrows(IllegalArgumentException.class, () -> ActionItemCursor.decode(encodeRaw("2024-01-01T12:00")));
+    }
+
+    @Test
+    void rejectsACursorWithAMalformedTimestamp() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ActionItemCursor.decode(encodeRaw("yesterday|" + UUID.randomUUID())));
+    }
+
+    @Test
+    void rejectsACursorWithAMalformedId() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ActionItemCursor.decode(encodeRaw("2024-01-01T12:00|42")));
+    }
+
+    private static ActionItem item(LocalDateTime createdAt, String id) {
+        return ActionItem.builder()
+                .id(id)
+                .uniqueId("a1")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.adapter.out.embedded;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of an action item in the embedded store and its changelog; the
+ * uniqueId is the record key and is not repeated in the value.
+ * <p>
+ * Layout: format version, a presence bitmask for the timestamps, the id as 16 raw bytes, the
+ * status ordinal, then strings as varint (length + 1, 0 for null) plus UTF-8 and timestamps as
+ * zigzag varint UTC epoch seconds plus varint nanos. A typical item encodes to well under half the size of its
+ * table row.
+ */
+final class ActionItemRecordCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final int DUE_DATE = 1;
+    private static final int CREATED_AT = 1 << 1;
+    private static final int UPDATED_AT = 1 << 2;
+
+    private static final ActionItemStatus[] STATUSES = ActionItemStatus.values();
+
+    private ActionItemRecordCodec() {
+    }
+
+    static byte[] encode(ActionItem actionItem) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        int present = (actionItem.getDueDate() != null ? DUE_DATE : 0)
+                | (actionItem.getCreatedAt() != null ? CREATED_AT : 0)
+                | (actionItem.getUpdatedAt() != null ? UPDATED_AT : 0);
+        out.write(VERSION);
+        out.write(present);
+        UUID id = UUID.fromString(actionItem.getId());
+        writeLong(out, id.getMostSignificantBits());
+        writeLong(out, id.getLeastSignificantBits());
+        out.write(actionItem.getStatus().ordinal());
+        writeString(out, actionItem.getTitle());
+        writeString(out, actionItem.getCategory());
+        writeString(out, actionItem.getTypeCode());
+        writeString(out, actionItem.getDescription());
+        writeString(out, actionItem.getAssignee());
+        if ((present & DUE_DATE) != 0) {
+            writeDateTime(out, actionItem.getDueDate());
+        }
+        if ((present & CREATED_AT) != 0) {
+            writeDateTime(out, actionItem.getCreatedAt());
+        }
+        if ((present & UPDATED_AT) != 0) {
+            writeDateTime(out, actionItem.getUpdatedAt());
+        }
+        return out.toByteArray();
+    }
+
+    static ActionItem decode(String uniqueId, byte[] value) {
+        ByteBuffer in = ByteBuffer.wrap(value);
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported action item record version " + version);
+        }
+        int present = in.get();
+        UUID id = new UUID(in.getLong(), in.getLong());
+        ActionItem.ActionItemBuilder builder = ActionItem.builder()
+                .id(id.toString())
+                .uniqueId(uniqueId)
+                .status(STATUSES[in.get()])
+                .title(readString(in))
+                .category(readString(in))
+                .typeCode(readString(in))
+                .description(readString(in))
+                .assignee(readString(in));
+        if ((present & DUE_DATE) != 0) {
+            builder.dueDate(readDateTime(in));
+        }
+        if ((present & CREATED_AT) != 0) {
+            builder.createdAt(readDateTime(in));
+        }
+        if ((present & UPDATED_AT) != 0) {
+            builder.updatedAt(readDateTime(in));
+        }
+        return builder.build();
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            out.write(0);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, utf8.length + 1L);
+        out.write(utf8, 0, utf8.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void writeDateTime(ByteArrayOutputStream out, LocalDateTime value) {
+        long epochSecond = value.toEpochSecond(ZoneOffset.UTC);
+        writeVarLong(out, (epochSecond << 1) ^ (epochSecond >> 63));
+        writeVarLong(out, value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        long zigzag = readVarLong(in);
+        long epochSecond = (zigzag >>> 1) ^ -(zigzag & 1);
+        return LocalDateTime.ofEpochSecond(epochSecond, (int) readVarLong(in), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.adapter.out.embedded;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+import org.rocksdb.DBOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * One shard of the embedded state store: a RocksDB instance holding the latest encoded state of
+ * every uniqueId that maps to one changelog partition, plus the changelog offset it reflects.
+ * <p>
+ * Items live in the default column family, keyed by uniqueId; the offset of the last changelog
+ * record applied lives in a second column family and is written in the same atomic batch as the
+ * item, so after a crash the shard resumes restoring exactly where its data ends. Writes skip
+ * the fsync of the RocksDB WAL: the changelog is the durable copy, and anything lost locally is
+ * restored from it.
+ */
+final class ActionItemStateShard implements AutoCloseable {
+
+    private static final byte[] CHECKPOINT_FAMILY = "changelog-offset".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CHECKPOINT_KEY = "offset".getBytes(StandardCharsets.UTF_8);
+
+    private final int partition;
+    private final DBOptions dbOptions;
+    private final ColumnFamilyOptions columnFamilyOptions;
+    private final List<ColumnFamilyHandle> handles;
+    private final RocksDB db;
+    private final ColumnFamilyHandle items;
+    private final ColumnFamilyHandle checkpoint;
+    private final WriteOptions writeOptions;
+
+    private ActionItemStateShard(int partition, DBOptions dbOptions, ColumnFamilyOptions columnFamilyOptions,
+                                 List<ColumnFamilyHandle> handles, RocksDB db) {
+        this.partition = partition;
+        this.dbOptions = dbOptions;
+        this.columnFamilyOptions = columnFamilyOptions;
+        this.handles = handles;
+        this.db = db;
+        this.items = handles.get(0);
+        this.checkpoint = handles.get(1);
+        this.writeOptions = new WriteOptions().setSync(false);
+    }
+
+    /**
+     * Opens or creates the shard of a changelog partition under {@code directory/partition-N}.
+     *
+     * @param directory Root directory of the store
+     * @param partition Changelog partition of the shard
+     * @param blockCache Block cache shared by all shards
+     */
+    static ActionItemStateShard open(Path directory, int partition, Cache blockCache) {
+        Path path = directory.resolve("partition-" + partition);
+        DBOptions dbOptions = new DBOptions()
+                .setCreateIfMissing(true)
+                .setCreateMissingColumnFamilies(true);
+        // Point lookups by uniqueId only: bloom filters spare the disk reads for unknown keys
+        ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions()
+                .setCompressionType(CompressionType.LZ4_COMPRESSION)
+                .setTableFormatConfig(new BlockBasedTableConfig()
+                        .setBlockCache(blockCache)
+                        .setFilterPolicy(new BloomFilter(10, false))
+                        .setWholeKeyFiltering(true));
+        List<ColumnFamilyDescriptor> descriptors = List.of(
+                new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, columnFamilyOptions),
+                new ColumnFamilyDescriptor(CHECKPOINT_FAMILY, columnFamilyOptions));
+        List<ColumnFamilyHandle> handles = new ArrayList<>(2);
+        try {
+            Files.createDirectories(path);
+            RocksDB db = RocksDB.open(dbOptions, path.toString(), descriptors, handles);
+            return new ActionItemStateShard(partition, dbOptions, columnFamilyOptions, handles, db);
+        } catch (Exception e) {
+            handles.forEach(ColumnFamilyHandle::close);
+            dbOptions.close();
+            columnFamilyOptions.close();
+            throw new DataAccessResourceFailureException("Cannot open state store shard " + path, e);
+        }
+    }
+
+    int partition() {
+        return partition;
+    }
+
+    /**
+     * @return the encoded item, or null if the shard has none for the uniqueId
+     */
+    byte[] get(String uniqueId) {
+        try {
+            return db.get(items, key(uniqueId));
+        } catch (RocksDBException e) {
+            throw failure("read " + uniqueId, e);
+        }
+    }
+
+    /**
+     * Stores an item together with the offset of its changelog record, atomically.
+     */
+    void put(String uniqueId, byte[] value, long changelogOffset) {
+        try (WriteBatch batch = new WriteBatch()) {
+            batch.put(items, key(uniqueId), value);
+            batch.put(checkpoint, CHECKPOINT_KEY, offset(changelogOffset));
+            db.write(writeOptions, batch);
+        } catch (RocksDBException e) {
+            throw failure("write " + uniqueId, e);
+        }
+    }
+
+    /**
+     * Applies changelog records in offset order, atomically with the offset of the last one.
+     * A record without value removes its uniqueId.
+     */
+    void restore(List<ConsumerRecord<String, byte[]>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try (WriteBatch batch = new WriteBatch()) {
+            for (ConsumerRecord<String, byte[]> changelogRecord : records) {
+                if (changelogRecord.value() == null) {
+                    batch.delete(items, key(changelogRecord.key()));
+                } else {
+                    batch.put(items, key(changelogRecord.key()), changelogRecord.value());
+                }
+            }
+            batch.put(checkpoint, CHECKPOINT_KEY, offset(records.get(records.size() - 1).offset()));
+            db.write(writeOptions, batch);
+        } catch (RocksDBException e) {
+            throw failure("restore", e);
+        }
+    }
+
+    /**
+     * @return the offset of the last changelog record reflected in the shard, or -1 if none
+     */
+    long checkpoint() {
+        try {
+            byte[] offset = db.get(checkpoint, CHECKPOINT_KEY);
+            return offset != null ? ByteBuffer.wrap(offset).getLong() : -1;
+        } catch (RocksDBException e) {
+            throw failure("read checkpoint", e);
+        }
+    }
+
+    /**
+     * Visits every item of the shard, in key order.
+     */
+    void forEach(BiConsumer<String, byte[]> action) {
+        try (RocksIterator iterator = db.newIterator(items)) {
+            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                action.accept(new String(iterator.key(), StandardCharsets.UTF_8), iterator.value());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        handles.forEach(ColumnFamilyHandle::close);
+        db.close();
+        writeOptions.close();
+        dbOptions.close();
+        columnFamilyOptions.close();
+    }
+
+    private DataAccessResourceFailureException failure(String operation, RocksDBException e) {
+        return new DataAccessResourceFailureException(
+                "State store shard " + partition + " failed to " + operation + ": " + e.getMessage(), e);
+    }
+
+    private static byte[] key(String uniqueId) {
+        return uniqueId.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] offset(long offset) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(offset).array();
+    }
+}
@@ -0,0 +1,530 @@
+package com.example.adapter.out.embedded;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import com.example.domain.model.TypeCodeCount;
+import com.example.port.out.BulkInsertActionItemsPort;
+import com.example.port.out.MergeActionItemsPort;
+import com.example.port.out.SaveActionItemPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Utils;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.RocksDB;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded alternative to the JPA persistence adapter for deployments that only need the latest
+ * state per uniqueId. Active with {@code action-items.store.type=embedded}, where it replaces
+ * {@code ActionItemPersistenceAdapter} as the {@link SaveActionItemPort}, and the set-based
+ * adapters as the {@link BulkInsertActionItemsPort} and {@link MergeActionItemsPort}, so bulk
+ * imports and backfill merges land in the same store as the Kafka flow.
+ * <p>
+ * Items are kept in compact binary form ({@link ActionItemRecordCodec}) in local RocksDB shards,
+ * one per partition of a compacted changelog topic; a uniqueId belongs to the partition Kafka's
+ * default partitioner would pick for it. Every write is first sent to the changelog with an
+ * idempotent producer and, once acknowledged, stored in its shard together with the changelog
+ * offset. On startup each shard replays the changelog from its stored offset, so a lost or new
+ * state directory is rebuilt from Kafka alone.
+ * <p>
+ * Writes to a uniqueId are decided and sent under a striped lock, against the newest write still
+ * awaiting its acknowledgement or else the stored item. That makes {@link #updateActionItemIfNewer}
+ * a compare-and-set on updatedAt and keeps the changelog in write order per uniqueId, while the
+ * acknowledgement is awaited with the lock released, so a slow broker does not block the other
+ * uniqueIds of a stripe. typeCode counts per status are kept in memory, rebuilt from the shards on
+ * startup and maintained as writes are stored.
+ * <p>
+ * <b>Limitations:</b>
+ * <ul>
+ *   <li>The store is local to one instance: run a single consumer instance, or every instance
+ *       only sees its own writes.</li>
+ *   <li>Archived items are not consulted and archival must be disabled
+ *       ({@code action-items.archive.enabled=false}); startup fails otherwise. The query, export
+ *       and aggregate APIs keep working on the relational tables.</li>
+ *   <li>Bulk inserts and merges are not atomic; a failed batch is safe to load again.</li>
+ * </ul>
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "action-items.store.type", havingValue = "embedded")
+@Slf4j
+public class EmbeddedActionItemStateStoreAdapter
+        implements SaveActionItemPort, BulkInsertActionItemsPort, MergeActionItemsPort {
+
+    private static final int LOCK_STRIPES = 1024;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Map<CountKey, LongAdder> typeCodeCounts = new ConcurrentHashMap<>();
+    private final Map<String, PendingWrite> pending = new ConcurrentHashMap<>();
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${action-items.store.embedded.directory:./data/state}")
+    private String directory;
+
+    @Value("${action-items.store.embedded.changelog-topic:action-items-state-changelog}")
+    private String changelogTopic;
+
+    @Value("${action-items.store.embedded.partitions:12}")
+    private int partitions;
+
+    @Value("${action-items.store.embedded.replication-factor:1}")
+    private short replicationFactor;
+
+    @Value("${action-items.store.embedded.block-cache-mb:64}")
+    private long blockCacheMb;
+
+    @Value("${action-items.store.embedded.linger-ms:1}")
+    private int lingerMs;
+
+    @Value("${action-items.store.embedded.send-timeout-ms:30000}")
+    private long sendTimeoutMs;
+
+    @Value("${action-items.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    private Cache blockCache;
+    private ActionItemStateShard[] shards;
+    private KafkaProducer<String, byte[]> changelogProducer;
+
+    @PostConstruct
+    void open() {
+        if (archiveEnabled) {
+            throw new IllegalStateException("action-items.archive.enabled must be false with action-items.store.type=embedded: "
+                    + "archival moves rows out of action_items, which this store does not write");
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        ensureChangelogTopic();
+
+        RocksDB.loadLibrary();
+        blockCache = new LRUCache(blockCacheMb * 1024 * 1024);
+        shards = new ActionItemStateShard[partitions];
+        for (int partition = 0; partition < partitions; partition++) {
+            shards[partition] = ActionItemStateShard.open(Path.of(directory), partition, blockCache);
+        }
+        restore();
+        rebuildCounts();
+
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        changelogProducer = new KafkaProducer<>(props);
+        log.info("Embedded action item store open: {} shards in {}, changelog {}", partitions, directory, changelogTopic);
+    }
+
+    @PreDestroy
+    void close() {
+        if (changelogProducer != null) {
+            changelogProducer.close(Duration.ofSeconds(10));
+        }
+        if (shards != null) {
+            for (ActionItemStateShard shard : shards) {
+                if (shard != null) {
+                    shard.close();
+                }
+            }
+        }
+        if (blockCache != null) {
+            blockCache.close();
+        }
+    }
+
+    @Override
+    public ActionItem saveActionItem(ActionItem actionItem) {
+        PendingWrite write;
+        synchronized (lockFor(actionItem.getUniqueId())) {
+            write = send(actionItem);
+        }
+        complete(write);
+        return actionItem;
+    }
+
+    @Override
+    public boolean updateActionItemIfNewer(ActionItem actionItem) {
+        PendingWrite write;
+        synchronized (lockFor(actionItem.getUniqueId())) {
+            ActionItem existing = latest(actionItem.getUniqueId());
+            if (existing == null || !isNewer(actionItem, existing)) {
+                return false;
+            }
+            write = send(updated(existing, actionItem));
+        }
+        complete(write);
+        return true;
+    }
+
+    /**
+     * Stores the items whose uniqueId is unknown. Not atomic: if a write fails, the items before
+     * it stay stored, and reloading the batch skips them.
+     */
+    @Override
+    public List<String> insertActionItems(List<ActionItem> actionItems) {
+        List<PendingWrite> writes = new ArrayList<>(actionItems.size());
+        for (ActionItem actionItem : actionItems) {
+            synchronized (lockFor(actionItem.getUniqueId())) {
+                if (latest(actionItem.getUniqueId()) == null) {
+                    writes.add(send(actionItem));
+                }
+            }
+        }
+        completeAll(writes);
+        List<String> inserted = new ArrayList<>(writes.size());
+        writes.forEach(write -> inserted.add(write.actionItem.getUniqueId()));
+        return inserted;
+    }
+
+    /**
+     * Merges a chunk with the same last-write-wins rule as {@link #updateActionItemIfNewer}. Not
+     * atomic: if a write fails, the states before it stay stored, and merging the chunk again
+     * writes only the rest.
+     */
+    @Override
+    public int mergeActionItems(List<ActionItem> actionItems) {
+        Map<String, ActionItem> latestInChunk = new LinkedHashMap<>();
+        for (ActionItem actionItem : actionItems) {
+            latestInChunk.merge(actionItem.getUniqueId(), actionItem, (kept, next) -> isNewer(kept, next) ? kept : next);
+        }
+        List<PendingWrite> writes = new ArrayList<>(latestInChunk.size());
+        for (ActionItem actionItem : latestInChunk.values()) {
+            synchronized (lockFor(actionItem.getUniqueId())) {
+                ActionItem existing = latest(actionItem.getUniqueId());
+                if (existing == null) {
+                    writes.add(send(actionItem));
+                } else if (isNewer(actionItem, existing)) {
+                    writes.add(send(updated(existing, actionItem)));
+                }
+            }
+        }
+        completeAll(writes);
+        return writes.size();
+    }
+
+    @Override
+    public Optional<ActionItem> findByUniqueId(String uniqueId) {
+        byte[] stored = shardFor(uniqueId).get(uniqueId);
+        return stored != null ? Optional.of(ActionItemRecordCodec.decode(uniqueId, stored)) : Optional.empty();
+    }
+
+    @Override
+    public List<TypeCodeCount> getTypeCodesByCountAndStatus(ActionItemStatus status) {
+        List<TypeCodeCount> counts = new ArrayList<>();
+        typeCodeCounts.forEach((key, count) -> {
+            long value = count.sum();
+            if (key.status() == status && value > 0) {
+                counts.add(new TypeCodeCount(key.typeCode(), value));
+            }
+        });
+        counts.sort(Comparator.comparing(TypeCodeCount::getCount).reversed());
+        return counts;
+    }
+
+    // Same rule as the JPA adapter's conditional UPDATE
+    private static boolean isNewer(ActionItem actionItem, ActionItem existing) {
+        return existing.getUpdatedAt() == null
+                || (actionItem.getUpdatedAt() != null && existing.getUpdatedAt().isBefore(actionItem.getUpdatedAt()));
+    }
+
+    private static ActionItem updated(ActionItem existing, ActionItem actionItem) {
+        return ActionItem.builder()
+                .id(existing.getId())
+                .uniqueId(existing.getUniqueId())
+                .title(actionItem.getTitle())
+                .description(actionItem.getDescription())
+                .assignee(actionItem.getAssignee())
+                .category(actionItem.getCategory())
+                .typeCode(actionItem.getTypeCode())
+                .status(actionItem.getStatus())
+                .dueDate(actionItem.getDueDate())
+                .createdAt(existing.getCreatedAt())
+                .updatedAt(actionItem.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * The state the next write of a uniqueId is decided against: its newest pending write, or the
+     * stored item. Must be called with the uniqueId's lock held.
+     */
+    private ActionItem latest(String uniqueId) {
+        PendingWrite head = pending.get(uniqueId);
+        if (head != null) {
+            return head.actionItem;
+        }
+        byte[] stored = shardFor(uniqueId).get(uniqueId);
+        return stored != null ? ActionItemRecordCodec.decode(uniqueId, stored) : null;
+    }
+
+    /**
+     * Hands the item to the changelog producer and registers it as pending. Must be called with
+     * the uniqueId's lock held, which keeps the changelog in write order per uniqueId; the
+     * acknowledgement is awaited by {@link #complete} after the lock is released.
+     */
+    private PendingWrite send(ActionItem actionItem) {
+        String uniqueId = actionItem.getUniqueId();
+        byte[] value = ActionItemRecordCodec.encode(actionItem);
+        PendingWrite write = new PendingWrite(actionItem, value, pending.get(uniqueId),
+                changelogProducer.send(new ProducerRecord<>(changelogTopic, shardFor(uniqueId).partition(), uniqueId, value)));
+        pending.put(uniqueId, write);
+        return write;
+    }
+
+    /**
+     * Waits for the changelog acknowledgement, then stores the item locally unless a newer write
+     * of its uniqueId has been stored meanwhile.
+     */
+    private void complete(PendingWrite write) {
+        String uniqueId = write.actionItem.getUniqueId();
+        RecordMetadata metadata;
+        try {
+            metadata = write.ack.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(write);
+            throw new DataAccessResourceFailureException("Interrupted while writing " + uniqueId + " to the changelog", e);
+        } catch (ExecutionException | TimeoutException e) {
+            abandon(write);
+            throw new DataAccessResourceFailureException("Cannot write " + uniqueId + " to the changelog", e);
+        }
+        synchronized (lockFor(uniqueId)) {
+            write.done = true;
+            try {
+                if (!write.superseded) {
+                    ActionItemStateShard shard = shardFor(uniqueId);
+                    byte[] stored = shard.get(uniqueId);
+                    shard.put(uniqueId, write.value, metadata.offset());
+                    if (stored != null) {
+                        count(ActionItemRecordCodec.decode(uniqueId, stored), -1);
+                    }
+                    count(write.actionItem, 1);
+                    for (PendingWrite older = write.previous; older != null; older = older.previous) {
+                        older.superseded = true;
+                    }
+                    write.previous = null;
+                }
+            } finally {
+                pending.remove(uniqueId, write);
+            }
+        }
+    }
+
+    /**
+     * Completes every write, so none is left pending, and rethrows the first failure.
+     */
+    private void completeAll(List<PendingWrite> writes) {
+        RuntimeException failure = null;
+        for (PendingWrite write : writes) {
+            try {
+                complete(write);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Drops a failed write. If it was the newest pending write of its uniqueId, the next write is
+     * decided against the newest older one still in flight, or the stored item.
+     */
+    private void abandon(PendingWrite write) {
+        String uniqueId = write.actionItem.getUniqueId();
+        synchronized (lockFor(uniqueId)) {
+            write.done = true;
+            if (pending.get(uniqueId) == write) {
+                PendingWrite older = write.previous;
+                while (older != null && older.done) {
+                    older = older.previous;
+                }
+                if (older != null) {
+                    pending.put(uniqueId, older);
+                } else {
+                    pending.remove(uniqueId);
+                }
+            }
+        }
+    }
+
+    private void count(ActionItem actionItem, long delta) {
+        typeCodeCounts.computeIfAbsent(new CountKey(actionItem.getTypeCode(), actionItem.getStatus()), key -> new LongAdder())
+                .add(delta);
+    }
+
+    private ActionItemStateShard shardFor(String uniqueId) {
+        return shards[Utils.toPositive(Utils.murmur2(uniqueId.getBytes(StandardCharsets.UTF_8))) % partitions];
+    }
+
+    private Object lockFor(String uniqueId) {
+        return locks[(uniqueId.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+
+    /**
+     * Creates the compacted changelog topic if it does not exist, and checks that an existing one
+     * has the configured number of partitions, since shards are mapped to partitions one to one.
+     */
+    private void ensureChangelogTopic() {
+        try (AdminClient admin = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+            try {
+                TopicDescription description = admin.describeTopics(List.of(changelogTopic)).allTopicNames().get()
+                        .get(changelogTopic);
+                if (description.partitions().size() != partitions) {
+                    throw new IllegalStateException("Changelog topic " + changelogTopic + " has "
+                            + description.partitions().size() + " partitions, expected " + partitions);
+                }
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+                    throw e;
+                }
+                log.info("Creating changelog topic {} with {} partitions", changelogTopic, partitions);
+                admin.createTopics(List.of(new NewTopic(changelogTopic, partitions, replicationFactor)
+                        .configs(Map.of(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT))))
+                        .all().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking changelog topic " + changelogTopic, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot check changelog topic " + changelogTopic, e.getCause());
+        }
+    }
+
+    /**
+     * Replays every changelog partition from its shard's checkpoint up to the end offset seen at startup.
+     */
+    private void restore() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 10000);
+
+        long start = System.currentTimeMillis();
+        long restored = 0;
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(props)) {
+            List<TopicPartition> topicPartitions = new ArrayList<>(partitions);
+            for (int partition = 0; partition < partitions; partition++) {
+                topicPartitions.add(new TopicPartition(changelogTopic, partition));
+            }
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(topicPartitions);
+            Map<TopicPartition, Long> checkpoints = new HashMap<>();
+            for (TopicPartition topicPartition : topicPartitions) {
+                long checkpoint = shards[topicPartition.partition()].checkpoint();
+                if (checkpoint + 1 < endOffsets.get(topicPartition)) {
+                    checkpoints.put(topicPartition, checkpoint);
+                }
+            }
+            List<TopicPartition> pending = new ArrayList<>(checkpoints.keySet());
+            consumer.assign(pending);
+            checkpoints.forEach((topicPartition, checkpoint) -> {
+                if (checkpoint >= 0) {
+                    consumer.seek(topicPartition, checkpoint + 1);
+                } else {
+                    consumer.seekToBeginning(List.of(topicPartition));
+                }
+            });
+
+            while (!pending.isEmpty()) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(500));
+                for (TopicPartition topicPartition : records.partitions()) {
+                    List<ConsumerRecord<String, byte[]>> partitionRecords = records.records(topicPartition);
+                    shards[topicPartition.partition()].restore(partitionRecords);
+                    restored += partitionRecords.size();
+                }
+                for (TopicPartition topicPartition : List.copyOf(pending)) {
+                    if (consumer.position(topicPartition) >= endOffsets.get(topicPartition)) {
+                        consumer.pause(List.of(topicPartition));
+                        pending.remove(topicPartition);
+                    }
+                }
+            }
+        }
+        log.info("Restored {} changelog records into {} shards in {} ms", restored, partitions, System.currentTimeMillis() - start);
+    }
+
+    private void rebuildCounts() {
+        for (ActionItemStateShard shard : shards) {
+            shard.forEach((uniqueId, value) -> count(ActionItemRecordCodec.decode(uniqueId, value), 1));
+        }
+    }
+
+    private record CountKey(String typeCode, ActionItemStatus status) {
+    }
+
+    /**
+     * A write handed to the changelog producer and not yet stored locally. Fields other than the
+     * final ones are guarded by the uniqueId's lock.
+     */
+    private static final class PendingWrite {
+
+        private final ActionItem actionItem;
+        private final byte[] value;
+        private final Future<RecordMetadata> ack;
+        /** Older write of the same uniqueId that was pending when this one was sent */
+        private PendingWrite previous;
+        /** A newer write of the same uniqueId has been stored, so this one must not be */
+        private boolean superseded;
+        private boolean done;
+
+        private PendingWrite(ActionItem actionItem, byte[] value, PendingWrite previous, Future<RecordMetadata> ack) {
+            this.actionItem = actionItem;
+            this.value = value;
+            this.previous = previous;
+            this.ack = ack;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.adapter.out.kafka;
+
+import com.example.domain.model.ActionItemStateChange;
+import com.example.port.out.PublishActionItemStateChangesPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Kafka adapter that publishes action item state changes as compact JSON messages.
+ * <p>
+ * Messages are keyed by uniqueId, so all changes of an item land on one partition in order, and
+ * carry the outbox eventId as the {@code eventId} header and field. They are sent through the
+ * application's {@link KafkaTemplate}, so {@code spring.kafka.producer.*} applies; it is
+ * configured as an idempotent producer ({@code acks=all}, at most five requests in flight), so
+ * broker-side retries never duplicate or reorder messages. A batch that is published again after
+ * a failed relay can still repeat messages, which consumers drop by eventId or version.
+ * <p>
+ * A batch is sent in one go and left to the producer's own batching ({@code linger.ms},
+ * {@code batch-size}, {@code compression-type}). A publish waits at most
+ * {@code delivery.timeout.ms} plus a margin for the acknowledgements.
+ */
+@Component
+@ConditionalOnProperty(name = "action-items.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ActionItemStateChangeKafkaPublisher implements PublishActionItemStateChangesPort {
+
+    private static final String EVENT_ID_HEADER = "eventId";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final long deliveryTimeoutMs;
+
+    public ActionItemStateChangeKafkaPublisher(
+            KafkaTemplate<String, String> kafkaTemplate,
+            @Value("${action-items.outbox.topic:action-item-state-changes}") String topic,
+            @Value("${spring.kafka.producer.properties.delivery.timeout.ms:120000}") long deliveryTimeoutMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.deliveryTimeoutMs = deliveryTimeoutMs;
+        log.info("State change publisher: topic={}, delivery.timeout.ms={}", topic, deliveryTimeoutMs);
+    }
+
+    @Override
+    public void publish(List<ActionItemStateChange> changes) {
+        CompletableFuture<?>[] sends = new CompletableFuture<?>[changes.size()];
+        for (int i = 0; i < changes.size(); i++) {
+            ActionItemStateChange change = changes.get(i);
+            ProducerRecord<String, String> producerRecord = new ProducerRecord<>(topic, change.getUniqueId(), serialize(change));
+            producerRecord.headers().add(EVENT_ID_HEADER, String.valueOf(change.getEventId()).getBytes(StandardCharsets.UTF_8));
+            sends[i] = kafkaTemplate.send(producerRecord);
+        }
+        kafkaTemplate.flush();
+        try {
+            // Every send completes or fails within delivery.timeout.ms
+            CompletableFuture.allOf(sends).get(deliveryTimeoutMs + 5000L, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing state changes", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish " + changes.size() + " state changes to " + topic, e);
+        }
+    }
+
+    private String serialize(ActionItemStateChange change) {
+        try {
+            return objectMapper.writeValueAsString(new StateChangeMessage(
+                    change.getEventId(),
+                    change.getActionItemId(),
+                    change.getUniqueId(),
+                    change.getPreviousStatus() != null ? change.getPreviousStatus().name() : null,
+                    change.getStatus().name(),
+                    change.getCategory(),
+                    change.getTypeCode(),
+                    change.getAssignee(),
+                    format(change.getVersion()),
+                    format(change.getRecordedAt())));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize state change " + change.getEventId(), e);
+        }
+    }
+
+    private static String format(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toString() : null;
+    }
+
+    /**
+     * Wire format of a state change; timestamps are ISO-8601 local date-times.
+     */
+    private record StateChangeMessage(Long eventId, String actionItemId, String uniqueId, String previousStatus,
+                                      String status, String category, String typeCode, String assignee,
+                                      String version, String recordedAt) {
+    }
+}
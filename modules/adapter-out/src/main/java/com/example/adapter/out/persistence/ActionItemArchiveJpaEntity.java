@@ -0,0 +1,62 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ActionItemStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Persistence entity for action items moved to the action_items_archive table.
+ * <p>
+ * Same columns as {@link ActionItemJpaEntity} plus archivedAt. The archive is not partitioned,
+ * so uniqueId carries its own unique constraint. Rows are written by the archival job with SQL;
+ * this mapping serves the findByUniqueId fallback and restores.
+ */
+@Entity
+@Table(name = "action_items_archive")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionItemArchiveJpaEntity {
+
+    /** Primary key the item had in action_items */
+    @Id
+    private UUID id;
+
+    /** Business unique identifier for the action item */
+    @Column(name = "uniqueId", nullable = false)
+    private String uniqueId;
+
+    private String title;
+
+    private String description;
+
+    private String assignee;
+
+    private String category;
+
+    private String typeCode;
+
+    @Enumerated(EnumType.STRING)
+    private ActionItemStatus status;
+
+    private LocalDateTime dueDate;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    /** Timestamp when the item was moved to the archive */
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,94 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ArchiveChunk;
+import com.example.port.out.ArchiveActionItemsPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Persistence adapter that moves CLOSE action items from action_items to action_items_archive.
+ * <p>
+ * Each chunk is a single statement: the candidates are locked with {@code FOR UPDATE SKIP LOCKED}
+ * in (created_at, id) order from the partial {@code idx_action_items_closed_created} index, deleted
+ * from action_items and inserted into the archive from the DELETE's RETURNING rows. The key
+ * registry trigger on action_items handles the deletes; the typeCode counter triggers on both
+ * tables cancel out, so archived items stay counted. Continuing after the
+ * previous chunk's last (created_at, id) means recently closed items, which stay behind, are
+ * scanned once per run instead of once per chunk.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Moves one keyset chunk per call, atomically</li>
+ *   <li>Replaces an older archived copy of the same uniqueId</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ActionItemArchivePersistenceAdapter implements ArchiveActionItemsPort {
+
+    private static final String COLUMNS = "id, unique_id, title, description, assignee, category, type_code, "
+            + "status, due_date, created_at, updated_at";
+
+    private static final String CANDIDATES = "SELECT id, created_at FROM action_items "
+            + "WHERE status = 'CLOSE' AND updated_at < ? %s "
+            + "ORDER BY created_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MOVE_CHUNK = "WITH candidates AS (%s), "
+            + "moved AS ("
+            + "DELETE FROM action_items ai USING candidates c "
+            + "WHERE ai.id = c.id AND ai.created_at = c.created_at "
+            + "RETURNING ai.*), "
+            + "archived AS ("
+            + "INSERT INTO action_items_archive (" + COLUMNS + ", archived_at) "
+            + "SELECT " + COLUMNS + ", now() FROM moved "
+            + "ON CONFLICT (unique_id) DO UPDATE SET id = EXCLUDED.id, title = EXCLUDED.title, "
+            + "description = EXCLUDED.description, assignee = EXCLUDED.assignee, category = EXCLUDED.category, "
+            + "type_code = EXCLUDED.type_code, status = EXCLUDED.status, due_date = EXCLUDED.due_date, "
+            + "created_at = EXCLUDED.created_at, updated_at = EXCLUDED.updated_at, archived_at = EXCLUDED.archived_at) "
+            + "SELECT count(*) OVER (), created_at, id FROM moved "
+            + "ORDER BY created_at DESC, id DESC LIMIT 1";
+
+    private static final String FIRST_CHUNK = String.format(MOVE_CHUNK, String.format(CANDIDATES, ""));
+    private static final String NEXT_CHUNK = String.format(MOVE_CHUNK,
+            String.format(CANDIDATES, "AND (created_at, id) > (?, CAST(? AS uuid))"));
+
+    private static final RowMapper<ArchiveChunk> CHUNK_MAPPER = (resultSet, rowNum) -> ArchiveChunk.builder()
+            .archived(resultSet.getInt(1))
+            .lastCreatedAt(resultSet.getTimestamp(2).toLocalDateTime())
+            .lastId(resultSet.getString(3))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActionItemArchivePersistenceAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public ArchiveChunk archiveClosedItems(LocalDateTime closedBefore, ArchiveChunk after, int limit) {
+        List<ArchiveChunk> result = after == null || after.getLastId() == null
+                ? jdbcTemplate.query(FIRST_CHUNK, CHUNK_MAPPER, closedBefore, limit)
+                : jdbcTemplate.query(NEXT_CHUNK, CHUNK_MAPPER,
+                        closedBefore, after.getLastCreatedAt(), after.getLastId(), limit);
+
+        // No rows moved: keep the previous position so a caller that continues does not restart
+        ArchiveChunk chunk = result.isEmpty()
+                ? ArchiveChunk.builder()
+                        .archived(0)
+                        .lastCreatedAt(after != null ? after.getLastCreatedAt() : null)
+                        .lastId(after != null ? after.getLastId() : null)
+                        .build()
+                : result.get(0);
+        log.debug("Archived {} closed action items up to ({}, {})",
+                chunk.getArchived(), chunk.getLastCreatedAt(), chunk.getLastId());
+        return chunk;
+    }
+}
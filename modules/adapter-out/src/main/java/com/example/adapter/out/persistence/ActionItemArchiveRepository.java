@@ -0,0 +1,42 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ActionItemStatus;
+import com.example.domain.model.ActionItemStatusCount;
+import com.example.domain.model.TypeCodeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ActionItemArchiveRepository extends JpaRepository<ActionItemArchiveJpaEntity, UUID> {
+
+    /**
+     * Find an archived action item by its business unique identifier.
+     *
+     * @param uniqueId the business unique identifier
+     * @return Optional containing the archived action item if found
+     */
+    Optional<ActionItemArchiveJpaEntity> findByUniqueId(String uniqueId);
+
+    /**
+     * Count archived action items grouped by category, typeCode, assignee and status.
+     *
+     * @return List of ActionItemStatusCount, one per distinct combination
+     */
+    @Query("SELECT new com.example.domain.model.ActionItemStatusCount(a.category, a.typeCode, a.assignee, a.status, COUNT(a)) "
+            + "FROM ActionItemArchiveJpaEntity a GROUP BY a.category, a.typeCode, a.assignee, a.status")
+    List<ActionItemStatusCount> countByCategoryTypeCodeAssigneeAndStatus();
+
+    /**
+     * Count archived action items per typeCode for a status.
+     *
+     * @param status the ActionItemStatus to filter by
+     * @return List of TypeCodeCount, one per typeCode
+     */
+    @Query("SELECT new com.example.domain.model.TypeCodeCount(a.typeCode, COUNT(a)) "
+            + "FROM ActionItemArchiveJpaEntity a WHERE a.status = :status GROUP BY a.typeCode")
+    List<TypeCodeCount> countByTypeCodeForStatus(@Param("status") ActionItemStatus status);
+}
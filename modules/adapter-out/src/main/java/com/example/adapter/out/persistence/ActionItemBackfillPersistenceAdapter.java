@@ -0,0 +1,176 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ActionItem;
+import com.example.port.out.MergeActionItemsPort;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistence adapter that merges backfill chunks with binary {@code COPY} and set-based statements.
+ * <p>
+ * A chunk is streamed in the binary COPY format into a session-local staging table, tagged with
+ * its position in the chunk, and reduced to the latest state per uniqueId. action_items is
+ * partitioned and has no unique index on unique_id to upsert against, so the merge is set-based:
+ * move archived items with an older updatedAt out of action_items_archive (they get their archived
+ * id and createdAt back) and drop the rows whose archived copy is newer, claim new uniqueIds in
+ * action_item_keys, update stored rows whose updatedAt is older (located through their key, one
+ * partition each), and insert the rows whose key was claimed. Stored and restored rows keep their
+ * id and createdAt, like the per-record update path. Unless the outbox is disabled, the update
+ * and insert statements also record each creation and status change in action_item_outbox, with
+ * the status before the merge read from the stored or archived row.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Encodes domain models as binary COPY rows</li>
+ *   <li>Resolves last-write-wins per uniqueId inside the chunk and against stored data</li>
+ *   <li>Never creates a live row next to an archived copy of the same uniqueId</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ActionItemBackfillPersistenceAdapter implements MergeActionItemsPort {
+
+    private static final int FIELD_COUNT = 12;
+    private static final String COLUMNS =
+            "id, unique_id, title, description, assignee, category, type_code, status, due_date, created_at, updated_at";
+    private static final String CREATE_STAGING = "CREATE TEMP TABLE IF NOT EXISTS action_items_backfill ("
+            + "seq BIGINT NOT NULL, id UUID, unique_id VARCHAR(255), title VARCHAR(255), description TEXT, "
+            + "assignee VARCHAR(255), category VARCHAR(100), type_code VARCHAR(100), status VARCHAR(20), "
+            + "due_date TIMESTAMP, created_at TIMESTAMP, updated_at TIMESTAMP, restored_status VARCHAR(20)) "
+            + "ON COMMIT DELETE ROWS";
+    private static final String COPY_STAGING =
+            "COPY action_items_backfill (seq, " + COLUMNS + ") FROM STDIN WITH (FORMAT binary)";
+    private static final String KEEP_LATEST = "DELETE FROM action_items_backfill s USING action_items_backfill t "
+            + "WHERE t.unique_id = s.unique_id AND (t.updated_at, t.seq) > (s.updated_at, s.seq)";
+    private static final String RESTORE_ARCHIVED = "WITH restored AS ("
+            + "DELETE FROM action_items_archive a USING action_items_backfill s "
+            + "WHERE a.unique_id = s.unique_id AND a.updated_at < s.updated_at "
+            + "AND NOT EXISTS (SELECT 1 FROM action_item_keys k WHERE k.unique_id = s.unique_id) "
+            + "RETURNING a.unique_id, a.id, a.created_at, a.status) "
+            + "UPDATE action_items_backfill s SET id = r.id, created_at = r.created_at, restored_status = r.status "
+            + "FROM restored r WHERE s.unique_id = r.unique_id";
+    private static final String SKIP_ARCHIVED = "DELETE FROM action_items_backfill s "
+            + "USING action_items_archive a WHERE a.unique_id = s.unique_id";
+    private static final String CLAIM_KEYS = "INSERT INTO action_item_keys (unique_id, id, created_at) "
+            + "SELECT unique_id, id, created_at FROM action_items_backfill "
+            + "ON CONFLICT (unique_id) DO NOTHING";
+    // The second reference to action_items ("old") reads the row as it was before the update
+    private static final String UPDATE_EXISTING = "WITH updated AS ("
+            + "UPDATE action_items ai SET "
+            + "title = s.title, description = s.description, assignee = s.assignee, "
+            + "category = s.category, type_code = s.type_code, status = s.status, "
+            + "due_date = s.due_date, updated_at = s.updated_at "
+            + "FROM action_items_backfill s JOIN action_item_keys k ON k.unique_id = s.unique_id "
+            + "JOIN action_items old ON old.id = k.id AND old.created_at = k.created_at "
+            + "WHERE k.id <> s.id AND ai.id = k.id AND ai.created_at = k.created_at "
+            + "AND ai.updated_at < s.updated_at "
+            + "RETURNING ai.id, ai.unique_id, old.status AS previous_status, ai.status, ai.category, "
+            + "ai.type_code, ai.assignee, ai.updated_at)%s "
+            + "SELECT count(*) FROM updated";
+    private static final String OUTBOX_UPDATED = ", outbox AS ("
+            + "INSERT INTO action_item_outbox (" + ActionItemOutboxPersistenceAdapter.INSERT_COLUMNS + ") "
+            + "SELECT id, unique_id, previous_status, status, category, type_code, assignee, updated_at, LOCALTIMESTAMP "
+            + "FROM updated WHERE previous_status <> status)";
+    private static final String INSERT_CLAIMED = "WITH inserted AS ("
+            + "INSERT INTO action_items (" + COLUMNS + ") "
+            + "SELECT s." + COLUMNS.replace(", ", ", s.") + " FROM action_items_backfill s "
+            + "JOIN action_item_keys k ON k.unique_id = s.unique_id AND k.id = s.id "
+            + "RETURNING id, unique_id, status, category, type_code, assignee, updated_at)%s "
+            + "SELECT count(*) FROM inserted";
+    private static final String OUTBOX_INSERTED = ", outbox AS ("
+            + "INSERT INTO action_item_outbox (" + ActionItemOutboxPersistenceAdapter.INSERT_COLUMNS + ") "
+            + "SELECT i.id, i.unique_id, s.restored_status, i.status, i.category, i.type_code, i.assignee, "
+            + "i.updated_at, LOCALTIMESTAMP "
+            + "FROM inserted i JOIN action_items_backfill s ON s.unique_id = i.unique_id "
+            + "WHERE s.restored_status IS DISTINCT FROM i.status)";
+    private static final int COPY_BUFFER_SIZE = 65536;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateExisting;
+    private final String insertClaimed;
+
+    public ActionItemBackfillPersistenceAdapter(DataSource dataSource,
+                                                @Value("${action-items.outbox.enabled:true}") boolean outboxEnabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.updateExisting = String.format(UPDATE_EXISTING, outboxEnabled ? OUTBOX_UPDATED : "");
+        this.insertClaimed = String.format(INSERT_CLAIMED, outboxEnabled ? OUTBOX_INSERTED : "");
+    }
+
+    @Override
+    @Transactional
+    public int mergeActionItems(List<ActionItem> actionItems) {
+        if (actionItems.isEmpty()) {
+            return 0;
+        }
+        Integer merged = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+            }
+            copyToStaging(connection, actionItems);
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(KEEP_LATEST);
+                statement.executeUpdate(RESTORE_ARCHIVED);
+                statement.executeUpdate(SKIP_ARCHIVED);
+                statement.executeUpdate(CLAIM_KEYS);
+                return count(statement, updateExisting) + count(statement, insertClaimed);
+            }
+        });
+        log.debug("Merged {} of {} backfilled action items", merged, actionItems.size());
+        return merged != null ? merged : 0;
+    }
+
+    private static int count(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private void copyToStaging(Connection connection, List<ActionItem> actionItems) throws SQLException {
+        PGCopyOutputStream copyOut = new PGCopyOutputStream(
+                connection.unwrap(PGConnection.class), COPY_STAGING, COPY_BUFFER_SIZE);
+        try {
+            PgBinaryCopyWriter writer = new PgBinaryCopyWriter(copyOut);
+            long seq = 0;
+            for (ActionItem actionItem : actionItems) {
+                writer.startRow(FIELD_COUNT);
+                writer.writeBigint(seq++);
+                writer.writeUuid(UUID.fromString(actionItem.getId()));
+                writer.writeText(actionItem.getUniqueId());
+                writer.writeText(actionItem.getTitle());
+                writer.writeText(actionItem.getDescription());
+                writer.writeText(actionItem.getAssignee());
+                writer.writeText(actionItem.getCategory());
+                writer.writeText(actionItem.getTypeCode());
+                writer.writeText(actionItem.getStatus().name());
+                writer.writeTimestamp(actionItem.getDueDate());
+                writer.writeTimestamp(actionItem.getCreatedAt());
+                writer.writeTimestamp(actionItem.getUpdatedAt());
+            }
+            writer.finish();
+            copyOut.endCopy();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream backfill chunk to COPY", e);
+        } finally {
+            if (copyOut.isActive()) {
+                copyOut.cancelCopy();
+            }
+        }
+    }
+}
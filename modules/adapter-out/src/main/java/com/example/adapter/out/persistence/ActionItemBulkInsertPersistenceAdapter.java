@@ -0,0 +1,150 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ActionItem;
+import com.example.port.out.BulkInsertActionItemsPort;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persistence adapter that loads batches of new action items with PostgreSQL {@code COPY}.
+ * <p>
+ * Each batch is streamed with {@code COPY ... FROM STDIN} into a session-local staging table. Its
+ * uniqueIds are then claimed in the action_item_keys registry with {@code ON CONFLICT DO NOTHING}
+ * (action_items is partitioned and has no unique index on unique_id), and only rows whose key was
+ * claimed are moved into action_items. This keeps COPY throughput while still skipping uniqueIds
+ * that already exist, live or archived, which COPY alone cannot do. The same statement records a
+ * creation in action_item_outbox for every inserted row, unless the outbox is disabled. The
+ * staging table is created once per pooled connection and emptied on commit.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Encodes domain models as CSV rows for COPY</li>
+ *   <li>Inserts only new uniqueIds and reports which ones were inserted</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ActionItemBulkInsertPersistenceAdapter implements BulkInsertActionItemsPort {
+
+    private static final String COLUMNS =
+            "id, unique_id, title, description, assignee, category, type_code, status, due_date, created_at, updated_at";
+    private static final String CREATE_STAGING = "CREATE TEMP TABLE IF NOT EXISTS action_items_import "
+            + "(LIKE action_items INCLUDING DEFAULTS) ON COMMIT DELETE ROWS";
+    private static final String COPY_STAGING = "COPY action_items_import (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    private static final String CLAIM_KEYS = "INSERT INTO action_item_keys (unique_id, id, created_at) "
+            + "SELECT s.unique_id, s.id, s.created_at FROM action_items_import s "
+            + "WHERE NOT EXISTS (SELECT 1 FROM action_items_archive a WHERE a.unique_id = s.unique_id) "
+            + "ON CONFLICT (unique_id) DO NOTHING";
+    private static final String MERGE_STAGING = "WITH inserted AS ("
+            + "INSERT INTO action_items (" + COLUMNS + ") "
+            + "SELECT s." + COLUMNS.replace(", ", ", s.") + " FROM action_items_import s "
+            + "JOIN action_item_keys k ON k.unique_id = s.unique_id AND k.id = s.id "
+            + "RETURNING id, unique_id, status, category, type_code, assignee, updated_at)%s "
+            + "SELECT unique_id FROM inserted";
+    private static final String OUTBOX_INSERTED = ", outbox AS ("
+            + "INSERT INTO action_item_outbox (" + ActionItemOutboxPersistenceAdapter.INSERT_COLUMNS + ") "
+            + "SELECT id, unique_id, NULL, status, category, type_code, assignee, updated_at, LOCALTIMESTAMP "
+            + "FROM inserted)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String mergeStaging;
+
+    public ActionItemBulkInsertPersistenceAdapter(DataSource dataSource,
+                                                  @Value("${action-items.outbox.enabled:true}") boolean outboxEnabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.mergeStaging = String.format(MERGE_STAGING, outboxEnabled ? OUTBOX_INSERTED : "");
+    }
+
+    @Override
+    @Transactional
+    public List<String> insertActionItems(List<ActionItem> actionItems) {
+        if (actionItems.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+            }
+            copyToStaging(connection, actionItems);
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(CLAIM_KEYS);
+            }
+
+            List<String> inserted = new ArrayList<>(actionItems.size());
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(mergeStaging)) {
+                while (resultSet.next()) {
+                    inserted.add(resultSet.getString(1));
+                }
+            }
+            log.debug("Bulk inserted {} of {} action items", inserted.size(), actionItems.size());
+            return inserted;
+        });
+    }
+
+    private void copyToStaging(Connection connection, List<ActionItem> actionItems) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+        try {
+            StringBuilder line = new StringBuilder(512);
+            for (ActionItem actionItem : actionItems) {
+                line.setLength(0);
+                appendField(line, actionItem.getId()).append(',');
+                appendField(line, actionItem.getUniqueId()).append(',');
+                appendField(line, actionItem.getTitle()).append(',');
+                appendField(line, actionItem.getDescription()).append(',');
+                appendField(line, actionItem.getAssignee()).append(',');
+                appendField(line, actionItem.getCategory()).append(',');
+                appendField(line, actionItem.getTypeCode()).append(',');
+                appendField(line, actionItem.getStatus().name()).append(',');
+                appendTimestamp(line, actionItem.getDueDate()).append(',');
+                appendTimestamp(line, actionItem.getCreatedAt()).append(',');
+                appendTimestamp(line, actionItem.getUpdatedAt()).append('\n');
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Appends a CSV field; null stays unquoted so COPY reads it as NULL, everything else is quoted.
+     */
+    private static StringBuilder appendField(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    private static StringBuilder appendTimestamp(StringBuilder line, LocalDateTime value) {
+        return value != null ? line.append(value) : line;
+    }
+}
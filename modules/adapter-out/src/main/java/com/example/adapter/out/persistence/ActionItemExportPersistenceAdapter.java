@@ -0,0 +1,83 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import com.example.port.out.StreamActionItemsPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Persistence adapter that streams action items through a server-side JDBC cursor.
+ * <p>
+ * Bypasses JPA so no entities are attached to a persistence context, and sets a fetch size so
+ * the PostgreSQL driver pulls rows in fixed-size batches instead of loading the full result.
+ * Each row is mapped and handed to the sink before the next is read, so memory stays constant
+ * and a slow sink (e.g. a client socket) throttles the database read.
+ * <p>
+ * <b>Usage:</b> Must run inside a transaction (autocommit off), otherwise the driver ignores the
+ * fetch size.
+ */
+@Component
+@Slf4j
+public class ActionItemExportPersistenceAdapter implements StreamActionItemsPort {
+
+    private static final String SELECT_ALL = "SELECT id, unique_id, title, description, assignee, category, "
+            + "type_code, status, due_date, created_at, updated_at FROM action_items";
+    private static final String ORDER_BY = " ORDER BY created_at, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActionItemExportPersistenceAdapter(
+            DataSource dataSource,
+            @Value("${action-items.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public long streamActionItems(ActionItemStatus status, Consumer<ActionItem> sink) {
+        AtomicLong count = new AtomicLong();
+        RowCallbackHandler handler = resultSet -> {
+            sink.accept(toDomain(resultSet));
+            count.incrementAndGet();
+        };
+
+        if (status != null) {
+            jdbcTemplate.query(SELECT_ALL + " WHERE status = ?" + ORDER_BY, handler, status.name());
+        } else {
+            jdbcTemplate.query(SELECT_ALL + ORDER_BY, handler);
+        }
+        return count.get();
+    }
+
+    private static ActionItem toDomain(ResultSet resultSet) throws SQLException {
+        return ActionItem.builder()
+                .id(resultSet.getString("id"))
+                .uniqueId(resultSet.getString("unique_id"))
+                .title(resultSet.getString("title"))
+                .description(resultSet.getString("description"))
+                .assignee(resultSet.getString("assignee"))
+                .category(resultSet.getString("category"))
+                .typeCode(resultSet.getString("type_code"))
+                .status(ActionItemStatus.valueOf(resultSet.getString("status")))
+                .dueDate(toLocalDateTime(resultSet.getTimestamp("due_date")))
+                .createdAt(toLocalDateTime(resultSet.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(resultSet.getTimestamp("updated_at")))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.adapter.out.persistence;
+
+import com.example.commons.id.UuidV7;
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import com.example.domain.model.TypeCodeCount;
+import com.example.port.out.SaveActionItemPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain-JDBC alternative to {@link ActionItemPersistenceAdapter}, active with
+ * {@code action-items.store.type=jdbc} (or the jdbc-store profile), where it becomes the
+ * {@link SaveActionItemPort}.
+ * <p>
+ * Works on the same tables with the same rules, but without managed entities: rows are mapped
+ * straight to {@link ActionItem}, nothing is copied through a mapper, dirty-checked or flushed,
+ * and every port call is one statement with fixed SQL, so the driver's per-connection statement
+ * cache keeps them server-side prepared. Calls that take several statements under JPA are single
+ * round trips here:
+ * <ul>
+ *   <li>saving updates the live row or, if there is none, inserts it, in one data-modifying CTE
+ *       (JPA: a lookup, then a merge that selects again before its INSERT or UPDATE)</li>
+ *   <li>a lookup probes the live row through action_item_keys and the archive in one query</li>
+ *   <li>restoring an archived item on a newer update deletes it from the archive and inserts
+ *       it into action_items in one statement</li>
+ * </ul>
+ * Like the JPA adapter it relies on the caller's transaction, and a new item gets a UUIDv7 id
+ * when it arrives without one.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "action-items.store.type", havingValue = "jdbc")
+@Slf4j
+public class ActionItemJdbcPersistenceAdapter implements SaveActionItemPort {
+
+    private static final String COUNTERS_SOURCE = "counters";
+
+    private static final String COLUMNS =
+            "id, unique_id, title, description, assignee, category, type_code, status, due_date, created_at, updated_at";
+
+    private static final String LIVE_ROW = "unique_id = ? AND created_at = "
+            + "(SELECT k.created_at FROM action_item_keys k WHERE k.unique_id = ?)";
+
+    private static final String SAVE = "WITH updated AS ("
+            + "UPDATE action_items SET title = ?, description = ?, assignee = ?, category = ?, type_code = ?, "
+            + "status = ?, due_date = ?, updated_at = ? WHERE " + LIVE_ROW + " RETURNING " + COLUMNS + "), "
+            + "inserted AS (INSERT INTO action_items (" + COLUMNS + ") "
+            + "SELECT CAST(? AS uuid), ?, ?, ?, ?, ?, ?, ?, CAST(? AS timestamp), CAST(? AS timestamp), CAST(? AS timestamp) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM updated) "
+            + "RETURNING " + COLUMNS + ") "
+            + "SELECT " + COLUMNS + " FROM updated UNION ALL SELECT " + COLUMNS + " FROM inserted";
+
+    private static final String UPDATE_IF_NEWER = "UPDATE action_items SET title = ?, description = ?, assignee = ?, "
+            + "category = ?, type_code = ?, status = ?, due_date = ?, updated_at = ? "
+            + "WHERE " + LIVE_ROW + " AND (updated_at IS NULL OR updated_at < ?)";
+
+    private static final String RESTORE_FROM_ARCHIVE = "WITH restored AS ("
+            + "DELETE FROM action_items_archive a WHERE a.unique_id = ? AND a.updated_at < ? "
+            + "AND NOT EXISTS (SELECT 1 FROM action_item_keys k WHERE k.unique_id = a.unique_id) "
+            + "RETURNING a.id, a.created_at) "
+            + "INSERT INTO action_items (" + COLUMNS + ") "
+            + "SELECT id, ?, ?, ?, ?, ?, ?, ?, CAST(? AS timestamp), created_at, CAST(? AS timestamp) FROM restored";
+
+    private static final String FIND = "SELECT " + COLUMNS + " FROM ("
+            + "SELECT " + COLUMNS + ", 0 AS archived FROM action_items WHERE " + LIVE_ROW
+            + " UNION ALL "
+            + "SELECT " + COLUMNS + ", 1 AS archived FROM action_items_archive WHERE unique_id = ?"
+            + ") found ORDER BY archived LIMIT 1";
+
+    private static final String COUNT_BY_TYPE_CODE = "SELECT type_code, count(*) FROM ("
+            + "SELECT type_code FROM action_items WHERE status = ? "
+            + "UNION ALL SELECT type_code FROM action_items_archive WHERE status = ?"
+            + ") items GROUP BY type_code ORDER BY count(*) DESC";
+
+    private static final String TYPE_CODE_COUNTERS = "SELECT type_code, item_count FROM action_item_type_code_counts "
+            + "WHERE status = ? AND item_count > 0 ORDER BY item_count DESC";
+
+    private static final RowMapper<ActionItem> ACTION_ITEM_ROW_MAPPER = (resultSet, rowNum) -> ActionItem.builder()
+            .id(resultSet.getString(1))
+            .uniqueId(resultSet.getString(2))
+            .title(resultSet.getString(3))
+            .description(resultSet.getString(4))
+            .assignee(resultSet.getString(5))
+            .category(resultSet.getString(6))
+            .typeCode(resultSet.getString(7))
+            .status(ActionItemStatus.valueOf(resultSet.getString(8)))
+            .dueDate(toLocalDateTime(resultSet.getTimestamp(9)))
+            .createdAt(toLocalDateTime(resultSet.getTimestamp(10)))
+            .updatedAt(toLocalDateTime(resultSet.getTimestamp(11)))
+            .build();
+
+    private static final RowMapper<TypeCodeCount> TYPE_CODE_COUNT_ROW_MAPPER =
+            (resultSet, rowNum) -> TypeCodeCount.builder()
+                    .typeCode(resultSet.getString(1))
+                    .count(resultSet.getLong(2))
+                    .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Where typeCode counts are read from: "aggregate" runs a GROUP BY over action_items and
+     * action_items_archive, "counters" reads the trigger-maintained action_item_type_code_counts table.
+     */
+    @Value("${action-items.type-code-counts.source:aggregate}")
+    private String typeCodeCountsSource;
+
+    public ActionItemJdbcPersistenceAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public ActionItem saveActionItem(ActionItem actionItem) {
+        log.debug("Saving action item with uniqueId: {}", actionItem.getUniqueId());
+        LocalDateTime updatedAt = actionItem.getUpdatedAt() != null ? actionItem.getUpdatedAt() : LocalDateTime.now();
+        return jdbcTemplate.queryForObject(SAVE, ACTION_ITEM_ROW_MAPPER,
+                actionItem.getTitle(),
+                actionItem.getDescription(),
+                actionItem.getAssignee(),
+                actionItem.getCategory(),
+                actionItem.getTypeCode(),
+                actionItem.getStatus().name(),
+                toTimestamp(actionItem.getDueDate()),
+                toTimestamp(updatedAt),
+                actionItem.getUniqueId(),
+                actionItem.getUniqueId(),
+                actionItem.getId() != null ? actionItem.getId() : UuidV7.nextString(),
+                actionItem.getUniqueId(),
+                actionItem.getTitle(),
+                actionItem.getDescription(),
+                actionItem.getAssignee(),
+                actionItem.getCategory(),
+                actionItem.getTypeCode(),
+                actionItem.getStatus().name(),
+                toTimestamp(actionItem.getDueDate()),
+                toTimestamp(actionItem.getCreatedAt() != null ? actionItem.getCreatedAt() : updatedAt),
+                toTimestamp(updatedAt));
+    }
+
+    @Override
+    public boolean updateActionItemIfNewer(ActionItem actionItem) {
+        log.debug("Conditionally updating action item with uniqueId: {} to updatedAt: {}",
+                actionItem.getUniqueId(), actionItem.getUpdatedAt());
+        Timestamp updatedAt = toTimestamp(actionItem.getUpdatedAt());
+        int updated = jdbcTemplate.update(UPDATE_IF_NEWER,
+                actionItem.getTitle(),
+                actionItem.getDescription(),
+                actionItem.getAssignee(),
+                actionItem.getCategory(),
+                actionItem.getTypeCode(),
+                actionItem.getStatus().name(),
+                toTimestamp(actionItem.getDueDate()),
+                updatedAt,
+                actionItem.getUniqueId(),
+                actionItem.getUniqueId(),
+                updatedAt);
+        if (updated > 0) {
+            return true;
+        }
+        if (updatedAt == null) {
+            return false;
+        }
+        int restored = jdbcTemplate.update(RESTORE_FROM_ARCHIVE,
+                actionItem.getUniqueId(),
+                updatedAt,
+                actionItem.getUniqueId(),
+                actionItem.getTitle(),
+                actionItem.getDescription(),
+                actionItem.getAssignee(),
+                actionItem.getCategory(),
+                actionItem.getTypeCode(),
+                actionItem.getStatus().name(),
+                toTimestamp(actionItem.getDueDate()),
+                updatedAt);
+        if (restored > 0) {
+            log.info("Restored archived action item with uniqueId: {} to action_items", actionItem.getUniqueId());
+        }
+        return restored > 0;
+    }
+
+    @Override
+    public Optional<ActionItem> findByUniqueId(String uniqueId) {
+        log.debug("Finding action item by uniqueId: {}", uniqueId);
+        return jdbcTemplate.query(FIND, ACTION_ITEM_ROW_MAPPER, uniqueId, uniqueId, uniqueId).stream().findFirst();
+    }
+
+    @Override
+    public List<TypeCodeCount> getTypeCodesByCountAndStatus(ActionItemStatus status) {
+        log.debug("Getting typeCodes by count for status: {} from {}", status, typeCodeCountsSource);
+        if (COUNTERS_SOURCE.equals(typeCodeCountsSource)) {
+            return jdbcTemplate.query(TYPE_CODE_COUNTERS, TYPE_CODE_COUNT_ROW_MAPPER, status.name());
+        }
+        return jdbcTemplate.query(COUNT_BY_TYPE_CODE, TYPE_CODE_COUNT_ROW_MAPPER, status.name(), status.name());
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
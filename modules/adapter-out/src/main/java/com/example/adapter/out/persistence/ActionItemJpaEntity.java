@@ -6,13 +6,14 @@ import jakarta.persistence.Table;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Column;
-import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Index;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 import com.example.domain.model.ActionItemStatus;
 
 /**
@@ -22,13 +23,15 @@ import com.example.domain.model.ActionItemStatus;
  *
  * Key features:
  * - Maps to 'action_items' table in the database
- * - Uses String-based UUID as primary key
+ * - Uses a native uuid primary key (time-ordered UUIDv7 for new rows)
  * - Stores temporal data using LocalDateTime
  * - Uses enumerated type for status
- * - Enforces unique constraint on uniqueId to ensure only one record per business entity
+ * - Range-partitioned by createdAt; uniqueId is kept unique by the action_item_keys registry
+ *   (see {@link ActionItemKeyJpaEntity}), since partitioned tables only allow unique keys that
+ *   contain the partition key
  *
  * Database Schema:
- * - id: Primary key (UUID as String)
+ * - id: Primary key (uuid)
  * - uniqueId: Business unique identifier (unique constraint)
  * - title: Task title
  * - description: Detailed task description
@@ -43,8 +46,11 @@ import com.example.domain.model.ActionItemStatus;
  * @see com.example.domain.model.ActionItemStatus
  */
 @Entity
-@Table(name = "action_items", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"uniqueId"})
+@Table(name = "action_items", indexes = {
+    @Index(name = "idx_action_items_status_type_code", columnList = "status, typeCode"),
+    @Index(name = "idx_action_items_created_id", columnList = "createdAt, id"),
+    @Index(name = "idx_action_items_status_category_type_created", columnList = "status, category, typeCode, createdAt, id"),
+    @Index(name = "idx_action_items_assignee_status_created", columnList = "assignee, status, createdAt, id")
 })
 @Data
 @Builder
@@ -54,7 +60,7 @@ public class ActionItemJpaEntity {
 
     /** Unique identifier for the action item */
     @Id
-    private String id;
+    private UUID id;
 
     /** Business unique identifier for the action item */
     @Column(name = "uniqueId", nullable = false)
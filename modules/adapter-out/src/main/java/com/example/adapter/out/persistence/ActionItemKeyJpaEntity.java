@@ -0,0 +1,42 @@
+package com.example.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only JPA mapping of the action_item_keys registry.
+ * <p>
+ * action_items is partitioned by createdAt, so unique_id cannot carry a unique constraint there.
+ * This table holds one row per action item (maintained by the {@code trg_action_item_keys} trigger),
+ * enforcing uniqueness and resolving the partition key for lookups by uniqueId.
+ * <p>
+ * <b>Usage:</b> Referenced from repository queries to prune action_items to a single partition.
+ */
+@Entity
+@Immutable
+@Table(name = "action_item_keys")
+@Getter
+@NoArgsConstructor
+public class ActionItemKeyJpaEntity {
+
+    /** Business unique identifier of the action item */
+    @Id
+    @Column(name = "unique_id")
+    private String uniqueId;
+
+    /** Primary key of the action item */
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    /** Partition key of the action item */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
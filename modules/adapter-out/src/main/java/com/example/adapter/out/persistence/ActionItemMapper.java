@@ -3,6 +3,8 @@ package com.example.adapter.out.persistence;
 import com.example.domain.model.ActionItem;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 /**
  * Maps between ActionItem domain models and JPA entities for persistence operations.
  * <p>
@@ -23,7 +25,7 @@ public class ActionItemMapper {
 
     public ActionItemJpaEntity toJpaEntity(ActionItem domain) {
         return ActionItemJpaEntity.builder()
-                .id(domain.getId())
+                .id(UUID.fromString(domain.getId()))
                 .uniqueId(domain.getUniqueId())
                 .title(domain.getTitle())
                 .description(domain.getDescription())
@@ -39,7 +41,23 @@ public class ActionItemMapper {
 
     public ActionItem toDomainEntity(ActionItemJpaEntity entity) {
         return ActionItem.builder()
-                .id(entity.getId())
+                .id(entity.getId().toString())
+                .uniqueId(entity.getUniqueId())
+                .title(entity.getTitle())
+                .description(entity.getDescription())
+                .assignee(entity.getAssignee())
+                .category(entity.getCategory())
+                .typeCode(entity.getTypeCode())
+                .status(entity.getStatus())
+                .dueDate(entity.getDueDate())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    public ActionItem toDomainEntity(ActionItemArchiveJpaEntity entity) {
+        return ActionItem.builder()
+                .id(entity.getId().toString())
                 .uniqueId(entity.getUniqueId())
                 .title(entity.getTitle())
                 .description(entity.getDescription())
@@ -0,0 +1,107 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ActionItemStateChange;
+import com.example.domain.model.ActionItemStatus;
+import com.example.port.out.ActionItemOutboxPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Persistence adapter for the action_item_outbox table.
+ * <p>
+ * Appends are plain INSERTs through the connection of the surrounding transaction. The relay
+ * works in two short transactions around the publish, so no connection or lock is held while
+ * waiting for Kafka: a claim takes or extends the lease in the single-row action_item_outbox_relay
+ * table, so only one instance relays at a time, and reads the oldest rows by primary key; once
+ * they are published, exactly those rows are deleted with one {@code DELETE ... WHERE id = ANY(?)}.
+ * Rows are deleted by id rather than by id range, because a transaction that took a lower id may
+ * commit after the batch was read. Lease times come from the database clock.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Records state changes in the caller's transaction</li>
+ *   <li>Hands out the relay lease and reads the next batch for its holder</li>
+ *   <li>Deletes published state changes</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ActionItemOutboxPersistenceAdapter implements ActionItemOutboxPort {
+
+    /** Columns written per state change; also used by the set-based insert and merge paths. */
+    static final String INSERT_COLUMNS =
+            "action_item_id, unique_id, previous_status, status, category, type_code, assignee, version, recorded_at";
+    private static final String INSERT = "INSERT INTO action_item_outbox (" + INSERT_COLUMNS + ") "
+            + "VALUES (CAST(? AS uuid), ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String TAKE_LEASE = "INSERT INTO action_item_outbox_relay (id, holder, lease_until) "
+            + "VALUES (1, ?, LOCALTIMESTAMP + ? * INTERVAL '1 millisecond') "
+            + "ON CONFLICT (id) DO UPDATE SET holder = EXCLUDED.holder, lease_until = EXCLUDED.lease_until "
+            + "WHERE action_item_outbox_relay.holder = EXCLUDED.holder "
+            + "OR action_item_outbox_relay.lease_until < LOCALTIMESTAMP";
+    private static final String SELECT_BATCH = "SELECT id, action_item_id, unique_id, previous_status, status, "
+            + "category, type_code, assignee, version, recorded_at FROM action_item_outbox ORDER BY id LIMIT ?";
+    private static final String DELETE_BATCH = "DELETE FROM action_item_outbox WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActionItemOutboxPersistenceAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void append(ActionItemStateChange change) {
+        jdbcTemplate.update(INSERT,
+                change.getActionItemId(),
+                change.getUniqueId(),
+                change.getPreviousStatus() != null ? change.getPreviousStatus().name() : null,
+                change.getStatus().name(),
+                change.getCategory(),
+                change.getTypeCode(),
+                change.getAssignee(),
+                Timestamp.valueOf(change.getVersion()),
+                Timestamp.valueOf(change.getRecordedAt()));
+    }
+
+    @Override
+    @Transactional
+    public List<ActionItemStateChange> claimBatch(String relayId, long leaseMs, int limit) {
+        if (jdbcTemplate.update(TAKE_LEASE, relayId, leaseMs) == 0) {
+            log.debug("Outbox relay lease is held by another instance");
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_BATCH, (resultSet, rowNum) -> ActionItemStateChange.builder()
+                .eventId(resultSet.getLong("id"))
+                .actionItemId(resultSet.getString("action_item_id"))
+                .uniqueId(resultSet.getString("unique_id"))
+                .previousStatus(toStatus(resultSet.getString("previous_status")))
+                .status(toStatus(resultSet.getString("status")))
+                .category(resultSet.getString("category"))
+                .typeCode(resultSet.getString("type_code"))
+                .assignee(resultSet.getString("assignee"))
+                .version(resultSet.getTimestamp("version").toLocalDateTime())
+                .recordedAt(resultSet.getTimestamp("recorded_at").toLocalDateTime())
+                .build(), limit);
+    }
+
+    @Override
+    @Transactional
+    public void deleteRelayed(List<ActionItemStateChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Long[] eventIds = changes.stream().map(ActionItemStateChange::getEventId).toArray(Long[]::new);
+        int deleted = jdbcTemplate.update(DELETE_BATCH,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("bigint", eventIds)));
+        log.debug("Relayed {} outbox events up to id {}", deleted, eventIds[eventIds.length - 1]);
+    }
+
+    private static ActionItemStatus toStatus(String status) {
+        return status != null ? ActionItemStatus.valueOf(status) : null;
+    }
+}
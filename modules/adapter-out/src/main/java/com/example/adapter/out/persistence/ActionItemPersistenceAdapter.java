@@ -2,34 +2,56 @@ package com.example.adapter.out.persistence;
 
 import com.example.domain.model.ActionItem;
 import com.example.domain.model.ActionItemStatus;
+import com.example.domain.model.ActionItemStatusCount;
 import com.example.domain.model.TypeCodeCount;
+import com.example.port.out.LoadActionItemStatusCountsPort;
 import com.example.port.out.SaveActionItemPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
- * Persistence adapter for Action Items that implements the SaveActionItemPort.
+ * Persistence adapter for Action Items that implements the SaveActionItemPort
+ * and LoadActionItemStatusCountsPort.
  * 
  * This adapter handles the business logic for action item persistence:
  * - Ensures only one record per uniqueId exists at any time
  * - Handles opening and closing of action items
+ * - Rejects stale updates inside the UPDATE statement using the source updatedAt
  * - Maintains proper audit timestamps
+ * - Serves typeCode counts, archived items included, from a database aggregate or the
+ *   incremental counter table
+ * - Falls back to action_items_archive for lookups, and moves an archived item back to
+ *   action_items when a newer update for it arrives
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class ActionItemPersistenceAdapter implements SaveActionItemPort {
+public class ActionItemPersistenceAdapter implements SaveActionItemPort, LoadActionItemStatusCountsPort {
+
+    private static final String COUNTERS_SOURCE = "counters";
 
     private final ActionItemRepository actionItemRepository;
+    private final ActionItemArchiveRepository actionItemArchiveRepository;
     private final ActionItemMapper actionItemMapper;
 
+    /**
+     * Where typeCode counts are read from: "aggregate" runs a GROUP BY over action_items and
+     * action_items_archive, "counters" reads the trigger-maintained action_item_type_code_counts table.
+     */
+    @Value("${action-items.type-code-counts.source:aggregate}")
+    private String typeCodeCountsSource;
+
     @Override
     public ActionItem saveActionItem(ActionItem actionItem) {
         log.debug("Saving action item with uniqueId: {}", actionItem.getUniqueId());
@@ -50,7 +72,7 @@ public class ActionItemPersistenceAdapter implements SaveActionItemPort {
             existing.setTypeCode(actionItem.getTypeCode());
             existing.setStatus(actionItem.getStatus());
             existing.setDueDate(actionItem.getDueDate());
-            existing.setUpdatedAt(LocalDateTime.now());
+            existing.setUpdatedAt(actionItem.getUpdatedAt() != null ? actionItem.getUpdatedAt() : LocalDateTime.now());
             
             ActionItemJpaEntity savedEntity = actionItemRepository.save(existing);
             return actionItemMapper.toDomainEntity(savedEntity);
@@ -63,34 +85,94 @@ public class ActionItemPersistenceAdapter implements SaveActionItemPort {
         }
     }
 
+    @Override
+    public boolean updateActionItemIfNewer(ActionItem actionItem) {
+        log.debug("Conditionally updating action item with uniqueId: {} to updatedAt: {}", 
+                actionItem.getUniqueId(), actionItem.getUpdatedAt());
+        
+        int updated = actionItemRepository.updateIfNewer(
+                actionItem.getUniqueId(),
+                actionItem.getTitle(),
+                actionItem.getDescription(),
+                actionItem.getAssignee(),
+                actionItem.getCategory(),
+                actionItem.getTypeCode(),
+                actionItem.getStatus(),
+                actionItem.getDueDate(),
+                actionItem.getUpdatedAt());
+        return updated > 0 || restoreFromArchiveIfNewer(actionItem);
+    }
+
+    /**
+     * Moves an archived item back to action_items with the update applied, keeping its id and
+     * createdAt, if the update is newer than the archived copy and the item is not live.
+     */
+    private boolean restoreFromArchiveIfNewer(ActionItem actionItem) {
+        Optional<ActionItemArchiveJpaEntity> archived = actionItemArchiveRepository.findByUniqueId(actionItem.getUniqueId());
+        if (archived.isEmpty()
+                || actionItem.getUpdatedAt() == null
+                || !archived.get().getUpdatedAt().isBefore(actionItem.getUpdatedAt())
+                || actionItemRepository.findByUniqueId(actionItem.getUniqueId()).isPresent()) {
+            return false;
+        }
+        ActionItemArchiveJpaEntity archivedEntity = archived.get();
+        actionItemArchiveRepository.delete(archivedEntity);
+        actionItemRepository.save(ActionItemJpaEntity.builder()
+                .id(archivedEntity.getId())
+                .uniqueId(actionItem.getUniqueId())
+                .title(actionItem.getTitle())
+                .description(actionItem.getDescription())
+                .assignee(actionItem.getAssignee())
+                .category(actionItem.getCategory())
+                .typeCode(actionItem.getTypeCode())
+                .status(actionItem.getStatus())
+                .dueDate(actionItem.getDueDate())
+                .createdAt(archivedEntity.getCreatedAt())
+                .updatedAt(actionItem.getUpdatedAt())
+                .build());
+        log.info("Restored archived action item with uniqueId: {} to action_items", actionItem.getUniqueId());
+        return true;
+    }
+
     @Override
     public Optional<ActionItem> findByUniqueId(String uniqueId) {
         log.debug("Finding action item by uniqueId: {}", uniqueId);
         return actionItemRepository.findByUniqueId(uniqueId)
-                .map(actionItemMapper::toDomainEntity);
+                .map(actionItemMapper::toDomainEntity)
+                .or(() -> actionItemArchiveRepository.findByUniqueId(uniqueId)
+                        .map(actionItemMapper::toDomainEntity));
     }
 
     @Override
     public List<TypeCodeCount> getTypeCodesByCountAndStatus(ActionItemStatus status) {
-        log.debug("Getting typeCodes by count for status: {}", status);
-        
-        // Get all typeCodes for the given status
-        List<String> typeCodes = actionItemRepository.findTypeCodesByStatus(status);
+        log.debug("Getting typeCodes by count for status: {} from {}", status, typeCodeCountsSource);
         
-        // Count occurrences of each typeCode
-        Map<String, Long> typeCodeCounts = typeCodes.stream()
-                .collect(Collectors.groupingBy(
-                        typeCode -> typeCode,
-                        Collectors.counting()
-                ));
-        
-        // Convert to TypeCodeCount objects and sort by count descending
-        return typeCodeCounts.entrySet().stream()
-                .map(entry -> TypeCodeCount.builder()
-                        .typeCode(entry.getKey())
-                        .count(entry.getValue())
-                        .build())
-                .sorted((a, b) -> Long.compare(b.getCount(), a.getCount()))
+        if (COUNTERS_SOURCE.equals(typeCodeCountsSource)) {
+            return actionItemRepository.findTypeCodeCounters(status.name()).stream()
+                    .map(counter -> TypeCodeCount.builder()
+                            .typeCode(counter.getTypeCode())
+                            .count(counter.getCount())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+        // Archived items are counted like in the counter table and the live status aggregates
+        Map<String, Long> counts = new HashMap<>();
+        actionItemRepository.countByTypeCodeForStatus(status)
+                .forEach(count -> counts.merge(count.getTypeCode(), count.getCount(), Long::sum));
+        actionItemArchiveRepository.countByTypeCodeForStatus(status)
+                .forEach(count -> counts.merge(count.getTypeCode(), count.getCount(), Long::sum));
+        return counts.entrySet().stream()
+                .map(entry -> TypeCodeCount.builder().typeCode(entry.getKey()).count(entry.getValue()).build())
+                .sorted(Comparator.comparing(TypeCodeCount::getCount).reversed())
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<ActionItemStatusCount> loadStatusCounts() {
+        log.debug("Loading grouped action item status counts");
+        // Archived items stay counted: a restore is recorded as a transition from the archived state
+        List<ActionItemStatusCount> counts = new ArrayList<>(actionItemRepository.countByCategoryTypeCodeAssigneeAndStatus());
+        counts.addAll(actionItemArchiveRepository.countByCategoryTypeCodeAssigneeAndStatus());
+        return counts;
+    }
 }
@@ -0,0 +1,90 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemSearchCriteria;
+import com.example.port.out.QueryActionItemsPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistence adapter for filtered, keyset-paginated action item reads.
+ * <p>
+ * Builds a native query from only the filters that are present, so each combination gets its
+ * own plan and can use the matching composite index on action_items. Pages are located with a
+ * {@code (created_at, id) > (?, ?)} row-value seek predicate instead of OFFSET, so a page costs
+ * O(page size) however deep it is.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Translates ActionItemSearchCriteria into a native query</li>
+ *   <li>Applies the keyset predicate, ordering and row limit</li>
+ *   <li>Maps results back to domain models</li>
+ * </ul>
+ * <b>Usage:</b> Used by the application layer through QueryActionItemsPort.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemQueryPersistenceAdapter implements QueryActionItemsPort {
+
+    private final EntityManager entityManager;
+    private final ActionItemMapper actionItemMapper;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ActionItem> findActionItems(ActionItemSearchCriteria criteria, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM action_items WHERE TRUE");
+        List<Object> parameters = new ArrayList<>();
+        if (criteria.getStatus() != null) {
+            sql.append(" AND status = ?");
+            parameters.add(criteria.getStatus().name());
+        }
+        if (criteria.getCategory() != null) {
+            sql.append(" AND category = ?");
+            parameters.add(criteria.getCategory());
+        }
+        if (criteria.getTypeCode() != null) {
+            sql.append(" AND type_code = ?");
+            parameters.add(criteria.getTypeCode());
+        }
+        if (criteria.getAssignee() != null) {
+            sql.append(" AND assignee = ?");
+            parameters.add(criteria.getAssignee());
+        }
+        if (criteria.getDueFrom() != null) {
+            sql.append(" AND due_date >= ?");
+            parameters.add(criteria.getDueFrom());
+        }
+        if (criteria.getDueTo() != null) {
+            sql.append(" AND due_date < ?");
+            parameters.add(criteria.getDueTo());
+        }
+        if (criteria.getAfterCreatedAt() != null) {
+            // A real row-value comparison: Postgres seeks the (..., created_at, id) index to the
+            // cursor, which an OR expansion of the same condition does not allow
+            sql.append(" AND (created_at, id) > (?, ?)");
+            parameters.add(criteria.getAfterCreatedAt());
+            parameters.add(UUID.fromString(criteria.getAfterId()));
+        }
+        sql.append(" ORDER BY created_at, id LIMIT ?");
+        parameters.add(limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString(), ActionItemJpaEntity.class);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+
+        log.debug("Querying action items with {} parameters, limit {}", parameters.size(), limit);
+        return ((List<ActionItemJpaEntity>) query.getResultList())
+                .stream()
+                .map(actionItemMapper::toDomainEntity)
+                .toList();
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStateChange;
+import com.example.domain.model.ActionItemStatus;
+import com.example.port.out.ReactiveActionItemOutboxPort;
+import com.example.port.out.ReactiveSaveActionItemPort;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * R2DBC persistence adapter for the reactive ingestion mode, active with
+ * {@code kafka.consumer.reactive.enabled=true}.
+ * <p>
+ * Implements the same rules on the same tables as {@link ActionItemJdbcPersistenceAdapter}, with
+ * the same single-statement calls: an update-or-insert CTE for saves, a conditional UPDATE plus a
+ * DELETE ... RETURNING restore for newer updates, and one query over the live row and the archive
+ * for lookups. Statements run on the R2DBC pool and join the caller's reactive transaction
+ * through {@link DatabaseClient}, so no thread waits for the database.
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemR2dbcPersistenceAdapter implements ReactiveSaveActionItemPort, ReactiveActionItemOutboxPort {
+
+    private static final String COLUMNS =
+            "id, unique_id, title, description, assignee, category, type_code, status, due_date, created_at, updated_at";
+
+    private static final String LIVE_ROW = "unique_id = :uniqueId AND created_at = "
+            + "(SELECT k.created_at FROM action_item_keys k WHERE k.unique_id = :uniqueId)";
+
+    private static final String SET_FIELDS = "title = :title, description = :description, assignee = :assignee, "
+            + "category = :category, type_code = :typeCode, status = :status, due_date = :dueDate, updated_at = :updatedAt";
+
+    private static final String SAVE = "WITH updated AS ("
+            + "UPDATE action_items SET " + SET_FIELDS + " WHERE " + LIVE_ROW + " RETURNING " + COLUMNS + "), "
+            + "inserted AS (INSERT INTO action_items (" + COLUMNS + ") "
+            + "SELECT :id, :uniqueId, :title, :description, :assignee, :category, :typeCode, :status, :dueDate, "
+            + ":createdAt, :updatedAt WHERE NOT EXISTS (SELECT 1 FROM updated) RETURNING " + COLUMNS + ") "
+            + "SELECT " + COLUMNS + " FROM updated UNION ALL SELECT " + COLUMNS + " FROM inserted";
+
+    private static final String UPDATE_IF_NEWER = "UPDATE action_items SET " + SET_FIELDS
+            + " WHERE " + LIVE_ROW + " AND (updated_at IS NULL OR updated_at < :updatedAt)";
+
+    private static final String RESTORE_FROM_ARCHIVE = "WITH restored AS ("
+            + "DELETE FROM action_items_archive a WHERE a.unique_id = :uniqueId AND a.updated_at < :updatedAt "
+            + "AND NOT EXISTS (SELECT 1 FROM action_item_keys k WHERE k.unique_id = a.unique_id) "
+            + "RETURNING a.id, a.created_at) "
+            + "INSERT INTO action_items (" + COLUMNS + ") "
+            + "SELECT id, :uniqueId, :title, :description, :assignee, :category, :typeCode, :status, :dueDate, "
+            + "created_at, :updatedAt FROM restored";
+
+    private static final String FIND = "SELECT " + COLUMNS + " FROM ("
+            + "SELECT " + COLUMNS + ", 0 AS archived FROM action_items WHERE " + LIVE_ROW
+            + " UNION ALL "
+            + "SELECT " + COLUMNS + ", 1 AS archived FROM action_items_archive WHERE unique_id = :uniqueId"
+            + ") found ORDER BY archived LIMIT 1";
+
+    private static final String APPEND_STATE_CHANGE = "INSERT INTO action_item_outbox "
+            + "(action_item_id, unique_id, previous_status, status, category, type_code, assignee, version, recorded_at) "
+            + "VALUES (:actionItemId, :uniqueId, :previousStatus, :status, :category, :typeCode, :assignee, :version, :recordedAt)";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<ActionItem> saveActionItem(ActionItem actionItem) {
+        log.debug("Saving action item with uniqueId: {}", actionItem.getUniqueId());
+        LocalDateTime updatedAt = actionItem.getUpdatedAt() != null ? actionItem.getUpdatedAt() : LocalDateTime.now();
+        DatabaseClient.GenericExecuteSpec spec = bindFields(databaseClient.sql(SAVE), actionItem, updatedAt)
+                .bind("id", UUID.fromString(actionItem.getId()))
+                .bind("createdAt", actionItem.getCreatedAt() != null ? actionItem.getCreatedAt() : updatedAt);
+        return spec.map(ActionItemR2dbcPersistenceAdapter::toActionItem).one();
+    }
+
+    @Override
+    public Mono<Boolean> updateActionItemIfNewer(ActionItem actionItem) {
+        log.debug("Conditionally updating action item with uniqueId: {} to updatedAt: {}",
+                actionItem.getUniqueId(), actionItem.getUpdatedAt());
+        return bindFields(databaseClient.sql(UPDATE_IF_NEWER), actionItem, actionItem.getUpdatedAt())
+                .fetch().rowsUpdated()
+                .flatMap(updated -> updated > 0 || actionItem.getUpdatedAt() == null
+                        ? Mono.just(updated > 0)
+                        : restoreFromArchiveIfNewer(actionItem));
+    }
+
+    /**
+     * Moves an archived item back to action_items with the update applied, keeping its id and
+     * createdAt, if the update is newer than the archived copy and the item is not live.
+     */
+    private Mono<Boolean> restoreFromArchiveIfNewer(ActionItem actionItem) {
+        return bindFields(databaseClient.sql(RESTORE_FROM_ARCHIVE), actionItem, actionItem.getUpdatedAt())
+                .fetch().rowsUpdated()
+                .map(restored -> {
+                    if (restored > 0) {
+                        log.info("Restored archived action item with uniqueId: {} to action_items", actionItem.getUniqueId());
+                    }
+                    return restored > 0;
+                });
+    }
+
+    @Override
+    public Mono<ActionItem> findByUniqueId(String uniqueId) {
+        log.debug("Finding action item by uniqueId: {}", uniqueId);
+        return databaseClient.sql(FIND)
+                .bind("uniqueId", uniqueId)
+                .map(ActionItemR2dbcPersistenceAdapter::toActionItem)
+                .one();
+    }
+
+    @Override
+    public Mono<Void> append(ActionItemStateChange change) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(APPEND_STATE_CHANGE)
+                .bind("actionItemId", UUID.fromString(change.getActionItemId()))
+                .bind("uniqueId", change.getUniqueId())
+                .bind("status", change.getStatus().name())
+                .bind("category", change.getCategory())
+                .bind("typeCode", change.getTypeCode())
+                .bind("version", change.getVersion())
+                .bind("recordedAt", change.getRecordedAt());
+        spec = bindNullable(spec, "previousStatus",
+                change.getPreviousStatus() != null ? change.getPreviousStatus().name() : null, String.class);
+        spec = bindNullable(spec, "assignee", change.getAssignee(), String.class);
+        return spec.then();
+    }
+
+    /**
+     * Binds uniqueId and the mutable fields shared by the update, insert and restore statements.
+     */
+    private static DatabaseClient.GenericExecuteSpec bindFields(DatabaseClient.GenericExecuteSpec spec,
+                                                                ActionItem actionItem, LocalDateTime updatedAt) {
+        spec = spec.bind("uniqueId", actionItem.getUniqueId())
+                .bind("title", actionItem.getTitle())
+                .bind("category", actionItem.getCategory())
+                .bind("typeCode", actionItem.getTypeCode())
+                .bind("status", actionItem.getStatus().name());
+        spec = bindNullable(spec, "description", actionItem.getDescription(), String.class);
+        spec = bindNullable(spec, "assignee", actionItem.getAssignee(), String.class);
+        spec = bindNullable(spec, "dueDate", actionItem.getDueDate(), LocalDateTime.class);
+        return bindNullable(spec, "updatedAt", updatedAt, LocalDateTime.class);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                                  Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static ActionItem toActionItem(Readable row) {
+        return ActionItem.builder()
+                .id(row.get("id", UUID.class).toString())
+                .uniqueId(row.get("unique_id", String.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .assignee(row.get("assignee", String.class))
+                .category(row.get("category", String.class))
+                .typeCode(row.get("type_code", String.class))
+                .status(ActionItemStatus.valueOf(row.get("status", String.class)))
+                .dueDate(row.get("due_date", LocalDateTime.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -1,28 +1,90 @@
 package com.example.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
+import java.util.UUID;
 import com.example.domain.model.ActionItemStatus;
+import com.example.domain.model.ActionItemStatusCount;
+import com.example.domain.model.TypeCodeCount;
 
-public interface ActionItemRepository extends JpaRepository<ActionItemJpaEntity, String> {
+public interface ActionItemRepository extends JpaRepository<ActionItemJpaEntity, UUID> {
     
     /**
      * Find an action item by its business unique identifier.
+     * The partition key is resolved from action_item_keys, so only one partition is probed.
      * 
      * @param uniqueId the business unique identifier
      * @return Optional containing the action item if found
      */
-    Optional<ActionItemJpaEntity> findByUniqueId(String uniqueId);
+    @Query("SELECT ai FROM ActionItemJpaEntity ai WHERE ai.uniqueId = :uniqueId AND ai.createdAt = "
+            + "(SELECT k.createdAt FROM ActionItemKeyJpaEntity k WHERE k.uniqueId = :uniqueId)")
+    Optional<ActionItemJpaEntity> findByUniqueId(@Param("uniqueId") String uniqueId);
     
     /**
-     * Get list of typeCodes filtered by status.
+     * Count action items per typeCode for a status, aggregated in the database.
+     * Served by the (status, type_code) index.
      * 
      * @param status the ActionItemStatus to filter by
-     * @return List of typeCodes (String)
+     * @return List of TypeCodeCount ordered by count descending
      */
-    @Query("SELECT DISTINCT ai.typeCode FROM ActionItemJpaEntity ai WHERE ai.status = :status")
-    List<String> findTypeCodesByStatus(@Param("status") ActionItemStatus status);
+    @Query("SELECT new com.example.domain.model.TypeCodeCount(ai.typeCode, COUNT(ai)) "
+            + "FROM ActionItemJpaEntity ai WHERE ai.status = :status "
+            + "GROUP BY ai.typeCode ORDER BY COUNT(ai) DESC")
+    List<TypeCodeCount> countByTypeCodeForStatus(@Param("status") ActionItemStatus status);
+
+    /**
+     * Count action items grouped by category, typeCode, assignee and status in a single query.
+     * 
+     * @return List of ActionItemStatusCount, one per distinct combination
+     */
+    @Query("SELECT new com.example.domain.model.ActionItemStatusCount(ai.category, ai.typeCode, ai.assignee, ai.status, COUNT(ai)) "
+            + "FROM ActionItemJpaEntity ai GROUP BY ai.category, ai.typeCode, ai.assignee, ai.status")
+    List<ActionItemStatusCount> countByCategoryTypeCodeAssigneeAndStatus();
+
+    /**
+     * Read typeCode counts for a status from the trigger-maintained counter table.
+     * Reads O(#typeCodes) rows regardless of the size of action_items.
+     * 
+     * @param status the status name to filter by
+     * @return List of counter rows ordered by count descending
+     */
+    @Query(value = "SELECT type_code AS typeCode, item_count AS count FROM action_item_type_code_counts "
+            + "WHERE status = :status AND item_count > 0 ORDER BY item_count DESC", nativeQuery = true)
+    List<TypeCodeCounterView> findTypeCodeCounters(@Param("status") String status);
+
+    /**
+     * Projection of a row of the action_item_type_code_counts table.
+     */
+    interface TypeCodeCounterView {
+        String getTypeCode();
+        Long getCount();
+    }
+
+    /**
+     * Update an action item only if the incoming source timestamp is newer than the stored one.
+     * The version check is part of the UPDATE statement, so stale updates are dropped without
+     * an extra round-trip or row lock. Pruned to one partition like {@link #findByUniqueId}.
+     *
+     * @return number of rows updated (0 if the update was stale or the item does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ActionItemJpaEntity ai SET ai.title = :title, ai.description = :description, "
+            + "ai.assignee = :assignee, ai.category = :category, ai.typeCode = :typeCode, "
+            + "ai.status = :status, ai.dueDate = :dueDate, ai.updatedAt = :updatedAt "
+            + "WHERE ai.uniqueId = :uniqueId AND (ai.updatedAt IS NULL OR ai.updatedAt < :updatedAt) "
+            + "AND ai.createdAt = (SELECT k.createdAt FROM ActionItemKeyJpaEntity k WHERE k.uniqueId = :uniqueId)")
+    int updateIfNewer(@Param("uniqueId") String uniqueId,
+                      @Param("title") String title,
+                      @Param("description") String description,
+                      @Param("assignee") String assignee,
+                      @Param("category") String category,
+                      @Param("typeCode") String typeCode,
+                      @Param("status") ActionItemStatus status,
+                      @Param("dueDate") LocalDateTime dueDate,
+                      @Param("updatedAt") LocalDateTime updatedAt);
 }
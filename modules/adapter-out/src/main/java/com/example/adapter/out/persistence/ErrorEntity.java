@@ -5,12 +5,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * JPA entity representing a processing error in the system.
  * <p>
  * Captures error type, message, stack trace, payload, occurrence time, and status for
- * persistent error management and diagnostics.
+ * persistent error management and diagnostics. The processing_errors table is range-partitioned
+ * by month of occurredAt, so retention removes whole partitions.
  * <p>
  * <b>Responsibilities:</b>
  * <ul>
@@ -26,8 +28,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class ErrorEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @GeneratedUuidV7
+    private UUID id;
     
     @Column(nullable = false)
     private String source;
@@ -3,6 +3,8 @@ package com.example.adapter.out.persistence;
 import com.example.domain.model.ProcessingError;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 /**
  * Maps between ProcessingError domain models and ErrorEntity JPA entities for persistence operations.
  * <p>
@@ -35,7 +37,7 @@ public class ErrorMapper {
     
     public ProcessingError toDomain(ErrorEntity entity) {
         return ProcessingError.builder()
-                .id(entity.getId())
+                .id(entity.getId() != null ? entity.getId().toString() : null)
                 .source(entity.getSource())
                 .errorType(entity.getErrorType())
                 .errorMessage(entity.getErrorMessage())
@@ -3,6 +3,8 @@ package com.example.adapter.out.persistence;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 /**
  * JPA repository interface for managing ErrorEntity persistence.
  * <p>
@@ -17,5 +19,5 @@ import org.springframework.stereotype.Repository;
  * <b>Usage:</b> Used by persistence adapters and services to manage error records in the database.
  */
 @Repository
-public interface ErrorRepository extends JpaRepository<ErrorEntity, String> {
+public interface ErrorRepository extends JpaRepository<ErrorEntity, UUID> {
 } 
\ No newline at end of file
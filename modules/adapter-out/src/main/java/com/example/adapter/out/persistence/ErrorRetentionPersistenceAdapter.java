@@ -0,0 +1,120 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.PurgeResult;
+import com.example.port.out.ErrorRetentionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistence adapter that deletes old rows from the error tables in index-driven batches.
+ * <p>
+ * Every query is served by the (source, timestamp) index of the table: distinct sources are read
+ * with a loose index scan, the row cap boundary with a LIMIT-bounded backwards scan of one source,
+ * and each batch deletes the oldest rows of one source, located by (tableoid, ctid) so the DELETE
+ * needs no second index lookup. The size of the deleted rows is summed from the DELETE's RETURNING
+ * rows, so no separate size query is needed. Each batch commits on its own; the pool does not
+ * auto-commit. Only the tables known to this adapter are accepted, so table and column names can
+ * be used in SQL safely.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Lists the sources of an error table</li>
+ *   <li>Finds the timestamp that keeps a source within its row cap</li>
+ *   <li>Deletes one batch of a source's oldest rows and reports rows and bytes deleted</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ErrorRetentionPersistenceAdapter implements ErrorRetentionPort {
+
+    private static final Map<String, ErrorTable> ERROR_TABLES = Map.of(
+            "processing_errors", new ErrorTable("processing_errors", "occurred_at"),
+            "error_logs", new ErrorTable("error_logs", "\"timestamp\""));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ErrorRetentionPersistenceAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<String> listSources(String table) {
+        ErrorTable errorTable = errorTable(table);
+        String sql = "WITH RECURSIVE sources AS ("
+                + "(SELECT source FROM " + errorTable.name() + " WHERE source IS NOT NULL ORDER BY source LIMIT 1) "
+                + "UNION ALL "
+                + "SELECT (SELECT e.source FROM " + errorTable.name() + " e WHERE e.source > s.source ORDER BY e.source LIMIT 1) "
+                + "FROM sources s WHERE s.source IS NOT NULL) "
+                + "SELECT source FROM sources WHERE source IS NOT NULL";
+        List<String> sources = new ArrayList<>(jdbcTemplate.queryForList(sql, String.class));
+        Boolean hasUnsourced = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + errorTable.name() + " WHERE source IS NULL)", Boolean.class);
+        if (Boolean.TRUE.equals(hasUnsourced)) {
+            sources.add(null);
+        }
+        return sources;
+    }
+
+    @Override
+    public LocalDateTime findRowCapBoundary(String table, String source, long maxRows) {
+        ErrorTable errorTable = errorTable(table);
+        // Only the newest maxRows index entries are read; fewer than that means the cap is not reached
+        String sql = "SELECT CASE WHEN count(*) = ? THEN min(ts) END FROM ("
+                + "SELECT " + errorTable.timestampColumn() + " AS ts FROM " + errorTable.name()
+                + " WHERE " + sourcePredicate(source)
+                + " ORDER BY " + errorTable.timestampColumn() + " DESC LIMIT ?) newest";
+        Timestamp boundary = source == null
+                ? jdbcTemplate.queryForObject(sql, Timestamp.class, maxRows, maxRows)
+                : jdbcTemplate.queryForObject(sql, Timestamp.class, maxRows, source, maxRows);
+        return boundary != null ? boundary.toLocalDateTime() : null;
+    }
+
+    @Override
+    @Transactional
+    public PurgeResult purgeBatch(String table, String source, LocalDateTime before, int limit) {
+        ErrorTable errorTable = errorTable(table);
+        String sql = "WITH doomed AS ("
+                + "SELECT tableoid, ctid FROM " + errorTable.name()
+                + " WHERE " + sourcePredicate(source) + " AND " + errorTable.timestampColumn() + " < ?"
+                + " ORDER BY " + errorTable.timestampColumn() + " LIMIT ?), "
+                + "deleted AS ("
+                + "DELETE FROM " + errorTable.name() + " t USING doomed d "
+                + "WHERE t.tableoid = d.tableoid AND t.ctid = d.ctid"
+                + " RETURNING pg_column_size(t.*) AS bytes) "
+                + "SELECT count(*), coalesce(sum(bytes), 0) FROM deleted";
+        Object[] args = source == null
+                ? new Object[]{before, limit}
+                : new Object[]{source, before, limit};
+        PurgeResult result = jdbcTemplate.queryForObject(sql, (resultSet, rowNum) -> PurgeResult.builder()
+                .rows(resultSet.getLong(1))
+                .bytes(resultSet.getLong(2))
+                .build(), args);
+        log.debug("Purged {} rows ({} bytes) of source {} from {} older than {}",
+                result.getRows(), result.getBytes(), source, table, before);
+        return result;
+    }
+
+    private static String sourcePredicate(String source) {
+        return source == null ? "source IS NULL" : "source = ?";
+    }
+
+    private static ErrorTable errorTable(String table) {
+        ErrorTable errorTable = ERROR_TABLES.get(table);
+        if (errorTable == null) {
+            throw new IllegalArgumentException("Not an error table: " + table);
+        }
+        return errorTable;
+    }
+
+    private record ErrorTable(String name, String timestampColumn) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.adapter.out.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code java.util.UUID} identifier that is assigned a time-ordered UUIDv7 on insert.
+ * Replaces {@code @GeneratedValue(strategy = GenerationType.UUID)}, which generates random version 4 keys.
+ *
+ * @see UuidV7IdGenerator
+ */
+@IdGeneratorType(UuidV7IdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedUuidV7 {
+}
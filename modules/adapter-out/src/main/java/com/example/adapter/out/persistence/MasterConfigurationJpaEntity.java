@@ -10,6 +10,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * JPA entity representing a master configuration record in the database.
@@ -42,8 +43,8 @@ import java.time.LocalDateTime;
 public class MasterConfigurationJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @GeneratedUuidV7
+    private UUID id;
     
     @Column(name = "category", nullable = false, length = 100)
     private String category;
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -19,7 +20,7 @@ public class MasterConfigurationMapper {
         }
         
         return MasterConfigurationJpaEntity.builder()
-                .id(domain.getId())
+                .id(domain.getId() != null ? UUID.fromString(domain.getId()) : null)
                 .category(domain.getCategory())
                 .typeCode(domain.getTypeCode())
                 .description(domain.getDescription())
@@ -38,7 +39,7 @@ public class MasterConfigurationMapper {
         }
         
         return MasterConfiguration.builder()
-                .id(entity.getId())
+                .id(entity.getId() != null ? entity.getId().toString() : null)
                 .category(entity.getCategory())
                 .typeCode(entity.getTypeCode())
                 .description(entity.getDescription())
@@ -7,9 +7,10 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface MasterConfigurationRepository extends JpaRepository<MasterConfigurationJpaEntity, String> {
+public interface MasterConfigurationRepository extends JpaRepository<MasterConfigurationJpaEntity, UUID> {
     
     /**
      * Find all active master configurations
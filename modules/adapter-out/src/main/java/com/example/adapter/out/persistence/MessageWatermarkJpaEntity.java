@@ -0,0 +1,53 @@
+package com.example.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity representing the processing high-watermark of a Kafka partition.
+ * <p>
+ * One row per consumer group, topic and partition. The primary key is the composite
+ * {@code consumerGroup:topic:partition} string so lookups and upserts hit a single index.
+ * <p>
+ * <b>Usage:</b> Used by the watermark persistence adapter to let consumers skip redelivered messages.
+ */
+@Entity
+@Table(name = "message_watermarks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageWatermarkJpaEntity {
+
+    /** Composite key: consumerGroup:topic:partition */
+    @Id
+    private String id;
+
+    @Column(name = "consumer_group", nullable = false)
+    private String consumerGroup;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "kafka_partition", nullable = false)
+    private int kafkaPartition;
+
+    /** First offset not yet known to be processed */
+    @Column(name = "high_watermark", nullable = false)
+    private long highWatermark;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static String idOf(String consumerGroup, String topic, int partition) {
+        return consumerGroup + ":" + topic + ":" + partition;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.MessageWatermark;
+import com.example.port.out.MessageWatermarkPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistence adapter for message processing high-watermarks.
+ * <p>
+ * Implements the MessageWatermarkPort with one small row per partition. Writes are forward-only
+ * upserts so that a lagging instance can never move a watermark backwards.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MessageWatermarkPersistenceAdapter implements MessageWatermarkPort {
+
+    private final MessageWatermarkRepository repository;
+
+    @Override
+    public Optional<MessageWatermark> findWatermark(String consumerGroup, String topic, int partition) {
+        return repository.findById(MessageWatermarkJpaEntity.idOf(consumerGroup, topic, partition))
+                .map(entity -> MessageWatermark.builder()
+                        .consumerGroup(entity.getConsumerGroup())
+                        .topic(entity.getTopic())
+                        .partition(entity.getKafkaPartition())
+                        .highWatermark(entity.getHighWatermark())
+                        .build());
+    }
+
+    @Override
+    @Transactional
+    public void saveWatermarks(List<MessageWatermark> watermarks) {
+        LocalDateTime now = LocalDateTime.now();
+        for (MessageWatermark watermark : watermarks) {
+            repository.upsertWatermark(
+                    MessageWatermarkJpaEntity.idOf(watermark.getConsumerGroup(), watermark.getTopic(), watermark.getPartition()),
+                    watermark.getConsumerGroup(),
+                    watermark.getTopic(),
+                    watermark.getPartition(),
+                    watermark.getHighWatermark(),
+                    now);
+        }
+        log.debug("Saved {} message watermarks", watermarks.size());
+    }
+}
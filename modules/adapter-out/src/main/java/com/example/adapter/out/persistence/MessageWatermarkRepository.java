@@ -0,0 +1,31 @@
+package com.example.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface MessageWatermarkRepository extends JpaRepository<MessageWatermarkJpaEntity, String> {
+
+    /**
+     * Inserts or advances a watermark in a single statement. An existing watermark is never moved backwards.
+     *
+     * @return number of rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO message_watermarks (id, consumer_group, topic, kafka_partition, high_watermark, updated_at) "
+            + "VALUES (:id, :consumerGroup, :topic, :partition, :highWatermark, :updatedAt) "
+            + "ON CONFLICT (id) DO UPDATE SET high_watermark = EXCLUDED.high_watermark, updated_at = EXCLUDED.updated_at "
+            + "WHERE message_watermarks.high_watermark < EXCLUDED.high_watermark",
+            nativeQuery = true)
+    int upsertWatermark(@Param("id") String id,
+                        @Param("consumerGroup") String consumerGroup,
+                        @Param("topic") String topic,
+                        @Param("partition") int partition,
+                        @Param("highWatermark") long highWatermark,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+}
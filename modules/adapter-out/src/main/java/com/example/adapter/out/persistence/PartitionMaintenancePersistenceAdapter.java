@@ -0,0 +1,143 @@
+package com.example.adapter.out.persistence;
+
+import com.example.domain.model.TablePartition;
+import com.example.port.out.PartitionMaintenancePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Persistence adapter that manages monthly range partitions with PostgreSQL DDL.
+ * <p>
+ * Partitions follow the {@code <table>_pYYYY_MM} naming of the {@code create_monthly_partition}
+ * SQL function (see init.sql), which is also used here to create them; it moves rows of the month
+ * out of the default partition first. Every call commits on its own, since the pool does not
+ * auto-commit and DDL outside a transaction would be rolled back. Only the partitioned tables
+ * known to this adapter are accepted, so table and partition names can be used in DDL safely.
+ * <p>
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Lists attached monthly partitions with their size and estimated row count</li>
+ *   <li>Creates, detaches and drops partitions</li>
+ *   <li>Removes the action_item_keys entries of action_items partitions that are detached or dropped</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class PartitionMaintenancePersistenceAdapter implements PartitionMaintenancePort {
+
+    private static final String ACTION_ITEMS = "action_items";
+    private static final Set<String> PARTITIONED_TABLES = Set.of(ACTION_ITEMS, "processing_errors");
+    private static final Pattern MONTH_SUFFIX = Pattern.compile("\\d{4}_\\d{2}");
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LIST_PARTITIONS = "SELECT c.relname, pg_total_relation_size(c.oid), CAST(greatest(c.reltuples, 0) AS bigint) "
+            + "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+            + "WHERE i.inhparent = CAST(? AS regclass)";
+    private static final String CREATE_PARTITION = "SELECT create_monthly_partition(CAST(? AS text), CAST(? AS date))";
+    private static final String DELETE_KEYS = "DELETE FROM action_item_keys WHERE created_at >= ? AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartitionMaintenancePersistenceAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<TablePartition> listPartitions(String table) {
+        requirePartitioned(table);
+        List<TablePartition> partitions = new ArrayList<>();
+        jdbcTemplate.query(LIST_PARTITIONS, resultSet -> {
+            String name = resultSet.getString(1);
+            String suffix = monthSuffix(table, name);
+            if (suffix != null) {
+                YearMonth month = YearMonth.parse(suffix, SUFFIX_FORMAT);
+                partitions.add(TablePartition.builder()
+                        .table(table)
+                        .name(name)
+                        .from(month.atDay(1))
+                        .to(month.plusMonths(1).atDay(1))
+                        .sizeBytes(resultSet.getLong(2))
+                        .estimatedRows(resultSet.getLong(3))
+                        .build());
+            }
+        }, table);
+        partitions.sort(Comparator.comparing(TablePartition::getFrom));
+        return partitions;
+    }
+
+    @Override
+    @Transactional
+    public String createMonthlyPartition(String table, LocalDate month) {
+        requirePartitioned(table);
+        return jdbcTemplate.queryForObject(CREATE_PARTITION, String.class, table, month);
+    }
+
+    @Override
+    @Transactional
+    public void detachPartition(TablePartition partition) {
+        requirePartitioned(partition.getTable());
+        jdbcTemplate.execute("ALTER TABLE " + partition.getTable() + " DETACH PARTITION " + partitionName(partition));
+        releaseKeys(partition);
+        log.info("Detached partition {} ({} to {})", partition.getName(), partition.getFrom(), partition.getTo());
+    }
+
+    @Override
+    @Transactional
+    public void dropPartition(TablePartition partition) {
+        requirePartitioned(partition.getTable());
+        String name = partitionName(partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition.getTable() + " DETACH PARTITION " + name);
+        jdbcTemplate.execute("DROP TABLE " + name);
+        releaseKeys(partition);
+        log.info("Dropped partition {} ({} to {}, {} bytes)",
+                partition.getName(), partition.getFrom(), partition.getTo(), partition.getSizeBytes());
+    }
+
+    /**
+     * Removes the uniqueId registrations of the rows that left action_items with the partition.
+     */
+    private void releaseKeys(TablePartition partition) {
+        if (ACTION_ITEMS.equals(partition.getTable())) {
+            int released = jdbcTemplate.update(DELETE_KEYS,
+                    partition.getFrom().atStartOfDay(), partition.getTo().atStartOfDay());
+            log.debug("Released {} action item keys of partition {}", released, partition.getName());
+        }
+    }
+
+    private static String partitionName(TablePartition partition) {
+        if (monthSuffix(partition.getTable(), partition.getName()) == null) {
+            throw new IllegalArgumentException("Not a monthly partition of " + partition.getTable() + ": " + partition.getName());
+        }
+        return partition.getName();
+    }
+
+    /**
+     * Returns the YYYY_MM suffix if the name is a monthly partition name of the table, else null.
+     */
+    private static String monthSuffix(String table, String name) {
+        String prefix = table + "_p";
+        if (!name.startsWith(prefix)) {
+            return null;
+        }
+        String suffix = name.substring(prefix.length());
+        return MONTH_SUFFIX.matcher(suffix).matches() ? suffix : null;
+    }
+
+    private static void requirePartitioned(String table) {
+        if (!PARTITIONED_TABLES.contains(table)) {
+            throw new IllegalArgumentException("Not a partitioned table: " + table);
+        }
+    }
+}
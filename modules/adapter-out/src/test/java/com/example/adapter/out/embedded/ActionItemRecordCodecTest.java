@@ -0,0 +1,116 @@
+package com.example.adapter.out.embedded;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link ActionItemRecordCodec}.
+ */
+class ActionItemRecordCodecTest {
+
+    @Test
+    void roundTripsAFullItem() {
+        ActionItem actionItem = ActionItem.builder()
+                .id(UUID.randomUUID().toString())
+                .uniqueId("a1")
+                .title("Title")
+                .description("Multi-byte UTF-8: \u00e4\u20ac\uD83D\uDE00")
+                .assignee("team")
+                .category("cat")
+                .typeCode("T1")
+                .status(ActionItemStatus.CLOSE)
+                .dueDate(LocalDateTime.of(2024, 3, 1, 0, 0))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_789))
+                .updatedAt(LocalDateTime.of(2024, 1, 2, 8, 30))
+                .build();
+
+        assertEquals(actionItem, roundTrip(actionItem));
+    }
+
+    @Test
+    void roundTripsNullStringsAndTimestamps() {
+        ActionItem actionItem = ActionItem.builder()
+                .id(UUID.randomUUID().toString())
+                .uniqueId("a1")
+                .title("")
+                .status(ActionItemStatus.OPEN)
+                .updatedAt(LocalDateTime.of(2024, 1, 2, 8, 30))
+                .build();
+
+        assertEquals(actionItem, roundTrip(actionItem));
+    }
+
+    @Test
+    void roundTripsTimestampsBeforeTheEpoch() {
+        ActionItem actionItem = ActionItem.builder()
+                .id(UUID.randomUUID().toString())
+                .uniqueId("a1")
+                .status(ActionItemStatus.OPEN)
+                .dueDate(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999))
+                .createdAt(LocalDateTime.of(1900, 1, 1, 0, 0))
+                .updatedAt(LocalDateTime.of(1970, 1, 1, 0, 0))
+                .build();
+
+        assertEquals(actionItem, roundTrip(actionItem));
+    }
+
+    @Test
+    void roundTripsAStringLongerThanOneVarintByte() {
+        ActionItem actionItem = ActionItem.builder()
+                .id(UUID.randomUUID().toString())
+                .uniqueId("a1")
+                .description("x".repeat(300))
+                .status(ActionItemStatus.OPEN)
+                .build();
+
+        assertEquals(actionItem, roundTrip(actionItem));
+    }
+
+    @Test
+    void takesTheUniqueIdFromTheKey() {
+        ActionItem actionItem = ActionItem.builder()
+                .id(UUID.randomUUID().toString())
+                .uniqueId("a1")
+                .status(ActionItemStatus.OPEN)
+                .build();
+
+        ActionItem decoded = ActionItemRecordCodec.decode("b2", ActionItemRecordCodec.encode(actionItem));
+
+        assertEquals("b2", decoded.getUniqueId());
+        assertEquals(actionItem.getId(), decoded.getId());
+    }
+
+    @Test
+    void rejectsAnIdThatIsNotAUuid() {
+        ActionItem actionItem = ActionItem.builder()
+                .id("not-a-uuid")
+                .uniqueId("a1")
+                .status(ActionItemStatus.OPEN)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> ActionItemRecordCodec.encode(actionItem));
+    }
+
+    @Test
+    void rejectsAnUnknownVersion() {
+        byte[] value = ActionItemRecordCodec.encode(ActionItem.builder()
+                .id(UUID.randomUUID().toString())
+                .uniqueId("a1")
+                .status(ActionItemStatus.OPEN)
+                .build());
+        value[0] = 2;
+
+        assertThrows(IllegalStateException.class, () -> ActionItemRecordCodec.decode("a1", value));
+    }
+
+    private static ActionItem roundTrip(ActionItem actionItem) {
+        return ActionItemRecordCodec.decode(actionItem.getUniqueId(), ActionItemRecordCodec.encode(actionItem));
+    }
+}
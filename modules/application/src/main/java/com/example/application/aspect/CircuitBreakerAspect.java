@@ -0,0 +1,138 @@
+package com.example.application.aspect;
+
+import com.example.application.config.DatabaseHealthMonitor;
+import com.example.application.config.SlidingWindowCircuitBreaker;
+import com.example.commons.resilience.CircuitBreaker;
+import com.example.commons.resilience.CircuitBreakerOpenException;
+import com.example.commons.resilience.TransientFailures;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AOP Aspect to handle @CircuitBreaker annotation
+ * Runs each annotated call through the named breaker: rejected calls throw
+ * CircuitBreakerOpenException, permitted ones are timed and their outcome recorded. Only
+ * database failures (connection, timeout and transient errors) count as failures; validation and
+ * other business exceptions count as successful calls. Runs after WorkloadAspect but before the
+ * transaction interceptor, so connection waits are part of the measured latency and rejected
+ * calls never take a connection.
+ * <p>
+ * While a breaker is not CLOSED the Kafka consumers are held through the database health monitor.
+ * The half-open probes run on records already in flight, which the Kafka adapter retries after a
+ * delay when they are rejected or fail on the database. Only if no probe has started one
+ * {@code wait-in-open-ms} into HALF_OPEN are the consumers released, so fresh records can probe;
+ * they are held again if the breaker reopens.
+ * <p>
+ * Breakers are configured under {@code resilience.circuit-breakers.<name>.*}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class CircuitBreakerAspect {
+
+    private static final String PREFIX = "resilience.circuit-breakers.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final DatabaseHealthMonitor databaseHealthMonitor;
+    private final Map<String, SlidingWindowCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService halfOpenTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "circuit-breaker-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Advice around public methods of classes annotated with @CircuitBreaker, or methods annotated with it
+     * @param joinPoint the join point representing the method execution
+     * @return the method's result
+     */
+    @Around("@within(com.example.commons.resilience.CircuitBreaker) || @annotation(com.example.commons.resilience.CircuitBreaker)")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        CircuitBreaker annotation = AnnotatedElementUtils.findMergedAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), CircuitBreaker.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), CircuitBreaker.class);
+        }
+        if (annotation == null || !environment.getProperty(PREFIX + annotation.value() + ".enabled", Boolean.class, true)) {
+            return joinPoint.proceed();
+        }
+
+        SlidingWindowCircuitBreaker breaker = breakers.computeIfAbsent(annotation.value(), this::createBreaker);
+        long permission = breaker.tryAcquirePermission();
+        if (permission == SlidingWindowCircuitBreaker.REJECTED) {
+            throw new CircuitBreakerOpenException(annotation.value());
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            breaker.onComplete(permission, System.nanoTime() - start, false);
+            return result;
+        } catch (Throwable e) {
+            breaker.onComplete(permission, System.nanoTime() - start, TransientFailures.isDatabaseFailure(e));
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        halfOpenTimer.shutdownNow();
+    }
+
+    private SlidingWindowCircuitBreaker createBreaker(String name) {
+        SlidingWindowCircuitBreaker.Settings settings = new SlidingWindowCircuitBreaker.Settings(
+                property(name, "window-size", Integer.class, 50),
+                property(name, "minimum-calls", Integer.class, 20),
+                property(name, "failure-rate-threshold", Double.class, 0.5),
+                property(name, "slow-call-rate-threshold", Double.class, 0.5),
+                property(name, "slow-call-duration-ms", Long.class, 2000L),
+                property(name, "wait-in-open-ms", Long.class, 10000L),
+                property(name, "half-open-permitted-calls", Integer.class, 5));
+        String holdReason = "circuit-breaker-" + name;
+        return new SlidingWindowCircuitBreaker(name, settings, breaker -> {
+            switch (breaker.getState()) {
+                case OPEN -> {
+                    databaseHealthMonitor.holdConsumers(holdReason);
+                    halfOpenTimer.schedule(breaker::checkHalfOpen, settings.waitInOpenMs(), TimeUnit.MILLISECONDS);
+                }
+                case HALF_OPEN -> {
+                    databaseHealthMonitor.holdConsumers(holdReason);
+                    halfOpenTimer.schedule(() -> releaseIfAwaitingProbes(breaker, holdReason),
+                            settings.waitInOpenMs(), TimeUnit.MILLISECONDS);
+                }
+                case CLOSED -> databaseHealthMonitor.releaseConsumers(holdReason);
+            }
+        }, meterRegistry);
+    }
+
+    /**
+     * Releases the consumers of a half-open breaker that nothing in flight has probed, so new
+     * records can. Calls beyond the permitted probes are rejected and retried by the adapter.
+     */
+    private void releaseIfAwaitingProbes(SlidingWindowCircuitBreaker breaker, String holdReason) {
+        if (breaker.isAwaitingProbes()) {
+            databaseHealthMonitor.releaseConsumers(holdReason);
+        }
+    }
+
+    private <T> T property(String name, String key, Class<T> type, T defaultValue) {
+        return environment.getProperty(PREFIX + name + "." + key, type, defaultValue);
+    }
+}
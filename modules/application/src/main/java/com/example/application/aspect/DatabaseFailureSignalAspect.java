@@ -0,0 +1,53 @@
+package com.example.application.aspect;
+
+import com.example.application.config.DatabaseHealthMonitor;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * AOP Aspect that reports database failures raised by the outbound adapters to the health monitor.
+ * A failure counts when its cause chain holds an SQLException whose SQLState says the connection
+ * or the server is gone (class 08, 53 insufficient resources, 57P01-57P03 shutdown), or a connection
+ * timeout of the pool. Constraint violations and other data errors are ignored.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class DatabaseFailureSignalAspect {
+
+    private final DatabaseHealthMonitor databaseHealthMonitor;
+
+    /**
+     * Advice after port-out methods that threw
+     * @param error the exception thrown by the adapter
+     */
+    @AfterThrowing(pointcut = "execution(* com.example.port.out..*(..))", throwing = "error")
+    public void reportDatabaseFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && isConnectionFailure(sqlException)) {
+                databaseHealthMonitor.recordFailureSignal("sqlstate", sqlException);
+                return;
+            }
+            if (cause.getCause() == cause) {
+                return;
+            }
+        }
+    }
+
+    private static boolean isConnectionFailure(SQLException e) {
+        String sqlState = e.getSQLState();
+        if (sqlState == null) {
+            return e instanceof SQLTransientConnectionException;
+        }
+        return sqlState.startsWith("08")
+                || sqlState.startsWith("53")
+                || sqlState.equals("57P01")
+                || sqlState.equals("57P02")
+                || sqlState.equals("57P03");
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.application.aspect;
+
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * AOP Aspect to handle @Workload annotation
+ * Binds the annotated workload class to the calling thread for the duration of the call, so the
+ * bulkhead DataSource counts connections against it. Runs before the transaction interceptor,
+ * because the connection of a transaction is requested when the transaction begins.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    /**
+     * Advice around public methods of classes annotated with @Workload, or methods annotated with it
+     * @param joinPoint the join point representing the method execution
+     * @return the method's result
+     */
+    @Around("@within(com.example.commons.bulkhead.Workload) || @annotation(com.example.commons.bulkhead.Workload)")
+    public Object bindWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), Workload.class);
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+        }
+        if (workload == null) {
+            return joinPoint.proceed();
+        }
+        try (WorkloadContext.Scope ignored = WorkloadContext.bind(workload.value())) {
+            return joinPoint.proceed();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.application.benchmark;
+
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.bulkhead.WorkloadContext;
+import com.example.commons.id.UuidV7;
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import com.example.port.out.SaveActionItemPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * Command-line benchmark comparing every {@link SaveActionItemPort} implementation in the context,
+ * i.e. the JPA adapter and the one selected by {@code action-items.store.type}: the plain-JDBC
+ * adapter by default, or the embedded state store with {@code ACTION_ITEMS_STORE=embedded}.
+ * <p>
+ * Active only with the {@code store-benchmark} profile, which also selects the alternative store so
+ * both adapters exist, and disables the web server and the Kafka listeners (see
+ * application-store-benchmark.yml). For each adapter it runs, on {@code benchmark.threads}
+ * threads, the port calls of the ingestion flow: creates ({@code findByUniqueId} plus
+ * {@code saveActionItem}), {@code benchmark.updates-per-item} rounds of status flips
+ * ({@code findByUniqueId} plus {@code updateActionItemIfNewer}) and random lookups. Every
+ * operation runs in a transaction on the ingestion bulkhead, as in {@code ActionItemService},
+ * and throughput, latency percentiles and the CPU time of the calling thread per operation are
+ * logged per phase. The application exits afterwards.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     java -jar application.jar --spring.profiles.active=store-benchmark \
+ *         --benchmark.items=20000 --benchmark.threads=8
+ * </pre>
+ * CPU time covers the application side only (mapping, persistence context, driver); the
+ * database's share shows up in the latency. Benchmark items use uniqueIds starting with
+ * {@code bench-}; remove them from the database with
+ * {@code DELETE FROM action_items WHERE unique_id LIKE 'bench-%'}.
+ */
+@Slf4j
+@Component
+@Profile("store-benchmark")
+@RequiredArgsConstructor
+public class ActionItemStoreBenchmarkRunner implements ApplicationRunner {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final List<SaveActionItemPort> saveActionItemPorts;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationContext applicationContext;
+
+    @Value("${benchmark.items:20000}")
+    private int items;
+
+    @Value("${benchmark.updates-per-item:2}")
+    private int updatesPerItem;
+
+    @Value("${benchmark.lookups:50000}")
+    private int lookups;
+
+    @Value("${benchmark.threads:8}")
+    private int threads;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            for (SaveActionItemPort port : saveActionItemPorts) {
+                benchmark(AopUtils.getTargetClass(port).getSimpleName(), port, transactionTemplate, executor);
+            }
+        } catch (Exception e) {
+            log.error("Store benchmark failed", e);
+            exitCode = 1;
+        } finally {
+            executor.shutdownNow();
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+
+    private void benchmark(String adapter, SaveActionItemPort port, TransactionTemplate transactionTemplate,
+                           ExecutorService executor) throws Exception {
+        String prefix = "bench-" + UuidV7.nextString().substring(0, 13) + "-";
+        LocalDateTime baseTime = LocalDateTime.now().withNano(0);
+        log.info("Benchmarking {}: {} items, {} update rounds, {} lookups, {} threads",
+                adapter, items, updatesPerItem, lookups, threads);
+
+        measure(adapter, "create", items, executor, i -> transactionTemplate.executeWithoutResult(status -> {
+            String uniqueId = prefix + i;
+            if (port.findByUniqueId(uniqueId).isEmpty()) {
+                port.saveActionItem(item(uniqueId, UuidV7.nextString(), ActionItemStatus.OPEN, baseTime));
+            }
+        }));
+        for (int round = 1; round <= updatesPerItem; round++) {
+            ActionItemStatus status = round % 2 == 1 ? ActionItemStatus.CLOSE : ActionItemStatus.OPEN;
+            LocalDateTime updatedAt = baseTime.plusSeconds(round);
+            measure(adapter, "update", items, executor, i -> transactionTemplate.executeWithoutResult(transaction -> {
+                String uniqueId = prefix + i;
+                port.findByUniqueId(uniqueId).ifPresent(existing ->
+                        port.updateActionItemIfNewer(item(uniqueId, existing.getId(), status, updatedAt)));
+            }));
+        }
+        measure(adapter, "lookup", lookups, executor, i -> transactionTemplate.executeWithoutResult(transaction ->
+                port.findByUniqueId(prefix + ThreadLocalRandom.current().nextInt(items))));
+    }
+
+    /**
+     * Runs {@code operations} operations spread over the worker threads and logs throughput, latency
+     * percentiles and CPU time per operation.
+     */
+    private void measure(String adapter, String phase, int operations, ExecutorService executor, IntConsumer operation)
+            throws Exception {
+        long[] latencies = new long[operations];
+        LongAdder cpuTime = new LongAdder();
+        List<Future<?>> workers = new ArrayList<>(threads);
+        long start = System.nanoTime();
+        for (int worker = 0; worker < threads; worker++) {
+            int first = worker;
+            workers.add(executor.submit(() -> {
+                try (WorkloadContext.Scope ignored = WorkloadContext.bind(WorkloadClass.INGESTION)) {
+                    long cpuStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+                    for (int i = first; i < operations; i += threads) {
+                        long operationStart = System.nanoTime();
+                        operation.accept(i);
+                        latencies[i] = System.nanoTime() - operationStart;
+                    }
+                    cpuTime.add(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart);
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        log.info("{} {}: {} ops in {} ms, {} ops/s, p50 {} us, p99 {} us, max {} us, cpu {} us/op",
+                adapter, phase, operations, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                Math.round(operations / (elapsed / 1e9)),
+                micros(percentile(latencies, 0.50)), micros(percentile(latencies, 0.99)),
+                micros(latencies[operations - 1]), micros(cpuTime.sum() / operations));
+    }
+
+    private static ActionItem item(String uniqueId, String id, ActionItemStatus status, LocalDateTime updatedAt) {
+        return ActionItem.builder()
+                .id(id)
+                .uniqueId(uniqueId)
+                .title("Benchmark item " + uniqueId)
+                .description("Created by the store benchmark")
+                .assignee("benchmark")
+                .category("BENCHMARK")
+                .typeCode("BENCH_" + (uniqueId.hashCode() & 7))
+                .status(status)
+                .dueDate(updatedAt.plusDays(7))
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.min(sortedLatencies.length - 1L, Math.round(percentile * sortedLatencies.length))];
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.application.config;
+
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.bulkhead.WorkloadContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that limits how many connections of the underlying pool each workload class may hold.
+ * <p>
+ * A connection requested while a {@link WorkloadClass} is bound to the thread (see
+ * {@link com.example.commons.bulkhead.Workload}) first takes a permit of that class, waiting at
+ * most the class's acquire timeout, and returns it when the connection is closed. With permits
+ * summing to no more than the pool size, a burst in one class (e.g. an error storm) fails fast in
+ * that class instead of starving the others. Connections requested without a workload class
+ * take no permit.
+ * <p>
+ * <b>Metrics:</b> {@code db.bulkhead.permits.available} and {@code db.bulkhead.permits.in_use}
+ * gauges, {@code db.bulkhead.acquire} timer and {@code db.bulkhead.rejected} counter, tagged with
+ * the workload class.
+ */
+@Slf4j
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Map<WorkloadClass, Bulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+
+    /**
+     * @param targetDataSource The pool to limit
+     * @param limits Permits and acquire timeout per workload class; classes without limits are unbounded
+     * @param meterRegistry Registry for the bulkhead metrics
+     */
+    public BulkheadDataSource(DataSource targetDataSource, Map<WorkloadClass, Limit> limits, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        limits.forEach((workloadClass, limit) -> {
+            Bulkhead bulkhead = new Bulkhead(workloadClass, limit, meterRegistry);
+            bulkheads.put(workloadClass, bulkhead);
+            log.info("Connection bulkhead {}: {} connections, acquire timeout {} ms",
+                    workloadClass, limit.maxConnections(), limit.acquireTimeoutMs());
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Bulkhead bulkhead = currentBulkhead();
+        if (bulkhead == null) {
+            return super.getConnection();
+        }
+        bulkhead.acquire();
+        try {
+            return bulkhead.releaseOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Bulkhead bulkhead = currentBulkhead();
+        if (bulkhead == null) {
+            return super.getConnection(username, password);
+        }
+        bulkhead.acquire();
+        try {
+            return bulkhead.releaseOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    private Bulkhead currentBulkhead() {
+        WorkloadClass workloadClass = WorkloadContext.current();
+        return workloadClass != null ? bulkheads.get(workloadClass) : null;
+    }
+
+    /**
+     * Connection limit of one workload class.
+     *
+     * @param maxConnections Maximum connections the class may hold at once
+     * @param acquireTimeoutMs Maximum wait for a permit before the request fails
+     */
+    public record Limit(int maxConnections, long acquireTimeoutMs) {
+    }
+
+    private static final class Bulkhead {
+        private final WorkloadClass workloadClass;
+        private final Limit limit;
+        private final Semaphore permits;
+        private final Timer acquireTimer;
+        private final Counter rejectedCounter;
+
+        private Bulkhead(WorkloadClass workloadClass, Limit limit, MeterRegistry meterRegistry) {
+            this.workloadClass = workloadClass;
+            this.limit = limit;
+            this.permits = new Semaphore(limit.maxConnections(), true);
+            String tag = workloadClass.name().toLowerCase();
+            Gauge.builder("db.bulkhead.permits.available", permits, Semaphore::availablePermits)
+                    .description("Connection permits left in the workload class")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            Gauge.builder("db.bulkhead.permits.in_use", permits, p -> limit.maxConnections() - p.availablePermits())
+                    .description("Connections held by the workload class")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            this.acquireTimer = Timer.builder("db.bulkhead.acquire")
+                    .description("Time waited for a connection permit")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("db.bulkhead.rejected")
+                    .description("Connection requests that timed out waiting for a permit")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+        }
+
+        private void acquire() throws SQLException {
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(limit.acquireTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted waiting for a " + workloadClass + " connection permit", e);
+            } finally {
+                acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (!acquired) {
+                rejectedCounter.increment();
+                throw new SQLTransientConnectionException("Connection bulkhead " + workloadClass + " exhausted: all "
+                        + limit.maxConnections() + " connections in use for " + limit.acquireTimeoutMs() + " ms");
+            }
+        }
+
+        private void release() {
+            permits.release();
+        }
+
+        /**
+         * Wraps a connection so that closing it returns the permit, once.
+         */
+        private Connection releaseOnClose(Connection connection) {
+            AtomicBoolean released = new AtomicBoolean(false);
+            InvocationHandler handler = (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                    try {
+                        connection.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            release();
+                        }
+                    }
+                    return null;
+                }
+                return invoke(connection, method, args);
+            };
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, handler);
+        }
+
+        private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
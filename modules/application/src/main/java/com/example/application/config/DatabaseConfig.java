@@ -1,7 +1,11 @@
 package com.example.application.config;
 
+import com.example.commons.bulkhead.WorkloadClass;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -9,13 +13,20 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Primary;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Configuration
@@ -48,28 +59,137 @@ public class DatabaseConfig {
     @Value("${spring.datasource.hikari.leak-detection-threshold:60000}")
     private long leakDetectionThreshold;
 
+    /** Comma separated JDBC URLs of read replicas; empty sends all traffic to the primary */
+    @Value("${database.replicas.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${database.replicas.maximum-pool-size:10}")
+    private int replicaMaximumPoolSize;
+
+    @Value("${database.replicas.minimum-idle:2}")
+    private int replicaMinimumIdle;
+
+    @Value("${database.replicas.max-lag-ms:5000}")
+    private long replicaMaxLagMs;
+
+    @Value("${database.replicas.lag-check-interval-ms:2000}")
+    private long replicaLagCheckIntervalMs;
+
+    @Value("${database.bulkheads.enabled:true}")
+    private boolean bulkheadsEnabled;
+
+    @Value("${database.bulkheads.ingestion.max-connections:12}")
+    private int ingestionMaxConnections;
+
+    @Value("${database.bulkheads.ingestion.acquire-timeout-ms:30000}")
+    private long ingestionAcquireTimeoutMs;
+
+    @Value("${database.bulkheads.error-capture.max-connections:3}")
+    private int errorCaptureMaxConnections;
+
+    @Value("${database.bulkheads.error-capture.acquire-timeout-ms:2000}")
+    private long errorCaptureAcquireTimeoutMs;
+
+    @Value("${database.bulkheads.admin.max-connections:5}")
+    private int adminMaxConnections;
+
+    @Value("${database.bulkheads.admin.acquire-timeout-ms:5000}")
+    private long adminAcquireTimeoutMs;
+
+    @Value("${database.health.monitor.probe-timeout:2000}")
+    private long probeTimeoutMs;
+
+    private final MeterRegistry meterRegistry;
+
     private HikariDataSource dataSource;
+    private HikariDataSource healthProbePool;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private volatile Consumer<SQLException> connectionFailureListener = e -> { };
+
+    public DatabaseConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
+    /**
+     * The primary pool behind per-workload connection bulkheads, or with replicas configured a
+     * routing DataSource that sends read-only transactions to the replica pools. The routing
+     * DataSource is wrapped in a LazyConnectionDataSourceProxy so the connection is only requested
+     * once the transaction's read-only flag is known.
+     */
     @Bean
     @Primary
     @ConditionalOnMissingBean(DataSource.class)
     public DataSource dataSource() {
-        this.dataSource = createDataSource();
-        return this.dataSource;
+        this.dataSource = createDataSource(databaseUrl, "PostgreSQL-HikariPool", maximumPoolSize, minimumIdle, false);
+        DataSource reporting = new FailureReportingDataSource(dataSource);
+        DataSource primary = bulkheadsEnabled ? createBulkheads(reporting) : reporting;
+        List<String> urls = replicaUrls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        if (urls.isEmpty()) {
+            return primary;
+        }
+
+        List<HikariDataSource> replicaPools = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            replicaPools.add(createDataSource(urls.get(i), "PostgreSQL-ReplicaPool-" + (i + 1),
+                    replicaMaximumPoolSize, replicaMinimumIdle, true));
+        }
+        this.routingDataSource = new ReadWriteRoutingDataSource(primary, replicaPools, replicaMaxLagMs, meterRegistry);
+        this.routingDataSource.startLagProbe(replicaLagCheckIntervalMs);
+
+        LazyConnectionDataSourceProxy lazyDataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        lazyDataSource.setDefaultAutoCommit(false);
+        lazyDataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        log.info("Routing read-only transactions to {} replica pool(s), max lag {} ms", urls.size(), replicaMaxLagMs);
+        return lazyDataSource;
+    }
+
+    @PreDestroy
+    public void closeDataSources() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+        if (healthProbePool != null) {
+            healthProbePool.close();
+        }
     }
 
-    private HikariDataSource createDataSource() {
+    /**
+     * Splits the primary pool between the workload classes.
+     */
+    private DataSource createBulkheads(DataSource pool) {
+        Map<WorkloadClass, BulkheadDataSource.Limit> limits = new EnumMap<>(WorkloadClass.class);
+        limits.put(WorkloadClass.INGESTION, new BulkheadDataSource.Limit(ingestionMaxConnections, ingestionAcquireTimeoutMs));
+        limits.put(WorkloadClass.ERROR_CAPTURE, new BulkheadDataSource.Limit(errorCaptureMaxConnections, errorCaptureAcquireTimeoutMs));
+        limits.put(WorkloadClass.ADMIN, new BulkheadDataSource.Limit(adminMaxConnections, adminAcquireTimeoutMs));
+        int permits = limits.values().stream().mapToInt(BulkheadDataSource.Limit::maxConnections).sum();
+        if (permits > maximumPoolSize) {
+            log.warn("Connection bulkheads allow {} connections but the pool has {}; classes can still starve each other",
+                    permits, maximumPoolSize);
+        }
+        return new BulkheadDataSource(pool, limits, meterRegistry);
+    }
+
+    private HikariDataSource createDataSource(String url, String poolName, int maxPoolSize, int minIdle, boolean readOnly) {
+        log.info("Initializing HikariCP connection pool {} with URL: {}", poolName, url);
+        return new HikariDataSource(hikariConfig(url, poolName, maxPoolSize, minIdle, readOnly));
+    }
+
+    private HikariConfig hikariConfig(String url, String poolName, int maxPoolSize, int minIdle, boolean readOnly) {
         HikariConfig config = new HikariConfig();
         
         // Database connection properties
-        config.setJdbcUrl(databaseUrl);
+        config.setJdbcUrl(url);
         config.setUsername(username);
         config.setPassword(password);
         config.setDriverClassName("org.postgresql.Driver");
+        config.setReadOnly(readOnly);
 
         // Pool configuration for resilience
-        config.setMaximumPoolSize(maximumPoolSize);
-        config.setMinimumIdle(minimumIdle);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(minIdle);
         config.setConnectionTimeout(connectionTimeout);
         config.setIdleTimeout(idleTimeout);
         config.setMaxLifetime(maxLifetime);
@@ -82,118 +202,70 @@ public class DatabaseConfig {
         // Enterprise auto-recovery properties
         config.setInitializationFailTimeout(-1); // Never fail on startup - keep retrying
         config.setRegisterMbeans(true);
-        config.setPoolName("PostgreSQL-HikariPool");
+        config.setPoolName(poolName);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
         config.setKeepaliveTime(Duration.ofMinutes(10).toMillis()); // More frequent keepalive to detect issues faster
         config.setScheduledExecutor(null); // Use default scheduler for connection management
 
         // PostgreSQL-specific optimizations
         config.setAutoCommit(false); // Ensure autoCommit is disabled for transaction management
-        config.addDataSourceProperty("cachePrepStmts", "true");
-        config.addDataSourceProperty("prepStmtCacheSize", "250");
-        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        // pgjdbc statement cache: server-prepare from the first execution and keep the plans per connection
+        config.addDataSourceProperty("prepareThreshold", "1");
+        config.addDataSourceProperty("preparedStatementCacheQueries", "256");
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB", "5");
         config.addDataSourceProperty("ApplicationName", "ActionItemApp");
-
-        log.info("Initializing HikariCP connection pool with URL: {}", databaseUrl);
-        return new HikariDataSource(config);
+        return config;
     }
 
-    private volatile boolean isRecovering = false;
-    private volatile long lastSuccessfulCheck = System.currentTimeMillis();
-
-    @Scheduled(fixedRate = 15000) // Check every 15 seconds for faster recovery
-    public void healthCheck() {
-        log.info("Health check started");
-        
-        if (isRecovering) {
-            log.debug("Recovery in progress, skipping health check");
-            return;
+    /**
+     * Runs {@code SELECT 1} on the health probe pool, which holds a single connection of its own,
+     * so the probe neither waits behind a busy primary pool nor takes a connection from it. Every
+     * step is bounded by the probe timeout.
+     *
+     * @throws SQLException if the database cannot be reached or does not answer in time
+     */
+    public void probe() throws SQLException {
+        HikariDataSource pool = healthProbePool();
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(probeTimeoutMs)));
+            statement.execute("SELECT 1");
+            connection.rollback();
         }
+    }
 
-        if (dataSource == null || dataSource.isClosed()) {
-            log.warn("DataSource is null or closed, attempting recovery...");
-            attemptRecovery();
-            return;
+    /**
+     * Marks the primary pool's connections for replacement: idle connections are closed now, the
+     * ones in use when they are returned. Does not wait for either.
+     */
+    public void evictConnections() {
+        if (dataSource != null && !dataSource.isClosed() && dataSource.getHikariPoolMXBean() != null) {
+            dataSource.getHikariPoolMXBean().softEvictConnections();
+            log.info("Evicted primary pool connections for replacement");
         }
+    }
 
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement stmt = connection.prepareStatement("SELECT 1")) {
-            
-            stmt.executeQuery();
-            lastSuccessfulCheck = System.currentTimeMillis();
-            
-            // Only log success every 2 minutes to reduce noise
-            if (System.currentTimeMillis() % 120000 < 15000) {
-                log.info("Database health check PASSED - Pool stats: Active={}, Idle={}, Total={}", 
-                         dataSource.getHikariPoolMXBean().getActiveConnections(),
-                         dataSource.getHikariPoolMXBean().getIdleConnections(),
-                         dataSource.getHikariPoolMXBean().getTotalConnections());
-            }
-                     
-        } catch (Exception e) {
-            long timeSinceLastSuccess = System.currentTimeMillis() - lastSuccessfulCheck;
-            log.error("Database health check FAILED after {}ms: {} - Attempting recovery...", 
-                     timeSinceLastSuccess, e.getMessage());
-            attemptRecovery();
-        }
+    /**
+     * Registers the callback told about every failed connection request on the primary pool, such as
+     * acquisition timeouts and refused connections. Bulkhead rejections are not reported.
+     */
+    public void onConnectionFailure(Consumer<SQLException> listener) {
+        this.connectionFailureListener = listener;
     }
 
-    private void attemptRecovery() {
-        if (isRecovering) {
-            log.debug("Recovery already in progress, skipping duplicate attempt");
-            return;
-        }
-        
-        isRecovering = true;
-        try {
-            log.info("🔄 Starting automatic database connection recovery...");
-            
-            if (dataSource != null && !dataSource.isClosed()) {
-                // Step 1: Evict all stale connections
-                log.info("Step 1: Purging stale connections from pool");
-                dataSource.getHikariPoolMXBean().softEvictConnections();
-                Thread.sleep(1000);
-                
-                // Step 2: Aggressive connection cleanup
-                try {
-                    dataSource.getHikariPoolMXBean().suspendPool();
-                    Thread.sleep(2000);
-                    dataSource.getHikariPoolMXBean().resumePool();
-                    log.info("Step 2: Pool suspend/resume cycle completed");
-                } catch (Exception e) {
-                    log.warn("Pool management warning: {}", e.getMessage());
-                }
-                
-                // Step 3: Test connectivity with multiple attempts
-                for (int attempt = 1; attempt <= 3; attempt++) {
-                    try (Connection testConnection = dataSource.getConnection();
-                         PreparedStatement stmt = testConnection.prepareStatement("SELECT 1")) {
-                        
-                        stmt.executeQuery();
-                        log.info("✅ Database connection recovery SUCCESSFUL on attempt {}", attempt);
-                        lastSuccessfulCheck = System.currentTimeMillis();
-                        return;
-                        
-                    } catch (SQLException sqlEx) {
-                        if (attempt < 3) {
-                            log.warn("❌ Recovery attempt {} failed: {} - Retrying in 2s...", 
-                                   attempt, sqlEx.getMessage());
-                            Thread.sleep(2000);
-                        } else {
-                            log.error("❌ All recovery attempts failed. Database may be down: {}", 
-                                    sqlEx.getMessage());
-                        }
-                    }
-                }
-                
-            } else {
-                log.error("DataSource is null or closed - cannot perform recovery");
-            }
-            
-        } catch (Exception e) {
-            log.error("Recovery process encountered error: {}", e.getMessage());
-        } finally {
-            isRecovering = false;
+    private synchronized HikariDataSource healthProbePool() {
+        if (healthProbePool == null) {
+            long timeoutMs = Math.max(250, probeTimeoutMs);
+            long timeoutSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs));
+            HikariConfig config = hikariConfig(databaseUrl, "PostgreSQL-HealthProbe", 1, 1, true);
+            config.setConnectionTimeout(timeoutMs);
+            config.setValidationTimeout(timeoutMs);
+            config.setLeakDetectionThreshold(0);
+            config.addDataSourceProperty("connectTimeout", String.valueOf(timeoutSeconds));
+            config.addDataSourceProperty("socketTimeout", String.valueOf(timeoutSeconds + 1));
+            healthProbePool = new HikariDataSource(config);
         }
+        return healthProbePool;
     }
 
     public void logPoolStats() {
@@ -207,4 +279,33 @@ public class DatabaseConfig {
         }
     }
 
-} 
\ No newline at end of file
+    /**
+     * Passes connection requests to the pool and reports the ones that fail to the registered listener.
+     */
+    private class FailureReportingDataSource extends DelegatingDataSource {
+
+        private FailureReportingDataSource(DataSource pool) {
+            super(pool);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                return super.getConnection();
+            } catch (SQLException e) {
+                connectionFailureListener.accept(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            try {
+                return super.getConnection(username, password);
+            } catch (SQLException e) {
+                connectionFailureListener.accept(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -1,133 +1,287 @@
 package com.example.application.config;
 
+import com.example.commons.health.DatabaseAvailabilityChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.listener.MessageListenerContainer;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Database Health Monitor that controls Kafka consumers based on database availability.
- * 
- * This component:
- * 1. Monitors database health using the existing DatabaseConfig health check
- * 2. Pauses all Kafka consumers when database is down
- * 3. Resumes consumers when database recovers
- * 4. Provides configurable thresholds for downtime detection
- * 5. Implements circuit breaker pattern for consumer control
+ * <p>
+ * The monitor is a state machine driven on its own scheduler thread, so neither probing nor
+ * recovery ever holds up the shared {@code @Scheduled} thread or a caller:
+ * <ul>
+ *   <li>HEALTHY - probes succeed; consumers run.</li>
+ *   <li>DEGRADED - a probe failed; consumers still run while the failures stay below
+ *       {@code max-consecutive-failures} or the last success is more recent than {@code downtime-threshold}.</li>
+ *   <li>DOWN - consumers are paused, unless records are journaled; probing continues.</li>
+ *   <li>RECOVERING - a probe succeeded after DOWN; the primary pool's connections are evicted and
+ *       consumers resume once probes keep succeeding for {@code recovery-threshold}. Any failure
+ *       returns to DOWN.</li>
+ * </ul>
+ * Probes run every {@code check-interval} through a dedicated single-connection pool, bounded by
+ * {@code probe-timeout}. Besides the probes, the monitor listens to passive signals: failed
+ * connection requests on the primary pool and connection-class SQLStates raised by the
+ * persistence adapters. A passive signal triggers an immediate probe instead of waiting for the
+ * next interval, so outages are detected as soon as the traffic sees them.
+ * <p>
+ * Entering DOWN and returning to HEALTHY publish a {@link DatabaseAvailabilityChangedEvent}. With
+ * {@code kafka.consumer.journal.enabled} consumers are not paused: the Kafka adapter journals
+ * records locally until the database is back.
+ * <p>
+ * <b>Metrics:</b> {@code database.health.state} (0 HEALTHY, 1 DEGRADED, 2 DOWN, 3 RECOVERING),
+ * {@code database.healthy} and {@code database.consumers.paused} gauges, and
+ * {@code database.health.signals} counting probe outcomes and passive signals by source.
+ *
+ * <b>Configuration:</b> {@code database.health.monitor.*} in application.yml.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DatabaseHealthMonitor {
 
+    /**
+     * Health states of the database as seen by the monitor.
+     */
+    public enum State {
+        HEALTHY, DEGRADED, DOWN, RECOVERING
+    }
+
+    private static final String DATABASE_DOWN = "database-down";
+
     private final DatabaseConfig databaseConfig;
-    private final ApplicationContext applicationContext;
     private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${database.health.monitor.enabled:true}")
+    private boolean enabled;
+
+    @Value("${database.health.monitor.check-interval:5000}")
+    private long checkIntervalMs;
+
+    @Value("${database.health.monitor.probe-timeout:2000}")
+    private long probeTimeoutMs;
 
-    // Configuration for downtime detection
-    private static final long DOWNTIME_THRESHOLD_MS = 10000; // 10 seconds
-    private static final long RECOVERY_THRESHOLD_MS = 5000;  // 5 seconds
-    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+    @Value("${database.health.monitor.downtime-threshold:10000}")
+    private long downtimeThresholdMs;
 
-    // State management
-    private final AtomicBoolean isDatabaseHealthy = new AtomicBoolean(true);
+    @Value("${database.health.monitor.recovery-threshold:5000}")
+    private long recoveryThresholdMs;
+
+    @Value("${database.health.monitor.max-consecutive-failures:3}")
+    private int maxConsecutiveFailures;
+
+    /** With the journal, consumers keep running during outages and their records are journaled */
+    @Value("${kafka.consumer.journal.enabled:false}")
+    private boolean journalEnabled;
+
+    // Written only on the monitor thread, read anywhere
+    private volatile State state = State.HEALTHY;
+    private volatile long recoveryStartedAt;
     private final AtomicBoolean consumersPaused = new AtomicBoolean(false);
     private final AtomicLong lastSuccessfulCheck = new AtomicLong(System.currentTimeMillis());
     private final AtomicLong lastFailureTime = new AtomicLong(0);
     private final AtomicLong consecutiveFailures = new AtomicLong(0);
+    private final AtomicBoolean probeRequested = new AtomicBoolean(false);
+    private final Set<String> pauseReasons = new HashSet<>();
+    private final ScheduledExecutorService monitorExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "database-health-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @PostConstruct
     public void initialize() {
-        log.info("🔄 Database Health Monitor initialized");
-        log.info("📊 Configuration - Downtime threshold: {}ms, Recovery threshold: {}ms, Max failures: {}", 
-                DOWNTIME_THRESHOLD_MS, RECOVERY_THRESHOLD_MS, MAX_CONSECUTIVE_FAILURES);
-        
-        // Perform initial health check
-        performHealthCheck();
+        Gauge.builder("database.health.state", this, monitor -> monitor.state.ordinal())
+                .description("Database health state: 0 HEALTHY, 1 DEGRADED, 2 DOWN, 3 RECOVERING")
+                .register(meterRegistry);
+        Gauge.builder("database.healthy", this, monitor -> monitor.isDatabaseHealthy() ? 1 : 0)
+                .description("1 while the database is healthy")
+                .register(meterRegistry);
+        Gauge.builder("database.consumers.paused", consumersPaused, paused -> paused.get() ? 1 : 0)
+                .description("1 while Kafka consumers are paused for the database")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            log.info("Database Health Monitor disabled");
+            return;
+        }
+        databaseConfig.onConnectionFailure(e -> recordFailureSignal("pool", e));
+        monitorExecutor.scheduleWithFixedDelay(this::runProbe, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Database Health Monitor started - Check interval: {}ms, Probe timeout: {}ms, "
+                        + "Downtime threshold: {}ms, Recovery threshold: {}ms, Max failures: {}",
+                checkIntervalMs, probeTimeoutMs, downtimeThresholdMs, recoveryThresholdMs, maxConsecutiveFailures);
     }
 
-    /**
-     * Scheduled health check that runs every 5 seconds
-     */
-    @Scheduled(fixedRate = 5000)
-    public void scheduledHealthCheck() {
-        performHealthCheck();
+    @PreDestroy
+    void shutdown() {
+        monitorExecutor.shutdownNow();
     }
 
     /**
-     * Performs database health check and manages consumer state
+     * Runs a probe on the monitor thread and waits for it, at most slightly longer than the probe timeout.
      */
     public void performHealthCheck() {
         try {
-            // Use the existing database health check mechanism
-            databaseConfig.healthCheck();
-            
-            // If we reach here, database is healthy
-            handleDatabaseHealthy();
-            
+            monitorExecutor.submit(this::runProbe).get(probeTimeoutMs + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("Database health check still running after {}ms", probeTimeoutMs + 1000);
         } catch (Exception e) {
-            handleDatabaseUnhealthy(e);
+            log.error("Database health check failed to run: {}", e.getMessage());
         }
     }
 
     /**
-     * Handles the case when database is healthy
+     * Reports a database failure seen outside the monitor, e.g. by a persistence adapter. Never
+     * blocks: the failure only triggers an immediate probe, which decides whether the state changes.
+     *
+     * @param source Where the failure was seen, used as metric tag
+     * @param error The failure
      */
-    private void handleDatabaseHealthy() {
-        long currentTime = System.currentTimeMillis();
-        lastSuccessfulCheck.set(currentTime);
+    public void recordFailureSignal(String source, Throwable error) {
+        signalCounter(source, "failure").increment();
+        if (!enabled || monitorExecutor.isShutdown()) {
+            return;
+        }
+        if (probeRequested.compareAndSet(false, true)) {
+            log.debug("Database failure reported by {}: {} - probing now", source, error.getMessage());
+            try {
+                monitorExecutor.execute(() -> {
+                    probeRequested.set(false);
+                    runProbe();
+                });
+            } catch (RuntimeException e) {
+                probeRequested.set(false);
+            }
+        }
+    }
+
+    private void runProbe() {
+        try {
+            databaseConfig.probe();
+            signalCounter("probe", "success").increment();
+            onProbeSucceeded();
+        } catch (SQLException | RuntimeException e) {
+            signalCounter("probe", "failure").increment();
+            onProbeFailed(e);
+        }
+    }
+
+    private void onProbeSucceeded() {
+        long now = System.currentTimeMillis();
+        lastSuccessfulCheck.set(now);
         consecutiveFailures.set(0);
-        
-        boolean wasHealthy = isDatabaseHealthy.getAndSet(true);
-        
-        if (!wasHealthy) {
-            log.info("✅ Database recovered! Last failure was {}ms ago", 
-                    currentTime - lastFailureTime.get());
-            
-            // Check if we should resume consumers
-            if (consumersPaused.get()) {
-                long timeSinceRecovery = currentTime - lastFailureTime.get();
-                if (timeSinceRecovery >= RECOVERY_THRESHOLD_MS) {
-                    resumeConsumers();
-                } else {
-                    log.info("⏳ Waiting {}ms before resuming consumers (recovery threshold)", 
-                            RECOVERY_THRESHOLD_MS - timeSinceRecovery);
+
+        switch (state) {
+            case DEGRADED -> {
+                log.info("Database recovered before consumers were paused");
+                transition(State.HEALTHY);
+            }
+            case DOWN -> {
+                log.info("Database reachable again after {}ms - waiting {}ms before resuming consumers",
+                        now - lastFailureTime.get(), recoveryThresholdMs);
+                recoveryStartedAt = now;
+                databaseConfig.evictConnections();
+                transition(State.RECOVERING);
+            }
+            case RECOVERING -> {
+                if (now - recoveryStartedAt >= recoveryThresholdMs) {
+                    transition(State.HEALTHY);
+                    releaseConsumers(DATABASE_DOWN);
+                    eventPublisher.publishEvent(new DatabaseAvailabilityChangedEvent(true));
                 }
             }
+            case HEALTHY -> {
+                // Nothing to do
+            }
         }
     }
 
+    private void onProbeFailed(Exception error) {
+        long now = System.currentTimeMillis();
+        long failures = consecutiveFailures.incrementAndGet();
+        lastFailureTime.set(now);
+
+        switch (state) {
+            case HEALTHY -> {
+                log.warn("Database health check failed: {}", error.getMessage());
+                transition(State.DEGRADED);
+                pauseIfDown(now, failures);
+            }
+            case DEGRADED -> pauseIfDown(now, failures);
+            case RECOVERING -> {
+                log.warn("Database failed again while recovering: {}", error.getMessage());
+                transition(State.DOWN);
+            }
+            case DOWN -> log.debug("Database still down: {}", error.getMessage());
+        }
+    }
+
+    private void pauseIfDown(long now, long failures) {
+        long timeSinceLastSuccess = now - lastSuccessfulCheck.get();
+        if (failures >= maxConsecutiveFailures && timeSinceLastSuccess >= downtimeThresholdMs) {
+            transition(State.DOWN);
+            if (!journalEnabled) {
+                holdConsumers(DATABASE_DOWN);
+            }
+            eventPublisher.publishEvent(new DatabaseAvailabilityChangedEvent(false));
+        } else {
+            log.warn("Database failing ({} consecutive failures, {}ms since last success) - not pausing consumers yet",
+                    failures, timeSinceLastSuccess);
+        }
+    }
+
+    private void transition(State next) {
+        log.info("Database health {} -> {}", state, next);
+        state = next;
+    }
+
     /**
-     * Handles the case when database is unhealthy
+     * Pauses all Kafka consumers for a reason, e.g. an open circuit breaker. They stay paused until
+     * every reason has been released.
+     *
+     * @param reason Why the consumers are paused
      */
-    private void handleDatabaseUnhealthy(Exception error) {
-        long currentTime = System.currentTimeMillis();
-        long failures = consecutiveFailures.incrementAndGet();
-        lastFailureTime.set(currentTime);
-        
-        boolean wasHealthy = isDatabaseHealthy.getAndSet(false);
-        
-        if (wasHealthy) {
-            log.warn("❌ Database health check failed: {}", error.getMessage());
+    public synchronized void holdConsumers(String reason) {
+        if (pauseReasons.add(reason)) {
+            log.info("Kafka consumers held: {}", reason);
+            pauseConsumers();
         }
-        
-        // Check if we should pause consumers
-        if (!consumersPaused.get() && failures >= MAX_CONSECUTIVE_FAILURES) {
-            long timeSinceLastSuccess = currentTime - lastSuccessfulCheck.get();
-            
-            if (timeSinceLastSuccess >= DOWNTIME_THRESHOLD_MS) {
-                pauseConsumers();
-            } else {
-                log.warn("⏳ Database failing but waiting {}ms before pausing consumers (downtime threshold)", 
-                        DOWNTIME_THRESHOLD_MS - timeSinceLastSuccess);
+    }
+
+    /**
+     * Releases a reason given to {@link #holdConsumers(String)}; resumes the consumers once none is left.
+     *
+     * @param reason The reason to release
+     */
+    public synchronized void releaseConsumers(String reason) {
+        if (pauseReasons.remove(reason)) {
+            log.info("Kafka consumers released: {}", reason);
+            if (pauseReasons.isEmpty()) {
+                resumeConsumers();
             }
         }
     }
@@ -139,20 +293,20 @@ public class DatabaseHealthMonitor {
         if (consumersPaused.compareAndSet(false, true)) {
             try {
                 log.warn("🛑 PAUSING all Kafka consumers due to database downtime");
-                
+
                 Collection<MessageListenerContainer> containers = kafkaListenerEndpointRegistry.getAllListenerContainers();
-                
+
                 for (MessageListenerContainer container : containers) {
                     if (container.isRunning()) {
                         container.pause();
-                        log.info("⏸️ Paused consumer: {} (topic: {})", 
-                                container.getListenerId(), 
+                        log.info("⏸️ Paused consumer: {} (topic: {})",
+                                container.getListenerId(),
                                 container.getAssignedPartitions());
                     }
                 }
-                
+
                 log.warn("🛑 All {} Kafka consumers have been PAUSED", containers.size());
-                
+
             } catch (Exception e) {
                 log.error("❌ Failed to pause Kafka consumers", e);
                 consumersPaused.set(false); // Reset state on error
@@ -167,20 +321,20 @@ public class DatabaseHealthMonitor {
         if (consumersPaused.compareAndSet(true, false)) {
             try {
                 log.info("▶️ RESUMING all Kafka consumers after database recovery");
-                
+
                 Collection<MessageListenerContainer> containers = kafkaListenerEndpointRegistry.getAllListenerContainers();
-                
+
                 for (MessageListenerContainer container : containers) {
                     if (container.isPauseRequested()) {
                         container.resume();
-                        log.info("▶️ Resumed consumer: {} (topic: {})", 
-                                container.getListenerId(), 
+                        log.info("▶️ Resumed consumer: {} (topic: {})",
+                                container.getListenerId(),
                                 container.getAssignedPartitions());
                     }
                 }
-                
+
                 log.info("▶️ All {} Kafka consumers have been RESUMED", containers.size());
-                
+
             } catch (Exception e) {
                 log.error("❌ Failed to resume Kafka consumers", e);
                 consumersPaused.set(true); // Reset state on error
@@ -188,11 +342,25 @@ public class DatabaseHealthMonitor {
         }
     }
 
+    private Counter signalCounter(String source, String outcome) {
+        return Counter.builder("database.health.signals")
+                .description("Database health probe outcomes and passive failure signals")
+                .tags("source", source, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets current health state
+     */
+    public State getState() {
+        return state;
+    }
+
     /**
-     * Gets current health status
+     * Gets current health status; only HEALTHY counts as healthy
      */
     public boolean isDatabaseHealthy() {
-        return isDatabaseHealthy.get();
+        return state == State.HEALTHY;
     }
 
     /**
@@ -221,11 +389,11 @@ public class DatabaseHealthMonitor {
      */
     public void logStatus() {
         log.info("📊 Database Health Monitor Status - " +
-                "Healthy: {}, Consumers Paused: {}, " +
-                "Time Since Success: {}ms, Consecutive Failures: {}", 
-                isDatabaseHealthy.get(), 
+                "State: {}, Consumers Paused: {}, " +
+                "Time Since Success: {}ms, Consecutive Failures: {}",
+                state,
                 consumersPaused.get(),
                 getTimeSinceLastSuccess(),
                 consecutiveFailures.get());
     }
-} 
\ No newline at end of file
+}
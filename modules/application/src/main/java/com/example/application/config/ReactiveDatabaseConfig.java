@@ -0,0 +1,99 @@
+package com.example.application.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.Duration;
+
+/**
+ * R2DBC pool and reactive transactions for the reactive ingestion mode
+ * ({@code kafka.consumer.reactive.enabled=true}).
+ * <p>
+ * The pool sits next to the Hikari pools of {@link DatabaseConfig}, which keep serving everything
+ * else. Boot's R2DBC auto-configuration is excluded in application.yml: its transaction manager
+ * would displace the JPA one, so the R2dbcTransactionManager stays private to the
+ * {@link TransactionalOperator} exposed here.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "kafka.consumer.reactive.enabled", havingValue = "true")
+public class ReactiveDatabaseConfig {
+
+    @Value("${database.r2dbc.url:r2dbc:postgresql://localhost:5432/sample_db}")
+    private String url;
+
+    @Value("${spring.datasource.username:postgres}")
+    private String username;
+
+    @Value("${spring.datasource.password:password}")
+    private String password;
+
+    @Value("${database.r2dbc.initial-size:4}")
+    private int initialSize;
+
+    @Value("${database.r2dbc.max-size:20}")
+    private int maxSize;
+
+    @Value("${database.r2dbc.max-acquire-time-ms:30000}")
+    private long maxAcquireTimeMs;
+
+    @Value("${database.r2dbc.max-idle-time-ms:600000}")
+    private long maxIdleTimeMs;
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * Pooled PostgreSQL connections for the R2DBC adapter. Closed in {@link #closeConnectionPool()},
+     * as {@code ConnectionPool.close()} only returns a publisher.
+     */
+    @Bean(destroyMethod = "")
+    public ConnectionFactory reactiveConnectionFactory() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("PostgreSQL-R2dbcPool")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(Duration.ofMillis(maxAcquireTimeMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .validationQuery("SELECT 1")
+                .build());
+        log.info("Created R2DBC pool for {} with {}..{} connections", url, initialSize, maxSize);
+        return connectionPool;
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionFactory reactiveConnectionFactory) {
+        return DatabaseClient.create(reactiveConnectionFactory);
+    }
+
+    /**
+     * Runs a publisher in an R2DBC transaction; statements issued through
+     * {@link #reactiveDatabaseClient} inside it share the transaction's connection.
+     */
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory reactiveConnectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(reactiveConnectionFactory));
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.application.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that sends read-only transactions to replica pools and everything else to the primary.
+ * <p>
+ * The route is chosen when a connection is requested, from the read-only flag of the current
+ * transaction, so it must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * that defers the request until the transaction has been set up. Replicas are used round robin.
+ * A background probe measures each replica's replay lag; a replica that lags more than
+ * {@code maxLagMs} or cannot be reached is skipped until it catches up, and read-only
+ * transactions fall back to the primary when no replica is usable.
+ * <p>
+ * <b>Metrics:</b> {@code datasource.routing} counts connections per target and reason,
+ * {@code datasource.replica.lag} reports the last measured lag of each replica in milliseconds.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    /** Replay lag in milliseconds; 0 when the replica has replayed everything it received or is not a standby */
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter writeRoutes;
+    private final Counter readRoutes;
+    private final Counter fallbackRoutes;
+    private final ScheduledExecutorService lagProbe = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                                      long maxLagMs, MeterRegistry meterRegistry) {
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxLagMs = maxLagMs;
+        this.writeRoutes = routeCounter(meterRegistry, PRIMARY, "read-write");
+        this.readRoutes = routeCounter(meterRegistry, "replica", "read-only");
+        this.fallbackRoutes = routeCounter(meterRegistry, PRIMARY, "replica-unavailable");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.pool.getPoolName(), replica.pool);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMs)
+                    .description("Last measured replay lag of a read replica")
+                    .baseUnit("milliseconds")
+                    .tag("pool", replica.pool.getPoolName())
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Starts probing replica lag at a fixed interval.
+     *
+     * @param intervalMs Delay between probes of all replicas
+     */
+    public void startLagProbe(long intervalMs) {
+        lagProbe.scheduleWithFixedDelay(this::probeReplicas, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeRoutes.increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                readRoutes.increment();
+                return replica.pool.getPoolName();
+            }
+        }
+        fallbackRoutes.increment();
+        return PRIMARY;
+    }
+
+    private void probeReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                    resultSet.next();
+                    replica.lagMs = resultSet.getLong(1);
+                }
+                connection.rollback();
+                replica.setAvailable(replica.lagMs <= maxLagMs, "lag " + replica.lagMs + " ms");
+            } catch (Exception e) {
+                replica.setAvailable(false, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops the lag probe and closes the replica pools. The primary is owned by the caller.
+     */
+    @Override
+    public void close() {
+        lagProbe.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out by the read/write routing DataSource")
+                .tags("target", target, "reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private volatile boolean available;
+        private volatile long lagMs;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        private void setAvailable(boolean available, String detail) {
+            if (this.available != available) {
+                if (available) {
+                    log.info("Read replica {} is usable again ({})", pool.getPoolName(), detail);
+                } else {
+                    log.warn("Read replica {} is skipped, reads fall back to the primary ({})", pool.getPoolName(), detail);
+                }
+            }
+            this.available = available;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.application.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Circuit breaker over a count-based sliding window of call outcomes.
+ * <p>
+ * CLOSED: every call runs, and its outcome goes into a window of the last {@code windowSize}
+ * calls. Once the window holds {@code minimumCalls}, the breaker opens when the share of failed
+ * calls reaches {@code failureRateThreshold} or the share of calls slower than
+ * {@code slowCallDurationMs} reaches {@code slowCallRateThreshold}.
+ * OPEN: calls are rejected for {@code waitInOpenMs}; the next call, or {@link #checkHalfOpen()},
+ * then moves the breaker to HALF_OPEN.
+ * HALF_OPEN: {@code halfOpenPermittedCalls} probe calls run and the others are rejected; the
+ * breaker closes once all probes succeed in time and reopens on the first one that does not.
+ * <p>
+ * A permission carries the generation of the state it was granted in, so calls that outlive a
+ * state change do not count towards the next state.
+ * <p>
+ * <b>Metrics:</b> {@code circuit.breaker.state} (0 CLOSED, 1 OPEN, 2 HALF_OPEN),
+ * {@code circuit.breaker.failure.rate} and {@code circuit.breaker.slow.call.rate} gauges, and
+ * {@code circuit.breaker.calls} counting successful, failed, slow and rejected calls, tagged with
+ * the breaker name.
+ */
+@Slf4j
+public class SlidingWindowCircuitBreaker {
+
+    /** Permission value for a rejected call */
+    public static final long REJECTED = -1;
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    /**
+     * States of the breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Thresholds of a breaker.
+     *
+     * @param windowSize Number of most recent calls the rates are computed over
+     * @param minimumCalls Calls the window must hold before the breaker can open
+     * @param failureRateThreshold Share of failed calls, 0 to 1, that opens the breaker
+     * @param slowCallRateThreshold Share of slow calls, 0 to 1, that opens the breaker
+     * @param slowCallDurationMs Duration from which a call counts as slow
+     * @param waitInOpenMs How long the breaker stays open before probing
+     * @param halfOpenPermittedCalls Probe calls let through while half-open
+     */
+    public record Settings(int windowSize, int minimumCalls, double failureRateThreshold,
+                           double slowCallRateThreshold, long slowCallDurationMs, long waitInOpenMs,
+                           int halfOpenPermittedCalls) {
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Consumer<SlidingWindowCircuitBreaker> stateListener;
+    private final byte[] window;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter slowCounter;
+    private final Counter rejectedCounter;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private int halfOpenStarted;
+    private int halfOpenSucceeded;
+
+    /**
+     * @param name Breaker name, used in logs and as metric tag
+     * @param settings Thresholds of the breaker
+     * @param stateListener Told about every state change, outside the breaker's lock; notifications of
+     *                      quick successive changes may overtake each other, so it should act on {@link #getState()}
+     * @param meterRegistry Registry for the breaker metrics
+     */
+    public SlidingWindowCircuitBreaker(String name, Settings settings, Consumer<SlidingWindowCircuitBreaker> stateListener,
+                                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.stateListener = stateListener;
+        this.window = new byte[settings.windowSize()];
+        Gauge.builder("circuit.breaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("Circuit breaker state: 0 CLOSED, 1 OPEN, 2 HALF_OPEN")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("circuit.breaker.failure.rate", this, breaker -> breaker.rate(FAILED))
+                .description("Share of failed calls in the sliding window")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("circuit.breaker.slow.call.rate", this, breaker -> breaker.rate(SLOW))
+                .description("Share of slow calls in the sliding window")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.successCounter = callCounter(meterRegistry, name, "success");
+        this.failureCounter = callCounter(meterRegistry, name, "failure");
+        this.slowCounter = callCounter(meterRegistry, name, "slow");
+        this.rejectedCounter = callCounter(meterRegistry, name, "rejected");
+        log.info("Circuit breaker {}: {}", name, settings);
+    }
+
+    /**
+     * Asks to run a call.
+     *
+     * @return a permission to pass to {@link #onComplete}, or {@link #REJECTED}
+     */
+    public long tryAcquirePermission() {
+        State changed = null;
+        long permission;
+        synchronized (this) {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAt >= settings.waitInOpenMs()) {
+                changed = transition(State.HALF_OPEN);
+            }
+            if (state == State.CLOSED) {
+                permission = generation;
+            } else if (state == State.HALF_OPEN && halfOpenStarted < settings.halfOpenPermittedCalls()) {
+                halfOpenStarted++;
+                permission = generation;
+            } else {
+                permission = REJECTED;
+            }
+        }
+        if (permission == REJECTED) {
+            rejectedCounter.increment();
+        }
+        notifyListener(changed);
+        return permission;
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param permission The permission the call ran with
+     * @param durationNanos How long the call took
+     * @param failed Whether the call failed in a way that counts against the breaker
+     */
+    public void onComplete(long permission, long durationNanos, boolean failed) {
+        boolean slow = TimeUnit.NANOSECONDS.toMillis(durationNanos) >= settings.slowCallDurationMs();
+        (failed ? failureCounter : slow ? slowCounter : successCounter).increment();
+
+        State changed = null;
+        synchronized (this) {
+            if (permission != generation) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                if (failed || slow) {
+                    changed = transition(State.OPEN);
+                } else if (++halfOpenSucceeded >= settings.halfOpenPermittedCalls()) {
+                    changed = transition(State.CLOSED);
+                }
+            } else if (state == State.CLOSED) {
+                record((byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0)));
+                if (recorded >= settings.minimumCalls()
+                        && (rate(FAILED) >= settings.failureRateThreshold() || rate(SLOW) >= settings.slowCallRateThreshold())) {
+                    log.warn("Circuit breaker {} opening: failure rate {}, slow call rate {} over the last {} calls",
+                            name, rate(FAILED), rate(SLOW), recorded);
+                    changed = transition(State.OPEN);
+                }
+            }
+        }
+        notifyListener(changed);
+    }
+
+    /**
+     * Moves an open breaker to HALF_OPEN once its wait is over, without waiting for a call to ask.
+     */
+    public void checkHalfOpen() {
+        State changed = null;
+        synchronized (this) {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAt >= settings.waitInOpenMs()) {
+                changed = transition(State.HALF_OPEN);
+            }
+        }
+        notifyListener(changed);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns whether the breaker is HALF_OPEN and no probe call has started yet.
+     */
+    public synchronized boolean isAwaitingProbes() {
+        return state == State.HALF_OPEN && halfOpenStarted == 0;
+    }
+
+    private void record(byte outcome) {
+        if (recorded == window.length) {
+            byte evicted = window[next];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        window[next] = outcome;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+        next = (next + 1) % window.length;
+    }
+
+    private synchronized double rate(byte outcome) {
+        if (recorded == 0) {
+            return 0;
+        }
+        return (double) (outcome == FAILED ? failures : slowCalls) / recorded;
+    }
+
+    private State transition(State target) {
+        log.info("Circuit breaker {} {} -> {}", name, state, target);
+        state = target;
+        generation++;
+        halfOpenStarted = 0;
+        halfOpenSucceeded = 0;
+        if (target == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+        if (target == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+        return target;
+    }
+
+    private void notifyListener(State changed) {
+        if (changed != null) {
+            try {
+                stateListener.accept(this);
+            } catch (RuntimeException e) {
+                log.error("Circuit breaker {} state listener failed", name, e);
+            }
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("circuit.breaker.calls")
+                .description("Calls seen by the circuit breaker")
+                .tags("name", name, "outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -33,6 +33,7 @@ public class DatabaseHealthController {
     public ResponseEntity<Map<String, Object>> getDatabaseHealth() {
         Map<String, Object> response = new HashMap<>();
         response.put("healthy", databaseHealthMonitor.isDatabaseHealthy());
+        response.put("state", databaseHealthMonitor.getState());
         response.put("timeSinceLastSuccess", databaseHealthMonitor.getTimeSinceLastSuccess());
         response.put("consecutiveFailures", databaseHealthMonitor.getConsecutiveFailures());
         response.put("timestamp", System.currentTimeMillis());
@@ -62,6 +63,7 @@ public class DatabaseHealthController {
         // Database health
         response.put("database", Map.of(
             "healthy", databaseHealthMonitor.isDatabaseHealthy(),
+            "state", databaseHealthMonitor.getState(),
             "timeSinceLastSuccess", databaseHealthMonitor.getTimeSinceLastSuccess(),
             "consecutiveFailures", databaseHealthMonitor.getConsecutiveFailures()
         ));
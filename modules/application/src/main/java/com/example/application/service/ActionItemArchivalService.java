@@ -0,0 +1,152 @@
+package com.example.application.service;
+
+import com.example.application.config.DatabaseHealthMonitor;
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.bulkhead.WorkloadContext;
+import com.example.domain.model.ArchiveChunk;
+import com.example.port.out.ArchiveActionItemsPort;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Application service that moves CLOSE action items out of the hot action_items table into the
+ * archive, keeping the live table and its indexes small enough to stay cached.
+ * <p>
+ * A run moves items in keyset chunks of {@code batch-size}, each in its own short transaction,
+ * until a chunk moves nothing, and throttles itself between chunks: it sleeps long enough that at most {@code max-duty-cycle}
+ * of the run is spent inside chunk transactions, so the pause grows when the database is slow.
+ * The run stops early while the database health monitor reports the database as unhealthy.
+ * Runs execute on a dedicated thread so they never hold up the shared scheduler.
+ *
+ * <b>Business Rules:</b>
+ * <ul>
+ *   <li>Only CLOSE items whose updatedAt is older than {@code closed-for-days} are archived.</li>
+ *   <li>Archived items remain visible to lookups by uniqueId and count in the status aggregates.</li>
+ *   <li>A newer update for an archived item moves it back to the live table.</li>
+ * </ul>
+ *
+ * <b>Configuration:</b> {@code action-items.archive.*} in application.yml.
+ *
+ * @see com.example.port.out.ArchiveActionItemsPort
+ */
+@Service
+@Workload(WorkloadClass.ADMIN)
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemArchivalService {
+
+    private final ArchiveActionItemsPort archiveActionItemsPort;
+    private final DatabaseHealthMonitor databaseHealthMonitor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService archiveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "action-item-archival");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${action-items.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${action-items.archive.closed-for-days:30}")
+    private int closedForDays;
+
+    @Value("${action-items.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${action-items.archive.max-duty-cycle:0.25}")
+    private double maxDutyCycle;
+
+    @Value("${action-items.archive.min-pause-ms:50}")
+    private long minPauseMs;
+
+    /**
+     * Starts an archival run unless one is still in progress.
+     */
+    @Scheduled(cron = "${action-items.archive.cron:0 30 2 * * *}")
+    public void scheduleArchival() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("Skipping action item archival: previous run still in progress");
+            return;
+        }
+        // Runs outside the proxy, so the workload class is bound explicitly
+        archiveExecutor.execute(() -> {
+            try (WorkloadContext.Scope ignored = WorkloadContext.bind(WorkloadClass.ADMIN)) {
+                archiveClosedItems();
+            } catch (Exception e) {
+                log.error("Action item archival failed: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        archiveExecutor.shutdownNow();
+    }
+
+    /**
+     * Moves all eligible CLOSE items to the archive, chunk by chunk.
+     *
+     * @return Number of items archived
+     */
+    public long archiveClosedItems() {
+        LocalDateTime closedBefore = LocalDateTime.now().minusDays(closedForDays);
+        long startTime = System.currentTimeMillis();
+        long archived = 0;
+        int chunks = 0;
+        ArchiveChunk chunk = null;
+
+        log.info("Archiving CLOSE action items last updated before {}", closedBefore);
+        while (!Thread.currentThread().isInterrupted()) {
+            if (!databaseHealthMonitor.isDatabaseHealthy()) {
+                log.warn("Stopping action item archival after {} items: database is unhealthy", archived);
+                break;
+            }
+            long chunkStart = System.nanoTime();
+            chunk = archiveActionItemsPort.archiveClosedItems(closedBefore, chunk, batchSize);
+            long chunkMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart);
+            archived += chunk.getArchived();
+            chunks++;
+            // SKIP LOCKED can return a short chunk with more candidates behind it
+            if (chunk.getArchived() == 0) {
+                break;
+            }
+            if (!pause(chunkMillis)) {
+                break;
+            }
+        }
+        log.info("Archived {} action items in {} chunks and {} ms", archived, chunks, System.currentTimeMillis() - startTime);
+        return archived;
+    }
+
+    /**
+     * Sleeps so that the chunk just executed takes at most {@code max-duty-cycle} of the elapsed time.
+     *
+     * @return false if the thread was interrupted
+     */
+    private boolean pause(long chunkMillis) {
+        long pauseMs = Math.max(minPauseMs, Math.round(chunkMillis * (1 - maxDutyCycle) / maxDutyCycle));
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.application.service;
+
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.id.UuidV7;
+import com.example.commons.resilience.CircuitBreaker;
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ImportSummary;
+import com.example.port.in.BackfillActionItemsUseCase;
+import com.example.port.in.ProcessActionItemCommand;
+import com.example.port.out.MergeActionItemsPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Application service that rebuilds action items from replayed topic data in chunks.
+ * <p>
+ * Each message is validated by {@link ActionItemStateValidator}, like bulk imports (domain rules
+ * plus the active master configurations); valid states are merged through
+ * {@link MergeActionItemsPort} in a single set-based statement per chunk.
+ *
+ * <b>Business Rules:</b>
+ * <ul>
+ *   <li>The latest updatedAt per uniqueId wins, within the chunk and against stored data.</li>
+ *   <li>A uniqueId may first appear with CLOSE, since a replay converges on the final state.</li>
+ *   <li>Invalid messages, including a missing or unknown status, are counted and skipped; they
+ *       do not fail the chunk.</li>
+ * </ul>
+ *
+ * @see com.example.port.in.BackfillActionItemsUseCase
+ * @see com.example.port.out.MergeActionItemsPort
+ */
+@Service
+@Workload(WorkloadClass.INGESTION)
+@CircuitBreaker("persistence")
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemBackfillService implements BackfillActionItemsUseCase {
+
+    private final ActionItemStateValidator validator;
+    private final MergeActionItemsPort mergeActionItemsPort;
+
+    @Override
+    public ImportSummary backfill(List<ProcessActionItemCommand> commands) {
+        Set<String> activeCategoryTypeCodes = validator.activeCategoryTypeCodes();
+
+        List<ActionItem> valid = new ArrayList<>(commands.size());
+        long rejected = 0;
+        for (ProcessActionItemCommand command : commands) {
+            try {
+                valid.add(buildValidatedDomainModel(command, activeCategoryTypeCodes));
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                log.debug("Skipping invalid backfill message for uniqueId: {}: {}", command.getUniqueId(), e.getMessage());
+            }
+        }
+
+        int written = valid.isEmpty() ? 0 : mergeActionItemsPort.mergeActionItems(valid);
+        return ImportSummary.builder()
+                .received(commands.size())
+                .imported(written)
+                .rejected(rejected)
+                .skippedExisting(valid.size() - written)
+                .build();
+    }
+
+    private ActionItem buildValidatedDomainModel(ProcessActionItemCommand command, Set<String> activeCategoryTypeCodes) {
+        LocalDateTime now = LocalDateTime.now();
+        ActionItem actionItem = ActionItem.builder()
+                .id(UuidV7.nextString())
+                .uniqueId(command.getUniqueId())
+                .title(command.getTitle())
+                .description(command.getDescription())
+                .assignee(command.getAssignee())
+                .category(command.getCategory())
+                .typeCode(command.getTypeCode())
+                .status(ActionItemStateValidator.parseStatus(command.getStatus()))
+                .dueDate(command.getDueDate())
+                .createdAt(command.getCreatedAt() != null ? command.getCreatedAt() : now)
+                .updatedAt(command.getUpdatedAt() != null ? command.getUpdatedAt() : now)
+                .build();
+        return validator.validate(actionItem, activeCategoryTypeCodes);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.application.service;
+
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import com.example.port.in.ExportActionItemsUseCase;
+import com.example.port.out.StreamActionItemsPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * Application service that implements streaming action item exports.
+ * <p>
+ * Runs the export inside a read-only transaction, which PostgreSQL requires for cursor-based
+ * fetching: without it the driver would buffer the full result set in memory.
+ *
+ * @see com.example.port.in.ExportActionItemsUseCase
+ * @see com.example.port.out.StreamActionItemsPort
+ */
+@Service
+@Workload(WorkloadClass.ADMIN)
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemExportService implements ExportActionItemsUseCase {
+
+    private final StreamActionItemsPort streamActionItemsPort;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportActionItems(ActionItemStatus status, Consumer<ActionItem> sink) {
+        long startTime = System.currentTimeMillis();
+        log.info("Starting action item export (status: {})", status != null ? status : "ALL");
+
+        long exported = streamActionItemsPort.streamActionItems(status, sink);
+
+        log.info("Exported {} action items in {} ms", exported, System.currentTimeMillis() - startTime);
+        return exported;
+    }
+}
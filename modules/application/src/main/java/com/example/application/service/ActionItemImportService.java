@@ -0,0 +1,204 @@
+package com.example.application.service;
+
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.bulkhead.WorkloadContext;
+import com.example.commons.id.UuidV7;
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ImportRejection;
+import com.example.domain.model.ImportSummary;
+import com.example.port.in.ActionItemImport;
+import com.example.port.in.CreateActionItemCommand;
+import com.example.port.in.CreateActionItemUseCase;
+import com.example.port.out.ActionItemOutboxPort;
+import com.example.port.out.BulkInsertActionItemsPort;
+import com.example.port.out.SaveActionItemPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Application service that creates action items outside the Kafka flow, one at a time or in bulk.
+ * <p>
+ * Bulk imports are validated row by row by {@link ActionItemStateValidator} against the domain
+ * rules and an in-memory snapshot of the active master configurations, then loaded through
+ * {@link BulkInsertActionItemsPort} in batches of {@code action-items.import.batch-size}. Only
+ * the current batch is held in memory.
+ *
+ * <b>Business Rules:</b>
+ * <ul>
+ *   <li>Imported items may be OPEN or CLOSE, so closed history can be migrated.</li>
+ *   <li>Existing uniqueIds are skipped, never overwritten; updates go through Kafka.</li>
+ *   <li>A uniqueId repeated within the same batch is rejected after its first occurrence.</li>
+ *   <li>Every created item is announced through the outbox, by the bulk insert itself for batches.</li>
+ * </ul>
+ *
+ * @see com.example.port.in.CreateActionItemUseCase
+ * @see com.example.port.out.BulkInsertActionItemsPort
+ */
+@Service
+@Workload(WorkloadClass.ADMIN)
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemImportService implements CreateActionItemUseCase {
+
+    private final ActionItemStateValidator validator;
+    private final SaveActionItemPort saveActionItemPort;
+    private final BulkInsertActionItemsPort bulkInsertActionItemsPort;
+    private final ActionItemStatusAggregateService statusAggregateService;
+    private final ActionItemOutboxPort actionItemOutboxPort;
+
+    @Value("${action-items.import.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${action-items.outbox.enabled:true}")
+    private boolean outboxEnabled;
+
+    /**
+     * Creates a single new action item.
+     *
+     * @param command The command containing action item details
+     * @return The persisted action item
+     * @throws IllegalArgumentException if validation fails or the uniqueId already exists
+     */
+    @Override
+    @Transactional
+    public ActionItem createActionItem(CreateActionItemCommand command) {
+        ActionItem actionItem = validator.validate(buildDomainModel(command), validator.activeCategoryTypeCodes());
+
+        if (saveActionItemPort.findByUniqueId(actionItem.getUniqueId()).isPresent()) {
+            throw new IllegalArgumentException("Action item already exists with uniqueId: " + actionItem.getUniqueId());
+        }
+        ActionItem saved = saveActionItemPort.saveActionItem(actionItem);
+        if (outboxEnabled) {
+            actionItemOutboxPort.append(ActionItemService.toStateChange(null, saved));
+        }
+        statusAggregateService.recordTransition(null, saved);
+        return saved;
+    }
+
+    @Override
+    public ActionItemImport startImport(Consumer<ImportRejection> rejectionSink) {
+        log.info("Starting bulk action item import with batch size {}", batchSize);
+        return new BatchImport(rejectionSink, validator.activeCategoryTypeCodes());
+    }
+
+    private static ActionItem buildDomainModel(CreateActionItemCommand command) {
+        LocalDateTime now = LocalDateTime.now();
+        return ActionItem.builder()
+                .id(UuidV7.nextString())
+                .uniqueId(command.getUniqueId())
+                .title(command.getTitle())
+                .description(command.getDescription())
+                .assignee(command.getAssignee())
+                .category(command.getCategory())
+                .typeCode(command.getTypeCode())
+                .status(ActionItemStateValidator.parseStatus(command.getStatus()))
+                .dueDate(command.getDueDate())
+                .createdAt(command.getCreatedAt() != null ? command.getCreatedAt() : now)
+                .updatedAt(command.getUpdatedAt() != null ? command.getUpdatedAt() : now)
+                .build();
+    }
+
+    /**
+     * Import session that validates rows as they arrive and loads them batch by batch.
+     */
+    private final class BatchImport implements ActionItemImport {
+
+        private final Consumer<ImportRejection> rejectionSink;
+        private final Set<String> activeCategoryTypeCodes;
+        private final List<ActionItem> batch = new ArrayList<>(batchSize);
+        private final Set<String> batchUniqueIds = new HashSet<>();
+        private final long startTime = System.currentTimeMillis();
+        private long received;
+        private long imported;
+        private long rejected;
+        private long skippedExisting;
+
+        private BatchImport(Consumer<ImportRejection> rejectionSink, Set<String> activeCategoryTypeCodes) {
+            this.rejectionSink = rejectionSink;
+            this.activeCategoryTypeCodes = activeCategoryTypeCodes;
+        }
+
+        @Override
+        public void add(long row, CreateActionItemCommand command) {
+            received++;
+            ActionItem actionItem;
+            try {
+                actionItem = validator.validate(buildDomainModel(command), activeCategoryTypeCodes);
+            } catch (IllegalArgumentException e) {
+                reject(row, command.getUniqueId(), e.getMessage());
+                return;
+            }
+            if (!batchUniqueIds.add(actionItem.getUniqueId())) {
+                reject(row, command.getUniqueId(), "Duplicate uniqueId within the same batch");
+                return;
+            }
+            batch.add(actionItem);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void reject(long row, String reason) {
+            received++;
+            reject(row, null, reason);
+        }
+
+        @Override
+        public ImportSummary finish() {
+            flush();
+            ImportSummary summary = ImportSummary.builder()
+                    .received(received)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .skippedExisting(skippedExisting)
+                    .build();
+            log.info("Finished bulk import in {} ms: {}", System.currentTimeMillis() - startTime, summary);
+            return summary;
+        }
+
+        private void reject(long row, String uniqueId, String reason) {
+            rejected++;
+            rejectionSink.accept(ImportRejection.builder()
+                    .row(row)
+                    .uniqueId(uniqueId)
+                    .reason(reason)
+                    .build());
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            // Called by the reader after startImport has returned, outside the proxy, so the
+            // workload class is bound explicitly
+            List<String> inserted;
+            try (WorkloadContext.Scope ignored = WorkloadContext.bind(WorkloadClass.ADMIN)) {
+                inserted = bulkInsertActionItemsPort.insertActionItems(batch);
+            }
+            imported += inserted.size();
+            skippedExisting += batch.size() - inserted.size();
+
+            Map<String, ActionItem> byUniqueId = new HashMap<>(batch.size() * 2);
+            batch.forEach(actionItem -> byUniqueId.put(actionItem.getUniqueId(), actionItem));
+            inserted.forEach(uniqueId -> statusAggregateService.recordTransition(null, byUniqueId.get(uniqueId)));
+
+            log.debug("Loaded batch of {} action items ({} inserted)", batch.size(), inserted.size());
+            batch.clear();
+            batchUniqueIds.clear();
+        }
+    }
+}
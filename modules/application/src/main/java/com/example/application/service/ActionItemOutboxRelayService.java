@@ -0,0 +1,159 @@
+package com.example.application.service;
+
+import com.example.application.config.DatabaseHealthMonitor;
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.bulkhead.WorkloadContext;
+import com.example.domain.model.ActionItemStateChange;
+import com.example.port.out.ActionItemOutboxPort;
+import com.example.port.out.PublishActionItemStateChangesPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Application service that relays action item state changes from the transactional outbox to
+ * downstream systems.
+ * <p>
+ * {@link ActionItemService} records every state change in the outbox within the transaction that
+ * writes the item, so the hot path never waits for Kafka and a change is published if and only if
+ * it committed. This relay drains the outbox in batches of {@code batch-size}: each batch is
+ * claimed in a short transaction, published and acknowledged by the broker without holding a
+ * connection, and then deleted in a second short transaction; batches follow each other until the
+ * outbox is empty. A failed batch stays in the outbox and is published again on the next run, so
+ * delivery is at-least-once; with the idempotent producer and the eventId on
+ * every message, downstream consumers see each change effectively once.
+ * Runs execute on a dedicated thread so they never hold up the shared scheduler.
+ *
+ * <b>Business Rules:</b>
+ * <ul>
+ *   <li>Changes of a uniqueId are published in the order they were committed.</li>
+ *   <li>Only the instance holding the outbox lease relays; the others skip their runs until it
+ *       expires, {@code lease-ms} after the holder's last claim.</li>
+ *   <li>Nothing is relayed while the database health monitor reports the database as unhealthy.</li>
+ * </ul>
+ *
+ * <b>Metrics:</b> {@code action_items.outbox.events} (published and failed) and
+ * {@code action_items.outbox.publish.delay}, the time from writing the newest change of a batch
+ * until it was acknowledged.
+ *
+ * <b>Configuration:</b> {@code action-items.outbox.*} in application.yml.
+ *
+ * @see com.example.port.out.ActionItemOutboxPort
+ * @see com.example.port.out.PublishActionItemStateChangesPort
+ */
+@Service
+@Workload(WorkloadClass.ADMIN)
+@ConditionalOnProperty(name = "action-items.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemOutboxRelayService {
+
+    private final ActionItemOutboxPort actionItemOutboxPort;
+    private final PublishActionItemStateChangesPort publishActionItemStateChangesPort;
+    private final DatabaseHealthMonitor databaseHealthMonitor;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final String relayId = UUID.randomUUID().toString();
+    private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${action-items.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${action-items.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    private Counter publishedCounter;
+    private Counter failedCounter;
+    private Timer publishDelay;
+
+    @PostConstruct
+    void registerMetrics() {
+        publishedCounter = Counter.builder("action_items.outbox.events")
+                .description("State changes relayed from the outbox")
+                .tag("outcome", "published")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("action_items.outbox.events")
+                .description("State changes relayed from the outbox")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        publishDelay = Timer.builder("action_items.outbox.publish.delay")
+                .description("Time from writing a state change until it was published")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts draining the outbox unless a run is still in progress.
+     */
+    @Scheduled(fixedDelayString = "${action-items.outbox.poll-interval-ms:200}",
+            initialDelayString = "${action-items.outbox.initial-delay-ms:10000}")
+    public void scheduleRelay() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        // Runs outside the proxy, so the workload class is bound explicitly
+        relayExecutor.execute(() -> {
+            try (WorkloadContext.Scope ignored = WorkloadContext.bind(WorkloadClass.ADMIN)) {
+                drain();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        relayExecutor.shutdownNow();
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted() && databaseHealthMonitor.isDatabaseHealthy()) {
+            try {
+                List<ActionItemStateChange> batch = actionItemOutboxPort.claimBatch(relayId, leaseMs, batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                publish(batch);
+                actionItemOutboxPort.deleteRelayed(batch);
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            } catch (Exception e) {
+                log.warn("Outbox relay failed, retrying on the next run: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void publish(List<ActionItemStateChange> batch) {
+        try {
+            publishActionItemStateChangesPort.publish(batch);
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            throw e;
+        }
+        publishedCounter.increment(batch.size());
+        LocalDateTime newest = batch.get(batch.size() - 1).getRecordedAt();
+        publishDelay.record(Duration.between(newest, LocalDateTime.now()));
+    }
+}
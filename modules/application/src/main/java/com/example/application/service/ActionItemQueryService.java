@@ -0,0 +1,62 @@
+package com.example.application.service;
+
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemPage;
+import com.example.domain.model.ActionItemSearchCriteria;
+import com.example.port.in.QueryActionItemsUseCase;
+import com.example.port.out.QueryActionItemsPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Application service that implements keyset-paginated action item reads.
+ * <p>
+ * Validates the criteria, caps the page size and fetches one extra row to detect whether a
+ * further page exists, without ever counting the full result set.
+ *
+ * @see com.example.port.in.QueryActionItemsUseCase
+ * @see com.example.port.out.QueryActionItemsPort
+ */
+@Service
+@Workload(WorkloadClass.ADMIN)
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemQueryService implements QueryActionItemsUseCase {
+
+    private final QueryActionItemsPort queryActionItemsPort;
+
+    @Value("${action-items.query.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${action-items.query.max-page-size:500}")
+    private int maxPageSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActionItemPage findActionItems(ActionItemSearchCriteria criteria) {
+        if ((criteria.getAfterCreatedAt() == null) != (criteria.getAfterId() == null)) {
+            throw new IllegalArgumentException("Keyset position requires both afterCreatedAt and afterId");
+        }
+        if (criteria.getDueFrom() != null && criteria.getDueTo() != null
+                && !criteria.getDueFrom().isBefore(criteria.getDueTo())) {
+            throw new IllegalArgumentException("dueFrom must be before dueTo");
+        }
+
+        int limit = criteria.getLimit() > 0 ? Math.min(criteria.getLimit(), maxPageSize) : defaultPageSize;
+        List<ActionItem> items = queryActionItemsPort.findActionItems(criteria, limit + 1);
+        boolean hasMore = items.size() > limit;
+        log.debug("Found {} action items (hasMore: {}) for {}", Math.min(items.size(), limit), hasMore, criteria);
+
+        return ActionItemPage.builder()
+                .items(hasMore ? items.subList(0, limit) : items)
+                .hasMore(hasMore)
+                .build();
+    }
+}
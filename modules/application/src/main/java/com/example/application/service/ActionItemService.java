@@ -1,19 +1,27 @@
 package com.example.application.service;
 
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.id.UuidV7;
+import com.example.commons.resilience.CircuitBreaker;
 import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStateChange;
 import com.example.domain.model.ActionItemStatus;
 import com.example.domain.model.InvalidCategoryTypeException;
 import com.example.domain.service.ActionItemDomainService;
 import com.example.port.in.ProcessActionItemCommand;
 import com.example.port.in.ReceiveActionItemUseCase;
+import com.example.port.out.ActionItemOutboxPort;
 import com.example.port.out.SaveActionItemPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Application service that orchestrates the flow of action item processing.
@@ -36,6 +44,8 @@ import java.util.UUID;
  *   <li>Validate category-type combination exists in master configuration</li>
  *   <li>Validate through domain service</li>
  *   <li>Persist through output port</li>
+ *   <li>Record a state change (creation or status flip) in the outbox, in the same transaction</li>
+ *   <li>Record the status transition in the live aggregates</li>
  *   <li>Return result</li>
  * </ol>
  *
@@ -45,6 +55,7 @@ import java.util.UUID;
  *   <li>Only one record per uniqueId should exist at any time.</li>
  *   <li>Closed items can be reopened by updating status to OPEN.</li>
  *   <li>Open items can be closed by updating status to CLOSE.</li>
+ *   <li>Updates older than the stored version (source updatedAt) are ignored.</li>
  *   <li>If no record exists with uniqueId, creates new record with OPEN status only.</li>
  * </ul>
  *
@@ -55,10 +66,13 @@ import java.util.UUID;
  *
  * @see com.example.domain.service.ActionItemDomainService
  * @see com.example.port.out.SaveActionItemPort
+ * @see com.example.port.out.ActionItemOutboxPort
  * @see com.example.port.in.ReceiveActionItemUseCase
  * @see MasterConfigurationService#validateCategoryTypeCode(String, String)
  */
 @Service
+@Workload(WorkloadClass.INGESTION)
+@CircuitBreaker("persistence")
 @RequiredArgsConstructor
 @Slf4j
 public class ActionItemService implements ReceiveActionItemUseCase {
@@ -66,6 +80,11 @@ public class ActionItemService implements ReceiveActionItemUseCase {
     private final ActionItemDomainService domainService;
     private final SaveActionItemPort saveActionItemPort;
     private final MasterConfigurationService masterConfigurationService;
+    private final ActionItemStatusAggregateService statusAggregateService;
+    private final ActionItemOutboxPort actionItemOutboxPort;
+
+    @Value("${action-items.outbox.enabled:true}")
+    private boolean outboxEnabled;
 
     /**
      * Processes an action item command by coordinating domain and persistence operations.
@@ -77,12 +96,14 @@ public class ActionItemService implements ReceiveActionItemUseCase {
      *   <li>Validates category-type combination exists in master configuration</li>
      *   <li>Validates it through domain service</li>
      *   <li>Persists it through the output port</li>
+     *   <li>Records a state change in the outbox when the item is created or its status changes</li>
      * </ol>
      *
      * <b>Business Logic:</b>
      * <ul>
      *   <li>If no record exists with uniqueId: creates new record (only with OPEN status)</li>
      *   <li>If record exists with uniqueId: updates existing record (can be OPEN or CLOSE)</li>
+     *   <li>Updates whose source updatedAt is not newer than the stored one are dropped and the stored item is returned</li>
      *   <li>Ensures only one record per uniqueId exists at any time</li>
      * </ul>
      *
@@ -109,9 +130,30 @@ public class ActionItemService implements ReceiveActionItemUseCase {
         
         ActionItem actionItem;
         if (existingActionItem.isPresent()) {
+            ActionItem existing = existingActionItem.get();
+            
+            // Drop stale updates early; the conditional UPDATE below enforces the same rule atomically
+            if (isStale(existing, command)) {
+                log.info("Ignoring stale update for uniqueId: {} (incoming updatedAt: {}, stored updatedAt: {})",
+                        command.getUniqueId(), command.getUpdatedAt(), existing.getUpdatedAt());
+                return existing;
+            }
+            
             // Update existing action item
             log.debug("Found existing action item with uniqueId: {}, updating", command.getUniqueId());
-            actionItem = updateExistingActionItem(existingActionItem.get(), command);
+            actionItem = updateExistingActionItem(existing, command);
+            
+            validateCategoryTypeCodeCombination(actionItem.getCategory(), actionItem.getTypeCode());
+            actionItem = domainService.validateAndEnrichActionItem(actionItem);
+            
+            if (!saveActionItemPort.updateActionItemIfNewer(actionItem)) {
+                log.info("Ignoring stale update for uniqueId: {} (a newer version was written concurrently)",
+                        command.getUniqueId());
+                return existing;
+            }
+            recordStateChange(existing, actionItem);
+            statusAggregateService.recordTransition(existing, actionItem);
+            return actionItem;
         } else {
             // Create new action item
             log.debug("No existing action item found with uniqueId: {}, creating new", command.getUniqueId());
@@ -131,19 +173,99 @@ public class ActionItemService implements ReceiveActionItemUseCase {
         actionItem = domainService.validateAndEnrichActionItem(actionItem);
 
         // Persist through port
-        return saveActionItemPort.saveActionItem(actionItem);
+        ActionItem saved = saveActionItemPort.saveActionItem(actionItem);
+        recordStateChange(null, saved);
+        statusAggregateService.recordTransition(null, saved);
+        return saved;
+    }
+
+    /**
+     * Processes a run of commands in one transaction, e.g. a batch gathered by the ring-buffer
+     * pipeline, so the run pays for one commit instead of one per command. Each command goes
+     * through {@link #processActionItem(ProcessActionItemCommand)} within the surrounding
+     * transaction; a failing command rolls back the whole run.
+     *
+     * @param commands The commands, in consumption order
+     * @return The processed action items, in the same order
+     */
+    @Override
+    @Transactional
+    public List<ActionItem> processActionItems(List<ProcessActionItemCommand> commands) {
+        List<ActionItem> processed = new ArrayList<>(commands.size());
+        for (ProcessActionItemCommand command : commands) {
+            processed.add(processActionItem(command));
+        }
+        return processed;
+    }
+
+    /**
+     * Checks whether the command carries a source version that is not newer than the stored item.
+     * Commands without a source updatedAt are never considered stale.
+     *
+     * @param existing The stored action item
+     * @param command The incoming command
+     * @return true if the update should be dropped
+     */
+    static boolean isStale(ActionItem existing, ProcessActionItemCommand command) {
+        return command.getUpdatedAt() != null
+                && existing.getUpdatedAt() != null
+                && !command.getUpdatedAt().isAfter(existing.getUpdatedAt());
+    }
+
+    /**
+     * Appends a state change to the outbox if the item was created or its status changed. Runs in
+     * the surrounding transaction, so the change is published only if the write commits.
+     *
+     * @param previous The stored item before the change, or null if the item was created
+     * @param current The item as written
+     */
+    private void recordStateChange(ActionItem previous, ActionItem current) {
+        if (outboxEnabled && isStateChange(previous, current)) {
+            actionItemOutboxPort.append(toStateChange(previous, current));
+        }
+    }
+
+    /**
+     * @param previous The stored item before the change, or null if the item was created
+     * @param current The item as written
+     * @return true if the item was created or its status changed
+     */
+    static boolean isStateChange(ActionItem previous, ActionItem current) {
+        return previous == null || previous.getStatus() != current.getStatus();
+    }
+
+    /**
+     * Builds the outbox record of a state change.
+     *
+     * @param previous The stored item before the change, or null if the item was created
+     * @param current The item as written
+     * @return The state change, without eventId
+     */
+    static ActionItemStateChange toStateChange(ActionItem previous, ActionItem current) {
+        return ActionItemStateChange.builder()
+                .actionItemId(current.getId())
+                .uniqueId(current.getUniqueId())
+                .previousStatus(previous != null ? previous.getStatus() : null)
+                .status(current.getStatus())
+                .category(current.getCategory())
+                .typeCode(current.getTypeCode())
+                .assignee(current.getAssignee())
+                .version(current.getUpdatedAt())
+                .recordedAt(LocalDateTime.now())
+                .build();
     }
 
     /**
      * Updates an existing action item with new command data.
      * <p>
-     * Copies over immutable fields and updates mutable fields from the command.
+     * Copies over immutable fields and updates mutable fields from the command. The source
+     * updatedAt is kept as the record version so out-of-order updates can be detected.
      *
      * @param existing The existing action item
      * @param command The command with updated data
      * @return Updated action item domain model
      */
-    private ActionItem updateExistingActionItem(ActionItem existing, ProcessActionItemCommand command) {
+    static ActionItem updateExistingActionItem(ActionItem existing, ProcessActionItemCommand command) {
         return ActionItem.builder()
                 .id(existing.getId()) // Keep existing ID
                 .uniqueId(existing.getUniqueId()) // Keep existing uniqueId
@@ -155,7 +277,7 @@ public class ActionItemService implements ReceiveActionItemUseCase {
                 .status(ActionItemStatus.valueOf(command.getStatus()))
                 .dueDate(command.getDueDate())
                 .createdAt(existing.getCreatedAt()) // Keep original creation time
-                .updatedAt(LocalDateTime.now()) // Update the updated timestamp
+                .updatedAt(command.getUpdatedAt() != null ? command.getUpdatedAt() : LocalDateTime.now()) // Source version
                 .build();
     }
 
@@ -180,14 +302,14 @@ public class ActionItemService implements ReceiveActionItemUseCase {
     /**
      * Builds a new domain model from the incoming command.
      * <p>
-     * Generates a new unique ID and sets creation/update timestamps.
+     * Generates a new time-ordered UUIDv7 ID and sets creation/update timestamps.
      *
      * @param command Source command with action item details
      * @return New ActionItem domain model
      */
-    private ActionItem buildNewDomainModel(ProcessActionItemCommand command) {
+    static ActionItem buildNewDomainModel(ProcessActionItemCommand command) {
         return ActionItem.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.nextString())
                 .uniqueId(command.getUniqueId())
                 .title(command.getTitle())
                 .description(command.getDescription())
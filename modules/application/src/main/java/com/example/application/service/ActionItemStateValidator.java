@@ -0,0 +1,79 @@
+package com.example.application.service;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import com.example.domain.service.ActionItemDomainService;
+import com.example.port.in.MasterConfigurationUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validation shared by the bulk paths that write action items without the per-record flow:
+ * imports ({@link ActionItemImportService}) and topic replays ({@link ActionItemBackfillService}).
+ * <p>
+ * Every failure is an {@link IllegalArgumentException}, so callers reject the single offending
+ * item and carry on with the rest of the batch. The active master configurations are read once
+ * per batch through {@link #activeCategoryTypeCodes()} and checked in memory.
+ */
+@Component
+@RequiredArgsConstructor
+class ActionItemStateValidator {
+
+    private final ActionItemDomainService domainService;
+    private final MasterConfigurationUseCase masterConfigurationUseCase;
+
+    /**
+     * Snapshots the active category/typeCode combinations.
+     *
+     * @return Keys accepted by {@link #validate(ActionItem, Set)}
+     */
+    Set<String> activeCategoryTypeCodes() {
+        return masterConfigurationUseCase.getAllActiveMasterConfigurations().stream()
+                .map(configuration -> key(configuration.getCategory(), configuration.getTypeCode()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Checks the uniqueId, the category/typeCode combination and the domain rules.
+     *
+     * @param actionItem The item to validate
+     * @param activeCategoryTypeCodes Snapshot from {@link #activeCategoryTypeCodes()}
+     * @return The validated and enriched item
+     * @throws IllegalArgumentException if any rule is violated
+     */
+    ActionItem validate(ActionItem actionItem, Set<String> activeCategoryTypeCodes) {
+        if (actionItem.getUniqueId() == null || actionItem.getUniqueId().isBlank()) {
+            throw new IllegalArgumentException("UniqueId is required");
+        }
+        if (!activeCategoryTypeCodes.contains(key(actionItem.getCategory(), actionItem.getTypeCode()))) {
+            throw new IllegalArgumentException("Unknown or inactive category/typeCode: "
+                    + actionItem.getCategory() + "/" + actionItem.getTypeCode());
+        }
+        return domainService.validateAndEnrichActionItem(actionItem);
+    }
+
+    /**
+     * Parses a status name from a command.
+     *
+     * @param status The status name, possibly null
+     * @return The status
+     * @throws IllegalArgumentException if the status is missing or unknown
+     */
+    static ActionItemStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            throw new IllegalArgumentException("Status is required");
+        }
+        try {
+            return ActionItemStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + status);
+        }
+    }
+
+    private static String key(String category, String typeCode) {
+        return category + "_" + typeCode;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.application.service;
+
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.bulkhead.WorkloadContext;
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import com.example.domain.model.ActionItemStatusCount;
+import com.example.domain.model.StatusAggregate;
+import com.example.port.in.ActionItemStatusAggregateUseCase;
+import com.example.port.out.LoadActionItemStatusCountsPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Application service that maintains live OPEN/CLOSE counts per category, typeCode and assignee.
+ * <p>
+ * Counts are seeded from one grouped query at startup and then kept current from the status
+ * transitions applied by {@link ActionItemService} on this instance. Transitions of other
+ * consumer instances and set-based writes (bulk import of other instances, backfill merges,
+ * archival) bypass it, so the counts are approximate: they are re-seeded from the store every
+ * {@code action-items.aggregates.reseed-interval-ms}, which bounds how long they drift. Each dimension value owns a pair of striped
+ * {@link LongAdder} counters, so applying a transition is a map lookup plus an increment and
+ * allocates nothing once the value has been seen. Transitions recorded inside a transaction are
+ * buffered by a single synchronization registered for that transaction and applied on commit.
+ *
+ * <b>Responsibilities:</b>
+ * <ul>
+ *   <li>Rebuilds the counters from {@link LoadActionItemStatusCountsPort} at startup and periodically.</li>
+ *   <li>Applies the old/new status of each processed item after its transaction commits.</li>
+ *   <li>Serves snapshots through {@link ActionItemStatusAggregateUseCase}.</li>
+ *   <li>Publishes the counters as Micrometer gauges ({@code action_items.status.count}).</li>
+ * </ul>
+ *
+ * <b>Configuration:</b> {@code action-items.aggregates.gauge-dimensions} selects which dimensions
+ * are exported as gauges; assignee is excluded by default to keep metric cardinality bounded.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActionItemStatusAggregateService implements ActionItemStatusAggregateUseCase {
+
+    private static final String GAUGE_NAME = "action_items.status.count";
+    private static final String UNASSIGNED = "(none)";
+    private static final long[] NO_ITEMS = new long[2];
+
+    private final LoadActionItemStatusCountsPort loadActionItemStatusCountsPort;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, StatusCounters> byCategory = new ConcurrentHashMap<>();
+    private final Map<String, StatusCounters> byTypeCode = new ConcurrentHashMap<>();
+    private final Map<String, StatusCounters> byAssignee = new ConcurrentHashMap<>();
+
+    @Value("${action-items.aggregates.gauge-dimensions:category,typeCode}")
+    private Set<String> gaugeDimensions;
+
+    /**
+     * Seeds the counters from the store before message consumption starts.
+     * A failure leaves the counters empty; they still track changes from then on.
+     */
+    @PostConstruct
+    void rebuild() {
+        try {
+            log.info("Rebuilt status aggregates from {} grouped rows", reseedFromStore());
+        } catch (Exception e) {
+            log.warn("Could not rebuild status aggregates, counting from zero: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Re-seeds the counters from the store, correcting the drift since the last seed. Transitions
+     * applied while the query runs may be counted twice or not at all until the next re-seed.
+     */
+    @Scheduled(fixedDelayString = "${action-items.aggregates.reseed-interval-ms:300000}",
+            initialDelayString = "${action-items.aggregates.reseed-interval-ms:300000}")
+    public void reseed() {
+        // Runs on the scheduler thread, outside any proxy, so the workload class is bound explicitly
+        try (WorkloadContext.Scope ignored = WorkloadContext.bind(WorkloadClass.ADMIN)) {
+            log.debug("Re-seeded status aggregates from {} grouped rows", reseedFromStore());
+        } catch (Exception e) {
+            log.warn("Could not re-seed status aggregates, keeping the current counts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return the number of grouped rows loaded
+     */
+    private int reseedFromStore() {
+        List<ActionItemStatusCount> counts = loadActionItemStatusCountsPort.loadStatusCounts();
+        reset(CATEGORY, byCategory, counts, ActionItemStatusCount::getCategory);
+        reset(TYPE_CODE, byTypeCode, counts, ActionItemStatusCount::getTypeCode);
+        reset(ASSIGNEE, byAssignee, counts, ActionItemStatusCount::getAssignee);
+        return counts.size();
+    }
+
+    /**
+     * Sets every counter of a dimension to the loaded totals, and values no longer present to zero.
+     * Counters are moved by the difference rather than reset, so concurrent increments are kept.
+     */
+    private void reset(String dimension, Map<String, StatusCounters> counters,
+                       List<ActionItemStatusCount> counts, Function<ActionItemStatusCount, String> value) {
+        Map<String, long[]> totals = new HashMap<>();
+        for (ActionItemStatusCount count : counts) {
+            if (count.getStatus() == null) {
+                continue;
+            }
+            String key = value.apply(count);
+            long[] total = totals.computeIfAbsent(key != null ? key : UNASSIGNED, k -> new long[2]);
+            total[count.getStatus() == ActionItemStatus.OPEN ? 0 : 1] += count.getCount();
+        }
+        totals.keySet().forEach(key -> counters.computeIfAbsent(key, k -> register(dimension, k)));
+        counters.forEach((key, counter) -> {
+            long[] total = totals.getOrDefault(key, NO_ITEMS);
+            counter.open.add(total[0] - counter.open.sum());
+            counter.closed.add(total[1] - counter.closed.sum());
+        });
+    }
+
+    /**
+     * Records the transition of an action item. Applied after the surrounding transaction
+     * commits, or immediately when no transaction is active.
+     *
+     * @param previous The stored item before the change, or null if the item was created
+     * @param current The item as written
+     */
+    public void recordTransition(ActionItem previous, ActionItem current) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(previous, current);
+            return;
+        }
+        PendingTransitions pending = (PendingTransitions) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingTransitions();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.items.add(previous);
+        pending.items.add(current);
+    }
+
+    @Override
+    public List<StatusAggregate> getStatusAggregates(String dimension) {
+        Map<String, StatusCounters> counters = countersFor(dimension);
+        List<StatusAggregate> snapshot = new ArrayList<>(counters.size());
+        counters.forEach((value, counter) -> snapshot.add(StatusAggregate.builder()
+                .dimension(dimension)
+                .value(value)
+                .openCount(counter.open.sum())
+                .closedCount(counter.closed.sum())
+                .build()));
+        return snapshot;
+    }
+
+    private void apply(ActionItem previous, ActionItem current) {
+        if (previous != null) {
+            add(CATEGORY, byCategory, previous.getCategory(), previous.getStatus(), -1);
+            add(TYPE_CODE, byTypeCode, previous.getTypeCode(), previous.getStatus(), -1);
+            add(ASSIGNEE, byAssignee, previous.getAssignee(), previous.getStatus(), -1);
+        }
+        add(CATEGORY, byCategory, current.getCategory(), current.getStatus(), 1);
+        add(TYPE_CODE, byTypeCode, current.getTypeCode(), current.getStatus(), 1);
+        add(ASSIGNEE, byAssignee, current.getAssignee(), current.getStatus(), 1);
+    }
+
+    private void add(String dimension, Map<String, StatusCounters> counters,
+                     String value, ActionItemStatus status, long delta) {
+        if (status == null) {
+            return;
+        }
+        String key = value != null ? value : UNASSIGNED;
+        StatusCounters counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> register(dimension, k));
+        }
+        (status == ActionItemStatus.OPEN ? counter.open : counter.closed).add(delta);
+    }
+
+    private StatusCounters register(String dimension, String value) {
+        StatusCounters counter = new StatusCounters();
+        if (gaugeDimensions.contains(dimension)) {
+            Gauge.builder(GAUGE_NAME, counter.open, LongAdder::doubleValue)
+                    .tags("dimension", dimension, "value", value, "status", ActionItemStatus.OPEN.name())
+                    .strongReference(true)
+                    .register(meterRegistry);
+            Gauge.builder(GAUGE_NAME, counter.closed, LongAdder::doubleValue)
+                    .tags("dimension", dimension, "value", value, "status", ActionItemStatus.CLOSE.name())
+                    .strongReference(true)
+                    .register(meterRegistry);
+        }
+        return counter;
+    }
+
+    private Map<String, StatusCounters> countersFor(String dimension) {
+        return switch (dimension) {
+            case CATEGORY -> byCategory;
+            case TYPE_CODE -> byTypeCode;
+            case ASSIGNEE -> byAssignee;
+            default -> throw new IllegalArgumentException("Unknown aggregation dimension: " + dimension);
+        };
+    }
+
+    /**
+     * Transitions recorded in one transaction, as (previous, current) pairs, applied on commit.
+     */
+    private final class PendingTransitions implements TransactionSynchronization {
+        final List<ActionItem> items = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            for (int i = 0; i < items.size(); i += 2) {
+                apply(items.get(i), items.get(i + 1));
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ActionItemStatusAggregateService.this);
+        }
+    }
+
+    /**
+     * OPEN and CLOSE counters for one dimension value.
+     */
+    private static final class StatusCounters {
+        final LongAdder open = new LongAdder();
+        final LongAdder closed = new LongAdder();
+    }
+}
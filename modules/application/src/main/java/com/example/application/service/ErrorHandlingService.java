@@ -1,5 +1,7 @@
 package com.example.application.service;
 
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
 import com.example.domain.model.ProcessingError;
 import com.example.port.in.HandleProcessingErrorUseCase;
 import com.example.port.out.PersistErrorPort;
@@ -34,6 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
  * @see com.example.port.in.HandleProcessingErrorUseCase
  */
 @Service
+@Workload(WorkloadClass.ERROR_CAPTURE)
 @RequiredArgsConstructor
 public class ErrorHandlingService implements HandleProcessingErrorUseCase {
 
@@ -0,0 +1,211 @@
+package com.example.application.service;
+
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.bulkhead.WorkloadContext;
+import com.example.domain.model.PurgeResult;
+import com.example.port.out.ErrorRetentionPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Application service that enforces per-source retention on processing_errors and error_logs.
+ * <p>
+ * Each source of a table keeps rows no older than {@code max-age-days} and at most
+ * {@code max-rows} rows; both limits come from the table's defaults unless the source has an
+ * override. Rows beyond the limits are deleted oldest first in batches of {@code batch-size},
+ * each in its own short transaction, with {@code pause-ms} between batches so the purge never
+ * holds locks or saturates I/O for long. Whole months of processing_errors are dropped by
+ * {@link PartitionMaintenanceService}, which reports through the same {@link RetentionMetrics}.
+ *
+ * <b>Business Rules:</b>
+ * <ul>
+ *   <li>A limit of 0 disables that limit.</li>
+ *   <li>Overrides are written {@code SOURCE=maxAgeDays:maxRows}, comma separated.</li>
+ * </ul>
+ *
+ * <b>Metrics:</b> {@code retention.rows.purged} and {@code retention.bytes.reclaimed}, tagged with
+ * table and method ({@code batch_delete} or {@code partition_drop}). Bytes of deleted rows become
+ * reusable once the table is vacuumed.
+ *
+ * <b>Configuration:</b> {@code retention.*} in application.yml.
+ *
+ * @see com.example.port.out.ErrorRetentionPort
+ */
+@Service
+@Workload(WorkloadClass.ADMIN)
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorRetentionService {
+
+    private static final String PROCESSING_ERRORS = "processing_errors";
+    private static final String ERROR_LOGS = "error_logs";
+    private static final String BATCH_DELETE = "batch_delete";
+
+    private final ErrorRetentionPort errorRetentionPort;
+    private final RetentionMetrics retentionMetrics;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService retentionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "error-retention");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${retention.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${retention.processing-errors.max-age-days:30}")
+    private int processingErrorsMaxAgeDays;
+
+    @Value("${retention.processing-errors.max-rows:100000}")
+    private long processingErrorsMaxRows;
+
+    @Value("${retention.processing-errors.sources:}")
+    private List<String> processingErrorsSourceRules;
+
+    @Value("${retention.error-logs.max-age-days:30}")
+    private int errorLogsMaxAgeDays;
+
+    @Value("${retention.error-logs.max-rows:100000}")
+    private long errorLogsMaxRows;
+
+    @Value("${retention.error-logs.sources:}")
+    private List<String> errorLogsSourceRules;
+
+    private Map<String, RetentionRule> processingErrorsOverrides;
+    private Map<String, RetentionRule> errorLogsOverrides;
+
+    @PostConstruct
+    void parseRules() {
+        processingErrorsOverrides = parseOverrides(processingErrorsSourceRules);
+        errorLogsOverrides = parseOverrides(errorLogsSourceRules);
+    }
+
+    /**
+     * Starts a retention run unless one is still in progress.
+     */
+    @Scheduled(fixedDelayString = "${retention.check-interval-ms:900000}",
+            initialDelayString = "${retention.initial-delay-ms:60000}")
+    public void scheduleRetention() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        // Runs outside the proxy, so the workload class is bound explicitly
+        retentionExecutor.execute(() -> {
+            try (WorkloadContext.Scope ignored = WorkloadContext.bind(WorkloadClass.ADMIN)) {
+                purge(PROCESSING_ERRORS, new RetentionRule(processingErrorsMaxAgeDays, processingErrorsMaxRows),
+                        processingErrorsOverrides);
+                purge(ERROR_LOGS, new RetentionRule(errorLogsMaxAgeDays, errorLogsMaxRows), errorLogsOverrides);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retentionExecutor.shutdownNow();
+    }
+
+    private void purge(String table, RetentionRule defaults, Map<String, RetentionRule> overrides) {
+        try {
+            for (String source : errorRetentionPort.listSources(table)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                RetentionRule rule = source != null ? overrides.getOrDefault(source, defaults) : defaults;
+                LocalDateTime before = cutoff(table, source, rule);
+                if (before != null) {
+                    purgeSource(table, source, before);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Retention failed for table {}: {}", table, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the timestamp before which a source's rows violate its age or row cap, or null if none do.
+     */
+    private LocalDateTime cutoff(String table, String source, RetentionRule rule) {
+        LocalDateTime cutoff = rule.maxAgeDays() > 0 ? LocalDateTime.now().minusDays(rule.maxAgeDays()) : null;
+        if (rule.maxRows() > 0) {
+            LocalDateTime boundary = errorRetentionPort.findRowCapBoundary(table, source, rule.maxRows());
+            if (boundary != null && (cutoff == null || boundary.isAfter(cutoff))) {
+                cutoff = boundary;
+            }
+        }
+        return cutoff;
+    }
+
+    private void purgeSource(String table, String source, LocalDateTime before) {
+        long rows = 0;
+        long bytes = 0;
+        PurgeResult batch;
+        do {
+            batch = errorRetentionPort.purgeBatch(table, source, before, batchSize);
+            rows += batch.getRows();
+            bytes += batch.getBytes();
+            retentionMetrics.recordPurged(table, BATCH_DELETE, batch.getRows(), batch.getBytes());
+        } while (batch.getRows() >= batchSize && pause());
+
+        if (rows > 0) {
+            log.info("Purged {} rows ({} bytes) of source {} from {} older than {}", rows, bytes, source, table, before);
+        }
+    }
+
+    /**
+     * @return false if the thread was interrupted
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Map<String, RetentionRule> parseOverrides(List<String> rules) {
+        Map<String, RetentionRule> overrides = new HashMap<>();
+        for (String rule : rules) {
+            if (rule.isBlank()) {
+                continue;
+            }
+            String[] sourceAndLimits = rule.trim().split("=", 2);
+            String[] limits = sourceAndLimits.length == 2 ? sourceAndLimits[1].split(":", 2) : new String[0];
+            if (limits.length != 2) {
+                throw new IllegalArgumentException("Retention override must be SOURCE=maxAgeDays:maxRows: " + rule);
+            }
+            overrides.put(sourceAndLimits[0].trim(),
+                    new RetentionRule(Integer.parseInt(limits[0].trim()), Long.parseLong(limits[1].trim())));
+        }
+        return overrides;
+    }
+
+    private record RetentionRule(int maxAgeDays, long maxRows) {
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.application.service;
 
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.commons.id.UuidV7;
 import com.example.domain.model.MasterConfiguration;
 import com.example.domain.service.MasterConfigurationDomainService;
 import com.example.port.in.CreateMasterConfigurationCommand;
@@ -13,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +51,7 @@ import java.util.stream.Collectors;
  * @see com.example.domain.service.MasterConfigurationDomainService
  */
 @Service
+@Workload(WorkloadClass.ADMIN)
 @RequiredArgsConstructor
 public class MasterConfigurationService implements MasterConfigurationUseCase {
 
@@ -184,14 +187,14 @@ public class MasterConfigurationService implements MasterConfigurationUseCase {
     /**
      * Builds a domain model from the incoming command.
      * <p>
-     * Generates a new unique ID and sets creation/update timestamps.
+     * Generates a new time-ordered UUIDv7 ID and sets creation/update timestamps.
      *
      * @param command Source command with master configuration details
      * @return New MasterConfiguration domain model
      */
     private MasterConfiguration buildDomainModel(CreateMasterConfigurationCommand command) {
         return MasterConfiguration.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.nextString())
                 .category(command.getCategory())
                 .typeCode(command.getTypeCode())
                 .description(command.getDescription())
@@ -0,0 +1,53 @@
+package com.example.application.service;
+
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.domain.model.MessageWatermark;
+import com.example.port.in.MessageWatermarkUseCase;
+import com.example.port.out.MessageWatermarkPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Application service that implements message watermark tracking.
+ * <p>
+ * Coordinates reads and writes of partition high-watermarks used by inbound adapters to
+ * drop redelivered messages before they reach the action item processing flow.
+ *
+ * @see com.example.port.in.MessageWatermarkUseCase
+ * @see com.example.port.out.MessageWatermarkPort
+ */
+@Service
+@Workload(WorkloadClass.INGESTION)
+@RequiredArgsConstructor
+@Slf4j
+public class MessageWatermarkService implements MessageWatermarkUseCase {
+
+    private final MessageWatermarkPort messageWatermarkPort;
+
+    /**
+     * Reads from the primary rather than a read replica: a lagging replica may not have the
+     * watermarks committed by the previous owner of the partition yet.
+     */
+    @Override
+    @Transactional
+    public Optional<Long> findHighWatermark(String consumerGroup, String topic, int partition) {
+        return messageWatermarkPort.findWatermark(consumerGroup, topic, partition)
+                .map(MessageWatermark::getHighWatermark);
+    }
+
+    @Override
+    @Transactional
+    public void recordHighWatermarks(List<MessageWatermark> watermarks) {
+        if (watermarks.isEmpty()) {
+            return;
+        }
+        log.debug("Recording {} message high-watermarks", watermarks.size());
+        messageWatermarkPort.saveWatermarks(watermarks);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.application.service;
+
+import com.example.commons.bulkhead.Workload;
+import com.example.commons.bulkhead.WorkloadClass;
+import com.example.domain.model.TablePartition;
+import com.example.port.out.PartitionMaintenancePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Application service that keeps the monthly partitions of action_items and processing_errors
+ * ahead of time and applies their retention policy.
+ * <p>
+ * Runs periodically: creates the partitions for the current month and the next
+ * {@code premake-months}, then detaches or drops every partition that ends before the retention
+ * cutoff. Each partition is created and committed separately. Creating partitions ahead keeps new
+ * rows out of the default partition; rows that landed there anyway (e.g. replayed history) are
+ * moved into their monthly partition when it is created.
+ *
+ * <b>Business Rules:</b>
+ * <ul>
+ *   <li>A retention of 0 months keeps every partition.</li>
+ *   <li>Only whole months older than the retention are removed; the current month never is.</li>
+ *   <li>{@code detach} keeps the rows in a standalone table for archiving; {@code drop} deletes them.</li>
+ * </ul>
+ *
+ * Dropped partitions are reported to the shared {@link RetentionMetrics}.
+ *
+ * <b>Configuration:</b> {@code partitioning.*} in application.yml.
+ *
+ * @see com.example.port.out.PartitionMaintenancePort
+ */
+@Service
+@Workload(WorkloadClass.ADMIN)
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+
+    private static final String ACTION_ITEMS = "action_items";
+    private static final String PROCESSING_ERRORS = "processing_errors";
+
+    private final PartitionMaintenancePort partitionMaintenancePort;
+    private final RetentionMetrics retentionMetrics;
+
+    @Value("${partitioning.enabled:true}")
+    private boolean enabled;
+
+    @Value("${partitioning.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${partitioning.action-items.retention-months:0}")
+    private int actionItemsRetentionMonths;
+
+    @Value("${partitioning.action-items.retention-action:detach}")
+    private String actionItemsRetentionAction;
+
+    @Value("${partitioning.processing-errors.retention-months:6}")
+    private int processingErrorsRetentionMonths;
+
+    @Value("${partitioning.processing-errors.retention-action:drop}")
+    private String processingErrorsRetentionAction;
+
+    /**
+     * Creates upcoming partitions and applies retention for both tables.
+     * A failure on one table is logged and does not stop the other.
+     */
+    @Scheduled(fixedDelayString = "${partitioning.check-interval-ms:3600000}",
+            initialDelayString = "${partitioning.initial-delay-ms:30000}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        maintain(ACTION_ITEMS, actionItemsRetentionMonths, actionItemsRetentionAction);
+        maintain(PROCESSING_ERRORS, processingErrorsRetentionMonths, processingErrorsRetentionAction);
+    }
+
+    private void maintain(String table, int retentionMonths, String retentionAction) {
+        try {
+            LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+            for (int i = 0; i <= premakeMonths; i++) {
+                partitionMaintenancePort.createMonthlyPartition(table, currentMonth.plusMonths(i));
+            }
+            if (retentionMonths > 0) {
+                applyRetention(table, currentMonth.minusMonths(retentionMonths), RetentionAction.from(retentionAction));
+            }
+        } catch (Exception e) {
+            log.error("Partition maintenance failed for table {}: {}", table, e.getMessage(), e);
+        }
+    }
+
+    private void applyRetention(String table, LocalDate cutoff, RetentionAction action) {
+        List<TablePartition> expired = partitionMaintenancePort.listPartitions(table).stream()
+                .filter(partition -> !partition.getTo().isAfter(cutoff))
+                .toList();
+        for (TablePartition partition : expired) {
+            if (action == RetentionAction.DROP) {
+                partitionMaintenancePort.dropPartition(partition);
+                retentionMetrics.recordPurged(table, "partition_drop",
+                        partition.getEstimatedRows(), partition.getSizeBytes());
+            } else {
+                partitionMaintenancePort.detachPartition(partition);
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("Applied retention to {}: {} {} partition(s) ending on or before {}",
+                    table, action.name().toLowerCase(Locale.ROOT), expired.size(), cutoff);
+        }
+    }
+
+    private enum RetentionAction {
+        DETACH, DROP;
+
+        static RetentionAction from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+}
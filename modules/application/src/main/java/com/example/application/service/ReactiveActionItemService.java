@@ -0,0 +1,156 @@
+package com.example.application.service;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+import com.example.domain.model.InvalidCategoryTypeException;
+import com.example.domain.service.ActionItemDomainService;
+import com.example.port.in.ProcessActionItemCommand;
+import com.example.port.in.ReceiveActionItemReactiveUseCase;
+import com.example.port.out.ReactiveActionItemOutboxPort;
+import com.example.port.out.ReactiveSaveActionItemPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Reactive counterpart of {@link ActionItemService} for the reactive ingestion mode
+ * ({@code kafka.consumer.reactive.enabled=true}).
+ * <p>
+ * Same flow and business rules, built from the same helpers: look up the item, drop stale
+ * updates, validate, write through {@link ReactiveSaveActionItemPort} and append a state change
+ * to the outbox, all in one R2DBC transaction. Status aggregates are updated once the
+ * transaction has committed. Validation runs on the bounded elastic scheduler, because a
+ * master configuration cache miss reads through JPA; everything else stays on the R2DBC
+ * threads.
+ * <p>
+ * Two creates for a new uniqueId racing each other make one of them fail on the uniqueId
+ * constraint; that one is retried once and then takes the update path.
+ * <p>
+ * The workload bulkhead and the circuit breaker guard blocking calls and do not apply here; the
+ * R2DBC pool size and the receiver's in-flight limits bound the load instead.
+ *
+ * @see ActionItemService
+ */
+@Service
+@ConditionalOnProperty(name = "kafka.consumer.reactive.enabled", havingValue = "true")
+@Slf4j
+public class ReactiveActionItemService implements ReceiveActionItemReactiveUseCase {
+
+    private final ActionItemDomainService domainService;
+    private final ReactiveSaveActionItemPort saveActionItemPort;
+    private final ReactiveActionItemOutboxPort actionItemOutboxPort;
+    private final MasterConfigurationService masterConfigurationService;
+    private final ActionItemStatusAggregateService statusAggregateService;
+    private final TransactionalOperator transactionalOperator;
+
+    @Value("${action-items.outbox.enabled:true}")
+    private boolean outboxEnabled;
+
+    public ReactiveActionItemService(ActionItemDomainService domainService,
+                                     ReactiveSaveActionItemPort saveActionItemPort,
+                                     ReactiveActionItemOutboxPort actionItemOutboxPort,
+                                     MasterConfigurationService masterConfigurationService,
+                                     ActionItemStatusAggregateService statusAggregateService,
+                                     @Qualifier("reactiveTransactionalOperator") TransactionalOperator transactionalOperator) {
+        this.domainService = domainService;
+        this.saveActionItemPort = saveActionItemPort;
+        this.actionItemOutboxPort = actionItemOutboxPort;
+        this.masterConfigurationService = masterConfigurationService;
+        this.statusAggregateService = statusAggregateService;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    /**
+     * Outcome of one transaction: the stored item before it and the item as written, or the
+     * stored item alone if nothing was written.
+     */
+    private record Written(ActionItem previous, ActionItem current, boolean applied) {
+
+        static Written skipped(ActionItem existing) {
+            return new Written(existing, existing, false);
+        }
+    }
+
+    @Override
+    public Mono<ActionItem> processActionItem(ProcessActionItemCommand command) {
+        log.info("Processing action item with uniqueId: {}, status: {}", command.getUniqueId(), command.getStatus());
+        if (command.getUniqueId() == null || command.getUniqueId().trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("UniqueId is required for action item processing"));
+        }
+
+        return saveActionItemPort.findByUniqueId(command.getUniqueId())
+                .flatMap(existing -> update(existing, command))
+                .switchIfEmpty(Mono.defer(() -> create(command)))
+                .as(transactionalOperator::transactional)
+                .retryWhen(Retry.max(1).filter(DataIntegrityViolationException.class::isInstance))
+                .doOnNext(written -> {
+                    if (written.applied()) {
+                        statusAggregateService.recordTransition(written.previous(), written.current());
+                    }
+                })
+                .map(Written::current);
+    }
+
+    private Mono<Written> update(ActionItem existing, ProcessActionItemCommand command) {
+        // Drop stale updates early; the conditional UPDATE enforces the same rule atomically
+        if (ActionItemService.isStale(existing, command)) {
+            log.info("Ignoring stale update for uniqueId: {} (incoming updatedAt: {}, stored updatedAt: {})",
+                    command.getUniqueId(), command.getUpdatedAt(), existing.getUpdatedAt());
+            return Mono.just(Written.skipped(existing));
+        }
+        log.debug("Found existing action item with uniqueId: {}, updating", command.getUniqueId());
+        return validate(ActionItemService.updateExistingActionItem(existing, command))
+                .flatMap(actionItem -> saveActionItemPort.updateActionItemIfNewer(actionItem)
+                        .flatMap(applied -> {
+                            if (!applied) {
+                                log.info("Ignoring stale update for uniqueId: {} (a newer version was written concurrently)",
+                                        command.getUniqueId());
+                                return Mono.just(Written.skipped(existing));
+                            }
+                            return recordStateChange(existing, actionItem)
+                                    .thenReturn(new Written(existing, actionItem, true));
+                        }));
+    }
+
+    private Mono<Written> create(ProcessActionItemCommand command) {
+        log.debug("No existing action item found with uniqueId: {}, creating new", command.getUniqueId());
+        if (!ActionItemStatus.OPEN.name().equals(command.getStatus())) {
+            return Mono.error(new IllegalArgumentException(
+                    "New action items can only be created with OPEN status. Current status: " + command.getStatus()));
+        }
+        return validate(ActionItemService.buildNewDomainModel(command))
+                .flatMap(saveActionItemPort::saveActionItem)
+                .flatMap(saved -> recordStateChange(null, saved).thenReturn(new Written(null, saved, true)));
+    }
+
+    /**
+     * Validates the category-type combination against the master configuration and the item
+     * through the domain service.
+     *
+     * @throws InvalidCategoryTypeException (as error signal) if the combination is invalid
+     */
+    private Mono<ActionItem> validate(ActionItem actionItem) {
+        return Mono.fromCallable(() -> {
+                    if (actionItem.getCategory() == null || actionItem.getTypeCode() == null) {
+                        throw new InvalidCategoryTypeException("Category and type code cannot be null");
+                    }
+                    masterConfigurationService.validateCategoryTypeCode(actionItem.getCategory(), actionItem.getTypeCode());
+                    return domainService.validateAndEnrichActionItem(actionItem);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Void> recordStateChange(ActionItem previous, ActionItem current) {
+        if (!outboxEnabled || !ActionItemService.isStateChange(previous, current)) {
+            return Mono.empty();
+        }
+        return actionItemOutboxPort.append(ActionItemService.toStateChange(previous, current));
+    }
+}
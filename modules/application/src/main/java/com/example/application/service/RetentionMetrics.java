@@ -0,0 +1,42 @@
+package com.example.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Metrics shared by the retention paths: batch deletes of {@link ErrorRetentionService} and
+ * partition drops of {@link PartitionMaintenanceService}.
+ * <p>
+ * <b>Metrics:</b> {@code retention.rows.purged} and {@code retention.bytes.reclaimed}, tagged with
+ * table and method ({@code batch_delete} or {@code partition_drop}).
+ */
+@Component
+@RequiredArgsConstructor
+class RetentionMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Records rows and bytes removed by retention. Call only after the removal has committed.
+     *
+     * @param table The table the rows were removed from
+     * @param method How they were removed, e.g. {@code partition_drop}
+     * @param rows Number of rows removed
+     * @param bytes Bytes reclaimed
+     */
+    void recordPurged(String table, String method, long rows, long bytes) {
+        Counter.builder("retention.rows.purged")
+                .description("Rows removed by retention")
+                .tags("table", table, "method", method)
+                .register(meterRegistry)
+                .increment(rows);
+        Counter.builder("retention.bytes.reclaimed")
+                .description("Bytes reclaimed by retention")
+                .baseUnit("bytes")
+                .tags("table", table, "method", method)
+                .register(meterRegistry)
+                .increment(bytes);
+    }
+}
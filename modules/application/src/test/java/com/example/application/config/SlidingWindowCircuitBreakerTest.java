@@ -0,0 +1,199 @@
+package com.example.application.config;
+
+import com.example.application.config.SlidingWindowCircuitBreaker.Settings;
+import com.example.application.config.SlidingWindowCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the state machine of {@link SlidingWindowCircuitBreaker}.
+ */
+class SlidingWindowCircuitBreakerTest {
+
+    private static final long SLOW_MS = 100;
+    private static final long NO_WAIT = 0;
+    private static final long LONG_WAIT = TimeUnit.HOURS.toMillis(1);
+
+    private final List<State> notified = new ArrayList<>();
+
+    @Test
+    void staysClosedUntilTheWindowHoldsTheMinimumCalls() {
+        SlidingWindowCircuitBreaker breaker = breaker(10, 4, LONG_WAIT, 2);
+
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, true);
+
+        assertEquals(State.CLOSED, breaker.getState());
+        call(breaker, true);
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(List.of(State.OPEN), notified);
+    }
+
+    @Test
+    void opensOnTheFailureRate() {
+        SlidingWindowCircuitBreaker breaker = breaker(4, 4, LONG_WAIT, 2);
+
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, true);
+        assertEquals(State.CLOSED, breaker.getState());
+        call(breaker, true);
+
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void opensOnTheSlowCallRate() {
+        SlidingWindowCircuitBreaker breaker = breaker(4, 4, LONG_WAIT, 2);
+
+        for (int i = 0; i < 4; i++) {
+            long permission = breaker.tryAcquirePermission();
+            breaker.onComplete(permission, TimeUnit.MILLISECONDS.toNanos(SLOW_MS * 2), false);
+        }
+
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void evictsTheOldestOutcomeOnceTheWindowIsFull() {
+        SlidingWindowCircuitBreaker breaker = breaker(4, 4, 0.75, LONG_WAIT, 2);
+
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, true);
+        call(breaker, true);
+        // The first two failures were evicted, so the window holds two failures out of four
+        assertEquals(State.CLOSED, breaker.getState());
+
+        call(breaker, true);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void rejectsCallsWhileOpen() {
+        SlidingWindowCircuitBreaker breaker = breaker(2, 2, LONG_WAIT, 2);
+        open(breaker);
+
+        assertEquals(SlidingWindowCircuitBreaker.REJECTED, breaker.tryAcquirePermission());
+        breaker.checkHalfOpen();
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void letsOnlyThePermittedProbesThroughWhileHalfOpen() {
+        SlidingWindowCircuitBreaker breaker = breaker(2, 2, NO_WAIT, 2);
+        open(breaker);
+
+        breaker.checkHalfOpen();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.isAwaitingProbes());
+
+        long first = breaker.tryAcquirePermission();
+        long second = breaker.tryAcquirePermission();
+        assertNotEquals(SlidingWindowCircuitBreaker.REJECTED, first);
+        assertNotEquals(SlidingWindowCircuitBreaker.REJECTED, second);
+        assertFalse(breaker.isAwaitingProbes());
+        assertEquals(SlidingWindowCircuitBreaker.REJECTED, breaker.tryAcquirePermission());
+
+        breaker.onComplete(first, 0, false);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        breaker.onComplete(second, 0, false);
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(List.of(State.OPEN, State.HALF_OPEN, State.CLOSED), notified);
+    }
+
+    @Test
+    void reopensOnTheFirstFailedProbe() {
+        SlidingWindowCircuitBreaker breaker = breaker(2, 2, NO_WAIT, 2);
+        open(breaker);
+        breaker.checkHalfOpen();
+
+        long first = breaker.tryAcquirePermission();
+        long second = breaker.tryAcquirePermission();
+        breaker.onComplete(first, 0, true);
+
+        assertEquals(State.OPEN, breaker.getState());
+        // The other probe belongs to the previous half-open state and no longer counts
+        breaker.onComplete(second, 0, false);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void reopensOnASlowProbe() {
+        SlidingWindowCircuitBreaker breaker = breaker(2, 2, NO_WAIT, 1);
+        open(breaker);
+        breaker.checkHalfOpen();
+
+        long probe = breaker.tryAcquirePermission();
+        breaker.onComplete(probe, TimeUnit.MILLISECONDS.toNanos(SLOW_MS), false);
+
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void ignoresOutcomesOfCallsPermittedInAnEarlierState() {
+        SlidingWindowCircuitBreaker breaker = breaker(2, 2, NO_WAIT, 1);
+        long stale = breaker.tryAcquirePermission();
+        open(breaker);
+        breaker.checkHalfOpen();
+
+        breaker.onComplete(stale, 0, true);
+
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.isAwaitingProbes());
+    }
+
+    @Test
+    void startsWithAnEmptyWindowAfterClosing() {
+        SlidingWindowCircuitBreaker breaker = breaker(4, 4, NO_WAIT, 1);
+        open(breaker);
+        breaker.checkHalfOpen();
+        call(breaker, false);
+        assertEquals(State.CLOSED, breaker.getState());
+
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, true);
+
+        // Three failures, but fewer than the minimum calls since closing
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    private SlidingWindowCircuitBreaker breaker(int windowSize, int minimumCalls, long waitInOpenMs, int halfOpenPermittedCalls) {
+        return breaker(windowSize, minimumCalls, 0.5, waitInOpenMs, halfOpenPermittedCalls);
+    }
+
+    private SlidingWindowCircuitBreaker breaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                                                long waitInOpenMs, int halfOpenPermittedCalls) {
+        Settings settings = new Settings(windowSize, minimumCalls, failureRateThreshold, 0.75, SLOW_MS, waitInOpenMs,
+                halfOpenPermittedCalls);
+        return new SlidingWindowCircuitBreaker("test", settings, breaker -> notified.add(breaker.getState()),
+                new SimpleMeterRegistry());
+    }
+
+    private static void open(SlidingWindowCircuitBreaker breaker) {
+        while (breaker.getState() == State.CLOSED) {
+            call(breaker, true);
+        }
+    }
+
+    private static void call(SlidingWindowCircuitBreaker breaker, boolean failed) {
+        long permission = breaker.tryAcquirePermission();
+        assertNotEquals(SlidingWindowCircuitBreaker.REJECTED, permission);
+        breaker.onComplete(permission, 0, failed);
+    }
+}
@@ -1,9 +1,8 @@
 package com.example.commons.async;
 
+import com.example.commons.mdc.MdcContext;
 import io.micrometer.context.ContextExecutorService;
-import io.micrometer.context.ContextSnapshot;
 import io.micrometer.context.ContextSnapshotFactory;
-import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +18,8 @@ import java.util.concurrent.Executor;
  * 
  * This configuration ensures that MDC context and other contextual information
  * are properly propagated across async operations for distributed tracing.
+ * Message processing propagates its context explicitly via {@link MdcContext};
+ * general async operations rely on the MDC task decorator.
  */
 @Configuration
 public class AsyncConfig {
@@ -44,7 +45,12 @@ public class AsyncConfig {
     }
 
     /**
-     * Primary executor for message processing with MDC context preservation.
+     * Primary executor for message processing with context propagation.
+     * <p>
+     * No MDC task decorator is attached here: message handlers capture a single {@link MdcContext}
+     * per message and carry it with the task, which materializes it on the worker thread. Copying
+     * the MDC map here as well would do it again for every message. The Micrometer wrap still
+     * propagates the observation and trace context of the submitting thread.
      * 
      * @return Executor with context propagation
      */
@@ -56,13 +62,9 @@ public class AsyncConfig {
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(25);
         executor.setThreadNamePrefix("kafka-msg-processor-");
-        
-        // Set the MDC task decorator for context preservation
-        executor.setTaskDecorator(mdcTaskDecorator());
-        
         executor.initialize();
         
-        // Wrap with Micrometer context propagation for additional context types
+        // Wrap with Micrometer context propagation for observation and tracing context
         return ContextExecutorService.wrap(
             executor.getThreadPoolExecutor(), 
             ContextSnapshotFactory.builder().build()::captureAll
@@ -0,0 +1,30 @@
+package com.example.commons.bulkhead;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or method as belonging to a database workload class.
+ * <p>
+ * Intercepted by an AOP aspect (WorkloadAspect) that binds the class to the current thread with
+ * {@link WorkloadContext} for the duration of the call, so connections requested during the call
+ * are counted against that class's bulkhead. A method annotation overrides the class annotation,
+ * and an inner annotated call overrides the outer one until it returns.
+ * <p>
+ * Example usage:
+ * <pre>
+ *     &#64;Workload(WorkloadClass.ERROR_CAPTURE)
+ *     public void handleError(...) { ... }
+ * </pre>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+
+    /**
+     * @return the workload class connections are counted against
+     */
+    WorkloadClass value();
+}
@@ -0,0 +1,19 @@
+package com.example.commons.bulkhead;
+
+/**
+ * Workload classes that get their own share of database connections.
+ * <p>
+ * Each class is limited to its configured number of connections, so a burst in one class cannot
+ * exhaust the pool for the others. See {@link Workload}.
+ */
+public enum WorkloadClass {
+
+    /** Kafka processing and other writes of action item data */
+    INGESTION,
+
+    /** Persistence of processing errors */
+    ERROR_CAPTURE,
+
+    /** REST calls, exports and background maintenance */
+    ADMIN
+}
@@ -0,0 +1,57 @@
+package com.example.commons.bulkhead;
+
+/**
+ * Thread-bound holder of the current {@link WorkloadClass}.
+ * <p>
+ * Bound by the aspect handling {@link Workload}, or directly with {@link #bind(WorkloadClass)}
+ * where an annotation does not fit. Read by the bulkhead DataSource when a connection is requested.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     try (WorkloadContext.Scope ignored = WorkloadContext.bind(WorkloadClass.ADMIN)) {
+ *         ...
+ *     }
+ * </pre>
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * @return the workload class bound to the current thread, or null if none is
+     */
+    public static WorkloadClass current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a workload class to the current thread until the returned scope is closed, which
+     * restores the previous binding.
+     *
+     * @param workloadClass The workload class to bind
+     * @return the scope to close when the work is done
+     */
+    public static Scope bind(WorkloadClass workloadClass) {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(workloadClass);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * Binding of a workload class to the current thread.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
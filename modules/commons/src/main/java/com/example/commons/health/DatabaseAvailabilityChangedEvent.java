@@ -0,0 +1,12 @@
+package com.example.commons.health;
+
+/**
+ * Application event published when the database becomes unavailable or available again.
+ * <p>
+ * Published by the database health monitor when it declares the database down and once it has
+ * recovered, so inbound adapters can stop or resume writing without depending on the monitor.
+ *
+ * @param available Whether the database is available
+ */
+public record DatabaseAvailabilityChangedEvent(boolean available) {
+}
@@ -0,0 +1,51 @@
+package com.example.commons.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 generator (RFC 9562) for primary keys.
+ * <p>
+ * Random version 4 keys land on random B-tree pages, which causes page splits, half-empty pages
+ * and a poor cache hit rate on large tables. Version 7 keys start with the Unix epoch millisecond,
+ * so new rows append to the right-most index pages like a sequence while staying globally unique.
+ * <p>
+ * Layout: 48-bit millisecond timestamp, version, 12-bit counter, variant, 62 random bits.
+ * The counter makes IDs strictly increasing within this JVM, also for several IDs in the same
+ * millisecond; if it overflows, the timestamp part is advanced by one millisecond. Random bits come
+ * from {@link ThreadLocalRandom} rather than {@code SecureRandom}; keys must be unique, not unguessable.
+ */
+public final class UuidV7 {
+
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Generates the next UUIDv7.
+     *
+     * @return A new UUID, greater than every UUID previously generated by this JVM
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long previous;
+        long next;
+        do {
+            previous = LAST_TIMESTAMP_AND_COUNTER.get();
+            next = Math.max(now, previous + 1);
+        } while (!LAST_TIMESTAMP_AND_COUNTER.compareAndSet(previous, next));
+
+        long mostSignificantBits = (next >>> 12) << 16 | 0x7000L | (next & 0xFFFL);
+        long leastSignificantBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Generates the next UUIDv7 in its canonical string form.
+     */
+    public static String nextString() {
+        return next().toString();
+    }
+}
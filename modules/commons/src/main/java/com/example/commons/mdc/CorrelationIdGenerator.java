@@ -0,0 +1,40 @@
+package com.example.commons.mdc;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap, monotonic correlation ID generator.
+ * <p>
+ * Correlation IDs only need to be unique across running instances and easy to grep in logs;
+ * they do not need to be unguessable. This generator therefore avoids {@code UUID.randomUUID()},
+ * which draws from {@code SecureRandom} and can block or contend under load.
+ * <p>
+ * Format: {@code <instance-prefix>-<sequence>} where
+ * <ul>
+ *   <li><b>instance-prefix:</b> start time (base 36) plus a random suffix, computed once per JVM</li>
+ *   <li><b>sequence:</b> monotonically increasing counter (base 16)</li>
+ * </ul>
+ * Generating an ID is a single atomic increment plus one short string concatenation.
+ */
+public final class CorrelationIdGenerator {
+
+    private static final String INSTANCE_PREFIX =
+            Long.toString(System.currentTimeMillis(), 36)
+            + Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36 * 36), 36)
+            + "-";
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private CorrelationIdGenerator() {
+    }
+
+    /**
+     * Generates the next correlation ID for this instance.
+     *
+     * @return A new correlation ID, unique per instance and monotonically increasing
+     */
+    public static String next() {
+        return INSTANCE_PREFIX + Long.toHexString(SEQUENCE.incrementAndGet());
+    }
+}
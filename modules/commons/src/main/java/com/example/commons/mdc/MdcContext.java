@@ -0,0 +1,156 @@
+package com.example.commons.mdc;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Lightweight, immutable carrier for the diagnostic context of a single unit of work.
+ * <p>
+ * Instead of copying the whole MDC map at every async hop, the context is captured once into
+ * this carrier, handed to the task that processes the message, and materialized into MDC on the
+ * worker thread only for the duration of the task. Materialization is skipped entirely when
+ * logging for the application packages is disabled, so the fast path allocates nothing beyond
+ * the carrier itself.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     MdcContext context = MdcContext.capture();
+ *     executor.execute(context.wrap(() -&gt; process(message)));
+ * </pre>
+ */
+@Getter
+@Builder
+public final class MdcContext {
+
+    /** Logger used to decide whether materializing MDC is worth the cost. */
+    private static final Logger CONTEXT_LOG = LoggerFactory.getLogger("com.example");
+
+    private static final int UNKNOWN = -1;
+
+    /** Keys materialized by {@link #run(Runnable)}, in a fixed order matching {@link #apply()}. */
+    private static final String[] KEYS = {
+            MdcUtils.CORRELATION_ID_KEY,
+            MdcUtils.KAFKA_TOPIC_KEY,
+            MdcUtils.KAFKA_PARTITION_KEY,
+            MdcUtils.KAFKA_OFFSET_KEY,
+            MdcUtils.KAFKA_MESSAGE_KEY,
+            MdcUtils.KAFKA_TIMESTAMP_KEY,
+            MdcUtils.KAFKA_CONSUMER_GROUP_KEY
+    };
+
+    private final String correlationId;
+    private final String topic;
+    @Builder.Default
+    private final int partition = UNKNOWN;
+    @Builder.Default
+    private final long offset = UNKNOWN;
+    private final String messageKey;
+    @Builder.Default
+    private final long timestamp = UNKNOWN;
+    private final String consumerGroup;
+
+    /**
+     * Captures the well-known keys from the current thread's MDC without copying the full map.
+     * A correlation ID is generated if none is present.
+     *
+     * @return A carrier holding the current context
+     */
+    public static MdcContext capture() {
+        String correlationId = MDC.get(MdcUtils.CORRELATION_ID_KEY);
+        return MdcContext.builder()
+                .correlationId(correlationId != null ? correlationId : CorrelationIdGenerator.next())
+                .topic(MDC.get(MdcUtils.KAFKA_TOPIC_KEY))
+                .partition((int) parseOrUnknown(MDC.get(MdcUtils.KAFKA_PARTITION_KEY)))
+                .offset(parseOrUnknown(MDC.get(MdcUtils.KAFKA_OFFSET_KEY)))
+                .messageKey(MDC.get(MdcUtils.KAFKA_MESSAGE_KEY))
+                .timestamp(parseOrUnknown(MDC.get(MdcUtils.KAFKA_TIMESTAMP_KEY)))
+                .consumerGroup(MDC.get(MdcUtils.KAFKA_CONSUMER_GROUP_KEY))
+                .build();
+    }
+
+    /**
+     * Wraps a task so that it runs with this context materialized into MDC.
+     *
+     * @param task The task to wrap
+     * @return A runnable that applies this context around the task
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> run(task);
+    }
+
+    /**
+     * Runs a task on the current thread with this context materialized into MDC.
+     * <p>
+     * The values the well-known keys held before the task are restored afterwards, so a caller
+     * running the task inline keeps its own context; keys that were absent are removed.
+     *
+     * @param task The task to run
+     */
+    public void run(Runnable task) {
+        if (!CONTEXT_LOG.isInfoEnabled()) {
+            task.run();
+            return;
+        }
+        String[] previous = snapshot();
+        apply();
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static String[] snapshot() {
+        String[] values = new String[KEYS.length];
+        for (int i = 0; i < KEYS.length; i++) {
+            values[i] = MDC.get(KEYS[i]);
+        }
+        return values;
+    }
+
+    private static void restore(String[] previous) {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (previous[i] != null) {
+                MDC.put(KEYS[i], previous[i]);
+            } else {
+                MDC.remove(KEYS[i]);
+            }
+        }
+    }
+
+    private void apply() {
+        putIfPresent(MdcUtils.CORRELATION_ID_KEY, correlationId);
+        putIfPresent(MdcUtils.KAFKA_TOPIC_KEY, topic);
+        if (partition != UNKNOWN) MDC.put(MdcUtils.KAFKA_PARTITION_KEY, String.valueOf(partition));
+        if (offset != UNKNOWN) MDC.put(MdcUtils.KAFKA_OFFSET_KEY, String.valueOf(offset));
+        putIfPresent(MdcUtils.KAFKA_MESSAGE_KEY, messageKey);
+        if (timestamp != UNKNOWN) MDC.put(MdcUtils.KAFKA_TIMESTAMP_KEY, String.valueOf(timestamp));
+        putIfPresent(MdcUtils.KAFKA_CONSUMER_GROUP_KEY, consumerGroup);
+    }
+
+    private static void putIfPresent(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        }
+    }
+
+    private static long parseOrUnknown(String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return UNKNOWN;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MdcContext{correlationId='%s', topic='%s', partition=%d, offset=%d}"
+                .formatted(correlationId, topic, partition, offset);
+    }
+}
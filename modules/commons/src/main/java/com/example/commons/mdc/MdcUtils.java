@@ -4,7 +4,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Supplier;
 
 /**
@@ -40,11 +39,13 @@ public class MdcUtils {
 
     /**
      * Generates and sets a new correlation ID.
+     * <p>
+     * Uses {@link CorrelationIdGenerator} rather than a random UUID to keep generation cheap.
      * 
      * @return The generated correlation ID
      */
     public static String setCorrelationId() {
-        String correlationId = UUID.randomUUID().toString();
+        String correlationId = CorrelationIdGenerator.next();
         MDC.put(CORRELATION_ID_KEY, correlationId);
         return correlationId;
     }
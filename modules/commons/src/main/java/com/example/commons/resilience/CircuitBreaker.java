@@ -0,0 +1,32 @@
+package com.example.commons.resilience;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Guards a class or method with a named circuit breaker.
+ * <p>
+ * Intercepted by an AOP aspect (CircuitBreakerAspect) that records the latency and outcome of
+ * every call in a sliding window. When too many recent calls failed with database errors or were
+ * slow, the breaker opens and calls fail immediately with {@link CircuitBreakerOpenException}
+ * instead of waiting for a connection. After a pause a few probe calls are let through; if they
+ * succeed the breaker closes again. The aspect runs before the transaction interceptor, so a
+ * rejected call never waits for a connection.
+ * <p>
+ * Example usage:
+ * <pre>
+ *     &#64;CircuitBreaker("persistence")
+ *     public ActionItem processActionItem(...) { ... }
+ * </pre>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CircuitBreaker {
+
+    /**
+     * @return the breaker name; calls with the same name share a breaker and its configuration
+     */
+    String value();
+}
@@ -0,0 +1,19 @@
+package com.example.commons.resilience;
+
+/**
+ * Thrown instead of running a call while its circuit breaker is open, or half-open with all probe
+ * calls in flight.
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    private final String breakerName;
+
+    public CircuitBreakerOpenException(String breakerName) {
+        super("Circuit breaker '" + breakerName + "' is open; call not permitted");
+        this.breakerName = breakerName;
+    }
+
+    public String getBreakerName() {
+        return breakerName;
+    }
+}
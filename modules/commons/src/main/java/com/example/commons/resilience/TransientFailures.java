@@ -0,0 +1,60 @@
+package com.example.commons.resilience;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+
+/**
+ * Classifies failures that are expected to go away on their own, so callers can retry the work
+ * later instead of recording it as failed.
+ * <p>
+ * A database failure is a connection, timeout or transient data access error anywhere in the
+ * cause chain; constraint violations and other data errors are not. A retryable failure is a
+ * database failure or a call rejected by an open {@link CircuitBreaker}.
+ */
+public final class TransientFailures {
+
+    private TransientFailures() {
+    }
+
+    /**
+     * Returns whether the cause chain holds a database connection, timeout or transient error.
+     *
+     * @param error The failure to classify
+     * @return true if the database, not the data, caused the failure
+     */
+    public static boolean isDatabaseFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException
+                    || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the work can succeed unchanged once the database or breaker recovers.
+     *
+     * @param error The failure to classify
+     * @return true for database failures and calls rejected by an open circuit breaker
+     */
+    public static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitBreakerOpenException) {
+                return true;
+            }
+        }
+        return isDatabaseFailure(error);
+    }
+}
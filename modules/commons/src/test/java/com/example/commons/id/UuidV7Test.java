@@ -0,0 +1,88 @@
+package com.example.commons.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link UuidV7}.
+ */
+class UuidV7Test {
+
+    @Test
+    void setsVersionSevenAndTheIetfVariant() {
+        UUID uuid = UuidV7.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void startsWithTheCurrentEpochMillisecond() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before, "timestamp " + timestamp + " before " + before);
+        // Counter overflows in the other tests may have run the timestamp a few milliseconds ahead
+        assertTrue(timestamp <= after + 1_000, "timestamp " + timestamp + " after " + after);
+    }
+
+    @Test
+    void isStrictlyIncreasingWithinTheSameMillisecond() {
+        UUID previous = UuidV7.next();
+        String previousString = previous.toString();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            String nextString = next.toString();
+            assertTrue(next.compareTo(previous) > 0, next + " not after " + previous);
+            assertTrue(nextString.compareTo(previousString) > 0, nextString + " not after " + previousString);
+            previous = next;
+            previousString = nextString;
+        }
+    }
+
+    @Test
+    void staysUniqueAcrossThreads() throws Exception {
+        int threads = 4;
+        int perThread = 50_000;
+        Set<UUID> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        seen.add(UuidV7.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, seen.size());
+    }
+
+    @Test
+    void producesTheCanonicalStringForm() {
+        String value = UuidV7.nextString();
+
+        assertEquals(value, UUID.fromString(value).toString());
+        assertEquals('7', value.charAt(14));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Immutable page of action items returned by a keyset-paginated search.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>items:</b> Items of the page, ordered by createdAt then id.</li>
+ *   <li><b>hasMore:</b> Whether more items follow the last item of the page.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class ActionItemPage {
+    /** Items of the page, ordered by createdAt then id. */
+    List<ActionItem> items;
+    /** Whether more items follow the last item of the page. */
+    boolean hasMore;
+}
@@ -0,0 +1,46 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable search criteria for reading action items page by page.
+ * <p>
+ * Results are ordered by {@code (createdAt, id)}. Pagination is keyset based: the next page starts
+ * strictly after the {@code (afterCreatedAt, afterId)} position of the last item already returned,
+ * so page cost does not grow with depth the way OFFSET does.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>status, category, typeCode, assignee:</b> Optional exact-match filters.</li>
+ *   <li><b>dueFrom / dueTo:</b> Optional due date range, inclusive start and exclusive end.</li>
+ *   <li><b>afterCreatedAt / afterId:</b> Keyset position of the last item of the previous page.</li>
+ *   <li><b>limit:</b> Maximum number of items in the page.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class ActionItemSearchCriteria {
+    /** Optional status filter. */
+    ActionItemStatus status;
+    /** Optional category filter. */
+    String category;
+    /** Optional type code filter. */
+    String typeCode;
+    /** Optional assignee filter. */
+    String assignee;
+    /** Optional inclusive lower bound of the due date. */
+    LocalDateTime dueFrom;
+    /** Optional exclusive upper bound of the due date. */
+    LocalDateTime dueTo;
+    /** createdAt of the last item of the previous page, null for the first page. */
+    LocalDateTime afterCreatedAt;
+    /** id of the last item of the previous page, null for the first page. */
+    String afterId;
+    /** Maximum number of items in the page. */
+    int limit;
+}
@@ -0,0 +1,54 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable domain model representing a change of an action item's status, as published to
+ * downstream systems.
+ * <p>
+ * A state change is recorded when an item is created and whenever its status flips between OPEN
+ * and CLOSE. Updates that leave the status unchanged, and stale updates, are not state changes.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>eventId:</b> Position of the change in the outbox; increasing per uniqueId, null until recorded.</li>
+ *   <li><b>actionItemId:</b> Identifier of the action item.</li>
+ *   <li><b>uniqueId:</b> Business unique identifier of the action item.</li>
+ *   <li><b>previousStatus:</b> Status before the change, or null if the item was created.</li>
+ *   <li><b>status:</b> Status after the change.</li>
+ *   <li><b>category:</b> Category of the action item.</li>
+ *   <li><b>typeCode:</b> Type code of the action item.</li>
+ *   <li><b>assignee:</b> Assignee of the action item.</li>
+ *   <li><b>version:</b> Source updatedAt of the change, for ordering and de-duplication downstream.</li>
+ *   <li><b>recordedAt:</b> When the change was written.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class ActionItemStateChange {
+    /** Position of the change in the outbox; increasing per uniqueId, null until recorded. */
+    Long eventId;
+    /** Identifier of the action item. */
+    String actionItemId;
+    /** Business unique identifier of the action item. */
+    String uniqueId;
+    /** Status before the change, or null if the item was created. */
+    ActionItemStatus previousStatus;
+    /** Status after the change. */
+    ActionItemStatus status;
+    /** Category of the action item. */
+    String category;
+    /** Type code of the action item. */
+    String typeCode;
+    /** Assignee of the action item. */
+    String assignee;
+    /** Source updatedAt of the change. */
+    LocalDateTime version;
+    /** When the change was written. */
+    LocalDateTime recordedAt;
+}
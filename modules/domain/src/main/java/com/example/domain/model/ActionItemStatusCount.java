@@ -0,0 +1,38 @@
+package com.example.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable domain model representing the number of action items sharing the same
+ * category, typeCode, assignee and status.
+ * <p>
+ * Produced by a single grouped query and used to seed in-memory status aggregates.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>category:</b> Category of the action items.</li>
+ *   <li><b>typeCode:</b> Type code of the action items.</li>
+ *   <li><b>assignee:</b> Assignee of the action items, may be null.</li>
+ *   <li><b>status:</b> Status of the action items.</li>
+ *   <li><b>count:</b> Number of matching action items.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+@AllArgsConstructor
+public class ActionItemStatusCount {
+    /** Category of the action items. */
+    String category;
+    /** Type code of the action items. */
+    String typeCode;
+    /** Assignee of the action items, may be null. */
+    String assignee;
+    /** Status of the action items. */
+    ActionItemStatus status;
+    /** Number of matching action items. */
+    long count;
+}
@@ -0,0 +1,30 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable result of moving one chunk of action items to the archive.
+ * The last position doubles as the keyset cursor for the next chunk.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>archived:</b> Number of action items moved.</li>
+ *   <li><b>lastCreatedAt:</b> createdAt of the last item moved, in (createdAt, id) order.</li>
+ *   <li><b>lastId:</b> id of the last item moved, in (createdAt, id) order.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class ArchiveChunk {
+    /** Number of action items moved. */
+    int archived;
+    /** createdAt of the last item moved, in (createdAt, id) order. */
+    LocalDateTime lastCreatedAt;
+    /** id of the last item moved, in (createdAt, id) order. */
+    String lastId;
+}
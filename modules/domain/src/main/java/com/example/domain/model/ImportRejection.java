@@ -0,0 +1,27 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable record of an uploaded action item row that was not imported.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>row:</b> 1-based position of the row in the upload.</li>
+ *   <li><b>uniqueId:</b> Business unique identifier of the row, if it could be read.</li>
+ *   <li><b>reason:</b> Why the row was rejected.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class ImportRejection {
+    /** 1-based position of the row in the upload. */
+    long row;
+    /** Business unique identifier of the row, if it could be read. */
+    String uniqueId;
+    /** Why the row was rejected. */
+    String reason;
+}
@@ -0,0 +1,30 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable outcome of a bulk action item import.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>received:</b> Rows read from the upload.</li>
+ *   <li><b>imported:</b> Rows inserted as new action items.</li>
+ *   <li><b>rejected:</b> Rows that failed parsing or validation.</li>
+ *   <li><b>skippedExisting:</b> Valid rows whose uniqueId already existed.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class ImportSummary {
+    /** Rows read from the upload. */
+    long received;
+    /** Rows inserted as new action items. */
+    long imported;
+    /** Rows that failed parsing or validation. */
+    long rejected;
+    /** Valid rows whose uniqueId already existed. */
+    long skippedExisting;
+}
@@ -0,0 +1,34 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable domain model representing the processing high-watermark of a message partition.
+ * <p>
+ * All messages of the partition with an offset strictly below {@code highWatermark} are known to
+ * have been processed by the given consumer group, so redeliveries of those offsets can be
+ * skipped without touching the action item store.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>consumerGroup:</b> Consumer group that processed the messages.</li>
+ *   <li><b>topic:</b> Topic the partition belongs to.</li>
+ *   <li><b>partition:</b> Partition number.</li>
+ *   <li><b>highWatermark:</b> First offset not yet known to be processed.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class MessageWatermark {
+    /** Consumer group that processed the messages. */
+    String consumerGroup;
+    /** Topic the partition belongs to. */
+    String topic;
+    /** Partition number. */
+    int partition;
+    /** First offset not yet known to be processed. */
+    long highWatermark;
+}
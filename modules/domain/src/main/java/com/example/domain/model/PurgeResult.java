@@ -0,0 +1,25 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable result of deleting one batch of rows for retention.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>rows:</b> Number of rows deleted.</li>
+ *   <li><b>bytes:</b> Combined size of the deleted rows including out-of-line values; the space
+ *       becomes reusable once the table is vacuumed.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class PurgeResult {
+    /** Number of rows deleted. */
+    long rows;
+    /** Combined size of the deleted rows including out-of-line values. */
+    long bytes;
+}
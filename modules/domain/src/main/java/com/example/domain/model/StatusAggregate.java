@@ -0,0 +1,30 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable snapshot of OPEN and CLOSE counts for one value of an aggregation dimension.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>dimension:</b> Aggregation dimension (category, typeCode or assignee).</li>
+ *   <li><b>value:</b> Value of the dimension, e.g. a category name.</li>
+ *   <li><b>openCount:</b> Number of OPEN action items.</li>
+ *   <li><b>closedCount:</b> Number of CLOSE action items.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class StatusAggregate {
+    /** Aggregation dimension (category, typeCode or assignee). */
+    String dimension;
+    /** Value of the dimension, e.g. a category name. */
+    String value;
+    /** Number of OPEN action items. */
+    long openCount;
+    /** Number of CLOSE action items. */
+    long closedCount;
+}
@@ -0,0 +1,38 @@
+package com.example.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable description of one monthly range partition of a partitioned table.
+ *
+ * <b>Fields:</b>
+ * <ul>
+ *   <li><b>table:</b> Name of the partitioned (parent) table.</li>
+ *   <li><b>name:</b> Name of the partition.</li>
+ *   <li><b>from:</b> First day covered by the partition (inclusive).</li>
+ *   <li><b>to:</b> First day after the partition (exclusive).</li>
+ *   <li><b>sizeBytes:</b> Total on-disk size of the partition including indexes and TOAST.</li>
+ *   <li><b>estimatedRows:</b> Row count estimate from the last ANALYZE, 0 if never analyzed.</li>
+ * </ul>
+ */
+@Value
+@Builder
+@Getter
+public class TablePartition {
+    /** Name of the partitioned (parent) table. */
+    String table;
+    /** Name of the partition. */
+    String name;
+    /** First day covered by the partition (inclusive). */
+    LocalDate from;
+    /** First day after the partition (exclusive). */
+    LocalDate to;
+    /** Total on-disk size of the partition including indexes and TOAST. */
+    long sizeBytes;
+    /** Row count estimate from the last ANALYZE, 0 if never analyzed. */
+    long estimatedRows;
+}
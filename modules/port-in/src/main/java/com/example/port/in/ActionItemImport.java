@@ -0,0 +1,36 @@
+package com.example.port.in;
+
+import com.example.domain.model.ImportSummary;
+
+/**
+ * A running bulk import started through {@link CreateActionItemUseCase#startImport}.
+ *
+ * Inbound adapters parse the upload incrementally and hand each row to the
+ * session, so only the current batch is ever held in memory. Not thread-safe.
+ */
+public interface ActionItemImport {
+
+    /**
+     * Adds a parsed row. Invalid rows are rejected; valid rows are loaded once a full batch
+     * has accumulated.
+     *
+     * @param row 1-based position of the row in the upload
+     * @param command The parsed row
+     */
+    void add(long row, CreateActionItemCommand command);
+
+    /**
+     * Rejects a row that could not be parsed.
+     *
+     * @param row 1-based position of the row in the upload
+     * @param reason Why the row could not be parsed
+     */
+    void reject(long row, String reason);
+
+    /**
+     * Loads any remaining rows and returns the outcome of the import.
+     *
+     * @return Counts of received, imported, rejected and skipped rows
+     */
+    ImportSummary finish();
+}
@@ -0,0 +1,30 @@
+package com.example.port.in;
+
+import com.example.domain.model.StatusAggregate;
+
+import java.util.List;
+
+/**
+ * Use case for reading live OPEN/CLOSE counts of action items.
+ *
+ * Counts are maintained in memory as items are processed, so reads never
+ * touch the action item store.
+ */
+public interface ActionItemStatusAggregateUseCase {
+
+    /** Aggregation dimension for the item category. */
+    String CATEGORY = "category";
+    /** Aggregation dimension for the item type code. */
+    String TYPE_CODE = "typeCode";
+    /** Aggregation dimension for the item assignee. */
+    String ASSIGNEE = "assignee";
+
+    /**
+     * Returns the current counts for every value of a dimension.
+     *
+     * @param dimension One of {@link #CATEGORY}, {@link #TYPE_CODE} or {@link #ASSIGNEE}
+     * @return Snapshot of the counts, one entry per dimension value
+     * @throws IllegalArgumentException if the dimension is unknown
+     */
+    List<StatusAggregate> getStatusAggregates(String dimension);
+}
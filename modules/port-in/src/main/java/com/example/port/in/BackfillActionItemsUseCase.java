@@ -0,0 +1,23 @@
+package com.example.port.in;
+
+import com.example.domain.model.ImportSummary;
+
+import java.util.List;
+
+/**
+ * Use case for rebuilding action items from a replay of the action item topics.
+ *
+ * Processes whole chunks of messages with set-based writes instead of one
+ * transaction per message. Within a chunk, and against stored data, the
+ * update with the latest updatedAt wins per uniqueId.
+ */
+public interface BackfillActionItemsUseCase {
+
+    /**
+     * Validates and merges a chunk of replayed messages in one transaction.
+     *
+     * @param commands The messages of the chunk, in consumption order
+     * @return Counts of received, written, rejected and superseded messages
+     */
+    ImportSummary backfill(List<ProcessActionItemCommand> commands);
+}
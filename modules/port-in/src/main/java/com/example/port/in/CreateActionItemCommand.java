@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 @Value
 @Builder
 public class CreateActionItemCommand {
+    String uniqueId;
     String title;
     String description;
     String assignee;
@@ -15,4 +16,6 @@ public class CreateActionItemCommand {
     String typeCode;
     String status;
     LocalDateTime dueDate;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
 }
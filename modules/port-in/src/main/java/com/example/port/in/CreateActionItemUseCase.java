@@ -1,7 +1,19 @@
 package com.example.port.in;
 
 import com.example.domain.model.ActionItem;
+import com.example.domain.model.ImportRejection;
+
+import java.util.function.Consumer;
 
 public interface CreateActionItemUseCase {
     ActionItem createActionItem(CreateActionItemCommand command);
+
+    /**
+     * Starts a streaming bulk import. Rows are validated as they are added and loaded in
+     * large batches; rejected rows are reported to the sink as they are found.
+     *
+     * @param rejectionSink Receives every rejected row
+     * @return An import session that must be finished by the caller
+     */
+    ActionItemImport startImport(Consumer<ImportRejection> rejectionSink);
 }
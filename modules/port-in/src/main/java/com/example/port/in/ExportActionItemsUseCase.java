@@ -0,0 +1,24 @@
+package com.example.port.in;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting full dumps of action items.
+ *
+ * Items are pushed to the caller one at a time so inbound adapters can write
+ * them straight to a response or file without buffering the whole dump.
+ */
+public interface ExportActionItemsUseCase {
+
+    /**
+     * Exports action items in (createdAt, id) order.
+     *
+     * @param status Optional status filter, null for all items
+     * @param sink Receives each action item; a blocking sink slows the export down
+     * @return Number of items exported
+     */
+    long exportActionItems(ActionItemStatus status, Consumer<ActionItem> sink);
+}
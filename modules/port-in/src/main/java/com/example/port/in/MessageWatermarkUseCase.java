@@ -0,0 +1,32 @@
+package com.example.port.in;
+
+import com.example.domain.model.MessageWatermark;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case for tracking which messages have already been processed.
+ *
+ * Allows inbound adapters to skip redelivered messages before they reach
+ * the action item processing flow.
+ */
+public interface MessageWatermarkUseCase {
+
+    /**
+     * Returns the offset below which every message of the partition has been processed.
+     *
+     * @param consumerGroup The consumer group
+     * @param topic The topic
+     * @param partition The partition number
+     * @return Optional containing the high-watermark if one is known
+     */
+    Optional<Long> findHighWatermark(String consumerGroup, String topic, int partition);
+
+    /**
+     * Records advanced high-watermarks.
+     *
+     * @param watermarks The watermarks to record
+     */
+    void recordHighWatermarks(List<MessageWatermark> watermarks);
+}
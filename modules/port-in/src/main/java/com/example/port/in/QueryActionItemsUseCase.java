@@ -0,0 +1,22 @@
+package com.example.port.in;
+
+import com.example.domain.model.ActionItemPage;
+import com.example.domain.model.ActionItemSearchCriteria;
+
+/**
+ * Use case for reading action items page by page.
+ *
+ * Provides a supported, index-backed read path with exact-match filters and
+ * keyset pagination instead of ad-hoc SQL against the action item table.
+ */
+public interface QueryActionItemsUseCase {
+
+    /**
+     * Finds one page of action items.
+     *
+     * @param criteria The filters, keyset position and page size
+     * @return The page and whether more items follow
+     * @throws IllegalArgumentException if the criteria are invalid
+     */
+    ActionItemPage findActionItems(ActionItemSearchCriteria criteria);
+}
@@ -0,0 +1,25 @@
+package com.example.port.in;
+
+import com.example.domain.model.ActionItem;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link ReceiveActionItemUseCase} for the reactive ingestion mode.
+ *
+ * Applies the same business rules, but returns as soon as the work is assembled: the result
+ * completes once the write has committed, without a thread waiting for the database.
+ *
+ * @see ReceiveActionItemUseCase
+ * @see ProcessActionItemCommand
+ */
+public interface ReceiveActionItemReactiveUseCase {
+
+    /**
+     * Processes an incoming action item command.
+     *
+     * @param command The command containing action item details
+     * @return The processed action item, or the stored one if the update was stale; fails with
+     *         IllegalArgumentException if the command fails validation
+     */
+    Mono<ActionItem> processActionItem(ProcessActionItemCommand command);
+}
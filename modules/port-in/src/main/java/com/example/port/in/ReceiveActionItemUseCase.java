@@ -2,6 +2,8 @@ package com.example.port.in;
 
 import com.example.domain.model.ActionItem;
 
+import java.util.List;
+
 /**
  * Input port for receiving and processing action items.
  *
@@ -42,4 +44,15 @@ public interface ReceiveActionItemUseCase {
      * @throws RuntimeException if processing fails due to system errors
      */
     ActionItem processActionItem(ProcessActionItemCommand command);
+
+    /**
+     * Processes a run of commands in order, in a single transaction, with the same rules as
+     * {@link #processActionItem(ProcessActionItemCommand)}. Later commands see the writes of
+     * earlier ones.
+     *
+     * @param commands The commands, in consumption order
+     * @return The processed action items, one per command, in the same order
+     * @throws RuntimeException if any command fails; nothing of the run is written then
+     */
+    List<ActionItem> processActionItems(List<ProcessActionItemCommand> commands);
 }
@@ -0,0 +1,42 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItemStateChange;
+
+import java.util.List;
+
+/**
+ * Output port for the transactional outbox of action item state changes.
+ * <p>
+ * Changes are appended in the caller's transaction, so a change is recorded if and only if the
+ * item change it describes commits. A relay later claims them, publishes them outside any
+ * transaction and then removes them.
+ */
+public interface ActionItemOutboxPort {
+
+    /**
+     * Appends a state change to the outbox, in the caller's transaction.
+     *
+     * @param change The state change; its eventId is assigned by the outbox
+     */
+    void append(ActionItemStateChange change);
+
+    /**
+     * Reads up to {@code limit} of the oldest state changes, in eventId order, if the given relay
+     * holds the outbox lease or can take it over, and extends the lease by {@code leaseMs}. Only
+     * the lease holder relays, so changes of a uniqueId are never published out of order. Runs in
+     * its own short transaction.
+     *
+     * @param relayId Identifies the calling relay instance
+     * @param leaseMs How long the lease stays valid; must exceed the time a publish can take
+     * @param limit Maximum number of changes to read
+     * @return The changes to publish; empty if the outbox is empty or another relay holds the lease
+     */
+    List<ActionItemStateChange> claimBatch(String relayId, long leaseMs, int limit);
+
+    /**
+     * Deletes changes once they are durably published, in its own short transaction.
+     *
+     * @param changes The published changes
+     */
+    void deleteRelayed(List<ActionItemStateChange> changes);
+}
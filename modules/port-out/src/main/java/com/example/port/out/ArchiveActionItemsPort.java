@@ -0,0 +1,25 @@
+package com.example.port.out;
+
+import com.example.domain.model.ArchiveChunk;
+
+import java.time.LocalDateTime;
+
+/**
+ * Output port for moving CLOSE action items out of the hot action item store into the archive.
+ * Archived items stay visible to {@link SaveActionItemPort#findByUniqueId(String)}.
+ */
+public interface ArchiveActionItemsPort {
+
+    /**
+     * Moves the next chunk of CLOSE items last updated before the cutoff to the archive,
+     * in (createdAt, id) order, within a single transaction. Rows locked by concurrent
+     * writers are skipped and picked up by a later run.
+     *
+     * @param closedBefore Only items with an updatedAt before this are moved
+     * @param after The previous chunk of the same run, or null to start from the oldest item
+     * @param limit Maximum number of items to move
+     * @return The chunk moved; only an empty chunk means the run is complete, since skipped
+     *         rows can make a chunk short
+     */
+    ArchiveChunk archiveClosedItems(LocalDateTime closedBefore, ArchiveChunk after, int limit);
+}
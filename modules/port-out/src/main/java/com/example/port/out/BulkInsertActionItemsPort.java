@@ -0,0 +1,21 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItem;
+
+import java.util.List;
+
+/**
+ * Output port for loading large batches of new action items.
+ */
+public interface BulkInsertActionItemsPort {
+
+    /**
+     * Inserts a batch of new action items in one transaction. Items whose uniqueId already
+     * exists are skipped, not updated.
+     *
+     * @param actionItems The items to insert
+     * @return uniqueIds of the items that were actually inserted
+     * @throws RuntimeException if persistence fails
+     */
+    List<String> insertActionItems(List<ActionItem> actionItems);
+}
@@ -0,0 +1,44 @@
+package com.example.port.out;
+
+import com.example.domain.model.PurgeResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Output port for enforcing retention on the error tables ({@code processing_errors} by occurredAt,
+ * {@code error_logs} by timestamp). Rows are deleted per source, oldest first, in bounded batches.
+ */
+public interface ErrorRetentionPort {
+
+    /**
+     * Lists the distinct sources present in a table. A null entry stands for rows without a source.
+     *
+     * @param table The error table
+     * @return The distinct sources
+     */
+    List<String> listSources(String table);
+
+    /**
+     * Finds the timestamp of the {@code maxRows}-th newest row of a source. Deleting rows older
+     * than it leaves at least {@code maxRows} rows.
+     *
+     * @param table The error table
+     * @param source The source, or null for rows without a source
+     * @param maxRows The number of rows to keep
+     * @return The boundary timestamp, or null if the source has no more than {@code maxRows} rows
+     */
+    LocalDateTime findRowCapBoundary(String table, String source, long maxRows);
+
+    /**
+     * Deletes up to {@code limit} of the oldest rows of a source that are older than {@code before},
+     * in a single short transaction.
+     *
+     * @param table The error table
+     * @param source The source, or null for rows without a source
+     * @param before Only rows with a timestamp before this are deleted
+     * @param limit Maximum number of rows to delete
+     * @return The rows deleted and their size; fewer than {@code limit} rows means none are left
+     */
+    PurgeResult purgeBatch(String table, String source, LocalDateTime before, int limit);
+}
@@ -0,0 +1,22 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItemStatusCount;
+
+import java.util.List;
+
+/**
+ * Output port for loading grouped action item counts from persistent storage.
+ *
+ * Used to seed in-memory status aggregates without scanning individual rows
+ * in the application.
+ */
+public interface LoadActionItemStatusCountsPort {
+
+    /**
+     * Counts action items grouped by category, typeCode, assignee and status.
+     * The aggregation must be performed by the store in a single query.
+     *
+     * @return One entry per distinct (category, typeCode, assignee, status) combination
+     */
+    List<ActionItemStatusCount> loadStatusCounts();
+}
@@ -0,0 +1,22 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItem;
+
+import java.util.List;
+
+/**
+ * Output port for merging large chunks of action item states into persistent storage.
+ */
+public interface MergeActionItemsPort {
+
+    /**
+     * Merges a chunk in one transaction. Per uniqueId only the state with the latest updatedAt
+     * (ties broken by position in the list) is kept, and it is written only if it is newer than
+     * the stored state. Stored items keep their id and createdAt.
+     *
+     * @param actionItems The states to merge, in consumption order
+     * @return Number of action items inserted or updated
+     * @throws RuntimeException if persistence fails
+     */
+    int mergeActionItems(List<ActionItem> actionItems);
+}
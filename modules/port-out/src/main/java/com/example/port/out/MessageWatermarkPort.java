@@ -0,0 +1,30 @@
+package com.example.port.out;
+
+import com.example.domain.model.MessageWatermark;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for persisting message processing high-watermarks.
+ *
+ * Implementations must only ever move a stored watermark forward, so that concurrent
+ * or late writers cannot cause already processed messages to be reprocessed.
+ */
+public interface MessageWatermarkPort {
+
+    /**
+     * Finds the stored high-watermark of a partition.
+     * @param consumerGroup the consumer group
+     * @param topic the topic
+     * @param partition the partition number
+     * @return optional containing the watermark if one was stored
+     */
+    Optional<MessageWatermark> findWatermark(String consumerGroup, String topic, int partition);
+
+    /**
+     * Stores the given watermarks, keeping the higher value where one already exists.
+     * @param watermarks the watermarks to store
+     */
+    void saveWatermarks(List<MessageWatermark> watermarks);
+}
@@ -0,0 +1,47 @@
+package com.example.port.out;
+
+import com.example.domain.model.TablePartition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Output port for managing the monthly range partitions of the partitioned tables
+ * ({@code action_items} by createdAt, {@code processing_errors} by occurredAt).
+ */
+public interface PartitionMaintenancePort {
+
+    /**
+     * Lists the monthly partitions of a table, oldest first. The default partition is not included.
+     *
+     * @param table The partitioned table
+     * @return The attached monthly partitions
+     */
+    List<TablePartition> listPartitions(String table);
+
+    /**
+     * Creates the partition covering the month of the given day, if it does not exist yet, and
+     * commits it. Rows of that month already in the default partition are moved into it.
+     *
+     * @param table The partitioned table
+     * @param month Any day of the month to cover
+     * @return Name of the partition
+     * @throws RuntimeException if the partition cannot be created
+     */
+    String createMonthlyPartition(String table, LocalDate month);
+
+    /**
+     * Detaches a partition; its rows are kept in a standalone table but no longer visible
+     * through the parent.
+     *
+     * @param partition The partition to detach
+     */
+    void detachPartition(TablePartition partition);
+
+    /**
+     * Detaches and drops a partition, deleting its rows.
+     *
+     * @param partition The partition to drop
+     */
+    void dropPartition(TablePartition partition);
+}
@@ -0,0 +1,20 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItemStateChange;
+
+import java.util.List;
+
+/**
+ * Output port for publishing action item state changes to downstream systems.
+ */
+public interface PublishActionItemStateChangesPort {
+
+    /**
+     * Publishes a batch of state changes, keeping their order per uniqueId. Returns once every
+     * change has been acknowledged by the broker.
+     *
+     * @param changes The state changes, in eventId order
+     * @throws RuntimeException if any change could not be published; the whole batch may then be published again
+     */
+    void publish(List<ActionItemStateChange> changes);
+}
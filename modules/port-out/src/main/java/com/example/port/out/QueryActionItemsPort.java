@@ -0,0 +1,22 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Output port for reading action items with filters and keyset pagination.
+ */
+public interface QueryActionItemsPort {
+
+    /**
+     * Finds action items matching the criteria, ordered by createdAt then id, starting strictly
+     * after the keyset position in the criteria.
+     *
+     * @param criteria The filters and keyset position
+     * @param limit The maximum number of items to return
+     * @return Matching action items, at most {@code limit}
+     */
+    List<ActionItem> findActionItems(ActionItemSearchCriteria criteria, int limit);
+}
@@ -0,0 +1,19 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItemStateChange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking append to the transactional outbox, used by the reactive ingestion mode. Relaying
+ * stays with {@link ActionItemOutboxPort}.
+ */
+public interface ReactiveActionItemOutboxPort {
+
+    /**
+     * Appends a state change to the outbox, in the caller's reactive transaction.
+     *
+     * @param change The state change; its eventId is assigned by the outbox
+     * @return completes once the change is written
+     */
+    Mono<Void> append(ActionItemStateChange change);
+}
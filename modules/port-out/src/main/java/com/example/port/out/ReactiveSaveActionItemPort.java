@@ -0,0 +1,41 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItem;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking output port for persisting action items, used by the reactive ingestion mode.
+ *
+ * Same contract as the corresponding {@link SaveActionItemPort} methods: one record per uniqueId,
+ * updates applied only if newer, lookups falling back to archived items. Calls made inside a
+ * reactive transaction join it.
+ *
+ * @see SaveActionItemPort
+ */
+public interface ReactiveSaveActionItemPort {
+
+    /**
+     * Creates the action item, or updates the existing record with its uniqueId.
+     *
+     * @param actionItem The domain model to persist
+     * @return The persisted action item
+     */
+    Mono<ActionItem> saveActionItem(ActionItem actionItem);
+
+    /**
+     * Applies an update only if it is newer than the stored state, enforced by the write itself.
+     * A newer update to an archived item moves it back to the live store.
+     *
+     * @param actionItem The updated domain model, carrying the source updatedAt
+     * @return true if the update was applied, false if it was stale or no record exists
+     */
+    Mono<Boolean> updateActionItemIfNewer(ActionItem actionItem);
+
+    /**
+     * Finds an action item by its business unique identifier, falling back to archived items.
+     *
+     * @param uniqueId the business unique identifier
+     * @return the action item, or empty if not found
+     */
+    Mono<ActionItem> findByUniqueId(String uniqueId);
+}
@@ -57,7 +57,23 @@ public interface SaveActionItemPort {
     ActionItem saveActionItem(ActionItem actionItem);
 
     /**
-     * Finds an action item by its business unique identifier.
+     * Applies an update to an existing action item only if it is newer than the stored state.
+     *
+     * Business Logic:
+     * - The update is applied only when the incoming updatedAt is after the stored updatedAt
+     * - The version check must be enforced by the write itself (no separate read or row lock),
+     *   so concurrent and out-of-order updates cannot overwrite newer data
+     * - Stale updates are dropped without error
+     * - A newer update to an archived item moves it back to the live store
+     *
+     * @param actionItem The updated domain model, carrying the source updatedAt
+     * @return true if the update was applied, false if it was stale or no record exists
+     * @throws RuntimeException if persistence fails
+     */
+    boolean updateActionItemIfNewer(ActionItem actionItem);
+
+    /**
+     * Finds an action item by its business unique identifier, falling back to archived items.
      *
      * @param uniqueId the business unique identifier
      * @return Optional containing the action item if found
@@ -66,9 +82,10 @@ public interface SaveActionItemPort {
 
     /**
      * Get list of typeCodes with their counts filtered by status.
+     * Counts are aggregated by the store, never by loading individual rows.
      * 
      * @param status the ActionItemStatus to filter by
-     * @return List of TypeCodeCount containing typeCode and count
+     * @return List of TypeCodeCount containing typeCode and count, ordered by count descending
      */
     List<TypeCodeCount> getTypeCodesByCountAndStatus(ActionItemStatus status);
 }
@@ -0,0 +1,24 @@
+package com.example.port.out;
+
+import com.example.domain.model.ActionItem;
+import com.example.domain.model.ActionItemStatus;
+
+import java.util.function.Consumer;
+
+/**
+ * Output port for streaming every stored action item without materializing the result set.
+ */
+public interface StreamActionItemsPort {
+
+    /**
+     * Streams action items ordered by createdAt then id, handing each one to the sink as it is
+     * read. Implementations must keep memory constant regardless of the number of rows; the
+     * sink may block to apply back-pressure.
+     *
+     * @param status Optional status filter, null for all items
+     * @param sink Receives each action item in order
+     * @return Number of items streamed
+     * @throws RuntimeException if reading fails or the sink throws
+     */
+    long streamActionItems(ActionItemStatus status, Consumer<ActionItem> sink);
+}